@@ -0,0 +1,64 @@
+package com.ocean.sc.vt.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @VirtualThread 호출당 오버헤드 (proxy vs ctw)
+ * - directCall: Aspect 미적용 메서드 (기준선)
+ * - offloadedCall: 외부 호출 → Aspect → Virtual Thread 실행 → 결과 대기
+ * - selfInvocation: 내부 호출 (proxy 모드에서는 Aspect 미적용)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=AspectOverheadBenchmark [-PaopMode=ctw]
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AspectOverheadBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkApplication.BenchmarkTarget target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        target = context.getBean(BenchmarkApplication.BenchmarkTarget.class);
+        System.out.println("weaving mode: " + BenchmarkApplication.weavingMode());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object directCall() {
+        return target.plain();
+    }
+
+    @Benchmark
+    public Object offloadedCall() {
+        return BenchmarkApplication.await(target.offloaded());
+    }
+
+    @Benchmark
+    public Object selfInvocation() {
+        return BenchmarkApplication.await(target.selfInvoking());
+    }
+}
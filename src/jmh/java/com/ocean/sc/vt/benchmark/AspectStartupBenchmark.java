@@ -0,0 +1,34 @@
+package com.ocean.sc.vt.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨텍스트 기동 시간 (proxy vs ctw)
+ * - proxy 모드는 @VirtualThread Bean마다 프록시 클래스 생성 비용 포함
+ * - 새 JVM(fork)마다 1회씩 측정하여 콜드 기동 시간 비교
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=AspectStartupBenchmark [-PaopMode=ctw]
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class AspectStartupBenchmark {
+
+    @Benchmark
+    public int startContext() {
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start()) {
+            return context.getBeanDefinitionCount();
+        }
+    }
+}
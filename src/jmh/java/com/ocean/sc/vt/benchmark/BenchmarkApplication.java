@@ -0,0 +1,103 @@
+package com.ocean.sc.vt.benchmark;
+
+import com.ocean.sc.vt.VtApplication;
+import com.ocean.sc.vt.annotation.VirtualThread;
+import com.ocean.sc.vt.aspect.VirtualThreadAspect;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * - 웹 서버 없이 애플리케이션 Bean + 벤치마크 대상 Bean 구성
+ * - 워밍업 / 스케줄러 샘플링 / 요청 트레이스 / 호출 비용 샘플링 / 메트릭 파일(mmap) 비활성화,
+ *   로그 레벨 WARN (부가 계측과 로그 출력이 측정을 지배하지 않도록)
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(VtApplication.class, BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.com.ocean.sc.vt=WARN",
+                        "vt.warmup.enabled=false",
+                        "vt.scheduler.sample-interval-ms=0",
+                        "vt.trace.sample-rate=0",
+                        "vt.cost.sample-rate=0",
+                        "vt.metrics.mmap.enabled=false")
+                .properties(properties)
+                .run();
+    }
+
+    public static String weavingMode() {
+        return VirtualThreadAspect.isCompileTimeWoven() ? "ctw" : "proxy";
+    }
+
+    /**
+     * 오프로딩 결과 대기 (DeferredResult → 값)
+     */
+    public static Object await(Object result) {
+        if (result instanceof DeferredResult<?> deferredResult) {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            deferredResult.setResultHandler(future::complete);
+            return future.join();
+        }
+        return result;
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class BenchmarkConfiguration {
+
+        @Bean
+        BenchmarkTarget benchmarkTarget() {
+            return new BenchmarkTarget();
+        }
+    }
+
+    /**
+     * 벤치마크 대상
+     */
+    public static class BenchmarkTarget {
+
+        public String plain() {
+            return "plain";
+        }
+
+        @VirtualThread
+        public Object offloaded() {
+            return "offloaded";
+        }
+
+        /**
+         * self-invocation - proxy 모드에서는 오프로딩되지 않고, ctw 모드에서는 오프로딩됨
+         */
+        public Object selfInvoking() {
+            return offloaded();
+        }
+
+        @VirtualThread
+        public CompletableFuture<String> offloadedFuture() {
+            return CompletableFuture.completedFuture("future");
+        }
+
+        @VirtualThread
+        public String offloadedBlocking() {
+            return "blocking";
+        }
+
+        @VirtualThread
+        public void offloadedVoid(CountDownLatch done) {
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.ocean.sc.vt.benchmark;
+
+import com.ocean.sc.vt.VtApplication;
+import com.ocean.sc.vt.annotation.VirtualThread;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @VirtualThread 결과 전달 방식 비교 (실제 Tomcat + HTTP 클라이언트)
+ * - dispatch: DeferredResult 설정 → 컨테이너 재디스패치 → Tomcat 스레드에서 응답 작성 (스레드 전환 2회)
+ * - direct: Virtual Thread가 응답 작성 후 AsyncContext 완료 (스레드 전환 1회)
+ * - SampleTime 모드 → p50 / p99 / p99.9 지연 시간
+ * - 반복마다 요청당 프로세스 CPU 시간(µs)과 요청당 비동기 재디스패치 수 출력
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=DirectCompletionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(64)
+@Fork(1)
+public class DirectCompletionBenchmark {
+
+    private static final LongAdder ASYNC_DISPATCHES = new LongAdder();
+
+    @Param({"dispatch", "direct"})
+    public String completion;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    private final LongAdder requests = new LongAdder();
+    private final com.sun.management.OperatingSystemMXBean os =
+            (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private long cpuStartNanos;
+    private long dispatchStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VtApplication.class, CompletionBenchmarkConfiguration.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(Map.of(
+                        "server.port", "0",
+                        "spring.main.banner-mode", "off",
+                        "logging.level.com.ocean.sc.vt", "WARN",
+                        "vt.warmup.enabled", "false",
+                        "vt.scheduler.sample-interval-ms", "0",
+                        "vt.trace.sample-rate", "0",
+                        "vt.cost.sample-rate", "0"))
+                .run();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/bench/" + completion)).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        requests.reset();
+        dispatchStart = ASYNC_DISPATCHES.sum();
+        cpuStartNanos = os.getProcessCpuTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration() {
+        long count = Math.max(1, requests.sum());
+        System.out.printf("%n[%s] cpu/request: %.1f µs, async re-dispatch/request: %.2f (requests: %d)%n",
+                completion,
+                (os.getProcessCpuTime() - cpuStartNanos) / 1000.0 / count,
+                (double) (ASYNC_DISPATCHES.sum() - dispatchStart) / count,
+                count);
+    }
+
+    @Benchmark
+    public String roundTrip() throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("unexpected status: " + response.statusCode());
+        }
+        requests.increment();
+        return response.body();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class CompletionBenchmarkConfiguration {
+
+        @Bean
+        CompletionBenchmarkController completionBenchmarkController() {
+            return new CompletionBenchmarkController();
+        }
+
+        /**
+         * 비동기 재디스패치(DispatcherType.ASYNC) 횟수 집계
+         */
+        @Bean
+        Filter asyncDispatchCounter() {
+            return (servletRequest, servletResponse, chain) -> {
+                if (servletRequest.getDispatcherType() == DispatcherType.ASYNC) {
+                    ASYNC_DISPATCHES.increment();
+                }
+                chain.doFilter(servletRequest, servletResponse);
+            };
+        }
+    }
+
+    @RestController
+    static class CompletionBenchmarkController {
+
+        private static final Map<String, Object> PAYLOAD = Map.of("status", "ok", "items", List.of(1, 2, 3));
+
+        @GetMapping("/bench/dispatch")
+        @VirtualThread
+        public Object dispatch() {
+            return PAYLOAD;
+        }
+
+        @GetMapping("/bench/direct")
+        @VirtualThread(completion = VirtualThread.Completion.DIRECT)
+        public Object direct() {
+            return PAYLOAD;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ocean.sc.vt.benchmark;
+
+import com.ocean.sc.vt.metrics.InvocationCostRecorder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출당 CPU 시간 / 할당 바이트 측정 오버헤드 (start + finish)
+ * - sampleRate 0: 측정 없음 (기준선)
+ * - sampleRate 0.1: 기본값
+ * - sampleRate 1: 모든 호출 측정
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=InvocationCostBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class InvocationCostBenchmark {
+
+    @Param({"0", "0.1", "1"})
+    public double sampleRate;
+
+    private InvocationCostRecorder recorder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        recorder = new InvocationCostRecorder(sampleRate, 0);
+    }
+
+    @Benchmark
+    public void measure(Blackhole blackhole) {
+        InvocationCostRecorder.Start start = recorder.start();
+        blackhole.consume(start);
+        recorder.finish("Benchmark.measure()", start);
+    }
+}
@@ -0,0 +1,166 @@
+package com.ocean.sc.vt.benchmark;
+
+import com.ocean.sc.vt.VtApplication;
+import com.ocean.sc.vt.annotation.VirtualThread;
+import com.ocean.sc.vt.body.DirectBufferPool;
+import com.ocean.sc.vt.body.RequestBodyStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대용량(100MB) 업로드 동시 처리 시 힙 사용량 비교 (실제 Tomcat + HTTP 클라이언트)
+ * - stream: RequestBodyStream (논블로킹 수신 → 풀링된 Direct 버퍼 → Virtual Thread 청크 소비)
+ * - heap: @RequestBody byte[] (Tomcat 스레드가 본문 전체를 힙 배열로 읽은 뒤 실행)
+ * - 반복마다 힙 최대 사용량(peak), Direct 버퍼 사용량, 버퍼 풀 신규 할당 수 출력
+ *   stream 모드는 동시 업로드 수 × window 크기 수준에서 평탄, heap 모드는 동시 업로드 수 × 100MB 만큼 증가
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=LargeUploadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(16)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class LargeUploadBenchmark {
+
+    private static final int BODY_BYTES = 100 * 1024 * 1024;
+    private static final byte[] SEGMENT = new byte[64 * 1024];
+
+    @Param({"stream", "heap"})
+    public String body;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI uri;
+    private DirectBufferPool bufferPool;
+    private long allocatedAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VtApplication.class, UploadBenchmarkConfiguration.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(Map.of(
+                        "server.port", "0",
+                        "spring.main.banner-mode", "off",
+                        "logging.level.com.ocean.sc.vt", "WARN",
+                        "vt.warmup.enabled", "false",
+                        "vt.scheduler.sample-interval-ms", "0",
+                        "vt.policy.callable-timeout-ms", "120000"))
+                .run();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        bufferPool = context.getBean(DirectBufferPool.class);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        uri = URI.create("http://localhost:" + port + "/bench/upload/" + body);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        allocatedAtStart = bufferPool.allocatedCount();
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration() {
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peakHeap += pool.getPeakUsage().getUsed();
+            }
+        }
+        long direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> "direct".equals(pool.getName()))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+        System.out.printf("%n[%s] peak heap: %d MB, direct buffers: %d MB, new pooled chunks: %d%n",
+                body, peakHeap >> 20, direct >> 20, bufferPool.allocatedCount() - allocatedAtStart);
+    }
+
+    @Benchmark
+    public String upload() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .POST(HttpRequest.BodyPublishers.fromPublisher(
+                        HttpRequest.BodyPublishers.ofByteArrays(
+                                Collections.nCopies(BODY_BYTES / SEGMENT.length, SEGMENT)),
+                        BODY_BYTES))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200 || !response.body().equals(String.valueOf(BODY_BYTES))) {
+            throw new IllegalStateException("unexpected response: " + response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class UploadBenchmarkConfiguration {
+
+        @Bean
+        UploadBenchmarkController uploadBenchmarkController() {
+            return new UploadBenchmarkController();
+        }
+    }
+
+    @RestController
+    static class UploadBenchmarkController {
+
+        @PostMapping("/bench/upload/stream")
+        @VirtualThread(timeout = 120000)
+        public Object stream(RequestBodyStream body) throws IOException {
+            long total = 0;
+            try (body) {
+                for (ByteBuffer chunk = body.nextChunk(); chunk != null; chunk = body.nextChunk()) {
+                    total += chunk.remaining();
+                }
+            }
+            return String.valueOf(total);
+        }
+
+        @PostMapping("/bench/upload/heap")
+        @VirtualThread(timeout = 120000)
+        public Object heap(@RequestBody byte[] body) {
+            return String.valueOf(body.length);
+        }
+    }
+}
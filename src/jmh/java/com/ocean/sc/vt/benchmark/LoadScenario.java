@@ -0,0 +1,150 @@
+package com.ocean.sc.vt.benchmark;
+
+import com.ocean.sc.vt.VtApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 성능 회귀 게이트용 고정 부하 시나리오 (실제 Tomcat + HTTP 클라이언트)
+ * - 대상: /platform-load, /virtual-load, /virtual-aop
+ * - 닫힌 루프: 동시 클라이언트 CONCURRENCY개가 응답을 받는 즉시 다음 요청 전송
+ * - 서비스 지연은 1ms 고정 (vt.simulation) → 1초 대기에 가려지던 프레임워크 / Aspect 비용이 처리량에 드러남
+ * - 엔드포인트별 워밍업 후 TRIALS회 측정, 회차마다 처리량(req/s)과 정확한 p99(ms)를 표본으로 남김
+ */
+public final class LoadScenario {
+
+    static final List<String> ENDPOINTS = List.of(
+            "/api/demo/platform-load",
+            "/api/demo/virtual-load",
+            "/api/demo/virtual-aop");
+
+    private static final int CONCURRENCY = 64;
+    private static final int TRIALS = 5;
+    private static final long WARMUP_SECONDS = 5;
+    private static final long TRIAL_SECONDS = 5;
+
+    private LoadScenario() {
+    }
+
+    /**
+     * 엔드포인트별 측정 결과
+     *
+     * @param throughput 회차별 처리량 (req/s)
+     * @param p99Millis 회차별 p99 지연 (ms)
+     * @param errors 200이 아닌 응답 / 연결 실패 수 (워밍업 포함)
+     */
+    record EndpointResult(String endpoint, double[] throughput, double[] p99Millis, long errors) {
+    }
+
+    static List<EndpointResult> run() throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(VtApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(Map.of(
+                        "server.port", "0",
+                        "spring.main.banner-mode", "off",
+                        "logging.level.com.ocean.sc.vt", "WARN",
+                        "vt.warmup.enabled", "false",
+                        "vt.scheduler.sample-interval-ms", "0",
+                        "vt.trace.sample-rate", "0",
+                        "vt.cost.sample-rate", "0",
+                        "vt.simulation.methods.processWithDelay.latency-ms", "1",
+                        "vt.simulation.methods.processComplexLogic.latency-ms", "1"))
+                .run();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            List<EndpointResult> results = new ArrayList<>();
+            for (String endpoint : ENDPOINTS) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + endpoint)).build();
+                results.add(measure(client, request, endpoint));
+            }
+            return results;
+        } finally {
+            context.close();
+        }
+    }
+
+    private static EndpointResult measure(HttpClient client, HttpRequest request, String endpoint) throws Exception {
+        long errors = trial(client, request, WARMUP_SECONDS).errors();
+        double[] throughput = new double[TRIALS];
+        double[] p99Millis = new double[TRIALS];
+        for (int i = 0; i < TRIALS; i++) {
+            Trial trial = trial(client, request, TRIAL_SECONDS);
+            throughput[i] = trial.latenciesNanos().length / (double) TRIAL_SECONDS;
+            p99Millis[i] = percentile(trial.latenciesNanos(), 0.99) / 1_000_000.0;
+            errors += trial.errors();
+            System.out.printf("[perf] %-26s trial %d: %8.1f req/s, p99 %6.2f ms%n",
+                    endpoint, i + 1, throughput[i], p99Millis[i]);
+        }
+        return new EndpointResult(endpoint, throughput, p99Millis, errors);
+    }
+
+    /**
+     * 1회차: 클라이언트마다 자기 지연 배열에 기록 (공유 자료구조 경합이 측정에 섞이지 않도록)
+     */
+    private static Trial trial(HttpClient client, HttpRequest request, long seconds) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<Trial>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    long errors = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                                errors++;
+                                continue;
+                            }
+                        } catch (Exception e) {
+                            errors++;
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return new Trial(Arrays.copyOf(latencies, count), errors);
+                }));
+            }
+        }
+        long[] merged = new long[0];
+        long errors = 0;
+        for (Future<Trial> future : clients) {
+            Trial trial = future.get();
+            int offset = merged.length;
+            merged = Arrays.copyOf(merged, offset + trial.latenciesNanos().length);
+            System.arraycopy(trial.latenciesNanos(), 0, merged, offset, trial.latenciesNanos().length);
+            errors += trial.errors();
+        }
+        return new Trial(merged, errors);
+    }
+
+    private static double percentile(long[] values, double quantile) {
+        if (values.length == 0) {
+            return 0;
+        }
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private record Trial(long[] latenciesNanos, long errors) {
+    }
+}
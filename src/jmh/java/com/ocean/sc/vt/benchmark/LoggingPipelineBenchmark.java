@@ -0,0 +1,104 @@
+package com.ocean.sc.vt.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.ocean.sc.vt.logging.RingBufferAsyncAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오프로딩 경로 로깅 처리량 비교 (호출 스레드 기준)
+ * - sync: 호출 스레드에서 포맷팅 + 출력 (기본 콘솔 Appender 방식)
+ * - ring: RingBufferAsyncAppender 경유 (호출 스레드는 링 버퍼 적재만, 가득 차면 드롭)
+ * - 출력 대상은 버리는 OutputStream → 포맷팅/락 비용만 비교
+ * - ring 모드의 적재/드롭 수는 종료 시 출력
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=LoggingPipelineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LoggingPipelineBenchmark {
+
+    @Param({"sync", "ring"})
+    public String pipeline;
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+    private RingBufferAsyncAppender ringAppender;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} [%X{traceId}] - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(loggerContext);
+        sink.setName("SINK");
+        sink.setEncoder(encoder);
+        sink.setOutputStream(OutputStream.nullOutputStream());
+        sink.start();
+
+        Appender<ILoggingEvent> appender = sink;
+        if ("ring".equals(pipeline)) {
+            ringAppender = new RingBufferAsyncAppender();
+            ringAppender.setContext(loggerContext);
+            ringAppender.setName("RING");
+            ringAppender.addAppender(sink);
+            ringAppender.start();
+            appender = ringAppender;
+        }
+
+        logger = loggerContext.getLogger("benchmark.logging-pipeline");
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (ringAppender != null) {
+            System.out.printf("%n[LoggingPipeline] enqueued: %d, dropped: %d%n",
+                    ringAppender.getEnqueuedCount(), ringAppender.getDroppedCount());
+        }
+        logger.detachAndStopAllAppenders();
+    }
+
+    @Benchmark
+    public void logWithMdc() {
+        MDC.put("traceId", "bench-trace");
+        try {
+            logger.info("🚀 [Benchmark] Executing {} on {}", "task", "virtual-thread");
+        } finally {
+            MDC.remove("traceId");
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.ocean.sc.vt.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.BenchmarkResult;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 성능 회귀 게이트
+ * - 고정 부하 시나리오 (LoadScenario): /platform-load, /virtual-load, /virtual-aop 처리량 / p99
+ * - Aspect JMH 벤치마크: AspectOverheadBenchmark, ReturnTypeOverheadBenchmark 호출당 시간
+ * - 기준선(perf/baseline.json)과 비교: 허용 비율(tolerance)을 넘게 나빠졌고 t-검정(99%)으로도 유의하면 회귀
+ *   (판정 로직은 {@link PerfComparison}, 단위 테스트를 위해 src/perf 소스 세트에 분리)
+ * - 회귀가 있거나 부하 중 오류 응답이 있으면 종료 코드 1 → 빌드 실패
+ * - 기준선이 비어 있으면 (최초 체크아웃) 비교 없이 측정값만 남기고 기록 절차를 안내 → -PupdateBaseline으로 기록 후 커밋
+ * - 기준선에 일부 지표만 없으면 비교할 수 없으므로 check 모드는 실패 (지표 추가 시 -PallowMissingBaseline으로 명시적 허용)
+ * - 결과: build/reports/perf-gate/report.md (비교표), current.json (기준선 형식의 이번 측정값)
+ *
+ * 실행: ./gradlew perfGate [-PaopMode=ctw] [-PupdateBaseline] [-PallowMissingBaseline]
+ *
+ * 인자: [기준선 파일] [리포트 디렉터리] [AOP 모드] [check | update] [allow-missing (선택)]
+ */
+public final class PerformanceGate {
+
+    private static final String JMH_INCLUDES = "\\.(AspectOverheadBenchmark|ReturnTypeOverheadBenchmark)\\.";
+    private static final double THROUGHPUT_TOLERANCE = 0.10;
+    private static final double P99_TOLERANCE = 0.25;
+    private static final double JMH_TOLERANCE = 0.15;
+
+    private PerformanceGate() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("Usage: PerformanceGate <baseline.json> <report-dir> <aop-mode> <check|update> [allow-missing]");
+            System.exit(1);
+        }
+        Path baselineFile = Path.of(args[0]);
+        Path reportDir = Path.of(args[1]);
+        String aopMode = args[2];
+        boolean update = "update".equals(args[3]);
+        boolean allowMissing = args.length > 4 && "allow-missing".equals(args[4]);
+
+        List<PerfBaseline.Metric> measured = new ArrayList<>();
+        long errors = 0;
+        for (LoadScenario.EndpointResult result : LoadScenario.run()) {
+            String name = aopMode + ".load." + result.endpoint().substring(result.endpoint().lastIndexOf('/') + 1);
+            measured.add(new PerfBaseline.Metric(name + ".throughput", "req/s", true, THROUGHPUT_TOLERANCE,
+                    result.throughput()));
+            measured.add(new PerfBaseline.Metric(name + ".p99", "ms", false, P99_TOLERANCE, result.p99Millis()));
+            errors += result.errors();
+        }
+        measured.addAll(runBenchmarks(aopMode));
+
+        PerfBaseline baseline = PerfBaseline.read(baselineFile);
+        Files.createDirectories(reportDir);
+        new PerfBaseline(PerfBaseline.currentEnvironment(), toMap(measured)).write(reportDir.resolve("current.json"));
+
+        List<PerfComparison.Comparison> comparisons = PerfComparison.compare(baseline, measured);
+        String report = report(baseline, comparisons, errors);
+        System.out.println(report);
+        Files.writeString(reportDir.resolve("report.md"), report);
+
+        if (errors > 0) {
+            System.err.println("[perf] 부하 중 오류 응답 " + errors + "건 - 측정값을 신뢰할 수 없음");
+            System.exit(1);
+        }
+        if (update) {
+            baseline.merge(measured).write(baselineFile);
+            System.out.println("[perf] 기준선 갱신: " + baselineFile);
+            return;
+        }
+        if (baseline.metrics().isEmpty()) {
+            // 기준선 미기록 (최초 체크아웃) - 비교 대상이 없으므로 실패시키지 않고 기록 절차만 안내
+            System.out.println("[perf] 기준선이 비어 있음 - 비교 생략. 같은 러너에서 ./gradlew perfGate -PupdateBaseline "
+                    + "실행 후 " + baselineFile.getFileName() + "을 커밋하면 이후부터 회귀를 판정합니다.");
+            return;
+        }
+        long regressions = PerfComparison.count(comparisons, PerfComparison.Verdict.REGRESSION);
+        if (regressions > 0) {
+            System.err.println("[perf] 성능 회귀 " + regressions + "건 (" + reportDir.resolve("report.md") + ")");
+            System.exit(1);
+        }
+        long missing = PerfComparison.count(comparisons, PerfComparison.Verdict.NEW);
+        if (missing > 0 && !allowMissing) {
+            System.err.println("[perf] 기준선에 없는 지표 " + missing + "건 - 비교하지 못했으므로 실패 "
+                    + "(같은 러너에서 -PupdateBaseline으로 기록 후 커밋, 또는 -PallowMissingBaseline)");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * JMH 실행 - 반복(iteration)마다의 점수를 표본으로 사용
+     */
+    private static List<PerfBaseline.Metric> runBenchmarks(String aopMode) throws Exception {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(JMH_INCLUDES)
+                .shouldFailOnError(true)
+                .build()).run();
+        List<PerfBaseline.Metric> metrics = new ArrayList<>();
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            String name = aopMode + ".jmh." + benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+            List<Double> samples = new ArrayList<>();
+            for (BenchmarkResult fork : result.getBenchmarkResults()) {
+                for (IterationResult iteration : fork.getIterationResults()) {
+                    samples.add(iteration.getPrimaryResult().getScore());
+                }
+            }
+            metrics.add(new PerfBaseline.Metric(name, result.getPrimaryResult().getScoreUnit(),
+                    result.getParams().getMode() == Mode.Throughput, JMH_TOLERANCE,
+                    samples.stream().mapToDouble(Double::doubleValue).toArray()));
+        }
+        return metrics;
+    }
+
+    private static String report(PerfBaseline baseline, List<PerfComparison.Comparison> comparisons, long errors) {
+        StringBuilder report = new StringBuilder("## Performance Gate\n\n");
+        Map<String, String> environment = PerfBaseline.currentEnvironment();
+        if (!baseline.environment().isEmpty() && !baseline.environment().equals(environment)) {
+            report.append("> ⚠️ 기준선 측정 환경이 다름 - baseline: ").append(baseline.environment())
+                    .append(", current: ").append(environment).append("\n\n");
+        }
+        if (errors > 0) {
+            report.append("> ❌ 부하 중 오류 응답 ").append(errors).append("건\n\n");
+        }
+        report.append("| metric | unit | baseline | current | change | tolerance | verdict |\n")
+                .append("|---|---|---:|---:|---:|---:|---|\n");
+        for (PerfComparison.Comparison comparison : comparisons) {
+            PerfBaseline.Metric current = comparison.current();
+            PerfBaseline.Metric base = comparison.baseline();
+            report.append(String.format(Locale.ROOT, "| %s | %s | %s | %s | %s | %s | %s |%n",
+                    current.name(), current.unit(),
+                    base == null ? "-" : summary(base),
+                    summary(current),
+                    base == null ? "-" : String.format(Locale.ROOT, "%+.1f%%%s", comparison.change() * 100,
+                            comparison.significant() ? "" : " (n.s.)"),
+                    base == null ? "-" : String.format(Locale.ROOT, "±%.0f%%", base.tolerance() * 100),
+                    icon(comparison.verdict())));
+        }
+        if (comparisons.stream().anyMatch(c -> c.verdict() == PerfComparison.Verdict.NEW)) {
+            report.append("\n기준선에 없는 지표는 비교하지 못함 (-PallowMissingBaseline 없으면 실패) - "
+                    + "`./gradlew perfGate -PupdateBaseline`으로 기록\n");
+        }
+        return report.toString();
+    }
+
+    private static String summary(PerfBaseline.Metric metric) {
+        return String.format(Locale.ROOT, "%.2f ± %.2f", metric.mean(), metric.statistics().getStandardDeviation());
+    }
+
+    private static String icon(PerfComparison.Verdict verdict) {
+        return switch (verdict) {
+            case OK -> "✅ ok";
+            case IMPROVED -> "🚀 improved";
+            case REGRESSION -> "❌ regression";
+            case NEW -> "🆕 new";
+        };
+    }
+
+    private static Map<String, PerfBaseline.Metric> toMap(List<PerfBaseline.Metric> metrics) {
+        Map<String, PerfBaseline.Metric> map = new TreeMap<>();
+        metrics.forEach(metric -> map.put(metric.name(), metric));
+        return map;
+    }
+}
@@ -0,0 +1,72 @@
+package com.ocean.sc.vt.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반환 타입별 @VirtualThread 호출당 오버헤드 (제출 → Virtual Thread 실행 → 결과 수신)
+ * - deferredResult: Object 반환 → DeferredResult
+ * - completableFuture: CompletableFuture 반환 (DeferredResult 미생성)
+ * - blocking: String 반환 → 호출자 대기
+ * - detachedVoid: void 반환 → 실행 완료는 래치로 확인
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ReturnTypeOverheadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReturnTypeOverheadBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkApplication.BenchmarkTarget target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        target = context.getBean(BenchmarkApplication.BenchmarkTarget.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object deferredResult() {
+        return BenchmarkApplication.await(target.offloaded());
+    }
+
+    @Benchmark
+    public Object completableFuture() {
+        return target.offloadedFuture().join();
+    }
+
+    @Benchmark
+    public Object blocking() {
+        return target.offloadedBlocking();
+    }
+
+    @Benchmark
+    public void detachedVoid() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        target.offloadedVoid(done);
+        done.await();
+    }
+}
@@ -0,0 +1,134 @@
+package com.ocean.sc.vt.benchmark;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 기동 시간 벤치마크 (AOT 캐시 유무 비교)
+ * - 애플리케이션을 별도 프로세스로 반복 기동
+ * - 프로세스 시작 → 첫 번째 성공 요청(200 OK)까지의 시간 측정
+ *
+ * 실행: ./gradlew startupBenchmark
+ *
+ * 인자: [java 실행 파일] [애플리케이션 jar] [AOT 캐시 파일] [반복 횟수] [리포트 파일]
+ */
+public class StartupBenchmark {
+
+    private static final String PROBE_PATH = "/api/demo/thread-info";
+    private static final Duration STARTUP_LIMIT = Duration.ofMinutes(2);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("Usage: StartupBenchmark <java> <jar> <aot-cache> <runs> [report]");
+            System.exit(1);
+        }
+        String java = args[0];
+        String jar = args[1];
+        String aotCache = args[2];
+        int runs = Integer.parseInt(args[3]);
+
+        List<Long> baseline = measure(java, jar, null, runs);
+        List<Long> withCache = measure(java, jar, aotCache, runs);
+
+        String report = String.join(System.lineSeparator(),
+                "===== Startup Benchmark (time-to-first-successful-request) =====",
+                "runs: " + runs,
+                summary("baseline ", baseline),
+                summary("aot-cache", withCache),
+                String.format("improvement (median): %.2f%%",
+                        (1.0 - (double) median(withCache) / median(baseline)) * 100));
+
+        System.out.println(report);
+        if (args.length > 4) {
+            Path reportFile = Path.of(args[4]);
+            Files.createDirectories(reportFile.getParent());
+            Files.writeString(reportFile, report + System.lineSeparator());
+        }
+    }
+
+    private static List<Long> measure(String java, String jar, String aotCache, int runs) throws Exception {
+        List<Long> results = new ArrayList<>();
+        // 첫 실행은 OS 파일 캐시 예열용으로 버림
+        for (int i = 0; i <= runs; i++) {
+            long millis = startOnce(java, jar, aotCache);
+            if (i > 0) {
+                results.add(millis);
+            }
+        }
+        return results;
+    }
+
+    private static long startOnce(String java, String jar, String aotCache) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        if (aotCache != null) {
+            command.add("-XX:AOTCache=" + aotCache);
+        }
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=" + port);
+
+        // 기동마다 새 클라이언트 - 선택자 스레드가 측정 반복마다 쌓이지 않도록 닫음
+        try (HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build()) {
+            HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PROBE_PATH))
+                    .timeout(Duration.ofSeconds(1))
+                    .build();
+
+            long startTime = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            try {
+                while (System.nanoTime() - startTime < STARTUP_LIMIT.toNanos()) {
+                    if (!process.isAlive()) {
+                        throw new IllegalStateException("Application exited with code " + process.exitValue());
+                    }
+                    try {
+                        if (client.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                            return (System.nanoTime() - startTime) / 1_000_000;
+                        }
+                    } catch (ConnectException e) {
+                        // 아직 포트가 열리지 않음
+                    } catch (IOException e) {
+                        // 연결 직후 리셋 등 - 재시도
+                    }
+                    Thread.sleep(10);
+                }
+                throw new IllegalStateException("Application did not answer within " + STARTUP_LIMIT);
+            } finally {
+                process.destroy();
+                process.waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String summary(String label, List<Long> values) {
+        return String.format("%s  median=%dms  min=%dms  max=%dms  all=%s",
+                label, median(values), Collections.min(values), Collections.max(values), values);
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
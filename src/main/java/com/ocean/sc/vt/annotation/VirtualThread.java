@@ -23,6 +23,21 @@ import java.lang.annotation.Target;
  * }
  * </pre>
  *
+ * <p>선언된 반환 타입에 따라 결과 전달 방식이 달라집니다:</p>
+ * <ul>
+ *     <li>{@code Object} / {@code DeferredResult}: DeferredResult로 즉시 반환 (MVC 컨트롤러)</li>
+ *     <li>{@code CompletableFuture} / {@code CompletionStage} / {@code Future}: CompletableFuture로 즉시 반환
+ *         (메서드가 CompletionStage를 반환하면 그 완료에 연결, DeferredResult 미생성)</li>
+ *     <li>{@code void}: 제출 후 즉시 반환 (fire-and-forget)</li>
+ *     <li>그 외 타입: Virtual Thread에서 실행하고 호출자는 결과를 대기 (일반 @Service 메서드)</li>
+ * </ul>
+ *
+ * <p>주의: 컨트롤러 핸들러를 {@code String} 등 구체 타입으로 선언하면 "그 외 타입"으로 처리되어
+ * Tomcat 스레드가 결과를 기다리며 점유됩니다 (Tomcat 스레드 해방 효과 없음).
+ * 핸들러는 {@code Object} / {@code DeferredResult} / {@code CompletableFuture}로 선언하세요.
+ * 이런 핸들러는 기동 시 경고 로그로 표시됩니다
+ * ({@link com.ocean.sc.vt.aspect.BlockingHandlerDetector}).</p>
+ *
  * @see com.ocean.sc.vt.aspect.VirtualThreadAspect
  */
 @Target(ElementType.METHOD)
@@ -44,4 +59,55 @@ public @interface VirtualThread {
      * @return 설명
      */
     String description() default "";
+
+    /**
+     * 결과 전달 방식 (Object / DeferredResult 반환 MVC 핸들러에만 적용)
+     * <p>기본값: {@link Completion#DISPATCH}</p>
+     *
+     * @return 결과 전달 방식
+     */
+    Completion completion() default Completion.DISPATCH;
+
+    /**
+     * 단계별 파이프라인 모드 - 실행할 파이프라인 Bean 이름 ({@code Pipeline.name()})
+     * <p>지정하면 메서드 본문은 호출 스레드에서 파이프라인 입력만 만들어 반환하고,
+     * 실제 처리는 파이프라인 단계(단계별 동시 실행 상한 + 유한 큐)가 수행합니다.
+     * 첫 단계 큐가 가득 차면 호출 스레드가 대기 후 503으로 거부됩니다 (역압).
+     * 결과 전달은 선언된 반환 타입을 따릅니다 (Object → DeferredResult, CompletionStage, void, 그 외 대기).</p>
+     * <p>기본값: "" (파이프라인 미사용)</p>
+     *
+     * @return 파이프라인 이름
+     * @see com.ocean.sc.vt.pipeline.Pipeline
+     */
+    String pipeline() default "";
+
+    /**
+     * 키별 순차 실행 - 직렬화 키를 만드는 SpEL 식 (메서드 파라미터 참조: {@code #userId}, {@code #p0})
+     * <p>같은 키의 호출은 도착 순서대로 하나씩 실행되고, 다른 키의 호출은 병렬로 실행됩니다.
+     * 키마다 메일박스가 필요할 때 생성되고 비면 회수되므로 키 수에 제한이 없습니다.
+     * 앞선 같은 키 호출을 기다리는 시간도 타임아웃에 포함되며, 기다리는 중에 타임아웃 / 취소된 호출은 실행되지 않습니다.
+     * 메일박스를 비우는 Virtual Thread는 Executor를 거치지 않으므로 vt.executor.concurrency-limit은 적용되지 않습니다
+     * (동시 실행 수는 최대 키 수, 메서드별 최대 동시 실행 정책은 적용).</p>
+     * <p>주의: 같은 키로 직렬화된 메서드 안에서 같은 키의 메서드를 호출하고 결과를 기다리면 교착 상태가 됩니다.
+     * {@link #pipeline()}과 함께 쓸 수 없습니다.</p>
+     * <p>기본값: "" (순서 보장 없음)</p>
+     *
+     * @return 직렬화 키 SpEL 식
+     * @see com.ocean.sc.vt.ordering.KeyedSerialExecutor
+     */
+    String serializeBy() default "";
+
+    /**
+     * MVC 핸들러 결과 전달 방식
+     */
+    enum Completion {
+        /** DeferredResult 설정 → 서블릿 컨테이너가 Tomcat 스레드로 재디스패치하여 MVC가 응답 작성 (기본) */
+        DISPATCH,
+        /**
+         * Virtual Thread가 결과(String / byte[] / JSON)를 직접 직렬화하여 쓰고 비동기 처리 완료 (재디스패치 없음)
+         * - 예외 / 타임아웃 / 직렬화 불가 결과는 DISPATCH로 처리 (MVC 예외 처리 적용)
+         * - 재디스패치 시 실행되는 필터 / 인터셉터 후처리(postHandle 등)는 실행되지 않음
+         */
+        DIRECT
+    }
 }
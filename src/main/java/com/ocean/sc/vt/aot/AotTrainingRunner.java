@@ -0,0 +1,120 @@
+package com.ocean.sc.vt.aot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * AOT 캐시(JDK 25 AOTCache / AppCDS) 학습 실행
+ * - vt.aot.training=true 일 때만 활성화 (./gradlew aotCache)
+ * - 기동 완료 후 /virtual, /virtual-aop 를 호출하여
+ *   MVC 비동기 경로, DeferredResult, VirtualThreadAspect 프록시 경로의 클래스를 로딩/링크
+ * - 개별 요청 실패(연결 오류 / 타임아웃 / 비 200)는 집계만 하고 학습은 계속 (일부 경로만 학습되어도 캐시는 유효)
+ * - 완료 후 애플리케이션 종료 → JVM 종료 시 -XX:AOTCacheOutput 파일 생성
+ */
+@Component
+@ConditionalOnProperty(name = "vt.aot.training", havingValue = "true")
+public class AotTrainingRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AotTrainingRunner.class);
+
+    private static final List<String> TRAINING_PATHS = List.of(
+            "/api/demo/virtual?message=aot",
+            "/api/demo/virtual-aop?message=aot",
+            "/api/demo/thread-info");
+
+    private final ConfigurableApplicationContext context;
+    private final Environment environment;
+    private final int rounds;
+    private final int concurrency;
+
+    public AotTrainingRunner(
+            ConfigurableApplicationContext context,
+            Environment environment,
+            @Value("${vt.aot.training-rounds:3}") int rounds,
+            @Value("${vt.aot.training-concurrency:20}") int concurrency) {
+        this.context = context;
+        this.environment = environment;
+        this.rounds = rounds;
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null) {
+            log.warn("[AOT Training] 웹 서버가 없어 학습 요청을 건너뜁니다");
+        } else {
+            train(port);
+        }
+
+        log.info("[AOT Training] 학습 완료 - 애플리케이션 종료 (AOT 캐시 기록)");
+        System.exit(SpringApplication.exit(context));
+    }
+
+    private void train(int port) {
+        // HttpClient를 먼저 닫은 뒤 실행기 종료 (선언 역순)
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .executor(executor)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+
+            for (int round = 1; round <= rounds; round++) {
+                long startTime = System.currentTimeMillis();
+                List<CompletableFuture<Boolean>> results = new ArrayList<>();
+
+                for (String path : TRAINING_PATHS) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                            .timeout(Duration.ofSeconds(30))
+                            .build();
+                    for (int i = 0; i < concurrency; i++) {
+                        results.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                                .handle((response, e) -> succeeded(path, response, e)));
+                    }
+                }
+
+                long failures = results.stream()
+                        .map(CompletableFuture::join)
+                        .filter(succeeded -> !succeeded)
+                        .count();
+
+                log.info("[AOT Training] 라운드 {}/{} 완료 - 요청 {}건, 실패 {}건 ({}ms)",
+                        round, rounds, results.size(), failures, System.currentTimeMillis() - startTime);
+            }
+        }
+    }
+
+    /**
+     * 요청 1건 결과 - 실패는 예외로 전파하지 않고 false (원인은 debug 로그)
+     */
+    private static boolean succeeded(String path, HttpResponse<Void> response, Throwable error) {
+        if (error != null) {
+            log.debug("[AOT Training] {} 요청 실패: {}", path, error.toString());
+            return false;
+        }
+        if (response.statusCode() != 200) {
+            log.debug("[AOT Training] {} 응답 상태 {}", path, response.statusCode());
+            return false;
+        }
+        return true;
+    }
+}
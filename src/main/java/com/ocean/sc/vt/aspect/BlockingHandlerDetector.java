@@ -0,0 +1,64 @@
+package com.ocean.sc.vt.aspect;
+
+import com.ocean.sc.vt.annotation.VirtualThread;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 요청 매핑 핸들러 중 BLOCKING으로 실행되는 @VirtualThread 메서드 기동 시 경고
+ * - 반환 타입이 Object / DeferredResult / CompletionStage / void가 아니면 (예: String) BLOCKING 모드
+ *   → 본문은 Virtual Thread에서 실행되지만 Tomcat 스레드가 결과를 기다리며 점유됨 (오프로딩 효과 없음)
+ * - 호출 경로를 바꾸지 않고 경고만 남김 (일반 @Service 메서드에는 정상 동작)
+ */
+@Component
+public class BlockingHandlerDetector implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockingHandlerDetector.class);
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMapping;
+
+    public BlockingHandlerDetector(
+            @Qualifier("requestMappingHandlerMapping") ObjectProvider<RequestMappingHandlerMapping> handlerMapping) {
+        this.handlerMapping = handlerMapping;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        RequestMappingHandlerMapping mapping = handlerMapping.getIfAvailable();
+        if (mapping == null) {
+            return;
+        }
+        for (String handler : blockingHandlers(mapping.getHandlerMethods().values())) {
+            log.warn("[VirtualThread Aspect] ⚠️ {} - 반환 타입이 BLOCKING 모드라 Tomcat 스레드가 결과를 기다립니다 "
+                    + "(Object / DeferredResult / CompletableFuture로 선언하면 즉시 해방)", handler);
+        }
+    }
+
+    /**
+     * BLOCKING 모드로 실행될 @VirtualThread 핸들러 (같은 메서드가 여러 매핑에 걸려도 1회)
+     */
+    static List<String> blockingHandlers(Collection<HandlerMethod> handlerMethods) {
+        List<String> handlers = new ArrayList<>();
+        for (HandlerMethod handlerMethod : handlerMethods) {
+            String name = handlerMethod.getShortLogMessage();
+            if (handlerMethod.hasMethodAnnotation(VirtualThread.class)
+                    && VirtualThreadInvoker.ReturnMode.of(handlerMethod.getMethod().getReturnType())
+                    == VirtualThreadInvoker.ReturnMode.BLOCKING
+                    && !handlers.contains(name)) {
+                handlers.add(name);
+            }
+        }
+        handlers.sort(null);
+        return handlers;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ocean.sc.vt.aspect;
+
+import com.ocean.sc.vt.context.ContextSnapshot;
+import com.ocean.sc.vt.inflight.TrackedTask;
+import com.ocean.sc.vt.jfr.VirtualThreadInvocationEvent;
+import com.ocean.sc.vt.policy.OffloadPolicyRegistry;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @VirtualThread 호출 1건의 실행 정보
+ * - 제출(호출 스레드) → 실행(Virtual Thread) → 결과 확정까지 관측 정보를 함께 전달
+ * - 결과는 한 번만 확정 (타임아웃과 실행 완료가 경쟁하면 먼저 확정된 쪽)
+ */
+final class Invocation {
+
+    final String methodName;
+    final ContextSnapshot context;
+    final long traceId;
+    final VirtualThreadInvocationEvent event;
+    final int metricsSlot;
+    final TrackedTask task;
+    final OffloadPolicyRegistry.Permit permit;
+    /** 키별 순차 실행 키 (serializeBy 미지정이면 null) */
+    final Object serialKey;
+    /** 워밍업 요청 안의 호출 - 메트릭 / 호출 비용 기록 제외 */
+    final boolean warmup;
+    final long submittedNanos = System.nanoTime();
+
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private final AtomicBoolean unregistered = new AtomicBoolean();
+
+    Invocation(String methodName, ContextSnapshot context, long traceId,
+               VirtualThreadInvocationEvent event, int metricsSlot, TrackedTask task,
+               OffloadPolicyRegistry.Permit permit, Object serialKey, boolean warmup) {
+        this.methodName = methodName;
+        this.context = context;
+        this.traceId = traceId;
+        this.event = event;
+        this.metricsSlot = metricsSlot;
+        this.task = task;
+        this.permit = permit;
+        this.serialKey = serialKey;
+        this.warmup = warmup;
+    }
+
+    /**
+     * 실행 권한 획득 - 워커 시작과 실행 전 포기(타임아웃 / 취소로 대기열에서 버림) 중 먼저 한 쪽만
+     *
+     * @return 처음 획득한 경우 true
+     */
+    boolean claim() {
+        return claimed.compareAndSet(false, true);
+    }
+
+    /**
+     * 결과 확정 표시
+     *
+     * @return 처음 확정한 경우 true
+     */
+    boolean markFinished() {
+        return !finished.get() && finished.compareAndSet(false, true);
+    }
+
+    /**
+     * 작업 등록 해제 표시 (워커 종료 / 실행 전 취소 / 제출 거부가 경쟁해도 1회만)
+     *
+     * @return 처음 해제한 경우 true
+     */
+    boolean markUnregistered() {
+        return unregistered.compareAndSet(false, true);
+    }
+}
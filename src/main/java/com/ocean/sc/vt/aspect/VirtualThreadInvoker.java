@@ -0,0 +1,704 @@
+package com.ocean.sc.vt.aspect;
+
+import com.ocean.sc.vt.annotation.VirtualThread;
+import com.ocean.sc.vt.completion.DirectResponseWriter;
+import com.ocean.sc.vt.completion.DirectWriteDeferredResult;
+import com.ocean.sc.vt.context.ContextPropagatorRegistry;
+import com.ocean.sc.vt.inflight.OffloadDrainer;
+import com.ocean.sc.vt.inflight.OffloadTaskRegistry;
+import com.ocean.sc.vt.inflight.TaskCancelledException;
+import com.ocean.sc.vt.inflight.TrackedTask;
+import com.ocean.sc.vt.jfr.Outcome;
+import com.ocean.sc.vt.jfr.VirtualThreadInvocationEvent;
+import com.ocean.sc.vt.metrics.InvocationCostRecorder;
+import com.ocean.sc.vt.metrics.OffloadMetrics;
+import com.ocean.sc.vt.ordering.KeyedSerialExecutor;
+import com.ocean.sc.vt.ordering.SerialKeyResolver;
+import com.ocean.sc.vt.pipeline.Pipeline;
+import com.ocean.sc.vt.pipeline.PipelineRejectedException;
+import com.ocean.sc.vt.pipeline.PipelineRegistry;
+import com.ocean.sc.vt.policy.ConcurrencyLimitExceededException;
+import com.ocean.sc.vt.policy.OffloadPolicyRegistry;
+import com.ocean.sc.vt.policy.PolicySnapshot;
+import com.ocean.sc.vt.profiler.WorkAttribution;
+import com.ocean.sc.vt.trace.RequestTraceRecorder;
+import com.ocean.sc.vt.trace.TracePhase;
+import com.ocean.sc.vt.warmup.WarmupTraffic;
+import jakarta.servlet.AsyncContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * @VirtualThread 메서드를 Virtual Thread에서 실행하는 실행기
+ * - 위빙 방식(Spring 프록시 / AspectJ 컴파일 타임 위빙)과 무관하게 {@link VirtualThreadAspect}가 위임
+ * - 메서드의 선언된 반환 타입에 따라 결과 전달 방식 선택 ({@link ReturnMode})
+ * - 샘플링된 요청은 제출/시작/실행/결과 시점을 {@link RequestTraceRecorder}에 기록
+ * - JFR 기록 중이면 호출마다 {@link VirtualThreadInvocationEvent} 기록 (대기/실행 시간, 결과)
+ * - 샘플링된 호출은 실행 스레드의 CPU 시간 / 할당 바이트를 {@link InvocationCostRecorder}에 집계
+ * - 제출/결과 건수와 지연 시간을 {@link OffloadMetrics}(메모리 매핑 파일)에 기록
+ * - 실행 중인 작업은 {@link OffloadTaskRegistry}에 등록 (고아 작업 탐지, 관리 API 취소)
+ * - 종료 드레인 중이면 새 호출은 즉시 거부 ({@link OffloadDrainer})
+ * - MDC / RequestContextHolder / Locale 등은 {@link ContextPropagatorRegistry} 스냅샷으로 전파
+ * - completion = DIRECT 이면 Virtual Thread가 응답을 직접 작성 ({@link DirectResponseWriter}, 재디스패치 없음)
+ * - 타임아웃 / 동시 실행 제한은 호출마다 {@link OffloadPolicyRegistry} 스냅샷에서 읽음 (런타임 변경 가능)
+ * - pipeline 지정 시 메서드 반환값을 {@link Pipeline} 입력으로 제출 (단계별 동시 실행 상한 + 유한 큐)
+ * - serializeBy 지정 시 같은 키의 호출은 {@link KeyedSerialExecutor} 메일박스에서 도착 순서대로 실행
+ *
+ * <p>동작 방식 (Object / DeferredResult 반환):</p>
+ * <ol>
+ *     <li>현재 스레드(Tomcat Thread)의 컨텍스트(MDC, 요청 속성, Locale) 스냅샷 캡처</li>
+ *     <li>DeferredResult 생성 및 즉시 반환 (Tomcat Thread 해방)</li>
+ *     <li>Virtual Thread Executor에 작업 제출</li>
+ *     <li>작업 완료 시 DeferredResult.setResult() 호출</li>
+ * </ol>
+ */
+@Component
+public class VirtualThreadInvoker {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadInvoker.class);
+
+    private final AsyncTaskExecutor virtualThreadExecutor;
+    private final RequestTraceRecorder traceRecorder;
+    private final InvocationCostRecorder costRecorder;
+    private final OffloadMetrics offloadMetrics;
+    private final OffloadTaskRegistry taskRegistry;
+    private final OffloadDrainer drainer;
+    private final OffloadPolicyRegistry policyRegistry;
+    private final ContextPropagatorRegistry contextRegistry;
+    private final DirectResponseWriter responseWriter;
+    private final PipelineRegistry pipelineRegistry;
+    private final KeyedSerialExecutor serialExecutor;
+    private final SerialKeyResolver serialKeyResolver;
+
+    public VirtualThreadInvoker(AsyncTaskExecutor virtualThreadExecutor, RequestTraceRecorder traceRecorder,
+                                InvocationCostRecorder costRecorder, OffloadMetrics offloadMetrics,
+                                OffloadTaskRegistry taskRegistry, OffloadDrainer drainer,
+                                OffloadPolicyRegistry policyRegistry, ContextPropagatorRegistry contextRegistry,
+                                DirectResponseWriter responseWriter, PipelineRegistry pipelineRegistry,
+                                KeyedSerialExecutor serialExecutor, SerialKeyResolver serialKeyResolver) {
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.traceRecorder = traceRecorder;
+        this.costRecorder = costRecorder;
+        this.offloadMetrics = offloadMetrics;
+        this.taskRegistry = taskRegistry;
+        this.drainer = drainer;
+        this.policyRegistry = policyRegistry;
+        this.contextRegistry = contextRegistry;
+        this.responseWriter = responseWriter;
+        this.pipelineRegistry = pipelineRegistry;
+        this.serialExecutor = serialExecutor;
+        this.serialKeyResolver = serialKeyResolver;
+    }
+
+    /**
+     * 메서드를 Virtual Thread에서 실행
+     *
+     * @param joinPoint 메서드 실행 지점
+     * @param virtualThread 어노테이션 정보
+     * @return 반환 타입에 맞는 결과 (DeferredResult / CompletableFuture / 실제 값 / null)
+     */
+    public Object invoke(ProceedingJoinPoint joinPoint, VirtualThread virtualThread) throws Throwable {
+        // 종료 드레인 중이면 제출하지 않고 즉시 503
+        drainer.rejectIfDraining();
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+
+        // 정책 스냅샷은 호출당 한 번만 읽음 (잠금 없음)
+        String policyKey = OffloadPolicyRegistry.methodKey(signature.getDeclaringType(), signature.getName());
+        PolicySnapshot policy = policyRegistry.current();
+        long timeoutMs = policy.timeoutMs(policyKey, virtualThread.timeout());
+        OffloadPolicyRegistry.Permit permit = policyRegistry.tryAcquire(policy, policyKey);
+        if (permit == null) {
+            log.warn("[VirtualThread Aspect] 🚧 Method: {} 동시 실행 제한 초과 (max {})",
+                    policyKey, policy.maxConcurrency(policyKey));
+            throw new ConcurrencyLimitExceededException(policyKey, policy.maxConcurrency(policyKey));
+        }
+
+        ReturnMode returnMode = ReturnMode.of(signature.getReturnType());
+        if (!virtualThread.pipeline().isEmpty()) {
+            if (!virtualThread.serializeBy().isEmpty()) {
+                permit.release();
+                throw new IllegalStateException("serializeBy cannot be combined with pipeline: " + policyKey);
+            }
+            return invokePipeline(joinPoint, virtualThread.pipeline(), returnMode, timeoutMs, permit);
+        }
+        Object serialKey = null;
+        if (!virtualThread.serializeBy().isEmpty()) {
+            try {
+                serialKey = serialKeyResolver.resolve(joinPoint, virtualThread.serializeBy());
+            } catch (RuntimeException e) {
+                permit.release();
+                throw e;
+            }
+        }
+        return switch (returnMode) {
+            case DEFERRED_RESULT -> virtualThread.completion() == VirtualThread.Completion.DIRECT
+                    ? invokeDirect(joinPoint, timeoutMs, permit, serialKey)
+                    : invokeDeferred(joinPoint, timeoutMs, permit, serialKey);
+            case COMPLETION_STAGE -> invokeAsync(joinPoint, timeoutMs, permit, serialKey);
+            case VOID -> invokeDetached(joinPoint, permit, serialKey);
+            case BLOCKING -> invokeBlocking(joinPoint, timeoutMs, permit, serialKey);
+        };
+    }
+
+    /**
+     * Object / DeferredResult 반환 - MVC 요청 처리용
+     * DeferredResult를 반환하여 Tomcat Thread를 즉시 해방
+     */
+    private Object invokeDeferred(ProceedingJoinPoint joinPoint, long timeoutMs, OffloadPolicyRegistry.Permit permit,
+                                  Object serialKey) {
+
+        // 현재 스레드 정보 (Tomcat Thread)
+        Thread currentThread = Thread.currentThread();
+        String methodName = joinPoint.getSignature().toShortString();
+
+        log.info("[VirtualThread Aspect] Method: {}, Tomcat Thread: {}, IsVirtual: {}",
+                methodName, currentThread.getName(), currentThread.isVirtual());
+        log.info("[VirtualThread Aspect] 🚀 DeferredResult 생성 - Tomcat Thread 즉시 해방");
+
+        // 컨텍스트 스냅샷 (MDC, 요청 속성, Locale) + 관측 정보
+        Invocation invocation = newInvocation(methodName, ReturnMode.DEFERRED_RESULT, permit, serialKey);
+
+        // DeferredResult 생성 (타임아웃 설정)
+        DeferredResult<Object> deferredResult = new DeferredResult<>(timeoutMs);
+        traceRecorder.record(invocation.traceId, TracePhase.DEFERRED_CREATED);
+
+        // 타임아웃 핸들러
+        deferredResult.onTimeout(() -> {
+            log.error("[VirtualThread Aspect] ⏱️ Method: {} timed out after {}ms",
+                    methodName, timeoutMs);
+            deferredResult.setErrorResult(timeoutException(timeoutMs));
+            finish(invocation, Outcome.TIMEOUT);
+            releaseIfNeverStarted(invocation);
+        });
+
+        // 클라이언트 연결 끊김 등 비동기 요청 오류 → 결과 확정 (이후에도 실행 중이면 고아 작업)
+        deferredResult.onError(error -> {
+            finish(invocation, Outcome.ERROR);
+            releaseIfNeverStarted(invocation);
+        });
+
+        // 관리 API 취소 → 오류 결과로 확정
+        onCancel(invocation, () -> {
+            deferredResult.setErrorResult(cancelledException(invocation));
+            finish(invocation, Outcome.ERROR);
+            releaseIfNeverStarted(invocation);
+        });
+
+        // Virtual Thread Executor에 작업 제출 (비동기)
+        submit(invocation, () -> {
+            try {
+                Object result = proceedOnWorker(joinPoint, invocation);
+
+                // 성공 결과 설정 (이미 타임아웃 처리된 경우 무시됨)
+                deferredResult.setResult(result);
+                traceRecorder.record(invocation.traceId, TracePhase.RESULT_SET);
+                finish(invocation, Outcome.OK);
+                return result;
+
+            } catch (Throwable e) {
+                // 예외 발생 시 에러 결과 설정
+                deferredResult.setErrorResult(e);
+                finish(invocation, Outcome.ERROR);
+                throw new RuntimeException(e);
+            }
+        });
+
+        // DeferredResult 즉시 반환 → Tomcat Thread 해방
+        log.info("[VirtualThread Aspect] 🎯 DeferredResult 반환 완료 - Tomcat Thread: {}",
+                currentThread.getName());
+
+        return deferredResult;
+    }
+
+    /**
+     * Object / DeferredResult 반환 + completion = DIRECT
+     * - 성공 결과는 Virtual Thread가 직접 직렬화하여 쓰고 AsyncContext 완료 → Tomcat 스레드 재디스패치 없음
+     * - 예외 / 타임아웃 / 취소 / 직렬화할 수 없는 결과는 DeferredResult로 디스패치 (MVC 예외 처리)
+     * - 응답은 먼저 확정한 쪽만 작성 (타임아웃과 실행 완료가 경쟁하면 하나만 응답)
+     */
+    private Object invokeDirect(ProceedingJoinPoint joinPoint, long timeoutMs, OffloadPolicyRegistry.Permit permit,
+                                Object serialKey) {
+        String methodName = joinPoint.getSignature().toShortString();
+        Invocation invocation = newInvocation(methodName, ReturnMode.DEFERRED_RESULT, permit, serialKey);
+
+        DirectWriteDeferredResult deferredResult = new DirectWriteDeferredResult(timeoutMs);
+        traceRecorder.record(invocation.traceId, TracePhase.DEFERRED_CREATED);
+
+        deferredResult.onTimeout(() -> {
+            if (finish(invocation, Outcome.TIMEOUT)) {
+                log.error("[VirtualThread Aspect] ⏱️ Method: {} timed out after {}ms", methodName, timeoutMs);
+                deferredResult.setErrorResult(timeoutException(timeoutMs));
+            }
+            releaseIfNeverStarted(invocation);
+        });
+        deferredResult.onError(error -> {
+            finish(invocation, Outcome.ERROR);
+            releaseIfNeverStarted(invocation);
+        });
+        onCancel(invocation, () -> {
+            if (finish(invocation, Outcome.ERROR)) {
+                deferredResult.setErrorResult(cancelledException(invocation));
+            }
+            releaseIfNeverStarted(invocation);
+        });
+
+        submit(invocation, () -> {
+            Object result;
+            try {
+                result = proceedOnWorker(joinPoint, invocation);
+            } catch (Throwable e) {
+                // 예외는 MVC 예외 처리(@ResponseStatus, @ExceptionHandler)를 거치도록 디스패치
+                if (finish(invocation, Outcome.ERROR)) {
+                    deferredResult.setErrorResult(e);
+                }
+                return null;
+            }
+            completeDirectly(invocation, deferredResult, result, timeoutMs);
+            return result;
+        });
+
+        return deferredResult;
+    }
+
+    /**
+     * 비동기 처리 시작을 기다린 뒤 응답 직접 작성 (불가능하면 DeferredResult 디스패치)
+     */
+    private void completeDirectly(Invocation invocation, DirectWriteDeferredResult deferredResult, Object result,
+                                  long timeoutMs) {
+        AsyncContext asyncContext = deferredResult.awaitAsyncContext(timeoutMs);
+        if (!finish(invocation, Outcome.OK)) {
+            // 타임아웃 / 취소로 이미 응답 확정
+            return;
+        }
+        traceRecorder.record(invocation.traceId, TracePhase.RESULT_SET);
+        if (asyncContext == null) {
+            // MVC 핸들러 반환값이 아님 (요청 밖 호출 등) → 일반 DeferredResult로 전달
+            deferredResult.setResult(result);
+            return;
+        }
+        try {
+            if (!responseWriter.write(asyncContext, result)) {
+                deferredResult.setResult(result);
+            }
+        } catch (Exception e) {
+            // 클라이언트 연결 끊김 등 - 응답은 이미 커밋되었을 수 있어 디스패치하지 않음
+            log.warn("[VirtualThread Aspect] ⚠️ Method: {} 직접 응답 작성 실패: {}", invocation.methodName, e.toString());
+        }
+    }
+
+    /**
+     * CompletableFuture / CompletionStage / Future 반환
+     * - DeferredResult 없이 CompletableFuture를 바로 반환 (MVC도 네이티브 지원, 제네릭 타입 유지)
+     * - 메서드가 이미 비동기(CompletionStage 반환)이면 그 결과에 연결
+     */
+    private Object invokeAsync(ProceedingJoinPoint joinPoint, long timeoutMs, OffloadPolicyRegistry.Permit permit,
+                               Object serialKey) {
+        Invocation invocation = newInvocation(joinPoint.getSignature().toShortString(), ReturnMode.COMPLETION_STAGE, permit, serialKey);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        onCancel(invocation, () -> future.completeExceptionally(cancelledException(invocation)));
+
+        submit(invocation, () -> {
+            try {
+                Object result = proceedOnWorker(joinPoint, invocation);
+                if (result instanceof CompletionStage<?> stage) {
+                    stage.whenComplete((value, error) -> {
+                        if (error != null) {
+                            future.completeExceptionally(error);
+                        } else {
+                            future.complete(value);
+                            traceRecorder.record(invocation.traceId, TracePhase.RESULT_SET);
+                        }
+                    });
+                } else {
+                    future.complete(result);
+                    traceRecorder.record(invocation.traceId, TracePhase.RESULT_SET);
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+            return null;
+        });
+
+        // 결과 / 예외 / 타임아웃 중 먼저 확정된 쪽으로 기록 (타임아웃 / 취소 시 아직 대기 중이면 실행하지 않음)
+        future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((value, error) -> {
+                    finish(invocation, outcomeOf(error));
+                    if (error != null) {
+                        releaseIfNeverStarted(invocation);
+                    }
+                });
+        return future;
+    }
+
+    /**
+     * void 반환 - 결과를 기다리지 않음 (fire-and-forget)
+     */
+    private Object invokeDetached(ProceedingJoinPoint joinPoint, OffloadPolicyRegistry.Permit permit, Object serialKey) {
+        Invocation invocation = newInvocation(joinPoint.getSignature().toShortString(), ReturnMode.VOID, permit, serialKey);
+
+        submit(invocation, () -> {
+            try {
+                Object result = proceedOnWorker(joinPoint, invocation);
+                finish(invocation, Outcome.OK);
+                return result;
+            } catch (Throwable e) {
+                // 호출자가 없으므로 로그로만 남김 (proceedOnWorker에서 기록)
+                finish(invocation, Outcome.ERROR);
+                return null;
+            }
+        });
+        return null;
+    }
+
+    /**
+     * 그 외 반환 타입 (String, DTO, 기본형 등)
+     * - MVC 요청 밖(일반 @Service 호출)에서 사용: Virtual Thread에서 실행하고 호출자는 타임아웃까지 대기
+     * - 타임아웃 / 호출 스레드 인터럽트 시 작업 인터럽트, 메서드 예외는 원본 그대로 전달
+     */
+    private Object invokeBlocking(ProceedingJoinPoint joinPoint, long timeoutMs, OffloadPolicyRegistry.Permit permit,
+                                  Object serialKey) throws Throwable {
+        Invocation invocation = newInvocation(joinPoint.getSignature().toShortString(), ReturnMode.BLOCKING, permit, serialKey);
+
+        // 호출자가 결과를 기다리므로 결과 확정도 호출 스레드에서
+        Future<Object> future = submit(invocation, () -> proceedWithCheckedExceptions(joinPoint, invocation));
+        onCancel(invocation, () -> future.cancel(true));
+
+        try {
+            Object result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            traceRecorder.record(invocation.traceId, TracePhase.RESULT_SET);
+            finish(invocation, Outcome.OK);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            releaseIfNeverStarted(invocation);
+            finish(invocation, Outcome.TIMEOUT);
+            log.error("[VirtualThread Aspect] ⏱️ Method: {} timed out after {}ms",
+                    invocation.methodName, timeoutMs);
+            throw timeoutException(timeoutMs);
+        } catch (CancellationException e) {
+            releaseIfNeverStarted(invocation);
+            finish(invocation, Outcome.ERROR);
+            throw cancelledException(invocation);
+        } catch (InterruptedException e) {
+            // 호출자가 기다림을 포기 → 작업도 인터럽트하고 결과 확정 후 인터럽트 상태 복원
+            future.cancel(true);
+            releaseIfNeverStarted(invocation);
+            finish(invocation, Outcome.ERROR);
+            log.warn("[VirtualThread Aspect] 🛑 Method: {} 호출 스레드가 대기 중 인터럽트됨 - 작업 취소", invocation.methodName);
+            Thread.currentThread().interrupt();
+            throw cancelledException(invocation);
+        } catch (ExecutionException e) {
+            finish(invocation, Outcome.ERROR);
+            Throwable cause = e.getCause();
+            throw cause instanceof WorkerException workerException ? workerException.getCause() : cause;
+        }
+    }
+
+    /**
+     * 파이프라인 모드 - 메서드 본문(입력 생성)은 호출 스레드에서 실행, 처리는 파이프라인 단계가 수행
+     * - 첫 단계 큐가 가득 차면 호출 스레드가 입구 대기 후 503 (역압이 Tomcat 스레드까지 전달)
+     * - 타임아웃 / 취소로 결과가 먼저 확정되면 남은 단계는 건너뜀
+     */
+    @SuppressWarnings("unchecked")
+    private Object invokePipeline(ProceedingJoinPoint joinPoint, String pipelineName, ReturnMode returnMode,
+                                  long timeoutMs, OffloadPolicyRegistry.Permit permit) throws Throwable {
+        Invocation invocation = newInvocation(joinPoint.getSignature().toShortString(), returnMode, permit, null);
+        traceRecorder.record(invocation.traceId, TracePhase.SUBMITTED);
+        if (!invocation.warmup) {
+            offloadMetrics.submitted(invocation.metricsSlot);
+        }
+
+        CompletableFuture<Object> future;
+        try {
+            Pipeline<Object, Object> pipeline = (Pipeline<Object, Object>) pipelineRegistry.get(pipelineName);
+            Object input = joinPoint.proceed();
+            if (!pipeline.inputType().isInstance(input)) {
+                throw new IllegalArgumentException(String.format("Pipeline %s expects %s but %s returned %s",
+                        pipelineName, pipeline.inputType().getName(), invocation.methodName,
+                        input == null ? "null" : input.getClass().getName()));
+            }
+            future = pipeline.submit(input, invocation.context);
+        } catch (Throwable e) {
+            permit.release();
+            unregister(invocation);
+            finish(invocation, e instanceof PipelineRejectedException ? Outcome.REJECTED : Outcome.ERROR);
+            throw e;
+        }
+        // started()는 호출하지 않음 - 여기는 Tomcat 스레드이므로 기록하면 취소 시 무관한 요청을 인터럽트함
+        // (단계 워커는 여러 요청이 공유 → 취소는 결과만 오류로 확정, 진행 중 단계는 결과가 확정된 항목을 건너뜀)
+        onCancel(invocation, () -> future.completeExceptionally(cancelledException(invocation)));
+
+        future.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+            permit.release();
+            unregister(invocation);
+            if (error == null) {
+                traceRecorder.record(invocation.traceId, TracePhase.RESULT_SET);
+            }
+            finish(invocation, outcomeOf(error));
+        });
+
+        return switch (returnMode) {
+            case DEFERRED_RESULT -> {
+                DeferredResult<Object> deferredResult = new DeferredResult<>(timeoutMs);
+                deferredResult.onTimeout(() -> future.completeExceptionally(new TimeoutException()));
+                future.whenComplete((value, error) -> {
+                    if (error == null) {
+                        deferredResult.setResult(value);
+                    } else {
+                        deferredResult.setErrorResult(error instanceof TimeoutException
+                                ? timeoutException(timeoutMs) : error);
+                    }
+                });
+                yield deferredResult;
+            }
+            case COMPLETION_STAGE -> future;
+            case VOID -> null;
+            case BLOCKING -> {
+                try {
+                    yield future.join();
+                } catch (CompletionException e) {
+                    throw e.getCause() instanceof TimeoutException ? timeoutException(timeoutMs) : e.getCause();
+                }
+            }
+        };
+    }
+
+    private static Outcome outcomeOf(Throwable error) {
+        if (error == null) {
+            return Outcome.OK;
+        }
+        return error instanceof TimeoutException ? Outcome.TIMEOUT : Outcome.ERROR;
+    }
+
+    private static void onCancel(Invocation invocation, Runnable canceller) {
+        if (invocation.task != null) {
+            invocation.task.onCancel(canceller);
+        }
+    }
+
+    /**
+     * 호출 스레드에서 실행 정보 생성 (컨텍스트 스냅샷, 추적 ID, JFR 이벤트, 메트릭 슬롯, 작업 등록)
+     * - 워밍업 요청(X-Warmup) 안의 호출이면 오프로딩 메트릭 / 호출 비용 기록 제외
+     * - 생성 중 예외(컨텍스트 캡처 실패 등)가 나면 워커가 없으므로 여기서 허가 반환 (동시 실행 수 누수 방지)
+     */
+    private Invocation newInvocation(String methodName, ReturnMode returnMode, OffloadPolicyRegistry.Permit permit,
+                                     Object serialKey) {
+        try {
+            return new Invocation(
+                    methodName,
+                    contextRegistry.capture(),
+                    traceRecorder.currentTraceId(),
+                    VirtualThreadInvocationEvent.beginIfEnabled(methodName, returnMode.name()),
+                    offloadMetrics.slot(methodName),
+                    taskRegistry.register(methodName, TrackedTask.Kind.ASPECT),
+                    permit,
+                    serialKey,
+                    WarmupTraffic.isCurrentRequest());
+        } catch (RuntimeException | Error e) {
+            permit.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 결과가 먼저 확정된(타임아웃 / 취소 / 연결 끊김) 호출이 아직 시작 전이면 실행을 포기
+     * - 실행 권한을 먼저 가져가므로 대기열(serializeBy 메일박스, Executor)에서 나중에 꺼내져도 본문을 실행하지 않음
+     * - 워커가 허가 반환 / 작업 등록 해제를 하지 못하므로 여기서 처리
+     * - 이미 실행 중이면 아무것도 하지 않음 (워커가 정리)
+     */
+    private void releaseIfNeverStarted(Invocation invocation) {
+        if (invocation.claim()) {
+            invocation.permit.release();
+            unregister(invocation);
+        }
+    }
+
+    /**
+     * 작업 등록 해제 - 호출당 1회 (추적하지 못한 작업은 레지스트리의 미추적 실행 수만 감소)
+     */
+    private void unregister(Invocation invocation) {
+        if (!invocation.markUnregistered()) {
+            return;
+        }
+        if (invocation.task != null) {
+            taskRegistry.remove(invocation.task);
+        } else {
+            taskRegistry.untrackedFinished();
+        }
+    }
+
+    /**
+     * Executor에 제출 - 거부되면 rejected로 확정 후 전파
+     * - 직렬화 키가 있으면 키의 메일박스에 넣어 앞선 같은 키 작업이 끝난 뒤 실행 (반환 방식과 무관)
+     *   메일박스는 자체 Virtual Thread로 비우므로 virtualThreadExecutor의 동시 실행 제한(vt.executor.concurrency-limit)을
+     *   받지 않음 - 메서드별 제한(vt.policy 최대 동시 실행)은 제출 전에 허가로 적용되므로 그대로 유효
+     */
+    private <T> Future<T> submit(Invocation invocation, Callable<T> task) {
+        traceRecorder.record(invocation.traceId, TracePhase.SUBMITTED);
+        if (!invocation.warmup) {
+            offloadMetrics.submitted(invocation.metricsSlot);
+        }
+        if (invocation.serialKey != null) {
+            FutureTask<T> futureTask = new FutureTask<>(task);
+            serialExecutor.execute(invocation.serialKey, futureTask);
+            return futureTask;
+        }
+        try {
+            return virtualThreadExecutor.submit(task);
+        } catch (TaskRejectedException e) {
+            releaseIfNeverStarted(invocation);
+            finish(invocation, Outcome.REJECTED);
+            throw e;
+        }
+    }
+
+    /**
+     * 결과 확정 - 호출당 1회만 기록 (JFR 이벤트, 오프로딩 메트릭)
+     *
+     * @return 이번 호출이 결과를 확정한 경우 true
+     */
+    private boolean finish(Invocation invocation, Outcome outcome) {
+        if (!invocation.markFinished()) {
+            return false;
+        }
+        if (invocation.task != null) {
+            invocation.task.settled();
+        }
+        if (invocation.event != null) {
+            invocation.event.complete(outcome);
+        }
+        if (!invocation.warmup) {
+            offloadMetrics.finished(invocation.metricsSlot, outcome, System.nanoTime() - invocation.submittedNanos);
+        }
+        return true;
+    }
+
+    /**
+     * Virtual Thread에서 실제 메서드 실행 (컨텍스트 복원/정리, 로깅)
+     */
+    private Object proceedOnWorker(ProceedingJoinPoint joinPoint, Invocation invocation) throws Throwable {
+        String methodName = invocation.methodName;
+        if (!invocation.claim()) {
+            // 대기 중에 타임아웃 / 취소되어 호출 스레드가 이미 정리함 - 결과를 받을 곳이 없으므로 실행하지 않음
+            log.info("[VirtualThread Aspect] ⏭️ Method: {} 시작 전에 결과가 확정되어 실행하지 않음", methodName);
+            throw cancelledException(invocation);
+        }
+        traceRecorder.record(invocation.traceId, TracePhase.WORKER_START);
+        if (invocation.event != null) {
+            invocation.event.workerStarted();
+        }
+        if (invocation.task != null) {
+            invocation.task.started();
+        }
+        // 프로파일러 샘플을 이 메서드로 귀속
+        String previousTag = WorkAttribution.enter(methodName);
+        try {
+            // Virtual Thread에 컨텍스트 복원
+            invocation.context.restore();
+
+            Thread workerThread = Thread.currentThread();
+            log.info("[VirtualThread Aspect] Method: {}, Worker Thread: {}, IsVirtual: {}",
+                    methodName, workerThread.getName(), workerThread.isVirtual());
+
+            // 실제 메서드 실행
+            traceRecorder.record(invocation.traceId, TracePhase.PROCEED_START);
+            InvocationCostRecorder.Start cost = invocation.warmup ? null : costRecorder.start();
+            Object result;
+            try {
+                result = joinPoint.proceed();
+            } finally {
+                costRecorder.finish(methodName, cost);
+            }
+            traceRecorder.record(invocation.traceId, TracePhase.PROCEED_END);
+
+            log.info("[VirtualThread Aspect] ✅ Method: {} completed successfully", methodName);
+            return result;
+
+        } catch (Throwable e) {
+            log.error("[VirtualThread Aspect] ❌ Method: {} failed with exception",
+                    methodName, e);
+            throw e;
+
+        } finally {
+            invocation.permit.release();
+            unregister(invocation);
+            WorkAttribution.exit(previousTag);
+            if (invocation.event != null) {
+                invocation.event.workerFinished();
+            }
+            // 컨텍스트 정리
+            invocation.context.clear();
+        }
+    }
+
+    /**
+     * Callable은 Exception만 던질 수 있으므로 Error 등 Throwable은 감싸서 전달
+     */
+    private Object proceedWithCheckedExceptions(ProceedingJoinPoint joinPoint, Invocation invocation) throws Exception {
+        try {
+            return proceedOnWorker(joinPoint, invocation);
+        } catch (Exception e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new WorkerException(e);
+        }
+    }
+
+    private static RuntimeException timeoutException(long timeoutMs) {
+        return new RuntimeException(String.format("Virtual Thread execution timed out after %dms", timeoutMs));
+    }
+
+    private static TaskCancelledException cancelledException(Invocation invocation) {
+        return new TaskCancelledException("Virtual Thread execution cancelled: " + invocation.methodName);
+    }
+
+    /**
+     * 선언된 반환 타입별 결과 전달 방식
+     */
+    enum ReturnMode {
+        /** Object / DeferredResult: DeferredResult로 감싸서 즉시 반환 (MVC) */
+        DEFERRED_RESULT,
+        /** CompletableFuture / CompletionStage / Future: CompletableFuture 반환 */
+        COMPLETION_STAGE,
+        /** void: 제출 후 즉시 반환 */
+        VOID,
+        /** 그 외: Virtual Thread에서 실행 후 호출자가 결과 대기 */
+        BLOCKING;
+
+        static ReturnMode of(Class<?> returnType) {
+            if (returnType == Object.class || DeferredResult.class.isAssignableFrom(returnType)) {
+                return DEFERRED_RESULT;
+            }
+            if (returnType.isAssignableFrom(CompletableFuture.class)) {
+                return COMPLETION_STAGE;
+            }
+            if (returnType == void.class) {
+                return VOID;
+            }
+            return BLOCKING;
+        }
+    }
+
+    private static final class WorkerException extends Exception {
+        WorkerException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
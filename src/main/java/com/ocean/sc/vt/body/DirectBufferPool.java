@@ -0,0 +1,80 @@
+package com.ocean.sc.vt.body;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 본문 수신용 Direct ByteBuffer 풀 (고정 크기 청크)
+ * - 힙 밖(off-heap) 버퍼라 대용량 업로드가 동시에 몰려도 힙 사용량이 늘지 않음
+ * - 풀이 비어 있으면 새로 할당, 반납 시 풀이 가득 차 있으면 버림 (GC가 해제)
+ */
+@Component
+public class DirectBufferPool {
+
+    private final int chunkSize;
+    private final BlockingQueue<ByteBuffer> free;
+    private final LongAdder allocated = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    public DirectBufferPool(@Value("${vt.body.chunk-size:65536}") int chunkSize,
+                            @Value("${vt.body.max-pooled:1024}") int maxPooled) {
+        if (chunkSize < 1 || maxPooled < 1) {
+            throw new IllegalArgumentException(
+                    "vt.body.chunk-size / vt.body.max-pooled must be positive: " + chunkSize + " / " + maxPooled);
+        }
+        this.chunkSize = chunkSize;
+        this.free = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    /**
+     * 비어 있는(position 0, limit = capacity) 청크 대여
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = free.poll();
+        if (buffer == null) {
+            allocated.increment();
+            return ByteBuffer.allocateDirect(chunkSize);
+        }
+        return buffer;
+    }
+
+    /**
+     * 청크 반납 (이 풀에서 대여한 크기의 Direct 버퍼만 재사용)
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || buffer.capacity() != chunkSize) {
+            return;
+        }
+        buffer.clear();
+        if (!free.offer(buffer)) {
+            discarded.increment();
+        }
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * 현재 풀에 대기 중인 청크 수
+     */
+    public int pooledCount() {
+        return free.size();
+    }
+
+    /**
+     * 기동 이후 새로 할당한 청크 수 (재사용이 잘 되면 거의 늘지 않음)
+     */
+    public long allocatedCount() {
+        return allocated.sum();
+    }
+
+    public long discardedCount() {
+        return discarded.sum();
+    }
+}
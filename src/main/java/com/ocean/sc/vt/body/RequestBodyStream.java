@@ -0,0 +1,335 @@
+package com.ocean.sc.vt.body;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 요청 본문 스트림 (핸들러 파라미터로 선언)
+ * - 비동기 핸들러(@VirtualThread, DeferredResult, CompletionStage, Callable):
+ *   컨테이너가 서블릿 논블로킹 I/O(ReadListener)로 본문을 풀링된 Direct 버퍼에 채우고,
+ *   Virtual Thread는 채워진 청크를 순서대로 소비 (Tomcat 스레드는 본문을 기다리며 블로킹되지 않음)
+ * - 동기 핸들러: 소비하는 스레드가 ServletInputStream에서 직접 블로킹 읽기
+ * - 미소비 청크는 최대 window개까지만 보관 (소비가 느리면 읽기 중단 → TCP 흐름 제어로 역압)
+ * - 본문 전체를 힙에 올리지 않음: {@link #nextChunk()}로 Direct 버퍼를 그대로 받거나 InputStream으로 읽기
+ *
+ * <p>단일 소비자 전용입니다. 소비 메서드는 한 스레드에서만 호출해야 합니다.</p>
+ *
+ * <pre>
+ * &#64;PostMapping("/upload")
+ * &#64;VirtualThread
+ * public Object upload(RequestBodyStream body) throws IOException {
+ *     for (ByteBuffer chunk = body.nextChunk(); chunk != null; chunk = body.nextChunk()) {
+ *         checksum.update(chunk);
+ *     }
+ *     ...
+ * }
+ * </pre>
+ */
+public final class RequestBodyStream extends InputStream {
+
+    private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+    private final DirectBufferPool pool;
+    private final long contentLength;
+    private final int window;
+    // 데이터 청크는 window개까지, 종료 표시(END) 자리 1개 추가
+    private final BlockingQueue<ByteBuffer> ready;
+    private final Object lock = new Object();
+
+    // 생산자 상태 (lock 보호)
+    private ServletInputStream source;
+    private volatile ServletInputStream blockingSource;
+    private volatile boolean paused;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    // 소비자 상태 (단일 소비 스레드)
+    private boolean blocking;
+    private boolean ended;
+    private ByteBuffer current;
+    private long received;
+
+    private RequestBodyStream(DirectBufferPool pool, int window, long contentLength) {
+        this.pool = pool;
+        this.window = window;
+        this.contentLength = contentLength;
+        this.ready = new ArrayBlockingQueue<>(window + 1);
+    }
+
+    /**
+     * 논블로킹 스트림 (비동기 처리 시작 후 {@link #startNonBlocking}으로 연결)
+     */
+    static RequestBodyStream nonBlocking(DirectBufferPool pool, int window, long contentLength) {
+        if (window < 1) {
+            throw new IllegalArgumentException("vt.body.window-chunks must be positive: " + window);
+        }
+        return new RequestBodyStream(pool, window, contentLength);
+    }
+
+    /**
+     * 블로킹 스트림 (소비 스레드가 직접 읽기)
+     */
+    static RequestBodyStream blocking(DirectBufferPool pool, ServletInputStream in, long contentLength) {
+        RequestBodyStream stream = new RequestBodyStream(pool, 1, contentLength);
+        stream.blockingSource = in;
+        stream.blocking = true;
+        return stream;
+    }
+
+    /**
+     * Content-Length 헤더 값 (chunked 전송이면 -1)
+     */
+    public long contentLength() {
+        return contentLength;
+    }
+
+    /**
+     * 지금까지 소비자에게 전달된 바이트 수
+     */
+    public long bytesReceived() {
+        return received;
+    }
+
+    /**
+     * 다음 청크 (Direct 버퍼, 읽기 가능한 범위가 position~limit)
+     * - 반환된 버퍼는 다음 호출 / close() 전까지만 유효 (이후 풀로 반납되어 재사용)
+     *
+     * @return 본문 끝이면 null
+     */
+    public ByteBuffer nextChunk() throws IOException {
+        recycleCurrent();
+        if (ended) {
+            return null;
+        }
+        ByteBuffer chunk = blocking ? readBlocking() : take();
+        if (chunk != null) {
+            received += chunk.remaining();
+            current = chunk;
+        }
+        return chunk;
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer chunk = currentWithData();
+        return chunk == null ? -1 : chunk.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer chunk = currentWithData();
+        if (chunk == null) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.remaining());
+        chunk.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public int available() {
+        ByteBuffer chunk = current;
+        return chunk == null ? 0 : chunk.remaining();
+    }
+
+    /**
+     * 소비 종료: 보관 중인 청크를 풀로 반납하고 이후 수신 중단
+     */
+    @Override
+    public void close() {
+        recycleCurrent();
+        ended = true;
+        abort();
+    }
+
+    /**
+     * 비동기 처리 시작 직후 ReadListener 등록 (컨테이너가 데이터 도착 시 채움)
+     * - 논블로킹 I/O를 지원하지 않는 스트림(MockMvc 등)이면 블로킹 읽기로 전환
+     */
+    void startNonBlocking(ServletInputStream in) {
+        synchronized (lock) {
+            if (closed || source != null || blockingSource != null) {
+                return;
+            }
+            source = in;
+        }
+        try {
+            in.setReadListener(new Listener());
+        } catch (UnsupportedOperationException | IllegalStateException e) {
+            synchronized (lock) {
+                source = null;
+                blockingSource = in;
+                ready.offer(END);
+            }
+        }
+    }
+
+    /**
+     * 요청 종료(완료 / 타임아웃 / 오류) 시 호출: 미소비 청크 반납, 대기 중인 소비자 깨움
+     */
+    void abort() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            ByteBuffer chunk;
+            while ((chunk = ready.poll()) != null) {
+                if (chunk != END) {
+                    pool.release(chunk);
+                }
+            }
+            ready.offer(END);
+        }
+    }
+
+    /**
+     * 읽을 수 있는 데이터를 window가 찰 때까지 청크로 채움
+     * - 컨테이너 스레드(onDataAvailable) 또는 window에 자리가 난 소비 스레드에서 호출
+     * - isReady()가 false로 끝나면 컨테이너가 다음 onDataAvailable 호출
+     */
+    private void pump() {
+        synchronized (lock) {
+            paused = false;
+            try {
+                while (!closed && failure == null && !source.isFinished()) {
+                    if (ready.size() >= window) {
+                        // 소비자가 꺼낸 직후라면 재확인으로 놓치지 않음 (꺼낸 뒤 paused를 보고 다시 pump 호출)
+                        paused = true;
+                        if (ready.size() >= window) {
+                            return;
+                        }
+                        paused = false;
+                    }
+                    if (!source.isReady()) {
+                        return;
+                    }
+                    ByteBuffer chunk = pool.acquire();
+                    int n;
+                    do {
+                        n = source.read(chunk);
+                    } while (n > 0 && chunk.hasRemaining() && source.isReady());
+                    if (chunk.position() == 0) {
+                        pool.release(chunk);
+                    } else {
+                        ready.add(chunk.flip());
+                    }
+                }
+            } catch (IOException e) {
+                finish(e);
+            }
+        }
+    }
+
+    private void finish(Throwable error) {
+        synchronized (lock) {
+            if (error != null && failure == null) {
+                failure = error instanceof IOException io ? io : new IOException("Request body read failed", error);
+            }
+            if (!closed) {
+                ready.offer(END);
+            }
+        }
+    }
+
+    private ByteBuffer take() throws IOException {
+        ByteBuffer chunk;
+        try {
+            chunk = ready.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for request body");
+        }
+        if (chunk != END) {
+            if (paused) {
+                pump();
+            }
+            return chunk;
+        }
+        if (failure != null) {
+            ended = true;
+            throw failure;
+        }
+        if (closed) {
+            ended = true;
+            throw new IOException("Request body stream closed before end of body");
+        }
+        if (blockingSource != null) {
+            blocking = true;
+            return readBlocking();
+        }
+        ended = true;
+        return null;
+    }
+
+    private ByteBuffer readBlocking() throws IOException {
+        if (closed) {
+            ended = true;
+            throw new IOException("Request body stream closed before end of body");
+        }
+        ByteBuffer chunk = pool.acquire();
+        try {
+            while (chunk.hasRemaining()) {
+                if (blockingSource.read(chunk) < 0) {
+                    ended = true;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            pool.release(chunk);
+            ended = true;
+            throw e;
+        }
+        if (chunk.position() == 0) {
+            pool.release(chunk);
+            return null;
+        }
+        return chunk.flip();
+    }
+
+    private ByteBuffer currentWithData() throws IOException {
+        while (current == null || !current.hasRemaining()) {
+            if (nextChunk() == null) {
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private void recycleCurrent() {
+        if (current != null) {
+            pool.release(current);
+            current = null;
+        }
+    }
+
+    private final class Listener implements ReadListener {
+
+        @Override
+        public void onDataAvailable() {
+            pump();
+        }
+
+        @Override
+        public void onAllDataRead() {
+            finish(null);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            finish(t);
+        }
+    }
+}
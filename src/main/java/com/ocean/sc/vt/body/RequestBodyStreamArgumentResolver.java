@@ -0,0 +1,80 @@
+package com.ocean.sc.vt.body;
+
+import com.ocean.sc.vt.annotation.VirtualThread;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * {@link RequestBodyStream} 파라미터 리졸버
+ * - 인자 해석 시점(Tomcat 스레드)에는 본문을 읽지 않고 스트림만 생성
+ * - 비동기 핸들러면 논블로킹 스트림을 요청 속성에 등록 → 비동기 시작 후 {@link RequestBodyStreamInterceptor}가 ReadListener 연결
+ * - 동기 핸들러면 소비 스레드가 직접 읽는 블로킹 스트림
+ * - void 핸들러는 요청이 끝난 뒤 본문을 읽게 되므로 거부
+ */
+@Component
+public class RequestBodyStreamArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String STREAM_ATTRIBUTE = RequestBodyStream.class.getName();
+
+    private final DirectBufferPool bufferPool;
+    private final int windowChunks;
+
+    public RequestBodyStreamArgumentResolver(DirectBufferPool bufferPool,
+                                             @Value("${vt.body.window-chunks:16}") int windowChunks) {
+        this.bufferPool = bufferPool;
+        this.windowChunks = windowChunks;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType() == RequestBodyStream.class;
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request == null) {
+            throw new IllegalStateException("RequestBodyStream requires a servlet request");
+        }
+        Method method = parameter.getMethod();
+        if (method == null || method.getReturnType() == void.class) {
+            throw new IllegalStateException("RequestBodyStream is not supported on void handlers: " + method);
+        }
+        long contentLength = request.getContentLengthLong();
+        if (isAsyncHandler(method)) {
+            RequestBodyStream stream = RequestBodyStream.nonBlocking(bufferPool, windowChunks, contentLength);
+            webRequest.setAttribute(STREAM_ATTRIBUTE, stream, RequestAttributes.SCOPE_REQUEST);
+            return stream;
+        }
+        return RequestBodyStream.blocking(bufferPool, request.getInputStream(), contentLength);
+    }
+
+    /**
+     * MVC가 비동기로 처리하는 핸들러인지 (@VirtualThread Object 반환은 DeferredResult로 감싸짐)
+     */
+    static boolean isAsyncHandler(Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (DeferredResult.class.isAssignableFrom(returnType)
+                || CompletionStage.class.isAssignableFrom(returnType)
+                || Callable.class.isAssignableFrom(returnType)
+                || WebAsyncTask.class.isAssignableFrom(returnType)) {
+            return true;
+        }
+        return returnType == Object.class && AnnotatedElementUtils.hasAnnotation(method, VirtualThread.class);
+    }
+}
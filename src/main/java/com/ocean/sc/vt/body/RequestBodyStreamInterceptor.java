@@ -0,0 +1,57 @@
+package com.ocean.sc.vt.body;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 비동기 처리가 시작되면(preProcess) {@link RequestBodyStream}에 ReadListener 연결, 요청 종료 시 미소비 청크 반납
+ * - ReadListener는 비동기 모드에서만 등록 가능하므로 인자 해석 시점이 아닌 이 시점에 연결
+ */
+public class RequestBodyStreamInterceptor implements DeferredResultProcessingInterceptor, CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, DeferredResult<T> deferredResult) throws Exception {
+        start(request);
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) throws Exception {
+        start(request);
+    }
+
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request, DeferredResult<T> deferredResult) {
+        abort(request);
+    }
+
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        abort(request);
+    }
+
+    private static void start(NativeWebRequest request) throws Exception {
+        RequestBodyStream stream = streamOf(request);
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        if (stream != null && servletRequest != null && servletRequest.isAsyncStarted()) {
+            stream.startNonBlocking(servletRequest.getInputStream());
+        }
+    }
+
+    private static void abort(NativeWebRequest request) {
+        RequestBodyStream stream = streamOf(request);
+        if (stream != null) {
+            stream.abort();
+        }
+    }
+
+    private static RequestBodyStream streamOf(NativeWebRequest request) {
+        return (RequestBodyStream) request.getAttribute(RequestBodyStreamArgumentResolver.STREAM_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ocean.sc.vt.capture;
+
+/**
+ * 트래픽 캡처 로그 레이아웃 (리틀 엔디언, append-only)
+ *
+ * <pre>
+ * 헤더 (64 bytes)
+ *   0  long  MAGIC ("VTCAPT01")
+ *   8  int   VERSION
+ *   12 int   HEADER_SIZE
+ *   16 long  시작 시각 (epoch ms)
+ *   24 long  파일 용량
+ *   32 long  종료 시 확정된 끝 위치 (기록 중이면 0)
+ *   40 long  용량 초과로 버린 레코드 수 (종료 시 기록)
+ * 레코드 (4바이트 정렬, 길이 필드를 마지막에 release로 기록 → 0이면 미완성 / 끝)
+ *   0  int   레코드 길이 (패딩 포함)
+ *   4  byte  타입
+ *   ENDPOINT (엔드포인트 사전, 처음 등장할 때 1회)
+ *     5  short 엔드포인트 ID
+ *     7  short 이름 길이
+ *     9  byte[] "METHOD /path" (UTF-8)
+ *   REQUEST
+ *     5  short 엔드포인트 ID
+ *     7  short HTTP 상태
+ *     9  long  도착 시각 (캡처 시작 기준 ns)
+ *     17 int   관측 지연 (µs)
+ *     21 short 쿼리 문자열 길이
+ *     23 byte[] 쿼리 문자열 (UTF-8)
+ * </pre>
+ */
+public final class CaptureLogLayout {
+
+    public static final long MAGIC = 0x3130545041435456L; // "VTCAPT01" (little endian)
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 64;
+    public static final int MAGIC_OFFSET = 0;
+    public static final int VERSION_OFFSET = 8;
+    public static final int HEADER_SIZE_OFFSET = 12;
+    public static final int START_TIME_OFFSET = 16;
+    public static final int CAPACITY_OFFSET = 24;
+    public static final int END_OFFSET = 32;
+    public static final int DROPPED_OFFSET = 40;
+
+    public static final int LENGTH_OFFSET = 0;
+    public static final int TYPE_OFFSET = 4;
+    public static final int ENDPOINT_ID_OFFSET = 5;
+
+    public static final byte TYPE_ENDPOINT = 1;
+    public static final int ENDPOINT_NAME_LENGTH_OFFSET = 7;
+    public static final int ENDPOINT_NAME_OFFSET = 9;
+
+    public static final byte TYPE_REQUEST = 2;
+    public static final int STATUS_OFFSET = 7;
+    public static final int ARRIVAL_OFFSET = 9;
+    public static final int LATENCY_OFFSET = 17;
+    public static final int QUERY_LENGTH_OFFSET = 21;
+    public static final int QUERY_OFFSET = 23;
+
+    /** 엔드포인트 ID 최대값 (초과분은 기록하지 않음) */
+    public static final int MAX_ENDPOINTS = Short.MAX_VALUE;
+    /** 이름 / 쿼리 문자열 최대 길이 (초과분은 자름) */
+    public static final int MAX_TEXT_BYTES = 4096;
+
+    private CaptureLogLayout() {
+    }
+
+    /**
+     * 4바이트 정렬된 레코드 길이
+     */
+    public static int align(int length) {
+        return (length + 3) & ~3;
+    }
+}
@@ -0,0 +1,106 @@
+package com.ocean.sc.vt.capture;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캡처 로그 리더
+ * - 기록 중인 파일도 읽을 수 있음 (길이 필드가 공개된 레코드까지)
+ * - 요청 레코드는 완료 순서로 기록되므로 도착 시각 순으로 정렬하여 반환
+ */
+public final class CaptureLogReader {
+
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private CaptureLogReader() {
+    }
+
+    public static CaptureLog read(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if (buffer.capacity() < CaptureLogLayout.HEADER_SIZE
+                || buffer.getLong(CaptureLogLayout.MAGIC_OFFSET) != CaptureLogLayout.MAGIC) {
+            throw new IllegalArgumentException("Not a vt capture file: " + file);
+        }
+        int version = buffer.getInt(CaptureLogLayout.VERSION_OFFSET);
+        if (version != CaptureLogLayout.VERSION) {
+            throw new IllegalArgumentException("Unsupported capture file version: " + version);
+        }
+
+        Map<Integer, String> endpoints = new HashMap<>();
+        List<CapturedRequest> requests = new ArrayList<>();
+        int offset = buffer.getInt(CaptureLogLayout.HEADER_SIZE_OFFSET);
+        while (offset + Integer.BYTES <= buffer.capacity()) {
+            int length = (int) INTS.getAcquire(buffer, offset + CaptureLogLayout.LENGTH_OFFSET);
+            if (length <= 0 || offset + length > buffer.capacity()) {
+                break;
+            }
+            int id = buffer.getShort(offset + CaptureLogLayout.ENDPOINT_ID_OFFSET);
+            byte type = buffer.get(offset + CaptureLogLayout.TYPE_OFFSET);
+            if (type == CaptureLogLayout.TYPE_ENDPOINT) {
+                endpoints.put(id, text(buffer, offset + CaptureLogLayout.ENDPOINT_NAME_OFFSET,
+                        buffer.getShort(offset + CaptureLogLayout.ENDPOINT_NAME_LENGTH_OFFSET)));
+            } else if (type == CaptureLogLayout.TYPE_REQUEST) {
+                String endpoint = endpoints.get(id);
+                if (endpoint != null) {
+                    String query = text(buffer, offset + CaptureLogLayout.QUERY_OFFSET,
+                            buffer.getShort(offset + CaptureLogLayout.QUERY_LENGTH_OFFSET));
+                    requests.add(new CapturedRequest(
+                            buffer.getLong(offset + CaptureLogLayout.ARRIVAL_OFFSET),
+                            endpoint.substring(0, endpoint.indexOf(' ')),
+                            endpoint.substring(endpoint.indexOf(' ') + 1),
+                            query.isEmpty() ? null : query,
+                            buffer.getShort(offset + CaptureLogLayout.STATUS_OFFSET),
+                            buffer.getInt(offset + CaptureLogLayout.LATENCY_OFFSET)));
+                }
+            }
+            offset += length;
+        }
+        requests.sort(Comparator.comparingLong(CapturedRequest::arrivalNanos));
+        return new CaptureLog(buffer.getLong(CaptureLogLayout.START_TIME_OFFSET),
+                buffer.getLong(CaptureLogLayout.DROPPED_OFFSET), List.copyOf(requests));
+    }
+
+    private static String text(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param startEpochMillis 캡처 시작 시각
+     * @param dropped 용량 초과로 버린 레코드 수 (기록 종료 시 확정)
+     * @param requests 도착 순 요청
+     */
+    public record CaptureLog(long startEpochMillis, long dropped, List<CapturedRequest> requests) {
+    }
+
+    /**
+     * 캡처된 요청
+     *
+     * @param arrivalNanos 캡처 시작 기준 도착 시각
+     * @param query 쿼리 문자열 (없으면 null)
+     * @param latencyMicros 관측 지연 (비동기 완료까지)
+     */
+    public record CapturedRequest(long arrivalNanos, String method, String path, String query,
+                                  int status, int latencyMicros) {
+
+        public String uri() {
+            return query == null ? path : path + "?" + query;
+        }
+    }
+}
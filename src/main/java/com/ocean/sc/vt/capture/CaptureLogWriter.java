@@ -0,0 +1,190 @@
+package com.ocean.sc.vt.capture;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캡처 로그 기록기 (메모리 매핑 파일, lock-free append)
+ * - 위치 예약(getAndAdd) → 본문 기록 → 길이 필드 release 기록 순서로 여러 스레드가 동시에 추가
+ * - 엔드포인트 문자열은 처음 등장할 때 사전 레코드로 한 번만 기록, 요청 레코드는 ID로 참조
+ * - 용량을 넘으면 기록하지 않고 버린 수만 집계 (요청 처리에는 영향 없음)
+ */
+public final class CaptureLogWriter implements AutoCloseable {
+
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final long capacity;
+    private final long startNanos = System.nanoTime();
+    private final long startEpochMillis = System.currentTimeMillis();
+    private final AtomicLong position = new AtomicLong(CaptureLogLayout.HEADER_SIZE);
+    private final Map<String, Integer> endpointIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextEndpointId = new AtomicInteger();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * @param file 새로 만들 파일 - 이미 있으면 덮어쓰지 않고 FileAlreadyExistsException
+     */
+    public CaptureLogWriter(Path file, long capacity) throws IOException {
+        if (capacity <= CaptureLogLayout.HEADER_SIZE || capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("capture capacity must be between 64 bytes and 2GB: " + capacity);
+        }
+        this.file = file;
+        this.capacity = capacity;
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(CaptureLogLayout.VERSION_OFFSET, CaptureLogLayout.VERSION);
+        buffer.putInt(CaptureLogLayout.HEADER_SIZE_OFFSET, CaptureLogLayout.HEADER_SIZE);
+        buffer.putLong(CaptureLogLayout.START_TIME_OFFSET, startEpochMillis);
+        buffer.putLong(CaptureLogLayout.CAPACITY_OFFSET, capacity);
+        buffer.putLong(CaptureLogLayout.MAGIC_OFFSET, CaptureLogLayout.MAGIC);
+    }
+
+    /**
+     * 요청 1건 기록
+     *
+     * @param endpoint "METHOD /path"
+     * @param query 쿼리 문자열 (없으면 null)
+     * @param arrivalNanos 도착 시각 (System.nanoTime)
+     * @param latencyNanos 관측 지연
+     * @return 용량 초과 / 종료로 기록하지 못하면 false
+     */
+    public boolean append(String endpoint, String query, int status, long arrivalNanos, long latencyNanos) {
+        if (closed) {
+            return false;
+        }
+        int endpointId = endpointId(endpoint);
+        if (endpointId < 0) {
+            dropped.increment();
+            return false;
+        }
+        byte[] queryBytes = text(query);
+        int length = CaptureLogLayout.align(CaptureLogLayout.QUERY_OFFSET + queryBytes.length);
+        int offset = reserve(length);
+        if (offset < 0) {
+            dropped.increment();
+            return false;
+        }
+        buffer.put(offset + CaptureLogLayout.TYPE_OFFSET, CaptureLogLayout.TYPE_REQUEST);
+        buffer.putShort(offset + CaptureLogLayout.ENDPOINT_ID_OFFSET, (short) endpointId);
+        buffer.putShort(offset + CaptureLogLayout.STATUS_OFFSET, (short) status);
+        buffer.putLong(offset + CaptureLogLayout.ARRIVAL_OFFSET, Math.max(0, arrivalNanos - startNanos));
+        buffer.putInt(offset + CaptureLogLayout.LATENCY_OFFSET,
+                (int) Math.min(Integer.MAX_VALUE, Math.max(0, latencyNanos / 1_000)));
+        buffer.putShort(offset + CaptureLogLayout.QUERY_LENGTH_OFFSET, (short) queryBytes.length);
+        buffer.put(offset + CaptureLogLayout.QUERY_OFFSET, queryBytes);
+        publish(offset, length);
+        written.increment();
+        return true;
+    }
+
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long bytesUsed() {
+        return Math.min(position.get(), capacity);
+    }
+
+    public long startEpochMillis() {
+        return startEpochMillis;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * 기록 종료: 확정된 끝 위치 / 버린 수를 헤더에 기록하고 디스크에 반영
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.putLong(CaptureLogLayout.DROPPED_OFFSET, dropped.sum());
+        buffer.putLong(CaptureLogLayout.END_OFFSET, bytesUsed());
+        buffer.force();
+    }
+
+    /**
+     * 엔드포인트 ID (처음이면 사전 레코드를 기록한 뒤 공개 → 참조하는 요청 레코드보다 항상 앞에 위치)
+     *
+     * @return ID 초과 / 용량 초과면 -1
+     */
+    private int endpointId(String endpoint) {
+        Integer id = endpointIds.get(endpoint);
+        if (id != null) {
+            return id;
+        }
+        return endpointIds.computeIfAbsent(endpoint, this::define);
+    }
+
+    private Integer define(String endpoint) {
+        int id = nextEndpointId.getAndIncrement();
+        if (id >= CaptureLogLayout.MAX_ENDPOINTS) {
+            return -1;
+        }
+        byte[] name = text(endpoint);
+        int length = CaptureLogLayout.align(CaptureLogLayout.ENDPOINT_NAME_OFFSET + name.length);
+        int offset = reserve(length);
+        if (offset < 0) {
+            return -1;
+        }
+        buffer.put(offset + CaptureLogLayout.TYPE_OFFSET, CaptureLogLayout.TYPE_ENDPOINT);
+        buffer.putShort(offset + CaptureLogLayout.ENDPOINT_ID_OFFSET, (short) id);
+        buffer.putShort(offset + CaptureLogLayout.ENDPOINT_NAME_LENGTH_OFFSET, (short) name.length);
+        buffer.put(offset + CaptureLogLayout.ENDPOINT_NAME_OFFSET, name);
+        publish(offset, length);
+        return id;
+    }
+
+    /**
+     * 기록 위치 예약
+     *
+     * @return 용량 초과면 -1
+     */
+    private int reserve(int length) {
+        long offset = position.getAndAdd(length);
+        if (offset + length > capacity) {
+            return -1;
+        }
+        return (int) offset;
+    }
+
+    private void publish(int offset, int length) {
+        INTS.setRelease(buffer, offset + CaptureLogLayout.LENGTH_OFFSET, length);
+    }
+
+    private static byte[] text(String value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return bytes.length <= CaptureLogLayout.MAX_TEXT_BYTES ? bytes : Arrays.copyOf(bytes, CaptureLogLayout.MAX_TEXT_BYTES);
+    }
+}
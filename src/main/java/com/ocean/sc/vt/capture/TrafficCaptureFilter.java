@@ -0,0 +1,75 @@
+package com.ocean.sc.vt.capture;
+
+import com.ocean.sc.vt.warmup.WarmupTraffic;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 캡처 대상 요청의 도착 시각과 관측 지연 기록
+ * - 동기 요청: 필터 체인 반환 시, 비동기 요청: AsyncContext 완료 시 기록 (타임아웃 / 오류도 완료로 끝남)
+ * - 캡처 중이 아니면 경로 확인 없이 통과
+ * - 워밍업 요청(X-Warmup)은 재생 대상이 아니므로 기록하지 않음
+ */
+@Component
+public class TrafficCaptureFilter extends OncePerRequestFilter {
+
+    private final TrafficRecorder recorder;
+
+    public TrafficCaptureFilter(TrafficRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CaptureLogWriter writer = WarmupTraffic.isWarmup(request) ? null : recorder.writerFor(request.getRequestURI());
+        if (writer == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long arrivalNanos = System.nanoTime();
+        String endpoint = request.getMethod() + " " + request.getRequestURI();
+        String query = request.getQueryString();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(
+                        new CaptureOnAsyncEnd(writer, endpoint, query, arrivalNanos), request, response);
+            } else {
+                writer.append(endpoint, query, response.getStatus(), arrivalNanos, System.nanoTime() - arrivalNanos);
+            }
+        }
+    }
+
+    private record CaptureOnAsyncEnd(CaptureLogWriter writer, String endpoint, String query,
+                                     long arrivalNanos) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            writer.append(endpoint, query, response.getStatus(), arrivalNanos, System.nanoTime() - arrivalNanos);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.ocean.sc.vt.capture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오프로딩 엔드포인트 트래픽 캡처 관리
+ * - 캡처 중이면 {@link TrafficCaptureFilter}가 대상 경로 요청의 도착 시각 / 엔드포인트 / 쿼리 / 상태 / 지연을 기록
+ * - vt.capture.enabled=true면 기동 시 시작, 관리 API로 시작 / 종료
+ * - 기록 파일은 {@link TrafficReplayer}로 배속 재생
+ * - 파일은 항상 vt.capture.path 디렉터리(없으면 ${java.io.tmpdir}) 안에 생성한 이름으로 새로 만듦
+ *   (호출자가 경로를 지정하지 않으며 기존 파일을 지우거나 덮어쓰지 않음)
+ */
+@Component
+public class TrafficRecorder implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TrafficRecorder.class);
+
+    private final boolean enabledOnStartup;
+    private final String directory;
+    private final long defaultMaxBytes;
+    private final List<String> includes;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+    private final AtomicInteger fileSequence = new AtomicInteger();
+
+    private volatile CaptureLogWriter writer;
+
+    public TrafficRecorder(@Value("${vt.capture.enabled:false}") boolean enabledOnStartup,
+                           @Value("${vt.capture.path:}") String directory,
+                           @Value("${vt.capture.max-bytes:268435456}") long defaultMaxBytes,
+                           @Value("${vt.capture.include:/api/demo/**}") String includes) {
+        this.enabledOnStartup = enabledOnStartup;
+        this.directory = directory;
+        this.defaultMaxBytes = defaultMaxBytes;
+        this.includes = Arrays.stream(StringUtils.commaDelimitedListToStringArray(includes))
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .toList();
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (enabledOnStartup) {
+            start(defaultMaxBytes);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+
+    /**
+     * 캡처 시작 (이미 캡처 중이면 기존 파일을 닫고 새 파일로 전환)
+     *
+     * - 파일: {캡처 디렉터리}/vt-capture-&lt;pid&gt;-&lt;시각&gt;-&lt;순번&gt;.bin
+     */
+    public synchronized CaptureStatus start(long maxBytes) throws IOException {
+        Path file = newFile();
+        CaptureLogWriter newWriter = new CaptureLogWriter(file, maxBytes);
+        CaptureLogWriter previous = writer;
+        writer = newWriter;
+        if (previous != null) {
+            previous.close();
+        }
+        log.info("[Capture] 🎬 트래픽 캡처 시작 - file: {}, maxBytes: {}, include: {}", file, maxBytes, includes);
+        return status();
+    }
+
+    /**
+     * 캡처 종료 (헤더 확정 후 디스크 반영)
+     *
+     * @return 종료 전 상태 (캡처 중이 아니었으면 비활성 상태)
+     */
+    public synchronized CaptureStatus stop() {
+        CaptureStatus status = status();
+        CaptureLogWriter current = writer;
+        writer = null;
+        if (current != null) {
+            current.close();
+            log.info("[Capture] 🛑 트래픽 캡처 종료 - file: {}, requests: {}, dropped: {}, bytes: {}",
+                    current.file(), current.writtenCount(), current.droppedCount(), current.bytesUsed());
+        }
+        return status;
+    }
+
+    public CaptureStatus status() {
+        CaptureLogWriter current = writer;
+        if (current == null) {
+            return new CaptureStatus(false, null, 0, 0, 0, 0);
+        }
+        return new CaptureStatus(true, current.file().toString(), current.startEpochMillis(),
+                current.writtenCount(), current.droppedCount(), current.bytesUsed());
+    }
+
+    /**
+     * 현재 캡처 대상 요청이면 기록기, 아니면 null (요청당 한 번 호출)
+     */
+    CaptureLogWriter writerFor(String path) {
+        CaptureLogWriter current = writer;
+        if (current == null) {
+            return null;
+        }
+        for (String pattern : includes) {
+            if (matcher.match(pattern, path)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    private Path newFile() throws IOException {
+        Path dir = Path.of(StringUtils.hasText(directory) ? directory : System.getProperty("java.io.tmpdir"));
+        Files.createDirectories(dir);
+        return dir.resolve("vt-capture-" + ProcessHandle.current().pid() + "-" + System.currentTimeMillis()
+                + "-" + fileSequence.incrementAndGet() + ".bin");
+    }
+
+    /**
+     * @param capturing 캡처 중 여부
+     * @param requests 기록한 요청 수
+     * @param dropped 용량 초과로 버린 레코드 수
+     */
+    public record CaptureStatus(boolean capturing, String file, long startEpochMillis,
+                                long requests, long dropped, long bytesUsed) {
+    }
+}
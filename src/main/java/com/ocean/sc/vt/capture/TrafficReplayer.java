@@ -0,0 +1,143 @@
+package com.ocean.sc.vt.capture;
+
+import com.ocean.sc.vt.metrics.LogHistogram;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 캡처 로그 배속 재생기 (CLI)
+ * - 캡처된 도착 간격을 speed 배로 압축해 같은 순서 / 같은 버스트 형태로 요청 발사
+ * - 요청마다 Virtual Thread 클라이언트 1개 (동시 요청 수 제한 없음 → 버스트 그대로 재현)
+ * - 결과: 캡처 당시 vs 재생 지연 백분위, 상태 코드 분포, 발사 지연(스케줄 대비 늦은 정도)
+ *
+ * <p>실행: ./gradlew replayTraffic -Pfile=/tmp/vt-capture-&lt;pid&gt;-&lt;시각&gt;.bin [-Ptarget=http://localhost:8080] [-Pspeed=5]</p>
+ */
+public final class TrafficReplayer {
+
+    private final HttpClient client;
+    private final URI target;
+    private final double speed;
+    private final Duration requestTimeout;
+
+    public TrafficReplayer(HttpClient client, URI target, double speed, Duration requestTimeout) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("speed must be positive: " + speed);
+        }
+        this.client = client;
+        this.target = target;
+        this.speed = speed;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: TrafficReplayer <file> [target=http://localhost:8080] [speed=1]");
+            System.exit(2);
+        }
+        CaptureLogReader.CaptureLog log = CaptureLogReader.read(Path.of(args[0]));
+        URI target = URI.create(args.length > 1 ? args[1] : "http://localhost:8080");
+        double speed = args.length > 2 ? Double.parseDouble(args[2]) : 1.0;
+
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().executor(clientExecutor).build()) {
+            System.out.printf("Replaying %d requests (dropped at capture: %d) to %s at %.1fx%n",
+                    log.requests().size(), log.dropped(), target, speed);
+            new TrafficReplayer(client, target, speed, Duration.ofSeconds(120))
+                    .replay(log.requests())
+                    .print(System.out);
+        }
+    }
+
+    /**
+     * 재생 (모든 응답을 받을 때까지 대기)
+     */
+    public ReplayReport replay(List<CaptureLogReader.CapturedRequest> requests) throws InterruptedException {
+        LogHistogram capturedMicros = new LogHistogram();
+        LogHistogram replayedMicros = new LogHistogram();
+        LogHistogram lagMicros = new LogHistogram();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        LongAdder failures = new LongAdder();
+
+        long firstArrival = requests.isEmpty() ? 0 : requests.get(0).arrivalNanos();
+        long start = System.nanoTime();
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (CaptureLogReader.CapturedRequest captured : requests) {
+                long due = start + (long) ((captured.arrivalNanos() - firstArrival) / speed);
+                // 발사 스레드는 예정 시각까지 대기 후 Virtual Thread에 넘기기만 함 (응답 대기로 밀리지 않음)
+                for (long remaining = due - System.nanoTime(); remaining > 0; remaining = due - System.nanoTime()) {
+                    LockSupport.parkNanos(remaining);
+                }
+                lagMicros.record((System.nanoTime() - due) / 1_000);
+                capturedMicros.record(captured.latencyMicros());
+                senders.execute(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request(captured), HttpResponse.BodyHandlers.discarding());
+                        statuses.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failures.increment();
+                    } catch (Exception e) {
+                        failures.increment();
+                    } finally {
+                        replayedMicros.record((System.nanoTime() - sent) / 1_000);
+                    }
+                });
+            }
+        }
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        return new ReplayReport(requests.size(), speed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                statusCounts, failures.sum(), capturedMicros.snapshot(), replayedMicros.snapshot(), lagMicros.snapshot());
+    }
+
+    private HttpRequest request(CaptureLogReader.CapturedRequest captured) {
+        return HttpRequest.newBuilder(target.resolve(captured.uri()))
+                .method(captured.method(), HttpRequest.BodyPublishers.noBody())
+                .timeout(requestTimeout)
+                .build();
+    }
+
+    /**
+     * 재생 결과
+     *
+     * @param statuses 상태 코드별 응답 수
+     * @param failures 연결 실패 / 클라이언트 타임아웃 수
+     * @param capturedMicros 캡처 당시 관측 지연 (µs)
+     * @param replayedMicros 재생 시 클라이언트 관측 지연 (µs)
+     * @param lagMicros 예정 발사 시각 대비 늦은 정도 (µs) - 크면 재생기 자체가 병목
+     */
+    public record ReplayReport(int requests, double speed, long elapsedMs, Map<Integer, Long> statuses,
+                               long failures, LogHistogram.Snapshot capturedMicros,
+                               LogHistogram.Snapshot replayedMicros, LogHistogram.Snapshot lagMicros) {
+
+        public void print(PrintStream out) {
+            out.printf("requests: %d, speed: %.1fx, elapsed: %dms, failures: %d%n", requests, speed, elapsedMs, failures);
+            out.printf("statuses: %s%n", statuses);
+            out.printf("%-10s %10s %10s %10s %10s%n", "latency", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+            row(out, "captured", capturedMicros);
+            row(out, "replayed", replayedMicros);
+            row(out, "send lag", lagMicros);
+        }
+
+        private static void row(PrintStream out, String name, LogHistogram.Snapshot snapshot) {
+            out.printf("%-10s %10.1f %10.1f %10.1f %10.1f%n", name,
+                    snapshot.p50() / 1000.0, snapshot.p90() / 1000.0, snapshot.p99() / 1000.0, snapshot.max() / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ocean.sc.vt.completion;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+
+/**
+ * MVC가 비동기 처리를 시작한 직후(preProcess) {@link DirectWriteDeferredResult}에 AsyncContext 전달
+ */
+public class DirectCompletionInterceptor implements DeferredResultProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, DeferredResult<T> deferredResult) {
+        if (deferredResult instanceof DirectWriteDeferredResult direct) {
+            HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+            if (servletRequest != null && servletRequest.isAsyncStarted()) {
+                direct.asyncStarted(servletRequest.getAsyncContext());
+            }
+        }
+    }
+}
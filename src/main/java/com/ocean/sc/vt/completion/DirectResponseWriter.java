@@ -0,0 +1,89 @@
+package com.ocean.sc.vt.completion;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Virtual Thread에서 응답을 직접 작성하고 비동기 처리 완료 (재디스패치 없음)
+ * - MVC에 설정된 HttpMessageConverter 재사용 (JSON 직렬화 설정 동일)
+ * - String → text/plain, byte[] → application/octet-stream, 그 외 → application/json
+ */
+@Component
+public class DirectResponseWriter {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter;
+
+    private volatile List<HttpMessageConverter<?>> converters;
+
+    public DirectResponseWriter(ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+        this.handlerAdapter = handlerAdapter;
+    }
+
+    /**
+     * 결과를 응답 본문으로 쓰고 AsyncContext 완료
+     *
+     * @return 쓸 수 있는 컨버터가 없으면 false (아무것도 쓰지 않음 → 호출자가 디스패치로 처리)
+     */
+    public boolean write(AsyncContext asyncContext, Object result) throws IOException {
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+        if (result == null) {
+            asyncContext.complete();
+            return true;
+        }
+        MediaType mediaType = mediaTypeOf(result);
+        HttpMessageConverter<Object> converter = converterFor(result.getClass(), mediaType);
+        if (converter == null) {
+            return false;
+        }
+        try {
+            ServletServerHttpResponse output = new ServletServerHttpResponse(response);
+            converter.write(result, mediaType, output);
+            output.flush();
+        } finally {
+            asyncContext.complete();
+        }
+        return true;
+    }
+
+    private static MediaType mediaTypeOf(Object result) {
+        if (result instanceof CharSequence) {
+            return TEXT_PLAIN_UTF8;
+        }
+        if (result instanceof byte[]) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpMessageConverter<Object> converterFor(Class<?> type, MediaType mediaType) {
+        for (HttpMessageConverter<?> converter : converters()) {
+            if (converter.canWrite(type, mediaType)) {
+                return (HttpMessageConverter<Object>) converter;
+            }
+        }
+        return null;
+    }
+
+    private List<HttpMessageConverter<?>> converters() {
+        List<HttpMessageConverter<?>> current = converters;
+        if (current == null) {
+            RequestMappingHandlerAdapter adapter = handlerAdapter.getIfAvailable();
+            current = adapter != null ? List.copyOf(adapter.getMessageConverters()) : List.of();
+            converters = current;
+        }
+        return current;
+    }
+}
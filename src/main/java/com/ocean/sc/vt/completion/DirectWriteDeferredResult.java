@@ -0,0 +1,44 @@
+package com.ocean.sc.vt.completion;
+
+import jakarta.servlet.AsyncContext;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 직접 응답 작성(@VirtualThread(completion = DIRECT))용 DeferredResult
+ * - MVC가 비동기 처리를 시작하면 {@link DirectCompletionInterceptor}가 AsyncContext 전달
+ * - 작업이 핸들러 반환보다 먼저 끝날 수 있으므로 실행 스레드는 AsyncContext를 기다린 뒤 응답 작성
+ * - 결과를 직접 쓴 경우 DeferredResult에는 결과를 설정하지 않음 → 재디스패치 없음
+ */
+public class DirectWriteDeferredResult extends DeferredResult<Object> {
+
+    private final CompletableFuture<AsyncContext> asyncContext = new CompletableFuture<>();
+
+    public DirectWriteDeferredResult(long timeoutMs) {
+        super(timeoutMs);
+    }
+
+    void asyncStarted(AsyncContext context) {
+        asyncContext.complete(context);
+    }
+
+    /**
+     * MVC 비동기 처리 시작 대기
+     *
+     * @return 제한 시간 안에 시작되지 않으면 (핸들러 반환값이 아닌 경우 등) null
+     */
+    public AsyncContext awaitAsyncContext(long timeoutMs) {
+        try {
+            return asyncContext.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ocean.sc.vt.config;
+
+import com.ocean.sc.vt.pipeline.Pipeline;
+import com.ocean.sc.vt.service.DemoService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 단계별 파이프라인 Bean 설정 (@VirtualThread(pipeline = "..."))
+ * - 단계마다 비용이 다르므로 동시 실행 상한도 단계별로 지정
+ */
+@Configuration
+public class PipelineConfig {
+
+    /**
+     * 데모 파이프라인: parse(CPU, 소수 워커) → enrich(DemoService I/O 대기, 연결 풀 크기만큼) → aggregate(CPU)
+     */
+    @Bean(destroyMethod = "close")
+    public Pipeline<String, String> demoPipeline(
+            DemoService demoService,
+            @Value("${vt.pipeline.demo.parse-concurrency:4}") int parseConcurrency,
+            @Value("${vt.pipeline.demo.enrich-concurrency:200}") int enrichConcurrency,
+            @Value("${vt.pipeline.demo.aggregate-concurrency:4}") int aggregateConcurrency,
+            @Value("${vt.pipeline.demo.queue-capacity:256}") int queueCapacity,
+            @Value("${vt.pipeline.demo.entry-timeout-ms:100}") long entryTimeoutMs) {
+        return Pipeline.builder("demo", String.class)
+                .entryTimeout(Duration.ofMillis(entryTimeoutMs))
+                .stage("parse", parseConcurrency, queueCapacity, message -> {
+                    String parsed = message.strip();
+                    if (parsed.isEmpty()) {
+                        throw new IllegalArgumentException("message must not be blank");
+                    }
+                    return parsed;
+                })
+                .stage("enrich", enrichConcurrency, queueCapacity, demoService::processWithDelay)
+                .stage("aggregate", aggregateConcurrency, queueCapacity,
+                        enriched -> String.format(Locale.ROOT, "%s (length=%d)", enriched, enriched.length()))
+                .build();
+    }
+}
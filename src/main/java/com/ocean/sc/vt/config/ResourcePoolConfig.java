@@ -0,0 +1,26 @@
+package com.ocean.sc.vt.config;
+
+import com.ocean.sc.vt.pool.ResourcePool;
+import com.ocean.sc.vt.service.SimulatedConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 다운스트림 자원 풀 Bean 설정
+ * - 풀 크기가 다운스트림 동시 호출 상한 (Virtual Thread 수와 무관)
+ */
+@Configuration
+public class ResourcePoolConfig {
+
+    /**
+     * DemoService가 사용하는 시뮬레이션 연결 풀
+     */
+    @Bean(destroyMethod = "close")
+    public ResourcePool<SimulatedConnection> demoConnectionPool(
+            @Value("${vt.pool.demo.max-size:200}") int maxSize,
+            @Value("${vt.pool.capture-acquire-site:false}") boolean captureAcquireSite) {
+        return new ResourcePool<>("demo-connections", maxSize, SimulatedConnection::new, connection -> {
+        }, captureAcquireSite);
+    }
+}
@@ -1,49 +1,118 @@
 package com.ocean.sc.vt.config;
 
-import org.slf4j.MDC;
+import com.ocean.sc.vt.aspect.VirtualThreadAspect;
+import com.ocean.sc.vt.aspect.VirtualThreadInvoker;
+import com.ocean.sc.vt.body.RequestBodyStreamArgumentResolver;
+import com.ocean.sc.vt.body.RequestBodyStreamInterceptor;
+import com.ocean.sc.vt.completion.DirectCompletionInterceptor;
+import com.ocean.sc.vt.context.ContextPropagatorRegistry;
+import com.ocean.sc.vt.context.ContextSnapshot;
+import com.ocean.sc.vt.inflight.OffloadDrainer;
+import com.ocean.sc.vt.inflight.OffloadTaskRegistry;
+import com.ocean.sc.vt.inflight.TrackedTask;
+import com.ocean.sc.vt.jfr.OffloadedTaskEvent;
+import com.ocean.sc.vt.jfr.Outcome;
+import com.ocean.sc.vt.policy.OffloadPolicyRegistry;
+import com.ocean.sc.vt.policy.PolicySnapshot;
+import com.ocean.sc.vt.profiler.WorkAttribution;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import org.aspectj.lang.Aspects;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskDecorator;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 /**
  * Virtual Thread 설정 클래스
  * - 두 가지 방식 지원:
  *   1. Callable 반환 방식 (WebMvcConfigurer)
  *   2. @VirtualThread 어노테이션 방식 (AOP)
- * - MDC(Mapped Diagnostic Context) 복사를 통한 로그 추적 지원
+ * - 컨텍스트(MDC, 요청 속성, Locale) 전파를 통한 로그 추적 / request scope 지원
  */
 @Configuration
 public class VirtualThreadConfig implements WebMvcConfigurer {
 
+    private final int concurrencyLimit;
+    private final OffloadTaskRegistry taskRegistry;
+    private final OffloadDrainer drainer;
+    private final OffloadPolicyRegistry policyRegistry;
+    private final ContextPropagatorRegistry contextRegistry;
+    private final RequestBodyStreamArgumentResolver bodyStreamResolver;
+
+    public VirtualThreadConfig(@Value("${vt.executor.concurrency-limit:-1}") int concurrencyLimit,
+                               OffloadTaskRegistry taskRegistry, OffloadDrainer drainer,
+                               OffloadPolicyRegistry policyRegistry, ContextPropagatorRegistry contextRegistry,
+                               RequestBodyStreamArgumentResolver bodyStreamResolver) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.taskRegistry = taskRegistry;
+        this.drainer = drainer;
+        this.policyRegistry = policyRegistry;
+        this.contextRegistry = contextRegistry;
+        this.bodyStreamResolver = bodyStreamResolver;
+    }
+
     /**
      * Virtual Thread Executor Bean 생성
      * - @VirtualThread 어노테이션에서 사용
      * - Callable 방식에서도 재사용
+     * - 작업마다 새 Virtual Thread 생성 (풀링하지 않음)
+     *   ThreadPoolTaskExecutor는 기본 corePoolSize=1 + 무제한 큐라 Virtual Thread 1개로 직렬 실행됨
+     * - 캐리어 스레드 수는 jdk.virtualThreadScheduler.* 프로퍼티로 조정
+     *   (VirtualThreadSchedulerMonitor에서 실제 사용률 확인)
      */
     @Bean
     public AsyncTaskExecutor virtualThreadExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
 
         // Virtual Thread 활성화 (Java 21+)
         executor.setVirtualThreads(true);
 
-        // MDC 복사를 위한 TaskDecorator 설정
-        executor.setTaskDecorator(new MdcTaskDecorator());
+        // 동시 실행 제한 (-1: 무제한)
+        executor.setConcurrencyLimit(concurrencyLimit);
+
+        // 컨텍스트 전파를 위한 TaskDecorator 설정
+        executor.setTaskDecorator(new MdcTaskDecorator(taskRegistry, contextRegistry));
 
         // Bean 이름 설정
         executor.setThreadNamePrefix("VirtualThread-");
 
-        executor.initialize();
-
         return executor;
     }
 
+    /**
+     * @VirtualThread Aspect Bean 생성
+     * - Spring 프록시 모드: 새 Aspect를 생성하여 프록시 기반 AOP에 사용
+     * - 컴파일 타임 위빙 모드: AspectJ가 생성한 싱글톤에 실행기만 연결 (프록시 미사용)
+     */
+    @Bean
+    public VirtualThreadAspect virtualThreadAspect(VirtualThreadInvoker virtualThreadInvoker) {
+        if (VirtualThreadAspect.isCompileTimeWoven()) {
+            VirtualThreadAspect aspect = Aspects.aspectOf(VirtualThreadAspect.class);
+            aspect.bind(virtualThreadInvoker);
+            return aspect;
+        }
+        return new VirtualThreadAspect(virtualThreadInvoker);
+    }
+
     /**
      * WebMvc 비동기 지원 설정
      * - Callable 반환 방식에서 사용
@@ -53,36 +122,232 @@ public class VirtualThreadConfig implements WebMvcConfigurer {
         // Callable 리턴 시 사용할 TaskExecutor 설정
         configurer.setTaskExecutor(virtualThreadExecutor());
 
-        // 타임아웃 설정 (30초)
-        configurer.setDefaultTimeout(30000);
+        // 기동 시 기본 타임아웃 (vt.policy.callable-timeout-ms), 요청마다 아래 인터셉터가 현재 정책으로 덮어씀
+        configurer.setDefaultTimeout(policyRegistry.current().callableTimeoutMs());
+
+        // @VirtualThread(completion = DIRECT) 결과를 실행 스레드가 직접 쓸 수 있도록 AsyncContext 전달
+        configurer.registerDeferredResultInterceptors(new DirectCompletionInterceptor());
+
+        // RequestBodyStream 파라미터: 비동기 시작 후 논블로킹 본문 수신 연결 (DeferredResult / Callable 공통)
+        RequestBodyStreamInterceptor bodyStreamInterceptor = new RequestBodyStreamInterceptor();
+        configurer.registerDeferredResultInterceptors(bodyStreamInterceptor);
+        configurer.registerCallableInterceptors(bodyStreamInterceptor);
+
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                // 종료 드레인 중이면 비동기 처리 시작 전(요청 스레드)에 즉시 503
+                drainer.rejectIfDraining();
+
+                // 이어서 제출되는 작업이 MVC Callable임을 표시 (작업 레지스트리 등록 대상)
+                MdcTaskDecorator.markCallableSubmission(request);
+
+                // 현재 정책 스냅샷의 타임아웃 적용 (메서드 오버라이드 > Callable 기본값, WebAsyncTask 지정값 대체)
+                if (request instanceof AsyncWebRequest asyncRequest) {
+                    PolicySnapshot policy = policyRegistry.current();
+                    asyncRequest.setTimeout(policy.timeoutMs(handlerKey(request), policy.callableTimeoutMs()));
+                }
+            }
+        });
+    }
+
+    /**
+     * 대용량 요청 본문을 Tomcat 스레드에서 읽지 않고 Virtual Thread로 스트리밍 ({@link RequestBodyStreamArgumentResolver})
+     */
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(bodyStreamResolver);
+    }
+
+    /**
+     * 정책 키 ("컨트롤러 클래스명.메서드명"), 핸들러 메서드가 아니면 null
+     */
+    private static String handlerKey(NativeWebRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return OffloadPolicyRegistry.methodKey(handlerMethod.getBeanType(), handlerMethod.getMethod().getName());
+        }
+        return null;
     }
 
     /**
-     * MDC(Mapped Diagnostic Context) 복사 데코레이터
-     * - Tomcat 스레드의 MDC 정보를 Virtual Thread로 복사
-     * - TraceId, UserId 등 로그 컨텍스트 유지
+     * 컨텍스트 전파 데코레이터
+     * - Tomcat 스레드의 컨텍스트 스냅샷({@link ContextPropagatorRegistry}: MDC, 요청 속성, Locale 등)을 Virtual Thread에 복원
+     * - TraceId, UserId 등 로그 컨텍스트 / request scope Bean 사용 가능
+     * - JFR 기록 중이면 작업마다 {@link OffloadedTaskEvent} 기록 (Callable 반환 방식 포함)
+     * - 프로파일러 실행 중이면 작업 스레드에 엔드포인트 태그 설정 ({@link WorkAttribution})
+     * - Callable 반환 방식 작업은 {@link OffloadTaskRegistry}에 등록, 비동기 요청 종료 시 결과 확정 처리
+     *   (@VirtualThread 작업은 VirtualThreadInvoker가 직접 등록)
      */
     public static class MdcTaskDecorator implements TaskDecorator {
 
+        private static final String CALLABLE_SUBMISSION_ATTRIBUTE = MdcTaskDecorator.class.getName() + ".CALLABLE";
+
+        private final OffloadTaskRegistry taskRegistry;
+        private final ContextPropagatorRegistry contextRegistry;
+
+        /**
+         * MDC만 전파, 작업 추적 없음
+         */
+        public MdcTaskDecorator() {
+            this(null, ContextPropagatorRegistry.mdcOnly());
+        }
+
+        public MdcTaskDecorator(OffloadTaskRegistry taskRegistry, ContextPropagatorRegistry contextRegistry) {
+            this.taskRegistry = taskRegistry;
+            this.contextRegistry = contextRegistry;
+        }
+
+        /**
+         * 다음 제출 작업이 MVC Callable / WebAsyncTask임을 표시 (비동기 처리 시작 직전, 요청 스레드)
+         * - 요청 속성이 전파된 Virtual Thread에서 제출되는 @VirtualThread 작업과 구분
+         */
+        static void markCallableSubmission(NativeWebRequest request) {
+            request.setAttribute(CALLABLE_SUBMISSION_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+
         @Override
         public Runnable decorate(Runnable runnable) {
-            // 1. 현재 스레드(Tomcat)의 MDC 정보 복사
-            Map<String, String> contextMap = MDC.getCopyOfContextMap();
+            // 1. 현재 스레드(Tomcat)의 컨텍스트 스냅샷 (요청당 1회 캡처)
+            ContextSnapshot context = contextRegistry.capture();
+
+            TrackedTask task = null;
+            boolean untracked = false;
+            if (isAsyncRequestSubmission()) {
+                task = trackAsyncRequest(runnable);
+                // 레지스트리 상한 초과 - 목록 / 취소는 불가하지만 드레인은 종료를 기다림
+                untracked = task == null;
+            }
+            if (task != null || OffloadedTaskEvent.enabled() || WorkAttribution.isActive()) {
+                return instrumented(runnable, context, task, untracked);
+            }
 
+            boolean untrackedTask = untracked;
             return () -> {
                 try {
-                    // 2. Virtual Thread에 MDC 정보 주입
-                    if (contextMap != null) {
-                        MDC.setContextMap(contextMap);
-                    }
+                    // 2. Virtual Thread에 컨텍스트 복원
+                    context.restore();
 
                     // 3. 실제 로직 실행
                     runnable.run();
                 } finally {
                     // 4. Virtual Thread 반납 시 정리 (ThreadLocal 누수 방지)
-                    MDC.clear();
+                    context.clear();
+                    if (untrackedTask) {
+                        taskRegistry.untrackedFinished();
+                    }
                 }
             };
         }
+
+        /**
+         * 작업 추적 / 관측 도구(JFR, 프로파일러)가 필요한 경우의 경로
+         */
+        private Runnable instrumented(Runnable runnable, ContextSnapshot context, TrackedTask task,
+                                      boolean untracked) {
+            String taskName = taskName(runnable);
+            OffloadedTaskEvent event = OffloadedTaskEvent.enabled() ? OffloadedTaskEvent.submitted(taskName) : null;
+
+            return () -> {
+                if (event != null) {
+                    event.workerStarted();
+                }
+                if (task != null) {
+                    task.started();
+                }
+                String previousTag = WorkAttribution.enter(taskName);
+                Outcome outcome = Outcome.ERROR;
+                try {
+                    context.restore();
+                    runnable.run();
+                    outcome = outcomeOf(runnable);
+                } finally {
+                    WorkAttribution.exit(previousTag);
+                    if (task != null) {
+                        taskRegistry.remove(task);
+                    } else if (untracked) {
+                        taskRegistry.untrackedFinished();
+                    }
+                    if (event != null) {
+                        event.complete(outcome);
+                    }
+                    context.clear();
+                }
+            };
+        }
+
+        /**
+         * MVC가 비동기 처리를 시작하며 제출한 작업(Callable / WebAsyncTask) 등록
+         * - 요청이 완료/타임아웃/오류로 끝나면 결과 확정 → 이후에도 실행 중이면 고아 작업
+         */
+        private TrackedTask trackAsyncRequest(Runnable runnable) {
+            HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.getRequestAttributes())
+                    .getRequest();
+            request.removeAttribute(CALLABLE_SUBMISSION_ATTRIBUTE);
+            TrackedTask task = taskRegistry.register(taskName(runnable), TrackedTask.Kind.CALLABLE);
+            if (task != null) {
+                request.getAsyncContext().addListener(new SettleOnAsyncEnd(task));
+            }
+            return task;
+        }
+
+        /**
+         * MVC가 비동기 처리를 시작하며 제출한 작업인지 (요청 스레드에서 markCallableSubmission 표시)
+         */
+        private boolean isAsyncRequestSubmission() {
+            if (taskRegistry == null
+                    || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+                return false;
+            }
+            HttpServletRequest request = attributes.getRequest();
+            return request.getAttribute(CALLABLE_SUBMISSION_ATTRIBUTE) != null && request.isAsyncStarted();
+        }
+
+        /**
+         * submit()으로 제출된 작업은 FutureTask가 예외를 삼키므로 Future 상태로 판단
+         */
+        private static Outcome outcomeOf(Runnable runnable) {
+            if (runnable instanceof Future<?> future && future.isDone()) {
+                return future.state() == Future.State.SUCCESS ? Outcome.OK : Outcome.ERROR;
+            }
+            return Outcome.OK;
+        }
+
+        /**
+         * 요청 스레드에서 제출된 경우 엔드포인트, 아니면 작업 클래스 이름
+         */
+        private static String taskName(Runnable runnable) {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes instanceof ServletRequestAttributes servletAttributes) {
+                return servletAttributes.getRequest().getMethod() + " " + servletAttributes.getRequest().getRequestURI();
+            }
+            return runnable.getClass().getName();
+        }
+    }
+
+    /**
+     * 비동기 요청 종료(완료 / 타임아웃 / 오류) 시 작업 결과 확정
+     */
+    private record SettleOnAsyncEnd(TrackedTask task) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            task.settled();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            task.settled();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            task.settled();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
     }
 }
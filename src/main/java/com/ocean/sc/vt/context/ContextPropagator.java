@@ -0,0 +1,34 @@
+package com.ocean.sc.vt.context;
+
+/**
+ * 스레드 간 컨텍스트 전파 SPI
+ * - 호출 스레드(Tomcat)에서 {@link #capture()} → Virtual Thread에서 {@link #restore(Object)} → 종료 시 {@link #clear()}
+ * - ContextPropagator Bean을 등록하면 {@link ContextPropagatorRegistry}가 자동으로 사용 (@Order 순서)
+ * - 예: Spring Security 도입 시 SecurityContextHolder.getContext() / setContext() / clearContext() 구현
+ *
+ * @param <T> 캡처한 컨텍스트 타입 (불변이거나 복사본이어야 함 - 여러 작업에서 재사용됨)
+ */
+public interface ContextPropagator<T> {
+
+    /**
+     * 비용 집계 / 관리 API 표시 이름
+     */
+    String name();
+
+    /**
+     * 호출 스레드의 현재 컨텍스트 캡처
+     *
+     * @return 컨텍스트가 없으면 null (restore 생략)
+     */
+    T capture();
+
+    /**
+     * 실행 스레드에 컨텍스트 복원
+     */
+    void restore(T captured);
+
+    /**
+     * 실행 스레드 정리 (ThreadLocal 누수 방지, 캡처 값이 없었어도 호출)
+     */
+    void clear();
+}
@@ -0,0 +1,98 @@
+package com.ocean.sc.vt.context;
+
+import com.ocean.sc.vt.metrics.LogHistogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 등록된 {@link ContextPropagator}로 컨텍스트 스냅샷 캡처
+ * - 요청 안에서는 첫 캡처 결과를 요청 속성에 보관하여 재사용 (같은 요청의 여러 오프로딩이 한 번만 캡처)
+ *   → 첫 오프로딩 이후 호출 스레드에서 바꾼 MDC 등은 전파되지 않음
+ * - 전파 대상별 캡처 비용(나노초)을 샘플링하여 히스토그램으로 집계 (vt.context.cost-sample-rate)
+ */
+@Component
+public class ContextPropagatorRegistry {
+
+    static final String SNAPSHOT_ATTRIBUTE = ContextSnapshot.class.getName();
+
+    private final List<ContextPropagator<Object>> propagators;
+    private final LogHistogram[] captureNanos;
+    private final double costSampleRate;
+
+    @SuppressWarnings("unchecked")
+    public ContextPropagatorRegistry(List<ContextPropagator<?>> propagators,
+                                     @Value("${vt.context.cost-sample-rate:0.01}") double costSampleRate) {
+        List<ContextPropagator<Object>> ordered = new ArrayList<>();
+        for (ContextPropagator<?> propagator : propagators) {
+            ordered.add((ContextPropagator<Object>) propagator);
+        }
+        this.propagators = List.copyOf(ordered);
+        this.captureNanos = new LogHistogram[ordered.size()];
+        for (int i = 0; i < captureNanos.length; i++) {
+            captureNanos[i] = new LogHistogram();
+        }
+        this.costSampleRate = costSampleRate;
+    }
+
+    /**
+     * MDC만 전파 (Spring 컨텍스트 밖에서 사용)
+     */
+    public static ContextPropagatorRegistry mdcOnly() {
+        return new ContextPropagatorRegistry(List.of(new MdcContextPropagator()), 0);
+    }
+
+    /**
+     * 호출 스레드의 컨텍스트 스냅샷 (요청 안이면 요청당 1회 캡처)
+     */
+    public ContextSnapshot capture() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return captureAll();
+        }
+        if (attributes.getAttribute(SNAPSHOT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof ContextSnapshot cached) {
+            return cached;
+        }
+        ContextSnapshot snapshot = captureAll();
+        attributes.setAttribute(SNAPSHOT_ATTRIBUTE, snapshot, RequestAttributes.SCOPE_REQUEST);
+        return snapshot;
+    }
+
+    /**
+     * 전파 대상별 캡처 비용 (등록 순서)
+     */
+    public List<CaptureCost> captureCosts() {
+        List<CaptureCost> costs = new ArrayList<>(propagators.size());
+        for (int i = 0; i < propagators.size(); i++) {
+            costs.add(new CaptureCost(propagators.get(i).name(), captureNanos[i].snapshot()));
+        }
+        return costs;
+    }
+
+    private ContextSnapshot captureAll() {
+        Object[] values = new Object[propagators.size()];
+        if (costSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < costSampleRate) {
+            for (int i = 0; i < values.length; i++) {
+                long start = System.nanoTime();
+                values[i] = propagators.get(i).capture();
+                captureNanos[i].record(System.nanoTime() - start);
+            }
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = propagators.get(i).capture();
+            }
+        }
+        return new ContextSnapshot(propagators, values);
+    }
+
+    /**
+     * @param captureNanos 캡처 1회 소요 시간 (나노초) 히스토그램
+     */
+    public record CaptureCost(String propagator, LogHistogram.Snapshot captureNanos) {
+    }
+}
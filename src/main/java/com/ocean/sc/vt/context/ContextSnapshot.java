@@ -0,0 +1,51 @@
+package com.ocean.sc.vt.context;
+
+import java.util.List;
+
+/**
+ * 등록된 모든 전파 대상의 캡처 결과 (불변)
+ * - 요청당 한 번 캡처하여 그 요청의 모든 오프로딩 작업이 재사용
+ * - 실행 스레드에서 {@link #restore()} 후 finally에서 {@link #clear()}
+ */
+public final class ContextSnapshot {
+
+    private final List<ContextPropagator<Object>> propagators;
+    private final Object[] values;
+
+    ContextSnapshot(List<ContextPropagator<Object>> propagators, Object[] values) {
+        this.propagators = propagators;
+        this.values = values;
+    }
+
+    /**
+     * 실행 스레드에 모든 컨텍스트 복원
+     */
+    public void restore() {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                propagators.get(i).restore(values[i]);
+            }
+        }
+    }
+
+    /**
+     * 실행 스레드의 모든 컨텍스트 정리 (복원 역순)
+     */
+    public void clear() {
+        for (int i = propagators.size() - 1; i >= 0; i--) {
+            propagators.get(i).clear();
+        }
+    }
+
+    /**
+     * @return 해당 이름의 캡처 값, 없으면 null
+     */
+    public Object get(String name) {
+        for (int i = 0; i < values.length; i++) {
+            if (propagators.get(i).name().equals(name)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.ocean.sc.vt.context;
+
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.context.request.AbstractRequestAttributes;
+import org.springframework.web.context.request.DestructionCallbackBindingListener;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Virtual Thread용 요청 속성 - 캡처 시점 요청 속성의 복사본 (실행 스레드마다 1개)
+ * - 원본 HttpServletRequest를 참조하지 않음 → 요청이 끝나 컨테이너가 요청 객체를 재사용해도 다른 요청을 보지 않음
+ * - 실행 중 설정한 속성(request scope Bean 등)은 이 복사본에만 저장
+ * - 작업 종료 시 {@link #requestCompleted()} → request scope 소멸 콜백 실행 후 비활성화 (이후 조회는 예외)
+ * - session scope는 캡처 시점의 HttpSession에 위임 (세션이 없었으면 조회 null / 저장 불가)
+ */
+final class DetachedRequestAttributes extends AbstractRequestAttributes {
+
+    private final Map<String, Object> attributes;
+    private final HttpSession session;
+
+    DetachedRequestAttributes(Map<String, Object> attributes, HttpSession session) {
+        this.attributes = new ConcurrentHashMap<>(attributes);
+        this.session = session;
+    }
+
+    @Override
+    public Object getAttribute(String name, int scope) {
+        if (scope == SCOPE_REQUEST) {
+            requireActive();
+            return attributes.get(name);
+        }
+        return session != null ? session.getAttribute(name) : null;
+    }
+
+    @Override
+    public void setAttribute(String name, Object value, int scope) {
+        if (value == null) {
+            removeAttribute(name, scope);
+            return;
+        }
+        if (scope == SCOPE_REQUEST) {
+            requireActive();
+            attributes.put(name, value);
+        } else {
+            requireSession().setAttribute(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name, int scope) {
+        if (scope == SCOPE_REQUEST) {
+            requireActive();
+            attributes.remove(name);
+            removeRequestDestructionCallback(name);
+        } else if (session != null) {
+            session.removeAttribute(name);
+        }
+    }
+
+    @Override
+    public String[] getAttributeNames(int scope) {
+        if (scope == SCOPE_REQUEST) {
+            requireActive();
+            return attributes.keySet().toArray(String[]::new);
+        }
+        return session != null ? Collections.list(session.getAttributeNames()).toArray(String[]::new) : new String[0];
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback, int scope) {
+        if (scope == SCOPE_REQUEST) {
+            registerRequestDestructionCallback(name, callback);
+        } else {
+            requireSession().setAttribute(ServletRequestAttributes.DESTRUCTION_CALLBACK_NAME_PREFIX + name,
+                    new DestructionCallbackBindingListener(callback));
+        }
+    }
+
+    @Override
+    public Object resolveReference(String key) {
+        return REFERENCE_SESSION.equals(key) ? session : null;
+    }
+
+    @Override
+    public String getSessionId() {
+        return requireSession().getId();
+    }
+
+    @Override
+    public Object getSessionMutex() {
+        return WebUtils.getSessionMutex(requireSession());
+    }
+
+    @Override
+    protected void updateAccessedSessionAttributes() {
+    }
+
+    private void requireActive() {
+        if (!isRequestActive()) {
+            throw new IllegalStateException("Cannot access request attributes - offloaded task has already finished");
+        }
+    }
+
+    private HttpSession requireSession() {
+        if (session == null) {
+            throw new IllegalStateException("No session captured for offloaded task");
+        }
+        return session;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ocean.sc.vt.context;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * LocaleContextHolder 전파 - 메시지 소스 / 포맷팅이 요청 Locale 사용
+ */
+@Component
+@Order(2)
+public class LocaleContextPropagator implements ContextPropagator<LocaleContext> {
+
+    @Override
+    public String name() {
+        return "locale";
+    }
+
+    @Override
+    public LocaleContext capture() {
+        return LocaleContextHolder.getLocaleContext();
+    }
+
+    @Override
+    public void restore(LocaleContext captured) {
+        LocaleContextHolder.setLocaleContext(captured);
+    }
+
+    @Override
+    public void clear() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+}
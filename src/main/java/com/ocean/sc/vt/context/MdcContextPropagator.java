@@ -0,0 +1,35 @@
+package com.ocean.sc.vt.context;
+
+import org.slf4j.MDC;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * MDC(Mapped Diagnostic Context) 전파 - TraceId, UserId 등 로그 컨텍스트 유지
+ */
+@Component
+@Order(0)
+public class MdcContextPropagator implements ContextPropagator<Map<String, String>> {
+
+    @Override
+    public String name() {
+        return "mdc";
+    }
+
+    @Override
+    public Map<String, String> capture() {
+        return MDC.getCopyOfContextMap();
+    }
+
+    @Override
+    public void restore(Map<String, String> captured) {
+        MDC.setContextMap(captured);
+    }
+
+    @Override
+    public void clear() {
+        MDC.clear();
+    }
+}
@@ -0,0 +1,77 @@
+package com.ocean.sc.vt.context;
+
+import jakarta.servlet.http.HttpSession;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * RequestContextHolder 전파 - Virtual Thread에서 request scope Bean / RequestContextHolder 사용 가능
+ * - 캡처 시 요청 속성 값을 복사 (원본 HttpServletRequest는 보관하지 않음)
+ *   → 비동기 요청이 끝나 컨테이너가 요청 객체를 재사용한 뒤에도 작업이 다른 요청을 보지 않음
+ * - 실행 스레드마다 {@link DetachedRequestAttributes}로 복원하고, 종료 시 requestCompleted()로 비활성화
+ * - HttpServletRequest 자체(헤더 등)는 Virtual Thread에서 조회할 수 없음 → 필요한 값은 요청 스레드에서 꺼내 전달
+ */
+@Component
+@Order(1)
+public class RequestAttributesPropagator implements ContextPropagator<RequestAttributesPropagator.Captured> {
+
+    @Override
+    public String name() {
+        return "request-attributes";
+    }
+
+    @Override
+    public Captured capture() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Object> values = new HashMap<>();
+        for (String name : attributes.getAttributeNames(RequestAttributes.SCOPE_REQUEST)) {
+            Object value = attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST);
+            if (value != null) {
+                values.put(name, value);
+            }
+        }
+        return new Captured(Map.copyOf(values), sessionOf(attributes));
+    }
+
+    @Override
+    public void restore(Captured captured) {
+        RequestContextHolder.setRequestAttributes(new DetachedRequestAttributes(captured.attributes(), captured.session()));
+    }
+
+    @Override
+    public void clear() {
+        if (RequestContextHolder.getRequestAttributes() instanceof DetachedRequestAttributes attributes) {
+            attributes.requestCompleted();
+        }
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * 세션은 요청보다 오래 살므로 참조 보관 (새로 만들지는 않음)
+     */
+    private static HttpSession sessionOf(RequestAttributes attributes) {
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getSession(false);
+        }
+        return attributes.resolveReference(RequestAttributes.REFERENCE_SESSION) instanceof HttpSession session
+                ? session : null;
+    }
+
+    /**
+     * 캡처한 요청 속성 (불변 - 같은 요청의 여러 작업이 공유)
+     *
+     * @param attributes request scope 속성 복사본
+     * @param session 캡처 시점의 세션 (없으면 null)
+     */
+    public record Captured(Map<String, Object> attributes, HttpSession session) {
+    }
+}
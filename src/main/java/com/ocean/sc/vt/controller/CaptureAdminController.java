@@ -0,0 +1,74 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.capture.TrafficRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * 트래픽 캡처 관리 API
+ * - 기록 파일은 ./gradlew replayTraffic -Pfile=... -Pspeed=5 로 재생
+ */
+@RestController
+@RequestMapping("/api/admin/capture")
+public class CaptureAdminController {
+
+    /** 메모리 매핑 1개 상한 (2GB 미만) */
+    static final long MAX_CAPTURE_MB = Integer.MAX_VALUE / (1024 * 1024);
+
+    private final TrafficRecorder recorder;
+    private final long defaultMaxBytes;
+
+    public CaptureAdminController(TrafficRecorder recorder,
+                                  @Value("${vt.capture.max-bytes:268435456}") long defaultMaxBytes) {
+        this.recorder = recorder;
+        this.defaultMaxBytes = defaultMaxBytes;
+    }
+
+    /**
+     * 캡처 상태 (파일, 기록 수, 버린 수, 사용 바이트)
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/capture"
+     */
+    @GetMapping
+    public TrafficRecorder.CaptureStatus status() {
+        return recorder.status();
+    }
+
+    /**
+     * 캡처 시작 (캡처 중이면 새 파일로 전환)
+     * - 파일은 vt.capture.path 디렉터리 안에 새 이름으로 생성 (경로 지정 불가)
+     * - maxMb는 1 ~ 2047 (메모리 매핑 상한), 벗어나면 400
+     *
+     * 테스트: curl -X POST "http://localhost:8080/api/admin/capture/start?maxMb=256"
+     */
+    @PostMapping("/start")
+    public TrafficRecorder.CaptureStatus start(@RequestParam(required = false) Long maxMb) throws IOException {
+        if (maxMb != null && (maxMb < 1 || maxMb > MAX_CAPTURE_MB)) {
+            throw new IllegalArgumentException("maxMb must be between 1 and " + MAX_CAPTURE_MB + ": " + maxMb);
+        }
+        return recorder.start(maxMb != null ? maxMb * 1024 * 1024 : defaultMaxBytes);
+    }
+
+    /**
+     * 캡처 종료
+     *
+     * 테스트: curl -X POST "http://localhost:8080/api/admin/capture/stop"
+     */
+    @PostMapping("/stop")
+    public TrafficRecorder.CaptureStatus stop() {
+        return recorder.stop();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
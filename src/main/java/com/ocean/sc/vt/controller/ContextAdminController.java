@@ -0,0 +1,32 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.context.ContextPropagatorRegistry;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 컨텍스트 전파 관리 API
+ */
+@RestController
+@RequestMapping("/api/admin/context")
+public class ContextAdminController {
+
+    private final ContextPropagatorRegistry contextRegistry;
+
+    public ContextAdminController(ContextPropagatorRegistry contextRegistry) {
+        this.contextRegistry = contextRegistry;
+    }
+
+    /**
+     * 전파 대상(MDC, 요청 속성, Locale, 추가 등록된 ContextPropagator)별 캡처 비용 히스토그램 (나노초)
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/context/costs"
+     */
+    @GetMapping("/costs")
+    public List<ContextPropagatorRegistry.CaptureCost> costs() {
+        return contextRegistry.captureCosts();
+    }
+}
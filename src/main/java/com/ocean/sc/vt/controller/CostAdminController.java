@@ -0,0 +1,43 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.metrics.InvocationCostRecorder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 호출 비용(CPU 시간 / 할당 바이트) 관리 API
+ */
+@RestController
+@RequestMapping("/api/admin/costs")
+public class CostAdminController {
+
+    private final InvocationCostRecorder costRecorder;
+
+    public CostAdminController(InvocationCostRecorder costRecorder) {
+        this.costRecorder = costRecorder;
+    }
+
+    /**
+     * @VirtualThread 메서드별 CPU 시간 / 할당 바이트 히스토그램 (총 CPU 시간 내림차순)
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/costs"
+     */
+    @GetMapping
+    public InvocationCostRecorder.Report costs() {
+        return costRecorder.report();
+    }
+
+    /**
+     * 집계 초기화
+     *
+     * 테스트: curl -X DELETE "http://localhost:8080/api/admin/costs"
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> reset() {
+        costRecorder.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.jfr.JfrRecordingService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * JFR 기록 관리 API
+ * - 장애 시 표준 JDK 도구(JMC, jfr print)로 분석할 .jfr 파일 수집
+ */
+@RestController
+@RequestMapping("/api/admin/jfr")
+public class JfrAdminController {
+
+    private final JfrRecordingService recordingService;
+
+    public JfrAdminController(JfrRecordingService recordingService) {
+        this.recordingService = recordingService;
+    }
+
+    /**
+     * 기록 상태
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/jfr"
+     */
+    @GetMapping
+    public JfrRecordingService.RecordingStatus status() {
+        return recordingService.status();
+    }
+
+    /**
+     * 최대 보관 시간/크기로 제한된 연속 기록 시작
+     *
+     * 테스트: curl -X POST "http://localhost:8080/api/admin/jfr/start?maxAgeSeconds=300&maxSizeMb=64"
+     */
+    @PostMapping("/start")
+    public JfrRecordingService.RecordingStatus start(
+            @RequestParam(defaultValue = "300") long maxAgeSeconds,
+            @RequestParam(defaultValue = "64") long maxSizeMb) throws Exception {
+        return recordingService.start(Duration.ofSeconds(maxAgeSeconds), maxSizeMb * 1024 * 1024);
+    }
+
+    /**
+     * 기록 중인 내용 스냅샷 (.jfr, 기록은 계속)
+     *
+     * 테스트: curl -o snapshot.jfr "http://localhost:8080/api/admin/jfr/dump"
+     */
+    @GetMapping("/dump")
+    public void dump(HttpServletResponse response) throws Exception {
+        download(recordingService.dump(), response);
+    }
+
+    /**
+     * 기록 종료 후 .jfr 파일 반환
+     *
+     * 테스트: curl -X POST -o recording.jfr "http://localhost:8080/api/admin/jfr/stop"
+     */
+    @PostMapping("/stop")
+    public void stop(HttpServletResponse response) throws Exception {
+        download(recordingService.stop(), response);
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> conflict(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    /**
+     * 임시 .jfr 파일을 응답으로 전송한 뒤 삭제 (전송 실패 / 클라이언트 연결 끊김에도 삭제)
+     */
+    private static void download(Path file, HttpServletResponse response) throws IOException {
+        try {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString());
+            response.setContentLengthLong(Files.size(file));
+            Files.copy(file, response.getOutputStream());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
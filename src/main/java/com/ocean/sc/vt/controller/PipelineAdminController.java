@@ -0,0 +1,33 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.pipeline.Pipeline;
+import com.ocean.sc.vt.pipeline.PipelineRegistry;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 단계별 파이프라인 관리 API
+ */
+@RestController
+@RequestMapping("/api/admin/pipelines")
+public class PipelineAdminController {
+
+    private final PipelineRegistry pipelineRegistry;
+
+    public PipelineAdminController(PipelineRegistry pipelineRegistry) {
+        this.pipelineRegistry = pipelineRegistry;
+    }
+
+    /**
+     * 파이프라인별 제출 / 거부 / 완료 수, 병목 단계, 단계별 사용률 · 큐 · 대기 / 처리 시간 히스토그램 (µs)
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/pipelines"
+     */
+    @GetMapping
+    public List<Pipeline.PipelineStats> pipelines() {
+        return pipelineRegistry.all().stream().map(Pipeline::stats).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.policy.MethodPolicy;
+import com.ocean.sc.vt.policy.OffloadPolicyRegistry;
+import com.ocean.sc.vt.policy.PolicySnapshot;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 오프로딩 정책 런타임 변경 API
+ * - 장애 중 재시작 없이 타임아웃 / 동시 실행 제한을 즉시 조정
+ * - 메서드 키: "정규 클래스명.메서드명" (예: com.ocean.sc.vt.controller.VirtualThreadDemoController.virtualThreadAopApi)
+ */
+@RestController
+@RequestMapping("/api/admin/policies")
+public class PolicyAdminController {
+
+    private final OffloadPolicyRegistry policyRegistry;
+
+    public PolicyAdminController(OffloadPolicyRegistry policyRegistry) {
+        this.policyRegistry = policyRegistry;
+    }
+
+    /**
+     * 현재 정책 스냅샷 + 동시 실행 제한 메서드의 실행 수
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/policies"
+     */
+    @GetMapping
+    public PolicyStatus policies() {
+        return new PolicyStatus(policyRegistry.current(), policyRegistry.runningCounts());
+    }
+
+    /**
+     * 메서드 정책 설정 (기존 오버라이드 대체)
+     *
+     * 테스트: curl -X PUT "http://localhost:8080/api/admin/policies/methods/com.ocean.sc.vt.controller.VirtualThreadDemoController.virtualThreadAopApi?timeoutMs=2000&maxConcurrency=100"
+     */
+    @PutMapping("/methods/{methodKey}")
+    public PolicySnapshot putMethod(@PathVariable String methodKey,
+                                    @RequestParam(required = false) Long timeoutMs,
+                                    @RequestParam(required = false) Integer maxConcurrency) {
+        return policyRegistry.putMethod(methodKey, new MethodPolicy(timeoutMs, maxConcurrency));
+    }
+
+    /**
+     * 메서드 정책 제거 (어노테이션 / 기본값으로 복귀)
+     *
+     * 테스트: curl -X DELETE "http://localhost:8080/api/admin/policies/methods/com.ocean.sc.vt.controller.VirtualThreadDemoController.virtualThreadAopApi"
+     */
+    @DeleteMapping("/methods/{methodKey}")
+    public PolicySnapshot removeMethod(@PathVariable String methodKey) {
+        return policyRegistry.removeMethod(methodKey);
+    }
+
+    /**
+     * Callable / WebAsyncTask 반환 방식 기본 타임아웃 변경
+     *
+     * 테스트: curl -X PUT "http://localhost:8080/api/admin/policies/callable-timeout?timeoutMs=10000"
+     */
+    @PutMapping("/callable-timeout")
+    public PolicySnapshot callableTimeout(@RequestParam long timeoutMs) {
+        return policyRegistry.setCallableTimeout(timeoutMs);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    public record PolicyStatus(PolicySnapshot policy, Map<String, Integer> running) {
+    }
+}
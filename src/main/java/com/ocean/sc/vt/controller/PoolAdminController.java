@@ -0,0 +1,52 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.pool.ResourcePool;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 다운스트림 자원 풀 관리 API
+ */
+@RestController
+@RequestMapping("/api/admin/pools")
+public class PoolAdminController {
+
+    private final List<ResourcePool<?>> pools;
+
+    public PoolAdminController(List<ResourcePool<?>> pools) {
+        this.pools = pools;
+    }
+
+    /**
+     * 풀별 사용률 / 대기자 수 / 대기·점유 시간 히스토그램 (나노초)
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/pools"
+     */
+    @GetMapping
+    public List<ResourcePool.PoolStats> pools() {
+        return pools.stream().map(ResourcePool::stats).toList();
+    }
+
+    /**
+     * thresholdMs 이상 점유 중인 자원 (누수 의심, 오래된 순)
+     * - 획득 위치는 vt.pool.capture-acquire-site=true일 때만 기록
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/pools/demo-connections/held?thresholdMs=3000"
+     */
+    @GetMapping("/{name}/held")
+    public ResponseEntity<List<ResourcePool.HeldResource>> held(@PathVariable String name,
+                                                                @RequestParam(defaultValue = "5000") long thresholdMs) {
+        return pools.stream()
+                .filter(pool -> pool.name().equals(name))
+                .findFirst()
+                .map(pool -> ResponseEntity.ok(pool.heldLongerThan(Duration.ofMillis(thresholdMs))))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,84 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.profiler.SamplingProfiler;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 내장 샘플링 프로파일러 관리 API
+ * - 엔드포인트 / @VirtualThread 메서드별 CPU 사용을 플레임 그래프로 확인
+ */
+@RestController
+@RequestMapping("/api/admin/profiler")
+public class ProfilerAdminController {
+
+    private final SamplingProfiler profiler;
+
+    public ProfilerAdminController(SamplingProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * 프로파일러 상태
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/profiler"
+     */
+    @GetMapping
+    public SamplingProfiler.Status status() {
+        return profiler.status();
+    }
+
+    /**
+     * 샘플링 시작 (이전 결과 초기화)
+     *
+     * 테스트: curl -X POST "http://localhost:8080/api/admin/profiler/start?periodMs=10"
+     */
+    @PostMapping("/start")
+    public SamplingProfiler.Status start(@RequestParam(defaultValue = "10") long periodMs) {
+        return profiler.start(Duration.ofMillis(periodMs));
+    }
+
+    /**
+     * 샘플링 종료 (결과 유지)
+     *
+     * 테스트: curl -X POST "http://localhost:8080/api/admin/profiler/stop"
+     */
+    @PostMapping("/stop")
+    public SamplingProfiler.Status stop() {
+        return profiler.stop();
+    }
+
+    /**
+     * collapsed stack 텍스트 (flamegraph.pl, speedscope 입력)
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/profiler/collapsed"
+     */
+    @GetMapping(value = "/collapsed", produces = MediaType.TEXT_PLAIN_VALUE)
+    public String collapsed() {
+        return profiler.collapsed();
+    }
+
+    /**
+     * SVG 플레임 그래프
+     *
+     * 테스트: curl -o flame.svg "http://localhost:8080/api/admin/profiler/flamegraph"
+     */
+    @GetMapping(value = "/flamegraph", produces = "image/svg+xml")
+    public String flameGraph() {
+        return profiler.flameGraph();
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> conflict(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+}
@@ -0,0 +1,31 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.monitor.VirtualThreadSchedulerMonitor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Virtual Thread 스케줄러 관리 API
+ * - 캐리어 사용률 기반 컨테이너 CPU 산정용
+ */
+@RestController
+@RequestMapping("/api/admin/scheduler")
+public class SchedulerAdminController {
+
+    private final VirtualThreadSchedulerMonitor schedulerMonitor;
+
+    public SchedulerAdminController(VirtualThreadSchedulerMonitor schedulerMonitor) {
+        this.schedulerMonitor = schedulerMonitor;
+    }
+
+    /**
+     * 스케줄러 현재 상태 + 누적 사용률 + 시작 구성
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/scheduler"
+     */
+    @GetMapping
+    public VirtualThreadSchedulerMonitor.Report scheduler() {
+        return schedulerMonitor.report();
+    }
+}
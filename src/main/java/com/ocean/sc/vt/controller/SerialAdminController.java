@@ -0,0 +1,30 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.ordering.KeyedSerialExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 키별 순차 실행(serializeBy) 관리 API
+ */
+@RestController
+@RequestMapping("/api/admin/serial")
+public class SerialAdminController {
+
+    private final KeyedSerialExecutor serialExecutor;
+
+    public SerialAdminController(KeyedSerialExecutor serialExecutor) {
+        this.serialExecutor = serialExecutor;
+    }
+
+    /**
+     * 활성 키(메일박스) 수, 메일박스 생성 / 회수 수, 실행 건수, 대기 건수가 많은 키
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/serial"
+     */
+    @GetMapping
+    public KeyedSerialExecutor.SerialStats stats() {
+        return serialExecutor.stats();
+    }
+}
@@ -0,0 +1,32 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.simulation.LatencySimulator;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 지연 / 장애 시뮬레이션 관리 API
+ */
+@RestController
+@RequestMapping("/api/admin/simulation")
+public class SimulationAdminController {
+
+    private final LatencySimulator simulator;
+
+    public SimulationAdminController(LatencySimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    /**
+     * 시뮬레이션 설정된 메서드별 분포 설정, 호출 수, 동시 실행 수, 오류 / 응답 없음 / CPU 버스트 주입 횟수
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/simulation"
+     */
+    @GetMapping
+    public Map<String, LatencySimulator.MethodStats> stats() {
+        return simulator.stats();
+    }
+}
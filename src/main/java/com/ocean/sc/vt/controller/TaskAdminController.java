@@ -0,0 +1,127 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.inflight.OffloadTaskRegistry;
+import com.ocean.sc.vt.inflight.OrphanTaskDetector;
+import com.ocean.sc.vt.inflight.TrackedTask;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 중인 오프로딩 작업 관리 API
+ * - 장애 시 JVM 재시작 없이 폭주한 장기 실행 요청을 찾아 취소
+ */
+@RestController
+@RequestMapping("/api/admin/tasks")
+public class TaskAdminController {
+
+    private final OffloadTaskRegistry taskRegistry;
+    private final OrphanTaskDetector orphanTaskDetector;
+
+    public TaskAdminController(OffloadTaskRegistry taskRegistry, OrphanTaskDetector orphanTaskDetector) {
+        this.taskRegistry = taskRegistry;
+        this.orphanTaskDetector = orphanTaskDetector;
+    }
+
+    /**
+     * 실행 중인 작업 (오래된 순, 최대 limit개)
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/tasks?limit=20"
+     */
+    @GetMapping
+    public InFlightReport tasks(@RequestParam(defaultValue = "100") int limit) {
+        long now = System.nanoTime();
+        List<InFlightTask> tasks = taskRegistry.oldest(limit).stream()
+                .map(task -> InFlightTask.of(task, now))
+                .toList();
+        return new InFlightReport(taskRegistry.activeCount(), taskRegistry.untrackedCount(), taskRegistry.capacity(),
+                tasks);
+    }
+
+    /**
+     * 선택한 작업 취소 - 결과를 503 오류로 확정하고 Virtual Thread 인터럽트
+     *
+     * 테스트: curl -X POST "http://localhost:8080/api/admin/tasks/cancel?ids=65537,131074"
+     */
+    @PostMapping("/cancel")
+    public CancelResult cancel(@RequestParam List<Long> ids) {
+        List<Long> cancelled = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : ids) {
+            (taskRegistry.cancel(id) ? cancelled : notFound).add(id);
+        }
+        return new CancelResult(cancelled, notFound);
+    }
+
+    /**
+     * 결과 확정(완료 / 타임아웃 / 클라이언트 이탈) 후에도 실행 중인 고아 작업 (오래된 순, 현재 스택 포함)
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/tasks/orphans"
+     */
+    @GetMapping("/orphans")
+    public OrphanReport orphans() {
+        return new OrphanReport(
+                taskRegistry.activeCount(),
+                taskRegistry.untrackedCount(),
+                orphanTaskDetector.orphans());
+    }
+
+    /**
+     * @param active 현재 레지스트리에 등록된 작업 수
+     * @param untracked 슬롯 부족으로 추적하지 못한 누적 작업 수 (목록 / 취소 대상이 아님)
+     * @param capacity 추적 가능한 최대 동시 작업 수 (vt.tasks.capacity)
+     */
+    public record InFlightReport(long active, long untracked, int capacity, List<InFlightTask> tasks) {
+    }
+
+    /**
+     * 실행 중인 작업 정보
+     *
+     * @param state QUEUED(실행 전) / RUNNING / SETTLED(결과 확정 후 실행 중) / CANCELLED
+     * @param thread 실행 스레드 (시작 전이면 null)
+     */
+    public record InFlightTask(long id, String requestId, String method, TrackedTask.Kind kind, String tenant,
+                               long ageMs, String state, String thread, Set<String> mdcKeys) {
+
+        static InFlightTask of(TrackedTask task, long now) {
+            Thread thread = task.thread();
+            return new InFlightTask(
+                    task.id(),
+                    task.requestId(),
+                    task.name(),
+                    task.kind(),
+                    task.tenant(),
+                    TimeUnit.NANOSECONDS.toMillis(now - task.submittedNanos()),
+                    stateOf(task, thread),
+                    thread == null ? null : thread.toString(),
+                    task.mdcKeys());
+        }
+
+        private static String stateOf(TrackedTask task, Thread thread) {
+            if (task.isCancelled()) {
+                return "CANCELLED";
+            }
+            if (task.settledNanos() != 0) {
+                return "SETTLED";
+            }
+            return thread == null ? "QUEUED" : "RUNNING";
+        }
+    }
+
+    public record CancelResult(List<Long> cancelled, List<Long> notFound) {
+    }
+
+    /**
+     * @param active 현재 레지스트리에 등록된 작업 수
+     * @param untracked 슬롯 부족으로 추적하지 못한 누적 작업 수
+     */
+    public record OrphanReport(long active, long untracked, List<OrphanTaskDetector.OrphanTask> orphans) {
+    }
+}
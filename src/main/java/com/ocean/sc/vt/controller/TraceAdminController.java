@@ -0,0 +1,34 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.trace.ChromeTraceExporter;
+import com.ocean.sc.vt.trace.RequestTraceRecorder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 요청 생명주기 추적 관리 API
+ * - 링 버퍼에 남은 샘플링 요청의 타임라인을 Chrome trace-event JSON으로 덤프
+ */
+@RestController
+@RequestMapping("/api/admin/trace")
+public class TraceAdminController {
+
+    private final RequestTraceRecorder traceRecorder;
+
+    public TraceAdminController(RequestTraceRecorder traceRecorder) {
+        this.traceRecorder = traceRecorder;
+    }
+
+    /**
+     * Chrome trace-event JSON (chrome://tracing 또는 https://ui.perfetto.dev 에서 열기)
+     *
+     * 테스트: curl -o trace.json "http://localhost:8080/api/admin/trace"
+     */
+    @GetMapping
+    public Map<String, Object> trace() {
+        return ChromeTraceExporter.export(traceRecorder.snapshot());
+    }
+}
@@ -1,15 +1,22 @@
 package com.ocean.sc.vt.controller;
 
 import com.ocean.sc.vt.annotation.VirtualThread;
+import com.ocean.sc.vt.body.RequestBodyStream;
 import com.ocean.sc.vt.service.DemoService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
 
 /**
  * Virtual Thread 데모 컨트롤러
@@ -22,6 +29,8 @@ public class VirtualThreadDemoController {
     private static final Logger log = LoggerFactory.getLogger(VirtualThreadDemoController.class);
 
     private final DemoService demoService;
+    /** 키별 순차 실행 데모 - 사용자별 처리 순번 */
+    private final Map<String, Integer> userSequences = new ConcurrentHashMap<>();
 
     public VirtualThreadDemoController(DemoService demoService) {
         this.demoService = demoService;
@@ -94,6 +103,72 @@ public class VirtualThreadDemoController {
         return String.format("Virtual Thread (AOP) Result: %s", result);
     }
 
+    /**
+     * [Virtual Thread API - AOP, 직접 응답] @VirtualThread(completion = DIRECT)
+     * - Virtual Thread가 결과를 직접 응답에 쓰고 비동기 처리 완료
+     * - 결과 전달을 위한 Tomcat 스레드 재디스패치(필터 체인 재진입)가 없음
+     *
+     * 테스트: curl "http://localhost:8080/api/demo/virtual-direct?message=Hello"
+     */
+    @GetMapping("/virtual-direct")
+    @VirtualThread(timeout = 30000, description = "직접 응답 작성", completion = VirtualThread.Completion.DIRECT)
+    public Object virtualThreadDirectApi(@RequestParam(defaultValue = "VirtualDirect") String message) {
+        String result = demoService.processComplexLogic(message);
+        return String.format("Virtual Thread (Direct) Result: %s", result);
+    }
+
+    /**
+     * [Virtual Thread API - AOP, 단계별 파이프라인] @VirtualThread(pipeline = "demo")
+     * - 메서드는 파이프라인 입력만 반환 (Tomcat 스레드에서 실행)
+     * - parse → enrich(DemoService) → aggregate 단계를 단계별 동시 실행 상한 / 유한 큐로 처리
+     * - 첫 단계 큐가 가득 차면 503 (GET /api/admin/pipelines로 병목 단계 확인)
+     *
+     * 테스트: curl "http://localhost:8080/api/demo/virtual-pipeline?message=Hello"
+     */
+    @GetMapping("/virtual-pipeline")
+    @VirtualThread(timeout = 30000, description = "단계별 파이프라인 실행", pipeline = "demo")
+    public Object virtualThreadPipelineApi(@RequestParam(defaultValue = "VirtualPipeline") String message) {
+        return message;
+    }
+
+    /**
+     * [Virtual Thread API - AOP, 키별 순차 실행] @VirtualThread(serializeBy = "#userId")
+     * - 같은 userId 요청은 도착 순서대로 하나씩 실행 (읽기 → 처리 → 쓰기가 겹치지 않음)
+     * - 다른 userId 요청은 병렬 실행 (GET /api/admin/serial로 키별 대기 건수 확인)
+     *
+     * 테스트: curl "http://localhost:8080/api/demo/virtual-serial?userId=alice&message=Hello"
+     */
+    @GetMapping("/virtual-serial")
+    @VirtualThread(timeout = 30000, description = "사용자별 순차 실행", serializeBy = "#userId")
+    public Object virtualThreadSerialApi(@RequestParam String userId,
+                                         @RequestParam(defaultValue = "VirtualSerial") String message) {
+        // 원자적 갱신 없이 읽고 처리한 뒤 쓰지만, 같은 사용자 요청은 겹치지 않으므로 순번이 유실되지 않음
+        int sequence = userSequences.getOrDefault(userId, 0) + 1;
+        String result = demoService.processComplexLogic(message);
+        userSequences.put(userId, sequence);
+        return String.format("Virtual Thread Serial Result: user=%s, sequence=%d, %s", userId, sequence, result);
+    }
+
+    /**
+     * [Virtual Thread API - AOP, 대용량 업로드] RequestBodyStream 파라미터
+     * - Tomcat 스레드는 본문을 기다리지 않고 즉시 반환, 본문은 논블로킹 I/O로 Direct 버퍼에 수신
+     * - Virtual Thread가 청크 단위로 소비 (본문 전체를 힙에 올리지 않음)
+     *
+     * 테스트: head -c 104857600 /dev/urandom | curl -X POST --data-binary @- "http://localhost:8080/api/demo/virtual-upload"
+     */
+    @PostMapping("/virtual-upload")
+    @VirtualThread(timeout = 60000, description = "대용량 업로드 스트리밍")
+    public Object virtualThreadUploadApi(RequestBodyStream body) throws IOException {
+        CRC32C checksum = new CRC32C();
+        try (body) {
+            for (ByteBuffer chunk = body.nextChunk(); chunk != null; chunk = body.nextChunk()) {
+                checksum.update(chunk);
+            }
+        }
+        return String.format("Virtual Thread Upload Result: %d bytes, crc32c=%08x",
+                body.bytesReceived(), checksum.getValue());
+    }
+
     /**
      * [비교용 API] 스레드 정보 확인
      * - 현재 실행 중인 스레드 정보 반환
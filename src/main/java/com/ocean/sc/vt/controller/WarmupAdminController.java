@@ -0,0 +1,51 @@
+package com.ocean.sc.vt.controller;
+
+import com.ocean.sc.vt.warmup.WarmupReport;
+import com.ocean.sc.vt.warmup.WarmupRunner;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 워밍업/준비 상태 관리 API
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class WarmupAdminController {
+
+    private final ObjectProvider<WarmupRunner> warmupRunner;
+    private final ApplicationAvailability availability;
+
+    public WarmupAdminController(ObjectProvider<WarmupRunner> warmupRunner, ApplicationAvailability availability) {
+        this.warmupRunner = warmupRunner;
+        this.availability = availability;
+    }
+
+    /**
+     * 워밍업 결과 (소요 시간, 반복 수, 콜드 vs 워밍업 후 지연 시간, 준비 후 첫 1분 실제 요청 지연 / 개선율)
+     *
+     * 테스트: curl "http://localhost:8080/api/admin/warmup"
+     */
+    @GetMapping("/warmup")
+    public WarmupReport warmup() {
+        WarmupRunner runner = warmupRunner.getIfAvailable();
+        return runner != null ? runner.report() : WarmupReport.skipped();
+    }
+
+    /**
+     * 준비 상태 프로브 - 워밍업 완료 후 ACCEPTING_TRAFFIC 이면 200, 아니면 503
+     *
+     * 테스트: curl -i "http://localhost:8080/api/admin/readiness"
+     */
+    @GetMapping("/readiness")
+    public ResponseEntity<ReadinessState> readiness() {
+        ReadinessState state = availability.getReadinessState();
+        boolean ready = state == ReadinessState.ACCEPTING_TRAFFIC && warmup().finished();
+        return ResponseEntity.status(ready ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(state);
+    }
+}
@@ -0,0 +1,154 @@
+package com.ocean.sc.vt.inflight;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 종료 시 실행 중인 오프로딩 작업 드레인
+ * - SIGTERM → 컨텍스트 종료 → 웹 서버보다 먼저 stop() 호출 (가장 높은 phase)
+ * - 드레인 시작 후 새 @VirtualThread / Callable 작업은 즉시 503 ({@link ServiceDrainingException})
+ * - 실행 중인 작업은 drain-timeout-ms 까지 완료 대기, 남은 작업은 취소(503 오류 결과 + 인터럽트)
+ *   → 연결을 끊지 않고 깔끔한 오류 응답으로 마무리
+ * - 레지스트리 상한을 넘어 추적하지 못한 작업도 실행 수로 집계되어 종료를 기다림 (취소는 불가, 보고서의 untracked)
+ * - 드레인 시간 / 완료 / 중단 건수를 로그로 보고
+ *
+ * <p>웹 서버는 드레인이 끝날 때까지 살아 있으므로 완료된 DeferredResult / Callable 결과는 정상 전송됩니다.</p>
+ */
+@Component
+public class OffloadDrainer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OffloadDrainer.class);
+
+    private static final long POLL_INTERVAL_MS = 50;
+    // 취소 후 오류 응답이 전송(비동기 디스패치)될 때까지 추가 대기
+    private static final long CANCEL_GRACE_MS = 1000;
+
+    private final OffloadTaskRegistry registry;
+    private final long drainTimeoutMs;
+
+    private volatile boolean running;
+    private volatile boolean draining;
+    private volatile DrainReport lastReport;
+
+    public OffloadDrainer(OffloadTaskRegistry registry,
+                          @Value("${vt.drain.timeout-ms:20000}") long drainTimeoutMs) {
+        this.registry = registry;
+        this.drainTimeoutMs = drainTimeoutMs;
+    }
+
+    /**
+     * 드레인 중이면 새 작업 거부 (요청 처리 스레드에서 호출)
+     */
+    public void rejectIfDraining() {
+        if (draining) {
+            throw new ServiceDrainingException();
+        }
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    /**
+     * @return 마지막 드레인 결과, 드레인 전이면 null
+     */
+    public DrainReport lastReport() {
+        return lastReport;
+    }
+
+    @Override
+    public void start() {
+        draining = false;
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        lastReport = drain();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(graceful shutdown 포함)보다 먼저 종료
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+
+    DrainReport drain() {
+        draining = true;
+        long startNanos = System.nanoTime();
+        long inFlight = registry.inFlightCount();
+        long untracked = registry.untrackedInFlightCount();
+        log.info("[Drain] 🚦 드레인 시작 - 실행 중: {} (추적하지 못한 작업 {}), 제한 시간: {}ms",
+                inFlight, untracked, drainTimeoutMs);
+
+        boolean drained = awaitEmpty(drainTimeoutMs);
+        AtomicInteger cutOff = new AtomicInteger();
+        if (!drained) {
+            registry.forEach(task -> {
+                if (registry.cancel(task.id())) {
+                    cutOff.incrementAndGet();
+                }
+            });
+            awaitEmpty(CANCEL_GRACE_MS);
+        }
+
+        DrainReport report = new DrainReport(
+                inFlight,
+                untracked,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                cutOff.get(),
+                registry.inFlightCount());
+        if (report.cutOff() > 0 || report.remaining() > 0) {
+            log.warn("[Drain] ⚠️ 드레인 제한 시간 초과 - 소요: {}ms, 시작 시 실행 중: {} (추적하지 못한 작업 {}), 중단: {}, "
+                            + "종료 후 잔여: {} (추적하지 못한 작업 {})",
+                    report.drainMs(), report.inFlight(), report.untracked(), report.cutOff(), report.remaining(),
+                    registry.untrackedInFlightCount());
+        } else {
+            log.info("[Drain] ✅ 드레인 완료 - 소요: {}ms, 시작 시 실행 중: {}",
+                    report.drainMs(), report.inFlight());
+        }
+        return report;
+    }
+
+    private boolean awaitEmpty(long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (registry.inFlightCount() > 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 드레인 결과
+     *
+     * @param inFlight 드레인 시작 시 실행 중인 작업 수 (추적하지 못한 작업 포함)
+     * @param untracked 그중 레지스트리 상한 초과로 추적하지 못한 작업 수 (완료만 기다리고 취소할 수 없음)
+     * @param drainMs 드레인 소요 시간
+     * @param cutOff 제한 시간 초과로 취소한 작업 수
+     * @param remaining 취소 후에도 종료되지 않은 작업 수 (인터럽트에 반응하지 않는 작업, 추적하지 못한 작업)
+     */
+    public record DrainReport(long inFlight, long untracked, long drainMs, int cutOff, long remaining) {
+    }
+}
@@ -0,0 +1,306 @@
+package com.ocean.sc.vt.inflight;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 실행 중인 오프로딩 작업 레지스트리 (lock-free, 등록/제거 O(1))
+ * - 슬롯 배열 + 빈 슬롯 Treiber 스택 (스탬프로 ABA 방지)
+ * - 슬롯은 65536개 단위 세그먼트로 처음 필요할 때 할당 → 메모리는 최대 동시 실행 수에 비례, 상한은 vt.tasks.capacity
+ *   (기본 4,194,304 = 수백만 건 동시 실행까지 추적)
+ * - 등록: 빈 슬롯 pop(CAS), 스택이 비면 아직 쓰지 않은 슬롯 할당 + 슬롯 기록, 제거: 슬롯 CAS 비우기 + push(CAS)
+ * - 상한을 넘으면 추적하지 않고 카운트만 증가 (요청 처리에는 영향 없음, 처음 발생 시 경고 로그,
+ *   관리 API의 untracked로 노출) - 추적하지 않은 작업은 목록 / 취소 대상이 아님
+ * - 작업 ID에 슬롯 번호를 포함하여 ID 조회(취소)도 O(1)
+ * - 등록 시 호출 스레드의 요청 ID / 테넌트(헤더 우선, 없으면 MDC) / MDC 키 기록
+ *
+ * <p>Virtual Thread는 풀링되지 않아 스레드 풀 메트릭에 나타나지 않으므로 작업 단위로 직접 추적합니다.</p>
+ */
+@Component
+public class OffloadTaskRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(OffloadTaskRegistry.class);
+
+    private static final int EMPTY = -1;
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final String REQUEST_ID_MDC_KEY = "requestId";
+    private static final String TENANT_MDC_KEY = "tenantId";
+
+    private final int capacity;
+    private final AtomicReferenceArray<Segment> segments;
+    /** 한 번이라도 할당된 슬롯 수 (이 번호부터는 아직 쓰지 않은 슬롯) */
+    private final AtomicInteger allocated = new AtomicInteger();
+    // 상위 32비트: 스탬프, 하위 32비트: 슬롯 + 1 (0이면 빈 스택)
+    private final AtomicLong freeHead;
+    private final AtomicLong ids = new AtomicLong();
+    private final LongAdder untracked = new LongAdder();
+    /** 추적하지 못했지만 아직 실행 중인 작업 수 (드레인 대기 대상) */
+    private final LongAdder untrackedInFlight = new LongAdder();
+    private final AtomicBoolean untrackedWarned = new AtomicBoolean();
+    private final LongAdder active = new LongAdder();
+    private final String requestIdHeader;
+    private final String tenantHeader;
+
+    public OffloadTaskRegistry(@Value("${vt.tasks.capacity:4194304}") int capacity,
+                               @Value("${vt.tasks.request-id-header:X-Request-Id}") String requestIdHeader,
+                               @Value("${vt.tasks.tenant-header:X-Tenant-Id}") String tenantHeader) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("vt.tasks.capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.segments = new AtomicReferenceArray<>((capacity + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+        this.freeHead = new AtomicLong(encode(0, EMPTY));
+        this.requestIdHeader = requestIdHeader;
+        this.tenantHeader = tenantHeader;
+    }
+
+    /**
+     * 작업 등록 (호출 스레드)
+     *
+     * @return 슬롯이 부족하면 null (호출자는 작업 종료 시 {@link #untrackedFinished()} 호출)
+     */
+    public TrackedTask register(String name, TrackedTask.Kind kind) {
+        int slot = pop();
+        if (slot == EMPTY) {
+            untracked.increment();
+            untrackedInFlight.increment();
+            if (untrackedWarned.compareAndSet(false, true)) {
+                log.warn("[Task Registry] ⚠️ 슬롯 {}개가 모두 사용 중 - 이후 초과 작업은 추적하지 않음 (목록 / 취소 불가, "
+                        + "vt.tasks.capacity 확인)", capacity);
+            }
+            return null;
+        }
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        HttpServletRequest request = currentRequest();
+        TrackedTask task = new TrackedTask(
+                ids.incrementAndGet() * capacity + slot,
+                slot,
+                name,
+                kind,
+                lookup(request, requestIdHeader, mdc, REQUEST_ID_MDC_KEY),
+                lookup(request, tenantHeader, mdc, TENANT_MDC_KEY),
+                mdc == null ? Set.of() : Set.copyOf(mdc.keySet()));
+        segmentOf(slot).tasks.set(slot & SEGMENT_MASK, task);
+        active.increment();
+        return task;
+    }
+
+    /**
+     * 작업 제거 (실행 종료 시)
+     */
+    public void remove(TrackedTask task) {
+        if (task != null && segmentOf(task.slot()).tasks.compareAndSet(task.slot() & SEGMENT_MASK, task, null)) {
+            active.decrement();
+            push(task.slot());
+        }
+    }
+
+    /**
+     * ID로 실행 중인 작업 조회 (O(1))
+     *
+     * @return 없거나 이미 종료된 경우 null
+     */
+    public TrackedTask find(long id) {
+        if (id <= 0) {
+            return null;
+        }
+        int slot = (int) (id % capacity);
+        Segment segment = segments.get(slot >>> SEGMENT_SHIFT);
+        TrackedTask task = segment == null ? null : segment.tasks.get(slot & SEGMENT_MASK);
+        return task != null && task.id() == id ? task : null;
+    }
+
+    /**
+     * 작업 취소 - 결과를 오류로 확정하고 실행 스레드 인터럽트
+     *
+     * @return 실행 중인 작업을 처음 취소한 경우 true
+     */
+    public boolean cancel(long id) {
+        TrackedTask task = find(id);
+        if (task == null || !task.cancel()) {
+            return false;
+        }
+        log.warn("[Task Registry] 🛑 작업 취소 - id: {}, task: {}, requestId: {}, tenant: {}, thread: {}",
+                id, task.name(), task.requestId(), task.tenant(), task.thread());
+        return true;
+    }
+
+    /**
+     * 오래된 순으로 최대 limit개 (전체 정렬 없이 크기 limit 힙으로 선별)
+     */
+    public List<TrackedTask> oldest(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Comparator<TrackedTask> byAge = Comparator.comparingLong(TrackedTask::submittedNanos);
+        PriorityQueue<TrackedTask> youngestFirst = new PriorityQueue<>(limit, byAge.reversed());
+        forEach(task -> {
+            youngestFirst.offer(task);
+            if (youngestFirst.size() > limit) {
+                youngestFirst.poll();
+            }
+        });
+        return youngestFirst.stream().sorted(byAge).toList();
+    }
+
+    /**
+     * 등록된 작업 순회 (약한 일관성 - 순회 중 등록/제거는 반영될 수도, 안 될 수도 있음)
+     */
+    public void forEach(Consumer<TrackedTask> action) {
+        int limit = Math.min(allocated.get(), capacity);
+        for (int i = 0; i < limit; i++) {
+            Segment segment = segments.get(i >>> SEGMENT_SHIFT);
+            TrackedTask task = segment == null ? null : segment.tasks.get(i & SEGMENT_MASK);
+            if (task != null) {
+                action.accept(task);
+            }
+        }
+    }
+
+    public long activeCount() {
+        return active.sum();
+    }
+
+    public long untrackedCount() {
+        return untracked.sum();
+    }
+
+    /**
+     * 추적하지 못한 작업 종료 ({@link #register}가 null을 반환한 작업마다 1회)
+     */
+    public void untrackedFinished() {
+        untrackedInFlight.decrement();
+    }
+
+    public long untrackedInFlightCount() {
+        return untrackedInFlight.sum();
+    }
+
+    /**
+     * 실행 중인 전체 작업 수 (등록된 작업 + 추적하지 못한 작업)
+     */
+    public long inFlightCount() {
+        return active.sum() + untrackedInFlight.sum();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 한 번이라도 사용한 슬롯 수 (할당된 세그먼트 크기는 이 값을 65536 단위로 올림)
+     */
+    public int allocatedSlots() {
+        return Math.min(allocated.get(), capacity);
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    private static String lookup(HttpServletRequest request, String header, Map<String, String> mdc, String mdcKey) {
+        String value = request == null ? null : request.getHeader(header);
+        if (value == null && mdc != null) {
+            value = mdc.get(mdcKey);
+        }
+        return value;
+    }
+
+    private int pop() {
+        while (true) {
+            long head = freeHead.get();
+            int slot = slotOf(head);
+            if (slot == EMPTY) {
+                return allocate();
+            }
+            int nextFree = segmentOf(slot).nextFree.get(slot & SEGMENT_MASK);
+            long next = encode(stampOf(head) + 1, nextFree);
+            if (freeHead.compareAndSet(head, next)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * 반환된 슬롯이 없으면 아직 쓰지 않은 슬롯 할당 (세그먼트는 처음 필요할 때 생성)
+     */
+    private int allocate() {
+        while (true) {
+            int slot = allocated.get();
+            if (slot >= capacity) {
+                return EMPTY;
+            }
+            if (allocated.compareAndSet(slot, slot + 1)) {
+                int index = slot >>> SEGMENT_SHIFT;
+                if (segments.get(index) == null) {
+                    segments.compareAndSet(index, null,
+                            new Segment(Math.min(SEGMENT_SIZE, capacity - (index << SEGMENT_SHIFT))));
+                }
+                return slot;
+            }
+        }
+    }
+
+    private void push(int slot) {
+        while (true) {
+            long head = freeHead.get();
+            segmentOf(slot).nextFree.set(slot & SEGMENT_MASK, slotOf(head));
+            if (freeHead.compareAndSet(head, encode(stampOf(head) + 1, slot))) {
+                return;
+            }
+        }
+    }
+
+    private Segment segmentOf(int slot) {
+        return segments.get(slot >>> SEGMENT_SHIFT);
+    }
+
+    private static long encode(long stamp, int slot) {
+        return (stamp << 32) | ((slot + 1) & 0xFFFF_FFFFL);
+    }
+
+    private static int slotOf(long head) {
+        return (int) head - 1;
+    }
+
+    private static long stampOf(long head) {
+        return head >>> 32;
+    }
+
+    /**
+     * 슬롯 65536개 묶음 (작업 + 빈 슬롯 스택 다음 포인터)
+     */
+    private static final class Segment {
+
+        private final AtomicReferenceArray<TrackedTask> tasks;
+        private final AtomicIntegerArray nextFree;
+
+        private Segment(int size) {
+            this.tasks = new AtomicReferenceArray<>(size);
+            this.nextFree = new AtomicIntegerArray(size);
+        }
+    }
+}
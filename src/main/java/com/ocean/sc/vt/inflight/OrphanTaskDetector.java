@@ -0,0 +1,129 @@
+package com.ocean.sc.vt.inflight;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고아 작업(Virtual Thread 누수) 탐지
+ * - 결과가 이미 확정(완료 / 타임아웃 / 클라이언트 이탈)되었는데 임계 시간 이상 계속 실행 중인 작업
+ * - 이런 작업은 응답과 무관하게 다운스트림 연결과 힙을 계속 점유
+ * - 주기적으로 레지스트리를 스캔하여 최초 발견 시 경고 로그, 관리 API로 현재 스택 제공
+ */
+@Component
+public class OrphanTaskDetector implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanTaskDetector.class);
+
+    private static final int MAX_STACK_DEPTH = 32;
+
+    private final OffloadTaskRegistry registry;
+    private final long thresholdNanos;
+    private final long scanIntervalMs;
+
+    private ScheduledExecutorService scanner;
+
+    public OrphanTaskDetector(OffloadTaskRegistry registry,
+                              @Value("${vt.tasks.orphan-threshold-ms:5000}") long thresholdMs,
+                              @Value("${vt.tasks.scan-interval-ms:5000}") long scanIntervalMs) {
+        this.registry = registry;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.scanIntervalMs = scanIntervalMs;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (scanIntervalMs <= 0) {
+            return;
+        }
+        scanner = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("vt-orphan-detector").factory());
+        scanner.scheduleWithFixedDelay(this::scan, scanIntervalMs, scanIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (scanner != null) {
+            scanner.shutdownNow();
+        }
+    }
+
+    /**
+     * 스캔 1회 - 새로 발견한 고아 작업만 경고 로그
+     */
+    void scan() {
+        long now = System.nanoTime();
+        registry.forEach(task -> {
+            if (isOrphan(task, now) && task.markReported()) {
+                OrphanTask orphan = describe(task, now);
+                log.warn("[Orphan Detector] 🧟 결과 확정 후 {}ms 동안 실행 중 - id: {}, task: {}, age: {}ms, thread: {}\n\tat {}",
+                        orphan.sinceSettledMs(), orphan.id(), orphan.name(), orphan.ageMs(), orphan.thread(),
+                        String.join("\n\tat ", orphan.stackTrace()));
+            }
+        });
+    }
+
+    /**
+     * 현재 고아 작업 (오래된 순)
+     */
+    public List<OrphanTask> orphans() {
+        long now = System.nanoTime();
+        List<OrphanTask> orphans = new ArrayList<>();
+        registry.forEach(task -> {
+            if (isOrphan(task, now)) {
+                orphans.add(describe(task, now));
+            }
+        });
+        orphans.sort(Comparator.comparingLong(OrphanTask::ageMs).reversed());
+        return orphans;
+    }
+
+    private boolean isOrphan(TrackedTask task, long now) {
+        long settled = task.settledNanos();
+        return settled != 0 && now - settled >= thresholdNanos;
+    }
+
+    private static OrphanTask describe(TrackedTask task, long now) {
+        Thread thread = task.thread();
+        return new OrphanTask(
+                task.id(),
+                task.name(),
+                task.kind(),
+                TimeUnit.NANOSECONDS.toMillis(now - task.submittedNanos()),
+                TimeUnit.NANOSECONDS.toMillis(now - task.settledNanos()),
+                thread == null ? null : thread.toString(),
+                stackTrace(thread));
+    }
+
+    private static List<String> stackTrace(Thread thread) {
+        if (thread == null) {
+            return List.of();
+        }
+        return Arrays.stream(thread.getStackTrace())
+                .limit(MAX_STACK_DEPTH)
+                .map(StackTraceElement::toString)
+                .toList();
+    }
+
+    /**
+     * 고아 작업 정보
+     *
+     * @param ageMs 제출 후 경과 시간
+     * @param sinceSettledMs 결과 확정 후 경과 시간
+     * @param thread 실행 스레드 (시작 전이면 null)
+     */
+    public record OrphanTask(long id, String name, TrackedTask.Kind kind, long ageMs, long sinceSettledMs,
+                             String thread, List<String> stackTrace) {
+    }
+}
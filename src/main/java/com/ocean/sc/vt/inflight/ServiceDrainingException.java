@@ -0,0 +1,16 @@
+package com.ocean.sc.vt.inflight;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 종료(드레인) 중이라 새 오프로딩 작업을 받지 않음
+ * - 요청 처리 스레드에서 즉시 던져져 클라이언트에는 503 응답 (다른 인스턴스로 재시도)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceDrainingException extends RuntimeException {
+
+    public ServiceDrainingException() {
+        super("Service is draining, not accepting new offloaded work");
+    }
+}
@@ -0,0 +1,16 @@
+package com.ocean.sc.vt.inflight;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 실행 중인 오프로딩 작업이 취소됨 (관리 API 등)
+ * - DeferredResult / CompletableFuture의 오류 결과로 설정되어 클라이언트에는 503 응답
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class TaskCancelledException extends RuntimeException {
+
+    public TaskCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,158 @@
+package com.ocean.sc.vt.inflight;
+
+import java.util.Set;
+
+/**
+ * 레지스트리에 등록된 오프로딩 작업 1건
+ * - 호출 스레드에서 등록, 실행 스레드가 시작 시 바인딩, 종료 시 레지스트리에서 제거
+ * - 결과 확정(완료/타임아웃/클라이언트 이탈) 시각을 기록 → 확정 후에도 실행 중이면 고아 작업
+ * - 관리 API로 취소 가능: 결과를 오류로 확정({@link #onCancel}) 후 실행 스레드 인터럽트
+ */
+public final class TrackedTask {
+
+    /**
+     * 작업 제출 경로
+     */
+    public enum Kind {
+        /** @VirtualThread (VirtualThreadAspect) */
+        ASPECT,
+        /** Callable / WebAsyncTask 반환 (MdcTaskDecorator) */
+        CALLABLE
+    }
+
+    private final long id;
+    private final int slot;
+    private final String name;
+    private final Kind kind;
+    private final String requestId;
+    private final String tenant;
+    private final Set<String> mdcKeys;
+    private final long submittedNanos = System.nanoTime();
+    private final long submittedEpochMillis = System.currentTimeMillis();
+
+    private volatile Thread thread;
+    private volatile long settledNanos;
+    private volatile boolean reported;
+    private volatile Runnable canceller;
+    private volatile boolean cancelled;
+
+    TrackedTask(long id, int slot, String name, Kind kind, String requestId, String tenant, Set<String> mdcKeys) {
+        this.id = id;
+        this.slot = slot;
+        this.name = name;
+        this.kind = kind;
+        this.requestId = requestId;
+        this.tenant = tenant;
+        this.mdcKeys = mdcKeys;
+    }
+
+    /**
+     * 실행 시작 (실행 스레드)
+     */
+    public void started() {
+        thread = Thread.currentThread();
+    }
+
+    /**
+     * 결과 확정 - 이후에도 실행 중이면 고아 작업 후보
+     */
+    public void settled() {
+        if (settledNanos == 0) {
+            settledNanos = Math.max(1, System.nanoTime());
+        }
+    }
+
+    /**
+     * 취소 시 결과를 오류로 확정하는 동작 등록 (DeferredResult / CompletableFuture 완료 등)
+     */
+    public void onCancel(Runnable canceller) {
+        this.canceller = canceller;
+    }
+
+    /**
+     * 취소 - 결과를 먼저 오류로 확정(클라이언트에 깔끔한 오류 응답)한 뒤 실행 스레드 인터럽트
+     *
+     * @return 처음 취소한 경우 true
+     */
+    synchronized boolean cancel() {
+        if (cancelled) {
+            return false;
+        }
+        cancelled = true;
+        Runnable action = canceller;
+        if (action != null) {
+            action.run();
+        }
+        settled();
+        Thread running = thread;
+        if (running != null) {
+            running.interrupt();
+        }
+        return true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public long id() {
+        return id;
+    }
+
+    int slot() {
+        return slot;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * @return 요청 ID (헤더 / MDC), 없으면 null
+     */
+    public String requestId() {
+        return requestId;
+    }
+
+    /**
+     * @return 테넌트 (헤더 / MDC), 없으면 null
+     */
+    public String tenant() {
+        return tenant;
+    }
+
+    public Set<String> mdcKeys() {
+        return mdcKeys;
+    }
+
+    public long submittedNanos() {
+        return submittedNanos;
+    }
+
+    public long submittedEpochMillis() {
+        return submittedEpochMillis;
+    }
+
+    public Thread thread() {
+        return thread;
+    }
+
+    /**
+     * @return 결과 확정 시각 (nanoTime), 미확정이면 0
+     */
+    public long settledNanos() {
+        return settledNanos;
+    }
+
+    boolean markReported() {
+        if (reported) {
+            return false;
+        }
+        reported = true;
+        return true;
+    }
+}
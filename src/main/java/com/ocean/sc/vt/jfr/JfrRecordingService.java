@@ -0,0 +1,131 @@
+package com.ocean.sc.vt.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 관리 API용 JFR 연속 기록 관리
+ * - 기본 설정(default.jfc) + 오프로딩 이벤트를 최대 보관 시간/크기로 제한해 기록
+ * - 기록 중에도 스냅샷 덤프 가능, 종료 시 .jfr 파일 반환
+ * - 반환한 임시 파일은 호출자가 전송 후 삭제 (덤프 실패 시에는 여기서 삭제)
+ */
+@Component
+public class JfrRecordingService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingService.class);
+
+    private Recording recording;
+
+    /**
+     * 연속 기록 시작
+     *
+     * @throws IllegalStateException 이미 기록 중인 경우
+     */
+    public synchronized RecordingStatus start(Duration maxAge, long maxSizeBytes) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("JFR recording already running: " + recording.getName());
+        }
+        Recording newRecording = new Recording(Configuration.getConfiguration("default"));
+        newRecording.setName("vt-admin-" + Instant.now().toEpochMilli());
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(maxAge);
+        newRecording.setMaxSize(maxSizeBytes);
+        newRecording.enable(VirtualThreadInvocationEvent.class);
+        newRecording.enable(OffloadedTaskEvent.class);
+        newRecording.start();
+
+        closeQuietly();
+        recording = newRecording;
+        log.info("[JFR] 🎬 기록 시작 - name: {}, maxAge: {}, maxSize: {}bytes",
+                newRecording.getName(), maxAge, maxSizeBytes);
+        return status();
+    }
+
+    /**
+     * 기록 중인 내용을 파일로 덤프 (기록은 계속)
+     *
+     * @return 임시 파일 - 호출자가 삭제
+     */
+    public synchronized Path dump() throws IOException {
+        Recording current = requireRecording();
+        Path file = tempFile(current);
+        try {
+            current.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * 기록 종료 후 파일 반환
+     *
+     * @return 임시 파일 - 호출자가 삭제
+     */
+    public synchronized Path stop() throws IOException {
+        Recording current = requireRecording();
+        Path file = tempFile(current);
+        try {
+            if (current.getState() == RecordingState.RUNNING) {
+                current.stop();
+            }
+            current.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        closeQuietly();
+        log.info("[JFR] 🛑 기록 종료 - file: {}", file);
+        return file;
+    }
+
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return new RecordingStatus(null, "NONE", null, null, 0);
+        }
+        return new RecordingStatus(recording.getName(), recording.getState().name(),
+                recording.getStartTime(), recording.getMaxAge(), recording.getMaxSize());
+    }
+
+    @Override
+    public synchronized void destroy() {
+        closeQuietly();
+    }
+
+    private Recording requireRecording() {
+        if (recording == null) {
+            throw new IllegalStateException("No JFR recording started");
+        }
+        return recording;
+    }
+
+    private static Path tempFile(Recording recording) throws IOException {
+        return Files.createTempFile(recording.getName() + "-", ".jfr");
+    }
+
+    private void closeQuietly() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * 기록 상태
+     */
+    public record RecordingStatus(String name, String state, Instant startTime, Duration maxAge, long maxSizeBytes) {
+    }
+}
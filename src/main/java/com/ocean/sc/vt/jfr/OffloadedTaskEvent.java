@@ -0,0 +1,77 @@
+package com.ocean.sc.vt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR 이벤트: Virtual Thread Executor 작업 1건 (Callable 반환 방식 포함)
+ * - MdcTaskDecorator 경로에서 기록 (Executor에 제출되는 모든 작업)
+ * - 요청 스레드에서 제출된 경우 엔드포인트(HTTP 메서드 + URI) 기록
+ */
+@Name("com.ocean.sc.vt.OffloadedTask")
+@Label("Offloaded Task")
+@Category({"Virtual Thread Demo", "Offloading"})
+@Description("Virtual Thread Executor 작업의 대기/실행 시간과 결과")
+@StackTrace(false)
+public class OffloadedTaskEvent extends jdk.jfr.Event {
+
+    private static final OffloadedTaskEvent PROBE = new OffloadedTaskEvent();
+
+    @Label("Task")
+    String task;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Queue Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueTime;
+
+    @Label("Run Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long runTime;
+
+    @Label("Caller Thread")
+    Thread callerThread;
+
+    @Label("Worker Thread")
+    Thread workerThread;
+
+    private transient long submittedNanos;
+    private transient long startedNanos;
+
+    public static boolean enabled() {
+        return PROBE.isEnabled();
+    }
+
+    /**
+     * 제출 시점 (호출 스레드)
+     */
+    public static OffloadedTaskEvent submitted(String task) {
+        OffloadedTaskEvent event = new OffloadedTaskEvent();
+        event.task = task;
+        event.callerThread = Thread.currentThread();
+        event.submittedNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    public void workerStarted() {
+        startedNanos = System.nanoTime();
+        queueTime = startedNanos - submittedNanos;
+        workerThread = Thread.currentThread();
+    }
+
+    public void complete(Outcome outcome) {
+        runTime = System.nanoTime() - startedNanos;
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome.label();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ocean.sc.vt.jfr;
+
+/**
+ * 오프로딩 작업 결과
+ */
+public enum Outcome {
+    OK("ok"),
+    ERROR("error"),
+    TIMEOUT("timeout"),
+    REJECTED("rejected");
+
+    private final String label;
+
+    Outcome(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ocean.sc.vt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR 이벤트: @VirtualThread 메서드 호출 1건
+ * - 이벤트 구간: 제출 → 결과 확정 (대기 + 실행)
+ * - 호출 스레드 → 실행 스레드 이동(thread hop)을 함께 기록
+ * - JFR이 꺼져 있으면 {@link #beginIfEnabled}가 null 반환 → 객체 생성/시간 측정 없음
+ */
+@Name("com.ocean.sc.vt.VirtualThreadInvocation")
+@Label("@VirtualThread Invocation")
+@Category({"Virtual Thread Demo", "Offloading"})
+@Description("@VirtualThread 메서드의 대기/실행 시간과 결과")
+@StackTrace(false)
+public class VirtualThreadInvocationEvent extends jdk.jfr.Event {
+
+    private static final VirtualThreadInvocationEvent PROBE = new VirtualThreadInvocationEvent();
+
+    @Label("Method")
+    String method;
+
+    @Label("Return Mode")
+    String returnMode;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Queue Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueTime;
+
+    @Label("Run Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long runTime;
+
+    @Label("Caller Thread")
+    Thread callerThread;
+
+    @Label("Worker Thread")
+    Thread workerThread;
+
+    // 기록 대상 아님 (JFR은 transient 필드 무시)
+    private transient long submittedNanos;
+    private transient long startedNanos;
+
+    /**
+     * 제출 시점 (호출 스레드) - 이벤트가 비활성화면 null
+     */
+    public static VirtualThreadInvocationEvent beginIfEnabled(String method, String returnMode) {
+        if (!PROBE.isEnabled()) {
+            return null;
+        }
+        VirtualThreadInvocationEvent event = new VirtualThreadInvocationEvent();
+        event.method = method;
+        event.returnMode = returnMode;
+        event.callerThread = Thread.currentThread();
+        event.submittedNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * 실행 시작 (Virtual Thread)
+     */
+    public void workerStarted() {
+        startedNanos = System.nanoTime();
+        queueTime = startedNanos - submittedNanos;
+        workerThread = Thread.currentThread();
+    }
+
+    /**
+     * 실행 종료 (Virtual Thread)
+     */
+    public void workerFinished() {
+        if (startedNanos != 0) {
+            runTime = System.nanoTime() - startedNanos;
+        }
+    }
+
+    /**
+     * 결과 확정 후 기록
+     */
+    public void complete(Outcome outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome.label();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ocean.sc.vt.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (다중 생산자 / 단일 소비자)
+ * - 슬롯마다 시퀀스 번호를 두어 생산자는 CAS 한 번으로 슬롯 예약 (블로킹 없음)
+ * - 버퍼가 가득 차면 {@link #offer(Object)}가 false 반환 (대기하지 않음)
+ * - {@link #poll()}은 단일 소비자 스레드에서만 호출
+ *
+ * @param <E> 원소 타입
+ */
+public class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    // 소비자 스레드 전용
+    private long head;
+
+    /**
+     * @param capacity 용량 (2의 거듭제곱으로 올림)
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.buffer = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 원소 추가 (생산자, lock-free)
+     *
+     * @return 버퍼가 가득 차 추가하지 못하면 false
+     */
+    public boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = element;
+                    // 시퀀스 갱신(volatile write)으로 소비자에게 원소 공개
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // 소비자가 아직 비우지 않은 슬롯 → 가득 참
+                return false;
+            }
+            // difference > 0: 다른 생산자가 먼저 예약 → 재시도
+        }
+    }
+
+    /**
+     * 원소 꺼내기 (단일 소비자)
+     *
+     * @return 비어 있으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = (E) buffer[index];
+        buffer[index] = null;
+        sequences.set(index, head + buffer.length);
+        head++;
+        return element;
+    }
+
+    /**
+     * 소비할 원소가 없는지 (단일 소비자 - 다음 슬롯의 공개 여부를 volatile로 읽음)
+     */
+    public boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /**
+     * 대략적인 적재 수 (모니터링용)
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(buffer.length, tail.get() - head));
+    }
+}
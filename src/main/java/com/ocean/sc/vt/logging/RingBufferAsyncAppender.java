@@ -0,0 +1,234 @@
+package com.ocean.sc.vt.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 링 버퍼 기반 비동기 Appender (오프로딩 경로 로깅용)
+ * - 생산자(요청/Virtual Thread)는 lock-free 링 버퍼에 이벤트만 넣고 즉시 반환 → 블로킹/캐리어 pinning 없음
+ * - 버퍼가 가득 차면 이벤트를 버리고 드롭 카운터 증가
+ * - 단일 소비자 스레드가 레이아웃 적용과 I/O(연결된 Appender) 수행
+ * - 생산자 측에서 {@link ILoggingEvent#prepareForDeferredProcessing()}로 스레드 이름, MDC, 포맷된 메시지 고정
+ *   (인자가 가변 객체면 반환 후 바뀔 수 있으므로 메시지 포맷팅은 생산자에서 수행)
+ * - 소비자는 잠깐 스핀 → yield → park 순으로 물러나고, park 중이면 생산자가 깨움 (유휴 시 주기적 깨어남 없음)
+ *
+ * <p>설정: logback-spring.xml의 async-logging 프로필</p>
+ */
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final int IDLE_SPINS = 100;
+    private static final int IDLE_YIELDS = 10;
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private int capacity = 8192;
+    private int maxFlushTimeMs = 1000;
+
+    private MpscRingBuffer<ILoggingEvent> ringBuffer;
+    private Thread consumer;
+    private volatile boolean running;
+    /** 소비자가 park 중이거나 park 직전 (생산자가 깨워야 함) */
+    private volatile boolean consumerParked;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No attached appenders found for [" + getName() + "]");
+            return;
+        }
+        ringBuffer = new MpscRingBuffer<>(capacity);
+        running = true;
+        consumer = Thread.ofPlatform()
+                .daemon()
+                .name("log-ring-consumer-" + getName())
+                .start(this::consume);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(maxFlushTimeMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (consumer.isAlive()) {
+            addWarn("Max flush time exceeded; " + ringBuffer.size() + " queued events were discarded");
+        }
+        addInfo("Stopped - enqueued: " + enqueued.sum() + ", dropped: " + dropped.sum());
+    }
+
+    /**
+     * 생산자 경로 - 블로킹 없음
+     */
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 소비자 스레드에서 계산하면 안 되는 값 고정 (스레드 이름, MDC, 포맷된 메시지)
+        event.prepareForDeferredProcessing();
+
+        if (ringBuffer.offer(event)) {
+            enqueued.increment();
+            // 슬롯 공개(volatile write) 후 읽음 - 소비자는 플래그 설정 후 버퍼를 다시 확인하므로 깨움이 유실되지 않음
+            if (consumerParked) {
+                LockSupport.unpark(consumer);
+            }
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 소비자 스레드 - 포맷팅 및 I/O
+     */
+    private void consume() {
+        long reportedDrops = 0;
+        long lastReport = System.nanoTime();
+        int idle = 0;
+
+        while (running) {
+            ILoggingEvent event = ringBuffer.poll();
+            if (event != null) {
+                appenders.appendLoopOnAppenders(event);
+                idle = 0;
+                continue;
+            }
+
+            long now = System.nanoTime();
+            if (now - lastReport >= DROP_REPORT_INTERVAL_NANOS) {
+                reportedDrops = reportDrops(reportedDrops);
+                lastReport = now;
+            }
+            idle = idle(idle);
+        }
+
+        // 종료 시 남은 이벤트 비우기
+        for (ILoggingEvent event = ringBuffer.poll(); event != null; event = ringBuffer.poll()) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        reportDrops(reportedDrops);
+        appenders.detachAndStopAllAppenders();
+    }
+
+    /**
+     * 빈 버퍼 대기 - 스핀 → yield → 생산자가 깨울 때까지 park (드롭 보고 주기마다는 깨어남)
+     *
+     * @return 다음 유휴 단계
+     */
+    private int idle(int idle) {
+        if (idle < IDLE_SPINS) {
+            Thread.onSpinWait();
+            return idle + 1;
+        }
+        if (idle < IDLE_SPINS + IDLE_YIELDS) {
+            Thread.yield();
+            return idle + 1;
+        }
+        consumerParked = true;
+        // 플래그 설정 후 다시 확인 - 그 사이 들어온 이벤트는 생산자가 플래그를 보지 못했을 수 있음
+        if (ringBuffer.isEmpty() && running) {
+            LockSupport.parkNanos(this, DROP_REPORT_INTERVAL_NANOS);
+        }
+        consumerParked = false;
+        return idle;
+    }
+
+    private long reportDrops(long reportedDrops) {
+        long totalDrops = dropped.sum();
+        if (totalDrops > reportedDrops && getContext() instanceof LoggerContext loggerContext) {
+            String message = String.format("[%s] ring buffer full - dropped %d log events (total %d)",
+                    getName(), totalDrops - reportedDrops, totalDrops);
+            appenders.appendLoopOnAppenders(new LoggingEvent(
+                    RingBufferAsyncAppender.class.getName(),
+                    loggerContext.getLogger(RingBufferAsyncAppender.class),
+                    Level.WARN, message, null, null));
+        }
+        return totalDrops;
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getQueuedCount() {
+        return ringBuffer == null ? 0 : ringBuffer.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getMaxFlushTimeMs() {
+        return maxFlushTimeMs;
+    }
+
+    public void setMaxFlushTimeMs(int maxFlushTimeMs) {
+        this.maxFlushTimeMs = maxFlushTimeMs;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
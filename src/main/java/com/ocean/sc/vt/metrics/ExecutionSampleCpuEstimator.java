@@ -0,0 +1,136 @@
+package com.ocean.sc.vt.metrics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Virtual Thread 호출 CPU 시간 추정 (JFR jdk.ExecutionSample)
+ * - Virtual Thread에서는 ThreadMXBean.getCurrentThreadCpuTime()이 -1 → 직접 측정 불가
+ * - 실행 샘플을 스트리밍으로 받아 스레드별로 보관하고, 호출 구간(스레드, 시작 ~ 종료)에 든 샘플 수 × 샘플 주기로 추정
+ * - 스트림은 약 1초 늦게 전달하므로 구간은 종료 후 {@code RESOLVE_GRACE}가 지난 flush에서 계산
+ *
+ * <p>호출 1건의 값은 샘플 주기 단위로 양자화됨 (주기보다 짧은 호출은 대부분 0) -
+ * 합계 / 평균은 호출이 많을수록 실제 CPU 시간에 수렴합니다.
+ * 같은 JVM에서 더 짧은 주기로 실행 샘플을 켜면(내장 프로파일러 등) 샘플이 늘어 과대 추정됩니다.</p>
+ */
+final class ExecutionSampleCpuEstimator implements AutoCloseable {
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final Duration RESOLVE_GRACE = Duration.ofSeconds(2);
+    private static final Duration SAMPLE_RETENTION = Duration.ofSeconds(10);
+    /** 대기 구간 상한 (스트림이 멈춰도 메모리가 늘지 않도록, 넘으면 추정 불가로 집계) */
+    private static final int MAX_PENDING = 100_000;
+
+    private final long periodNanos;
+    /** (메서드, 추정 CPU ns) - 추정할 수 없으면 -1 */
+    private final ObjLongConsumer<String> sink;
+    private final RecordingStream stream;
+    private final Object lock = new Object();
+    private final Map<Long, Deque<Instant>> samplesByThread = new HashMap<>();
+    private final List<Interval> pending = new ArrayList<>();
+
+    ExecutionSampleCpuEstimator(Duration period, ObjLongConsumer<String> sink) {
+        this.periodNanos = period.toNanos();
+        this.sink = sink;
+        this.stream = new RecordingStream();
+        stream.enable(EXECUTION_SAMPLE).withPeriod(period).withoutStackTrace();
+        stream.onEvent(EXECUTION_SAMPLE, this::onSample);
+        stream.onFlush(() -> resolve(false));
+        stream.setReuse(true);
+        stream.setOrdered(false);
+        stream.startAsync();
+    }
+
+    /**
+     * 호출 구간 등록 (호출 종료 시, 실행 스레드에서)
+     */
+    void interval(String method, long threadId, Instant start, Instant end) {
+        boolean overflow;
+        synchronized (lock) {
+            overflow = pending.size() >= MAX_PENDING;
+            if (!overflow) {
+                pending.add(new Interval(method, threadId, start, end));
+            }
+        }
+        if (overflow) {
+            sink.accept(method, -1);
+        }
+    }
+
+    private void onSample(RecordedEvent event) {
+        RecordedThread thread = event.getThread("sampledThread");
+        if (thread == null || !thread.isVirtual()) {
+            return;
+        }
+        Instant time = event.getStartTime();
+        synchronized (lock) {
+            samplesByThread.computeIfAbsent(thread.getJavaThreadId(), id -> new ArrayDeque<>()).add(time);
+        }
+    }
+
+    /**
+     * @param all true면 유예 시간과 무관하게 모든 구간 계산 (종료 시)
+     */
+    private void resolve(boolean all) {
+        List<Interval> resolved = new ArrayList<>();
+        List<Long> estimates = new ArrayList<>();
+        synchronized (lock) {
+            Instant graceLimit = Instant.now().minus(RESOLVE_GRACE);
+            Iterator<Interval> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                Interval interval = iterator.next();
+                if (!all && interval.end().isAfter(graceLimit)) {
+                    continue;
+                }
+                resolved.add(interval);
+                estimates.add(countSamples(interval) * periodNanos);
+                iterator.remove();
+            }
+            Instant retentionLimit = Instant.now().minus(SAMPLE_RETENTION);
+            samplesByThread.values().forEach(samples -> {
+                while (!samples.isEmpty() && samples.peekFirst().isBefore(retentionLimit)) {
+                    samples.pollFirst();
+                }
+            });
+            samplesByThread.values().removeIf(Deque::isEmpty);
+        }
+        for (int i = 0; i < resolved.size(); i++) {
+            sink.accept(resolved.get(i).method(), estimates.get(i));
+        }
+    }
+
+    private long countSamples(Interval interval) {
+        Deque<Instant> samples = samplesByThread.get(interval.threadId());
+        if (samples == null) {
+            return 0;
+        }
+        return samples.stream()
+                .filter(time -> !time.isBefore(interval.start()) && !time.isAfter(interval.end()))
+                .count();
+    }
+
+    /**
+     * 기록된 샘플을 모두 전달받은 뒤 남은 구간 계산
+     */
+    @Override
+    public void close() {
+        stream.stop();
+        stream.close();
+        resolve(true);
+    }
+
+    private record Interval(String method, long threadId, Instant start, Instant end) {
+    }
+}
@@ -0,0 +1,178 @@
+package com.ocean.sc.vt.metrics;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @VirtualThread 호출별 CPU 시간 / 할당 바이트 측정 및 메서드별 히스토그램 집계
+ * - 실행 스레드에서 ThreadMXBean의 현재 스레드 측정값(getCurrentThreadCpuTime / getCurrentThreadAllocatedBytes) 차이 사용
+ * - Virtual Thread는 대부분 대기 시간이라 지연 시간만으로는 비용을 알 수 없음 → 용량 산정용
+ * - 측정 비용을 제한하기 위해 호출 단위 샘플링 (vt.cost.sample-rate)
+ * - Virtual Thread는 getCurrentThreadCpuTime()이 -1이므로 CPU 시간은 JFR 실행 샘플로 추정
+ *   ({@link ExecutionSampleCpuEstimator}, vt.cost.virtual-cpu-sample-period-ms, 종료 몇 초 뒤 반영, 샘플 주기 단위)
+ * - JVM이 측정을 지원하지 않으면(-1 반환) 해당 항목은 unsupported로 집계
+ */
+@Component
+public class InvocationCostRecorder implements DisposableBean {
+
+    private final double sampleRate;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final boolean cpuTimeEnabled;
+    private final boolean allocationEnabled;
+    private final Map<String, MethodCost> costs = new ConcurrentHashMap<>();
+    private final long virtualCpuSamplePeriodMs;
+    private final ExecutionSampleCpuEstimator virtualCpuEstimator;
+
+    public InvocationCostRecorder(@Value("${vt.cost.sample-rate:0.1}") double sampleRate,
+                                  @Value("${vt.cost.virtual-cpu-sample-period-ms:10}") long virtualCpuSamplePeriodMs) {
+        this.sampleRate = sampleRate;
+        this.virtualCpuSamplePeriodMs = virtualCpuSamplePeriodMs;
+        this.virtualCpuEstimator = sampleRate > 0 && virtualCpuSamplePeriodMs > 0
+                ? new ExecutionSampleCpuEstimator(Duration.ofMillis(virtualCpuSamplePeriodMs), this::recordEstimatedCpu)
+                : null;
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.cpuTimeEnabled = threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        this.allocationEnabled = threadMXBean.isThreadAllocatedMemorySupported()
+                && threadMXBean.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * 측정 시작 (실행 스레드에서 호출)
+     *
+     * @return 샘플링되지 않으면 null
+     */
+    public Start start() {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return null;
+        }
+        return new Start(cpuTime(), allocatedBytes(), Instant.now());
+    }
+
+    /**
+     * 측정 종료 (start와 같은 스레드에서 호출)
+     */
+    public void finish(String method, Start start) {
+        if (start == null) {
+            return;
+        }
+        long cpuTime = cpuTime();
+        long allocatedBytes = allocatedBytes();
+
+        MethodCost cost = costs.computeIfAbsent(method, key -> new MethodCost());
+        cost.samples.increment();
+        if (start.cpuTimeNanos() >= 0 && cpuTime >= 0) {
+            cost.cpuTimeNanos.record(cpuTime - start.cpuTimeNanos());
+        } else if (virtualCpuEstimator != null && Thread.currentThread().isVirtual()) {
+            // 구간에 든 실행 샘플로 나중에 집계 (recordEstimatedCpu)
+            virtualCpuEstimator.interval(method, Thread.currentThread().threadId(), start.startedAt(), Instant.now());
+        } else {
+            cost.cpuUnsupported.increment();
+        }
+        if (start.allocatedBytes() >= 0 && allocatedBytes >= 0) {
+            cost.allocatedBytes.record(allocatedBytes - start.allocatedBytes());
+        } else {
+            cost.allocationUnsupported.increment();
+        }
+    }
+
+    /**
+     * 메서드별 비용 (총 CPU 시간 내림차순)
+     */
+    public Report report() {
+        List<MethodReport> methods = costs.entrySet().stream()
+                .map(entry -> entry.getValue().report(entry.getKey()))
+                .sorted(Comparator.comparingLong((MethodReport report) -> report.cpuTimeNanos().sum()).reversed()
+                        .thenComparing(MethodReport::method))
+                .toList();
+        return new Report(sampleRate, cpuTimeEnabled, allocationEnabled, virtualCpuEstimator != null,
+                virtualCpuSamplePeriodMs, methods);
+    }
+
+    public void reset() {
+        costs.clear();
+    }
+
+    @Override
+    public void destroy() {
+        if (virtualCpuEstimator != null) {
+            virtualCpuEstimator.close();
+        }
+    }
+
+    private void recordEstimatedCpu(String method, long cpuTimeNanos) {
+        MethodCost cost = costs.computeIfAbsent(method, key -> new MethodCost());
+        if (cpuTimeNanos < 0) {
+            cost.cpuUnsupported.increment();
+            return;
+        }
+        cost.cpuTimeNanos.record(cpuTimeNanos);
+        cost.cpuEstimated.increment();
+    }
+
+    private long cpuTime() {
+        return cpuTimeEnabled ? threadMXBean.getCurrentThreadCpuTime() : -1;
+    }
+
+    private long allocatedBytes() {
+        return allocationEnabled ? threadMXBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * 측정 시작값 (-1: 미지원)
+     *
+     * @param startedAt Virtual Thread CPU 추정 구간 시작
+     */
+    public record Start(long cpuTimeNanos, long allocatedBytes, Instant startedAt) {
+    }
+
+    private static final class MethodCost {
+
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder cpuUnsupported = new LongAdder();
+        private final LongAdder cpuEstimated = new LongAdder();
+        private final LongAdder allocationUnsupported = new LongAdder();
+        private final LogHistogram cpuTimeNanos = new LogHistogram();
+        private final LogHistogram allocatedBytes = new LogHistogram();
+
+        private MethodReport report(String method) {
+            return new MethodReport(method, samples.sum(),
+                    cpuTimeNanos.snapshot(), allocatedBytes.snapshot(),
+                    cpuEstimated.sum(), cpuUnsupported.sum(), allocationUnsupported.sum());
+        }
+    }
+
+    /**
+     * 메서드별 비용 통계
+     *
+     * @param samples 측정한 호출 수
+     * @param cpuTimeNanos CPU 시간 히스토그램 (ns)
+     * @param allocatedBytes 할당 바이트 히스토그램
+     * @param cpuEstimated CPU 시간을 JFR 실행 샘플로 추정한 호출 수 (Virtual Thread)
+     * @param cpuUnsupported CPU 시간을 측정하지 못한 호출 수
+     * @param allocationUnsupported 할당 바이트를 측정하지 못한 호출 수
+     */
+    public record MethodReport(String method, long samples,
+                               LogHistogram.Snapshot cpuTimeNanos, LogHistogram.Snapshot allocatedBytes,
+                               long cpuEstimated, long cpuUnsupported, long allocationUnsupported) {
+    }
+
+    /**
+     * @param cpuTimeEnabled 플랫폼 스레드 CPU 시간 직접 측정 가능 여부
+     * @param virtualCpuEstimation Virtual Thread CPU 시간 JFR 추정 사용 여부
+     */
+    public record Report(double sampleRate, boolean cpuTimeEnabled, boolean allocationEnabled,
+                         boolean virtualCpuEstimation, long virtualCpuSamplePeriodMs,
+                         List<MethodReport> methods) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.ocean.sc.vt.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2의 거듭제곱 버킷 히스토그램 (lock-free, 고정 메모리)
+ * - 버킷 i: [2^(i-1), 2^i) 범위의 값 (0은 버킷 0)
+ * - 백분위는 버킷 상한으로 근사 (최대 2배 오차), 평균/최대는 정확
+ */
+public class LogHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        buckets.incrementAndGet(bucketOf(clamped));
+        count.increment();
+        sum.add(clamped);
+        max.accumulateAndGet(clamped, Math::max);
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long samples = count.sum();
+        long totalSum = sum.sum();
+        return new Snapshot(
+                samples,
+                totalSum,
+                samples == 0 ? 0 : (double) totalSum / samples,
+                percentile(counts, total, 0.50),
+                percentile(counts, total, 0.90),
+                percentile(counts, total, 0.99),
+                max.get());
+    }
+
+    private static int bucketOf(long value) {
+        return BUCKETS - Long.numberOfLeadingZeros(value);
+    }
+
+    private static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= threshold) {
+                return i == 0 ? 0 : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * 히스토그램 스냅샷 (백분위는 버킷 상한 근사)
+     */
+    public record Snapshot(long count, long sum, double mean, long p50, long p90, long p99, long max) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.ocean.sc.vt.metrics;
+
+/**
+ * 메모리 매핑 메트릭 파일 레이아웃 (리틀 엔디언, 고정 오프셋)
+ *
+ * <pre>
+ * 헤더 (256 bytes)
+ *   0  long  MAGIC ("VTMETRC1")
+ *   8  int   VERSION
+ *   12 int   HEADER_SIZE
+ *   16 int   SLOT_SIZE
+ *   20 int   MAX_SLOTS
+ *   24 int   BUCKET_COUNT
+ *   32 long  slot 수 (release/acquire로 공개)
+ *   40 long  시작 시각 (epoch ms)
+ *   48 long  PID
+ *   56 long[BUCKET_COUNT] 지연 시간 버킷 상한 (ms, 마지막은 Long.MAX_VALUE)
+ * 슬롯 (SLOT_SIZE bytes, 메서드별) - 슬롯 0은 MAX_SLOTS 초과분 "(other)"
+ *   0  int   이름 길이
+ *   4  byte[NAME_CAPACITY] 메서드 이름 (UTF-8)
+ *   96 long[Counter] 카운터
+ *   152 long[BUCKET_COUNT] 지연 시간 버킷별 건수
+ * </pre>
+ */
+public final class MappedMetricsLayout {
+
+    public static final long MAGIC = 0x31435254454D5456L; // "VTMETRC1" (little endian)
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 256;
+    public static final int MAGIC_OFFSET = 0;
+    public static final int VERSION_OFFSET = 8;
+    public static final int HEADER_SIZE_OFFSET = 12;
+    public static final int SLOT_SIZE_OFFSET = 16;
+    public static final int MAX_SLOTS_OFFSET = 20;
+    public static final int BUCKET_COUNT_OFFSET = 24;
+    public static final int SLOT_COUNT_OFFSET = 32;
+    public static final int START_TIME_OFFSET = 40;
+    public static final int PID_OFFSET = 48;
+    public static final int BUCKET_BOUNDS_OFFSET = 56;
+
+    /** 지연 시간 버킷 상한 (ms) - 마지막 버킷은 무한대 */
+    public static final long[] LATENCY_BUCKET_BOUNDS_MS = {
+            1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 30_000, 60_000, Long.MAX_VALUE
+    };
+    public static final int BUCKET_COUNT = LATENCY_BUCKET_BOUNDS_MS.length;
+
+    public static final int NAME_LENGTH_OFFSET = 0;
+    public static final int NAME_OFFSET = 4;
+    public static final int NAME_CAPACITY = 92;
+    public static final int COUNTERS_OFFSET = 96;
+    public static final int BUCKETS_OFFSET = COUNTERS_OFFSET + Counter.values().length * Long.BYTES;
+    public static final int SLOT_SIZE = 320;
+
+    public static final int OTHER_SLOT = 0;
+
+    static {
+        if (BUCKETS_OFFSET + BUCKET_COUNT * Long.BYTES > SLOT_SIZE
+                || BUCKET_BOUNDS_OFFSET + BUCKET_COUNT * Long.BYTES > HEADER_SIZE) {
+            throw new IllegalStateException("Metrics layout overflow");
+        }
+    }
+
+    private MappedMetricsLayout() {
+    }
+
+    /**
+     * 메서드별 카운터 (선언 순서 = 파일 내 순서, 변경 시 VERSION 증가)
+     */
+    public enum Counter {
+        IN_FLIGHT,
+        SUBMITTED,
+        COMPLETED,
+        FAILED,
+        TIMED_OUT,
+        REJECTED,
+        LATENCY_SUM_NANOS
+    }
+
+    public static long fileSize(int maxSlots) {
+        return HEADER_SIZE + (long) maxSlots * SLOT_SIZE;
+    }
+
+    public static int slotOffset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    public static int counterOffset(int slot, Counter counter) {
+        return slotOffset(slot) + COUNTERS_OFFSET + counter.ordinal() * Long.BYTES;
+    }
+
+    public static int bucketOffset(int slot, int bucket) {
+        return slotOffset(slot) + BUCKETS_OFFSET + bucket * Long.BYTES;
+    }
+
+    /**
+     * 지연 시간(ns)이 속하는 버킷
+     */
+    public static int bucketOf(long latencyNanos) {
+        long millis = latencyNanos / 1_000_000;
+        for (int i = 0; i < BUCKET_COUNT - 1; i++) {
+            if (millis < LATENCY_BUCKET_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_COUNT - 1;
+    }
+}
@@ -0,0 +1,160 @@
+package com.ocean.sc.vt.metrics;
+
+import com.ocean.sc.vt.metrics.MappedMetricsLayout.Counter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메모리 매핑 메트릭 파일 리더 (CLI)
+ * - 애플리케이션과 별도 프로세스에서 파일을 읽기 전용으로 매핑하여 실시간 카운터 출력
+ *
+ * <p>실행: ./gradlew metricsReader -Pfile=/tmp/vt-metrics-&lt;pid&gt;.mmap [-Pwatch=1]</p>
+ */
+public final class MappedMetricsReader {
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final ByteBuffer buffer;
+
+    public MappedMetricsReader(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        if (buffer.getLong(MappedMetricsLayout.MAGIC_OFFSET) != MappedMetricsLayout.MAGIC) {
+            throw new IllegalArgumentException("Not a vt metrics file: " + file);
+        }
+        int version = buffer.getInt(MappedMetricsLayout.VERSION_OFFSET);
+        if (version != MappedMetricsLayout.VERSION) {
+            throw new IllegalArgumentException("Unsupported metrics file version: " + version);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: MappedMetricsReader <file> [watchSeconds]");
+            System.exit(2);
+        }
+        MappedMetricsReader reader = new MappedMetricsReader(Path.of(args[0]));
+        long watchSeconds = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+        do {
+            reader.print(System.out);
+            if (watchSeconds > 0) {
+                Thread.sleep(watchSeconds * 1000);
+            }
+        } while (watchSeconds > 0);
+    }
+
+    /**
+     * 공개된 슬롯의 현재 값
+     */
+    public List<MethodMetrics> read() {
+        long slotCount = (long) LONGS.getAcquire(buffer, MappedMetricsLayout.SLOT_COUNT_OFFSET);
+        List<MethodMetrics> methods = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            long[] counters = new long[Counter.values().length];
+            for (Counter counter : Counter.values()) {
+                counters[counter.ordinal()] =
+                        (long) LONGS.getVolatile(buffer, MappedMetricsLayout.counterOffset(slot, counter));
+            }
+            long[] buckets = new long[MappedMetricsLayout.BUCKET_COUNT];
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                buckets[bucket] = (long) LONGS.getVolatile(buffer, MappedMetricsLayout.bucketOffset(slot, bucket));
+            }
+            methods.add(new MethodMetrics(name(slot), counters, buckets));
+        }
+        return methods;
+    }
+
+    public long pid() {
+        return buffer.getLong(MappedMetricsLayout.PID_OFFSET);
+    }
+
+    public Instant startTime() {
+        return Instant.ofEpochMilli(buffer.getLong(MappedMetricsLayout.START_TIME_OFFSET));
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n[%s] pid=%d started=%s%n", Instant.now(), pid(), startTime());
+        out.printf("%-48s %9s %10s %10s %8s %9s %9s %9s %9s%n",
+                "method", "inFlight", "submitted", "completed", "failed", "timedOut", "rejected", "avgMs", "p99<Ms");
+        for (MethodMetrics method : read()) {
+            if (method.counter(Counter.SUBMITTED) == 0) {
+                continue;
+            }
+            out.printf("%-48s %9d %10d %10d %8d %9d %9d %9.1f %9s%n",
+                    abbreviate(method.name(), 48),
+                    method.counter(Counter.IN_FLIGHT),
+                    method.counter(Counter.SUBMITTED),
+                    method.counter(Counter.COMPLETED),
+                    method.counter(Counter.FAILED),
+                    method.counter(Counter.TIMED_OUT),
+                    method.counter(Counter.REJECTED),
+                    method.averageLatencyMillis(),
+                    formatBound(method.percentileBoundMillis(0.99)));
+        }
+    }
+
+    private String name(int slot) {
+        int offset = MappedMetricsLayout.slotOffset(slot);
+        int length = buffer.getInt(offset + MappedMetricsLayout.NAME_LENGTH_OFFSET);
+        byte[] bytes = new byte[Math.max(0, Math.min(length, MappedMetricsLayout.NAME_CAPACITY))];
+        buffer.get(offset + MappedMetricsLayout.NAME_OFFSET, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String abbreviate(String text, int max) {
+        return text.length() <= max ? text : ".." + text.substring(text.length() - max + 2);
+    }
+
+    private static String formatBound(long bound) {
+        return bound == Long.MAX_VALUE ? "inf" : Long.toString(bound);
+    }
+
+    /**
+     * 메서드별 카운터 스냅샷
+     */
+    public record MethodMetrics(String name, long[] counters, long[] buckets) {
+
+        public long counter(Counter counter) {
+            return counters[counter.ordinal()];
+        }
+
+        public double averageLatencyMillis() {
+            long finished = counter(Counter.COMPLETED) + counter(Counter.FAILED)
+                    + counter(Counter.TIMED_OUT) + counter(Counter.REJECTED);
+            return finished == 0 ? 0 : counter(Counter.LATENCY_SUM_NANOS) / 1_000_000.0 / finished;
+        }
+
+        /**
+         * 백분위가 속한 버킷 상한 (ms)
+         */
+        public long percentileBoundMillis(double quantile) {
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            long threshold = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (total > 0 && seen >= threshold) {
+                    return MappedMetricsLayout.LATENCY_BUCKET_BOUNDS_MS[i];
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.ocean.sc.vt.metrics;
+
+import com.ocean.sc.vt.jfr.Outcome;
+import com.ocean.sc.vt.metrics.MappedMetricsLayout.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @VirtualThread 오프로딩 메트릭 (메모리 매핑 파일로 공개)
+ * - 메서드별 in-flight / submitted / completed / failed / timed out / rejected / 지연 시간 버킷
+ * - 고정 오프셋 카운터를 VarHandle getAndAdd(원자적 add 1회)로 갱신 → 쓰기 측 wait-free
+ * - 사이드카/운영자는 {@link MappedMetricsReader}로 HTTP/직렬화 없이 실시간 조회
+ *   (서블릿 컨테이너가 포화되어 API가 응답하지 못해도 확인 가능)
+ * - 메서드 → 슬롯 할당은 메서드별 최초 1회만 동기화
+ *
+ * <p>vt.metrics.mmap.enabled=false 이면 파일 없이 메모리에서만 집계</p>
+ */
+@Component
+public class OffloadMetrics implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OffloadMetrics.class);
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final ByteBuffer buffer;
+    private final Path file;
+    private final int maxSlots;
+    private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+    private int nextSlot = MappedMetricsLayout.OTHER_SLOT + 1;
+
+    public OffloadMetrics(@Value("${vt.metrics.mmap.enabled:true}") boolean enabled,
+                          @Value("${vt.metrics.mmap.path:}") String path,
+                          @Value("${vt.metrics.mmap.max-methods:255}") int maxMethods) throws IOException {
+        this.maxSlots = maxMethods + 1;
+        long size = MappedMetricsLayout.fileSize(maxSlots);
+
+        if (enabled) {
+            this.file = path.isBlank() ? defaultPath() : Path.of(path);
+            this.buffer = map(file, size);
+            log.info("[Offload Metrics] 📊 메모리 매핑 메트릭 파일: {} ({} bytes)", file, size);
+        } else {
+            this.file = null;
+            this.buffer = ByteBuffer.allocateDirect(Math.toIntExact(size)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        writeHeader();
+        writeName(MappedMetricsLayout.OTHER_SLOT, "(other)");
+        LONGS.setRelease(buffer, MappedMetricsLayout.SLOT_COUNT_OFFSET, 1L);
+    }
+
+    /**
+     * 메서드 슬롯 (최대 개수 초과 시 "(other)" 슬롯)
+     */
+    public int slot(String method) {
+        Integer slot = slots.get(method);
+        return slot != null ? slot : allocate(method);
+    }
+
+    /**
+     * 제출 (호출 스레드)
+     */
+    public void submitted(int slot) {
+        add(slot, Counter.SUBMITTED, 1);
+        add(slot, Counter.IN_FLIGHT, 1);
+    }
+
+    /**
+     * 결과 확정 - 호출당 1회
+     */
+    public void finished(int slot, Outcome outcome, long latencyNanos) {
+        add(slot, Counter.IN_FLIGHT, -1);
+        add(slot, counterOf(outcome), 1);
+        add(slot, Counter.LATENCY_SUM_NANOS, latencyNanos);
+        LONGS.getAndAdd(buffer, MappedMetricsLayout.bucketOffset(slot, MappedMetricsLayout.bucketOf(latencyNanos)), 1L);
+    }
+
+    /**
+     * 카운터 현재값 (테스트/관리용)
+     */
+    public long get(String method, Counter counter) {
+        Integer slot = slots.get(method);
+        return slot == null ? 0 : (long) LONGS.getVolatile(buffer, MappedMetricsLayout.counterOffset(slot, counter));
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void add(int slot, Counter counter, long delta) {
+        LONGS.getAndAdd(buffer, MappedMetricsLayout.counterOffset(slot, counter), delta);
+    }
+
+    private synchronized int allocate(String method) {
+        Integer existing = slots.get(method);
+        if (existing != null) {
+            return existing;
+        }
+        if (nextSlot >= maxSlots) {
+            slots.put(method, MappedMetricsLayout.OTHER_SLOT);
+            return MappedMetricsLayout.OTHER_SLOT;
+        }
+        int slot = nextSlot++;
+        writeName(slot, method);
+        // 이름 기록 후 슬롯 수 공개 → 리더는 완성된 슬롯만 읽음
+        LONGS.setRelease(buffer, MappedMetricsLayout.SLOT_COUNT_OFFSET, (long) nextSlot);
+        slots.put(method, slot);
+        return slot;
+    }
+
+    private void writeHeader() {
+        buffer.putLong(MappedMetricsLayout.MAGIC_OFFSET, MappedMetricsLayout.MAGIC);
+        buffer.putInt(MappedMetricsLayout.VERSION_OFFSET, MappedMetricsLayout.VERSION);
+        buffer.putInt(MappedMetricsLayout.HEADER_SIZE_OFFSET, MappedMetricsLayout.HEADER_SIZE);
+        buffer.putInt(MappedMetricsLayout.SLOT_SIZE_OFFSET, MappedMetricsLayout.SLOT_SIZE);
+        buffer.putInt(MappedMetricsLayout.MAX_SLOTS_OFFSET, maxSlots);
+        buffer.putInt(MappedMetricsLayout.BUCKET_COUNT_OFFSET, MappedMetricsLayout.BUCKET_COUNT);
+        buffer.putLong(MappedMetricsLayout.START_TIME_OFFSET, System.currentTimeMillis());
+        buffer.putLong(MappedMetricsLayout.PID_OFFSET, ProcessHandle.current().pid());
+        for (int i = 0; i < MappedMetricsLayout.BUCKET_COUNT; i++) {
+            buffer.putLong(MappedMetricsLayout.BUCKET_BOUNDS_OFFSET + i * Long.BYTES,
+                    MappedMetricsLayout.LATENCY_BUCKET_BOUNDS_MS[i]);
+        }
+    }
+
+    private void writeName(int slot, String method) {
+        byte[] bytes = method.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MappedMetricsLayout.NAME_CAPACITY);
+        int offset = MappedMetricsLayout.slotOffset(slot);
+        buffer.put(offset + MappedMetricsLayout.NAME_OFFSET, bytes, 0, length);
+        buffer.putInt(offset + MappedMetricsLayout.NAME_LENGTH_OFFSET, length);
+    }
+
+    private static Counter counterOf(Outcome outcome) {
+        return switch (outcome) {
+            case OK -> Counter.COMPLETED;
+            case ERROR -> Counter.FAILED;
+            case TIMEOUT -> Counter.TIMED_OUT;
+            case REJECTED -> Counter.REJECTED;
+        };
+    }
+
+    private static Path defaultPath() {
+        return Path.of(System.getProperty("java.io.tmpdir"), "vt-metrics-" + ProcessHandle.current().pid() + ".mmap");
+    }
+
+    private static ByteBuffer map(Path file, long size) throws IOException {
+        Files.deleteIfExists(file);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+}
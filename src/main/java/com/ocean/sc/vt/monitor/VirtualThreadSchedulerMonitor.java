@@ -0,0 +1,244 @@
+package com.ocean.sc.vt.monitor;
+
+import jdk.management.VirtualThreadSchedulerMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDK Virtual Thread 스케줄러 텔레메트리
+ * - {@link VirtualThreadSchedulerMXBean}으로 parallelism, 캐리어 풀 크기, mounted/queued 수 조회
+ * - jdk.virtualThreadScheduler.* 시스템 프로퍼티(시작 구성)와 함께 제공
+ * - 주기적으로 샘플링하여 캐리어 사용률(peak/평균)을 누적 → 컨테이너 CPU 산정 근거
+ *
+ * <p>steal 횟수는 JDK 공개 API가 없으므로 기본 스케줄러(ForkJoinPool)에 접근 가능한 경우에만 제공합니다.
+ * ({@code --add-opens java.base/java.lang=ALL-UNNAMED} 필요, 불가능하면 -1)</p>
+ */
+@Component
+public class VirtualThreadSchedulerMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadSchedulerMonitor.class);
+
+    private static final String PROPERTY_PREFIX = "jdk.virtualThreadScheduler.";
+
+    private final AsyncTaskExecutor virtualThreadExecutor;
+    private final long sampleIntervalMs;
+
+    private final VirtualThreadSchedulerMXBean schedulerBean = lookupSchedulerBean();
+    private final ForkJoinPool defaultScheduler = lookupDefaultScheduler();
+
+    private ScheduledExecutorService sampler;
+
+    // 샘플러 스레드 하나만 갱신하므로 volatile로 충분
+    private volatile long samples;
+    private volatile long saturatedSamples;
+    private volatile int peakMounted;
+    private volatile long peakQueued;
+    private volatile long utilizationPermilleSum;
+
+    public VirtualThreadSchedulerMonitor(
+            AsyncTaskExecutor virtualThreadExecutor,
+            @Value("${vt.scheduler.sample-interval-ms:1000}") long sampleIntervalMs) {
+        this.virtualThreadExecutor = virtualThreadExecutor;
+        this.sampleIntervalMs = sampleIntervalMs;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info("[Scheduler Monitor] 시작 구성: {}", startupConfiguration());
+
+        if (sampleIntervalMs <= 0) {
+            log.info("[Scheduler Monitor] 샘플링 비활성화 (vt.scheduler.sample-interval-ms={})", sampleIntervalMs);
+            return;
+        }
+        if (schedulerBean == null) {
+            log.warn("[Scheduler Monitor] VirtualThreadSchedulerMXBean을 사용할 수 없어 샘플링을 비활성화합니다");
+            return;
+        }
+
+        sampler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("vt-scheduler-monitor").factory());
+        sampler.scheduleAtFixedRate(this::sample, sampleIntervalMs, sampleIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (sampler != null) {
+            sampler.shutdownNow();
+        }
+    }
+
+    /**
+     * 현재 스케줄러 상태 + 누적 사용률 + 시작 구성
+     */
+    public Report report() {
+        return new Report(current(), statistics(), startupConfiguration());
+    }
+
+    /**
+     * 현재 스케줄러 상태 조회
+     */
+    public SchedulerState current() {
+        if (schedulerBean == null) {
+            return new SchedulerState(-1, -1, -1, -1, stealCount(), 0.0);
+        }
+        int parallelism = schedulerBean.getParallelism();
+        int mounted = schedulerBean.getMountedVirtualThreadCount();
+        return new SchedulerState(
+                parallelism,
+                schedulerBean.getPoolSize(),
+                mounted,
+                schedulerBean.getQueuedVirtualThreadCount(),
+                stealCount(),
+                utilization(mounted, parallelism));
+    }
+
+    /**
+     * 샘플 1회 수집 (스케줄러 스레드에서 주기적으로 호출)
+     */
+    void sample() {
+        SchedulerState state = current();
+        if (state.parallelism() <= 0) {
+            return;
+        }
+
+        samples++;
+        utilizationPermilleSum += Math.round(state.carrierUtilization() * 1000);
+        if (state.mountedVirtualThreadCount() > peakMounted) {
+            peakMounted = state.mountedVirtualThreadCount();
+        }
+        if (state.queuedVirtualThreadCount() > peakQueued) {
+            peakQueued = state.queuedVirtualThreadCount();
+        }
+        // 캐리어가 모두 사용 중인데 대기 중인 Virtual Thread가 있으면 CPU 부족 상태
+        if (state.mountedVirtualThreadCount() >= state.parallelism() && state.queuedVirtualThreadCount() > 0) {
+            saturatedSamples++;
+        }
+    }
+
+    /**
+     * 누적 사용률 통계
+     */
+    public SchedulerStatistics statistics() {
+        long count = samples;
+        double averageUtilization = count == 0 ? 0.0 : (utilizationPermilleSum / (double) count) / 1000.0;
+        return new SchedulerStatistics(count, peakMounted, peakQueued, averageUtilization, saturatedSamples);
+    }
+
+    /**
+     * 시작 시점 스케줄러/Executor 구성
+     * - 설정하지 않은 프로퍼티는 null (JDK 기본값 사용)
+     */
+    public StartupConfiguration startupConfiguration() {
+        int concurrencyLimit = virtualThreadExecutor instanceof SimpleAsyncTaskExecutor simple
+                ? simple.getConcurrencyLimit()
+                : SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY;
+        return new StartupConfiguration(
+                Runtime.getRuntime().availableProcessors(),
+                System.getProperty(PROPERTY_PREFIX + "parallelism"),
+                System.getProperty(PROPERTY_PREFIX + "maxPoolSize"),
+                System.getProperty(PROPERTY_PREFIX + "minRunnable"),
+                virtualThreadExecutor.getClass().getSimpleName(),
+                concurrencyLimit);
+    }
+
+    private long stealCount() {
+        return defaultScheduler != null ? defaultScheduler.getStealCount() : -1;
+    }
+
+    private static double utilization(int mounted, int parallelism) {
+        return parallelism <= 0 ? 0.0 : (double) mounted / parallelism;
+    }
+
+    private static VirtualThreadSchedulerMXBean lookupSchedulerBean() {
+        try {
+            return ManagementFactory.getPlatformMXBean(VirtualThreadSchedulerMXBean.class);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static ForkJoinPool lookupDefaultScheduler() {
+        try {
+            Field field = Class.forName("java.lang.VirtualThread").getDeclaredField("DEFAULT_SCHEDULER");
+            field.setAccessible(true);
+            return field.get(null) instanceof ForkJoinPool pool ? pool : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // InaccessibleObjectException: --add-opens 없이 실행된 경우
+            return null;
+        }
+    }
+
+    /**
+     * 현재 스케줄러 상태
+     *
+     * @param parallelism 유효 parallelism (캐리어로 동시에 실행 가능한 Virtual Thread 수)
+     * @param poolSize 현재 캐리어 스레드 풀 크기
+     * @param mountedVirtualThreadCount 캐리어에 mount된 Virtual Thread 수
+     * @param queuedVirtualThreadCount 실행 대기 중인 Virtual Thread 수
+     * @param stealCount work-stealing 횟수 (조회 불가 시 -1)
+     * @param carrierUtilization mounted / parallelism
+     */
+    public record SchedulerState(
+            int parallelism,
+            int poolSize,
+            int mountedVirtualThreadCount,
+            long queuedVirtualThreadCount,
+            long stealCount,
+            double carrierUtilization) {
+    }
+
+    /**
+     * 샘플링 누적 통계
+     *
+     * @param samples 샘플 수
+     * @param peakMounted 최대 mounted 수
+     * @param peakQueued 최대 queued 수
+     * @param averageUtilization 평균 캐리어 사용률
+     * @param saturatedSamples 캐리어 포화(모두 mounted + 대기 존재) 샘플 수
+     */
+    public record SchedulerStatistics(
+            long samples,
+            int peakMounted,
+            long peakQueued,
+            double averageUtilization,
+            long saturatedSamples) {
+    }
+
+    /**
+     * 시작 구성
+     *
+     * @param availableProcessors JVM이 인식한 CPU 수 (컨테이너 CPU quota 반영)
+     * @param configuredParallelism jdk.virtualThreadScheduler.parallelism
+     * @param configuredMaxPoolSize jdk.virtualThreadScheduler.maxPoolSize
+     * @param configuredMinRunnable jdk.virtualThreadScheduler.minRunnable
+     * @param executorType virtualThreadExecutor 구현 타입
+     * @param executorConcurrencyLimit Executor 동시 실행 제한 (-1: 무제한)
+     */
+    public record StartupConfiguration(
+            int availableProcessors,
+            String configuredParallelism,
+            String configuredMaxPoolSize,
+            String configuredMinRunnable,
+            String executorType,
+            int executorConcurrencyLimit) {
+    }
+
+    public record Report(
+            SchedulerState current,
+            SchedulerStatistics statistics,
+            StartupConfiguration startup) {
+    }
+}
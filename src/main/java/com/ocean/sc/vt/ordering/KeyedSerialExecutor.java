@@ -0,0 +1,145 @@
+package com.ocean.sc.vt.ordering;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 순차 실행기 (Virtual Thread 메일박스)
+ * - 같은 키의 작업은 도착 순서대로 하나씩 실행, 다른 키는 서로 기다리지 않음
+ * - 키마다 잠금 없는 메일박스 (ConcurrentLinkedQueue + 대기 건수 CAS), 처음 쓰일 때 생성
+ * - 메일박스에 작업이 생기면 Virtual Thread 하나가 비울 때까지 실행하고, 비면 메일박스를 회수
+ *
+ * <p>회수 규약: 대기 건수가 0이 된 메일박스는 RETIRED로 CAS한 뒤 맵에서 제거.
+ * RETIRED 메일박스에는 더 이상 작업이 들어가지 않으므로(제출자는 새 메일박스로 재시도)
+ * 회수와 제출이 경쟁해도 작업이 유실되거나 순서가 뒤바뀌지 않습니다.</p>
+ *
+ * <p>주의: 같은 키로 직렬화된 작업 안에서 같은 키의 작업을 제출하고 결과를 기다리면 교착 상태가 됩니다.</p>
+ */
+@Component
+public class KeyedSerialExecutor {
+
+    private static final long RETIRED = -1;
+
+    private final Map<Object, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ThreadFactory drainerFactory = Thread.ofVirtual().name("vt-serial-", 0).factory();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder reclaimed = new LongAdder();
+    private final LongAdder executed = new LongAdder();
+
+    /**
+     * 키의 메일박스에 작업 추가 (앞선 같은 키 작업이 모두 끝난 뒤 실행)
+     */
+    public void execute(Object key, Runnable task) {
+        while (true) {
+            Mailbox mailbox = mailboxes.get(key);
+            if (mailbox == null) {
+                Mailbox fresh = new Mailbox(key);
+                mailbox = mailboxes.putIfAbsent(key, fresh);
+                if (mailbox == null) {
+                    created.increment();
+                    mailbox = fresh;
+                }
+            }
+            if (mailbox.offer(task)) {
+                return;
+            }
+            // 회수 중인 메일박스 - 맵에서 치우고 새 메일박스로 재시도
+            mailboxes.remove(key, mailbox);
+        }
+    }
+
+    public SerialStats stats() {
+        List<KeyDepth> deepest = mailboxes.values().stream()
+                .map(mailbox -> new KeyDepth(String.valueOf(mailbox.key), Math.max(0, mailbox.pending.get())))
+                .sorted(Comparator.comparingLong(KeyDepth::pending).reversed())
+                .limit(10)
+                .toList();
+        return new SerialStats(mailboxes.size(), created.sum(), reclaimed.sum(), executed.sum(), deepest);
+    }
+
+    /**
+     * 키 하나의 작업 대기열
+     */
+    private final class Mailbox implements Runnable {
+
+        private final Object key;
+        private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        /** 제출됐지만 끝나지 않은 작업 수 (실행 중 포함), RETIRED면 회수됨 */
+        private final AtomicLong pending = new AtomicLong();
+
+        private Mailbox(Object key) {
+            this.key = key;
+        }
+
+        /**
+         * @return 회수된 메일박스면 false
+         */
+        private boolean offer(Runnable task) {
+            long previous;
+            do {
+                previous = pending.get();
+                if (previous == RETIRED) {
+                    return false;
+                }
+            } while (!pending.compareAndSet(previous, previous + 1));
+            queue.offer(task);
+            // 0 → 1: 실행 중인 드레이너가 없으므로 새로 시작
+            if (previous == 0) {
+                drainerFactory.newThread(this).start();
+            }
+            return true;
+        }
+
+        /**
+         * 드레이너 - 대기 건수가 0이 될 때까지 순서대로 실행 후 회수
+         */
+        @Override
+        public void run() {
+            while (true) {
+                Runnable task = queue.poll();
+                if (task == null) {
+                    // 제출자가 건수를 올린 뒤 큐에 넣기 직전 - 곧 들어옴
+                    Thread.yield();
+                    continue;
+                }
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    // 작업 예외는 작업 자신(Future 등)이 전달, 다음 작업은 계속 실행
+                } finally {
+                    executed.increment();
+                    // 취소(cancel(true))로 남은 인터럽트가 다음 작업에 번지지 않도록 정리
+                    Thread.interrupted();
+                }
+                if (pending.decrementAndGet() > 0) {
+                    continue;
+                }
+                // 비었음: 회수 시도. 실패하면 그 사이 0 → 1 제출자가 새 드레이너를 시작한 것이므로 종료만 함
+                if (pending.compareAndSet(0, RETIRED)) {
+                    mailboxes.remove(key, this);
+                    reclaimed.increment();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param activeKeys 현재 메일박스가 있는(대기 / 실행 중) 키 수
+     * @param deepest 대기 건수가 가장 많은 키 (최대 10개)
+     */
+    public record SerialStats(int activeKeys, long mailboxesCreated, long mailboxesReclaimed, long executed,
+                              List<KeyDepth> deepest) {
+    }
+
+    public record KeyDepth(String key, long pending) {
+    }
+}
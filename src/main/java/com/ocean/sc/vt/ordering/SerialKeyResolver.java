@@ -0,0 +1,40 @@
+package com.ocean.sc.vt.ordering;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code @VirtualThread(serializeBy = ...)} 직렬화 키 계산
+ * - SpEL 식으로 메서드 파라미터 참조 ({@code #userId}, {@code #p0}, {@code #request.orderId})
+ * - 파싱된 식은 식 문자열별로 캐시 (호출마다 파싱하지 않음)
+ * - 키가 null이면 순서를 보장할 대상이 없으므로 IllegalArgumentException
+ */
+@Component
+public class SerialKeyResolver {
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    public Object resolve(ProceedingJoinPoint joinPoint, String expression) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), parameterNames);
+        Object key = expressions.computeIfAbsent(expression, parser::parseExpression).getValue(context);
+        if (key == null) {
+            throw new IllegalArgumentException(String.format("serializeBy '%s' evaluated to null for %s",
+                    expression, signature.toShortString()));
+        }
+        return key;
+    }
+}
@@ -0,0 +1,364 @@
+package com.ocean.sc.vt.pipeline;
+
+import com.ocean.sc.vt.context.ContextSnapshot;
+import com.ocean.sc.vt.metrics.LogHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 파이프라인 (SEDA: Staged Event-Driven Architecture)
+ * - 요청이 이름 붙은 단계를 순서대로 통과 (예: parse → enrich → aggregate)
+ * - 단계마다 고정 수의 Virtual Thread 워커 (= 단계 동시 실행 상한) + 유한 입력 큐
+ * - 다음 단계 큐가 가득 차면 워커가 대기 → 자기 큐가 차고 → 입구에서 기한까지 대기 후 거부 (역압이 입구까지 전파)
+ * - 결과가 이미 확정된 항목(타임아웃 / 취소)은 이후 단계에서 건너뜀
+ * - 단계별 메트릭: 큐 대기 / 처리 시간 히스토그램, 사용률, 하류 대기 시간 → 병목 단계 식별
+ *
+ * <p>사용 예시:</p>
+ * <pre>
+ * {@code
+ * Pipeline<String, String> pipeline = Pipeline.builder("demo", String.class)
+ *         .stage("parse", 4, 64, String::strip)
+ *         .stage("enrich", 200, 256, demoService::processWithDelay)
+ *         .stage("aggregate", 4, 64, value -> "Result: " + value)
+ *         .build();
+ * }
+ * </pre>
+ *
+ * @param <I> 입력 타입
+ * @param <O> 마지막 단계 출력 타입
+ */
+public final class Pipeline<I, O> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(Pipeline.class);
+    /** 종료 시 워커가 끝나기를 기다리는 최대 시간 (단계 함수가 인터럽트를 무시하는 경우 대비) */
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final String name;
+    private final Class<I> inputType;
+    private final long entryTimeoutNanos;
+    private final List<Stage> stages;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private volatile boolean closed;
+
+    private Pipeline(String name, Class<I> inputType, Duration entryTimeout, List<Stage> stages) {
+        this.name = name;
+        this.inputType = inputType;
+        this.entryTimeoutNanos = entryTimeout.toNanos();
+        this.stages = stages;
+        for (int i = 0; i < stages.size(); i++) {
+            stages.get(i).start(this, i + 1 < stages.size() ? stages.get(i + 1) : null);
+        }
+        log.info("[Pipeline] 🏭 {} 시작: {}", name, stages.stream()
+                .map(stage -> stage.name + "(x" + stage.concurrency + ", queue " + stage.queueCapacity + ")")
+                .toList());
+    }
+
+    public static <I> Builder<I, I> builder(String name, Class<I> inputType) {
+        return new Builder<>(name, inputType, new ArrayList<>(), Duration.ofMillis(100));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Class<I> inputType() {
+        return inputType;
+    }
+
+    /**
+     * 입력 제출 (컨텍스트 전파 없음)
+     */
+    public CompletableFuture<O> submit(I input) {
+        return submit(input, null);
+    }
+
+    /**
+     * 입력 제출 - 첫 단계 큐에 자리가 날 때까지 entryTimeout만큼 대기
+     *
+     * @param context 단계마다 워커 스레드에 복원할 컨텍스트 (없으면 null)
+     * @return 마지막 단계 결과 (단계 예외는 그대로 전달)
+     * @throws PipelineRejectedException 기한 안에 큐에 넣지 못함 (파이프라인 포화) / 종료됨
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<O> submit(I input, ContextSnapshot context) {
+        Item item = new Item(input, context);
+        if (closed) {
+            rejected.increment();
+            throw new PipelineRejectedException(name, "closed");
+        }
+        try {
+            if (!stages.get(0).enqueue(item, entryTimeoutNanos)) {
+                rejected.increment();
+                throw new PipelineRejectedException(name, "queue full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejected.increment();
+            throw new PipelineRejectedException(name, "interrupted");
+        }
+        submitted.increment();
+        return (CompletableFuture<O>) (CompletableFuture<?>) item.result;
+    }
+
+    public PipelineStats stats() {
+        List<StageStats> stageStats = stages.stream().map(Stage::stats).toList();
+        String bottleneck = stageStats.stream()
+                .max((a, b) -> Double.compare(a.utilisation(), b.utilisation()))
+                .filter(stage -> stage.utilisation() > 0)
+                .map(StageStats::name)
+                .orElse(null);
+        return new PipelineStats(name, submitted.sum(), rejected.sum(), completed.sum(), bottleneck, stageStats);
+    }
+
+    /**
+     * 워커 종료 - 처리 중 / 대기 중인 항목은 거부로 확정
+     * - 워커 종료를 기다린 뒤 큐를 비움 (인터럽트에 늦게 반응한 워커가 다음 단계에 넣은 항목도 확정)
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Stage stage : stages) {
+            stage.workers.forEach(Thread::interrupt);
+        }
+        long deadline = System.nanoTime() + CLOSE_TIMEOUT.toNanos();
+        for (Stage stage : stages) {
+            for (Thread worker : stage.workers) {
+                try {
+                    if (!worker.join(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())))) {
+                        log.warn("[Pipeline] ⚠️ {} 워커 {}가 종료되지 않음 - 이후 넘기는 항목은 확정되지 않을 수 있음",
+                                name, worker.getName());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        for (Stage stage : stages) {
+            for (Item item = stage.queue.poll(); item != null; item = stage.queue.poll()) {
+                item.result.completeExceptionally(new PipelineRejectedException(name, "closed"));
+            }
+        }
+        log.info("[Pipeline] 🛑 {} 종료", name);
+    }
+
+    /**
+     * 단계 처리 함수 (검사 예외 허용)
+     */
+    @FunctionalInterface
+    public interface StageFunction<T, R> {
+        R apply(T input) throws Exception;
+    }
+
+    /**
+     * 파이프라인 구성 (단계 추가 순서 = 실행 순서)
+     *
+     * @param <I> 파이프라인 입력 타입
+     * @param <O> 지금까지 추가한 마지막 단계의 출력 타입
+     */
+    public static final class Builder<I, O> {
+
+        private final String name;
+        private final Class<I> inputType;
+        private final List<Stage> stages;
+        private final Duration entryTimeout;
+
+        private Builder(String name, Class<I> inputType, List<Stage> stages, Duration entryTimeout) {
+            this.name = name;
+            this.inputType = inputType;
+            this.stages = stages;
+            this.entryTimeout = entryTimeout;
+        }
+
+        /**
+         * @param concurrency 단계 워커 수 (동시 실행 상한)
+         * @param queueCapacity 단계 입력 큐 크기 (가득 차면 이전 단계 / 입구가 대기)
+         */
+        @SuppressWarnings("unchecked")
+        public <R> Builder<I, R> stage(String stageName, int concurrency, int queueCapacity,
+                                       StageFunction<? super O, ? extends R> function) {
+            if (concurrency < 1 || queueCapacity < 1) {
+                throw new IllegalArgumentException(String.format(
+                        "stage %s: concurrency and queueCapacity must be positive (%d, %d)",
+                        stageName, concurrency, queueCapacity));
+            }
+            if (stages.stream().anyMatch(stage -> stage.name.equals(stageName))) {
+                throw new IllegalArgumentException("Duplicate stage name: " + stageName);
+            }
+            stages.add(new Stage(stageName, concurrency, queueCapacity, (StageFunction<Object, Object>) function));
+            return new Builder<>(name, inputType, stages, entryTimeout);
+        }
+
+        /**
+         * 첫 단계 큐가 가득 찼을 때 입구에서 기다리는 최대 시간 (0: 대기 없이 거부)
+         */
+        public Builder<I, O> entryTimeout(Duration timeout) {
+            return new Builder<>(name, inputType, stages, timeout);
+        }
+
+        public Pipeline<I, O> build() {
+            if (stages.isEmpty()) {
+                throw new IllegalStateException("Pipeline " + name + " has no stages");
+            }
+            return new Pipeline<>(name, inputType, entryTimeout, List.copyOf(stages));
+        }
+    }
+
+    /**
+     * 단계 - 입력 큐 + 고정 워커
+     */
+    private static final class Stage {
+
+        private final String name;
+        private final int concurrency;
+        private final int queueCapacity;
+        private final StageFunction<Object, Object> function;
+        private final BlockingQueue<Item> queue;
+        private final List<Thread> workers = new ArrayList<>();
+        private final AtomicInteger busy = new AtomicInteger();
+        private final AtomicInteger blocked = new AtomicInteger();
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+        private final LongAdder blockedNanos = new LongAdder();
+        private final LogHistogram queueWaitMicros = new LogHistogram();
+        private final LogHistogram serviceMicros = new LogHistogram();
+
+        private Stage(String name, int concurrency, int queueCapacity, StageFunction<Object, Object> function) {
+            this.name = name;
+            this.concurrency = concurrency;
+            this.queueCapacity = queueCapacity;
+            this.function = function;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        private void start(Pipeline<?, ?> pipeline, Stage next) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(Thread.ofVirtual()
+                        .name("pipeline-" + pipeline.name + "-" + name + "-" + i)
+                        .start(() -> work(pipeline, next)));
+            }
+        }
+
+        private boolean enqueue(Item item, long timeoutNanos) throws InterruptedException {
+            item.enqueuedNanos = System.nanoTime();
+            return queue.offer(item, timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void work(Pipeline<?, ?> pipeline, Stage next) {
+            while (!pipeline.closed) {
+                Item item;
+                try {
+                    item = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long startNanos = System.nanoTime();
+                queueWaitMicros.record((startNanos - item.enqueuedNanos) / 1_000);
+                if (item.result.isDone()) {
+                    skipped.increment();
+                    continue;
+                }
+                Object output;
+                busy.incrementAndGet();
+                if (item.context != null) {
+                    item.context.restore();
+                }
+                try {
+                    output = function.apply(item.value);
+                    processed.increment();
+                } catch (Throwable e) {
+                    failed.increment();
+                    item.result.completeExceptionally(e);
+                    continue;
+                } finally {
+                    serviceMicros.record((System.nanoTime() - startNanos) / 1_000);
+                    if (item.context != null) {
+                        item.context.clear();
+                    }
+                    busy.decrementAndGet();
+                }
+                if (next == null) {
+                    pipeline.completed.increment();
+                    item.result.complete(output);
+                    continue;
+                }
+                item.value = output;
+                // 다음 단계 큐가 가득 차면 여기서 대기 → 이 단계가 멈추고 자기 큐가 참 (역압)
+                blocked.incrementAndGet();
+                long blockedStart = System.nanoTime();
+                try {
+                    next.enqueue(item, Long.MAX_VALUE);
+                } catch (InterruptedException e) {
+                    item.result.completeExceptionally(new PipelineRejectedException(pipeline.name, "closed"));
+                    return;
+                } finally {
+                    blockedNanos.add(System.nanoTime() - blockedStart);
+                    blocked.decrementAndGet();
+                }
+            }
+        }
+
+        private StageStats stats() {
+            int busyNow = busy.get();
+            return new StageStats(name, concurrency, busyNow, blocked.get(), (double) busyNow / concurrency,
+                    queue.size(), queueCapacity, processed.sum(), failed.sum(), skipped.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(blockedNanos.sum()),
+                    queueWaitMicros.snapshot(), serviceMicros.snapshot());
+        }
+    }
+
+    /**
+     * 파이프라인을 통과하는 요청 (단계 출력으로 value 교체)
+     */
+    private static final class Item {
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private final ContextSnapshot context;
+        private Object value;
+        private long enqueuedNanos;
+
+        private Item(Object value, ContextSnapshot context) {
+            this.value = value;
+            this.context = context;
+        }
+    }
+
+    /**
+     * 파이프라인 상태
+     *
+     * @param bottleneck 워커 사용률이 가장 높은 단계 (유휴 상태면 null)
+     */
+    public record PipelineStats(String name, long submitted, long rejected, long completed, String bottleneck,
+                                List<StageStats> stages) {
+    }
+
+    /**
+     * 단계 상태
+     *
+     * @param busy 처리 함수 실행 중인 워커 수
+     * @param blocked 다음 단계 큐가 가득 차서 대기 중인 워커 수 (하류가 병목)
+     * @param utilisation 워커 사용률 (busy / concurrency)
+     * @param skipped 이미 결과가 확정되어(타임아웃 / 취소) 처리하지 않은 항목 수
+     * @param blockedMs 하류 대기 누적 시간
+     * @param queueWaitMicros 큐 대기 시간 히스토그램 (µs)
+     * @param serviceMicros 처리 시간 히스토그램 (µs)
+     */
+    public record StageStats(String name, int concurrency, int busy, int blocked, double utilisation,
+                             int queued, int queueCapacity, long processed, long failed, long skipped,
+                             long blockedMs, LogHistogram.Snapshot queueWaitMicros,
+                             LogHistogram.Snapshot serviceMicros) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.ocean.sc.vt.pipeline;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이름으로 파이프라인 Bean 조회 (@VirtualThread(pipeline = "..."))
+ * - 첫 조회 시점에 Bean을 모음: 파이프라인 단계가 쓰는 서비스가 Aspect보다 먼저 생성되어
+ *   프록시 대상에서 빠지지 않도록 Aspect 생성 시 의존하지 않음
+ */
+@Component
+public class PipelineRegistry {
+
+    private final ObjectProvider<Pipeline<?, ?>> provider;
+    private volatile Map<String, Pipeline<?, ?>> pipelines;
+
+    public PipelineRegistry(ObjectProvider<Pipeline<?, ?>> provider) {
+        this.provider = provider;
+    }
+
+    /**
+     * @throws IllegalStateException 해당 이름의 파이프라인 없음
+     */
+    public Pipeline<?, ?> get(String name) {
+        Pipeline<?, ?> pipeline = pipelines().get(name);
+        if (pipeline == null) {
+            throw new IllegalStateException("Unknown pipeline: " + name + " (registered: " + pipelines().keySet() + ")");
+        }
+        return pipeline;
+    }
+
+    public List<Pipeline<?, ?>> all() {
+        return List.copyOf(pipelines().values());
+    }
+
+    private Map<String, Pipeline<?, ?>> pipelines() {
+        Map<String, Pipeline<?, ?>> current = pipelines;
+        if (current == null) {
+            current = provider.orderedStream().collect(Collectors.toUnmodifiableMap(Pipeline::name, Function.identity()));
+            pipelines = current;
+        }
+        return current;
+    }
+}
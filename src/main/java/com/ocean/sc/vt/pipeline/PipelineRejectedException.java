@@ -0,0 +1,15 @@
+package com.ocean.sc.vt.pipeline;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 파이프라인 입구에서 거부됨 (첫 단계 큐 포화 / 종료) - 503
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PipelineRejectedException extends RuntimeException {
+
+    public PipelineRejectedException(String pipeline, String reason) {
+        super(String.format("Pipeline rejected: %s (%s)", pipeline, reason));
+    }
+}
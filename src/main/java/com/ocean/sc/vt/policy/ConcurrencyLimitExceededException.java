@@ -0,0 +1,15 @@
+package com.ocean.sc.vt.policy;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 메서드별 동시 실행 제한(벌크헤드) 초과 - 제출하지 않고 즉시 503
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String methodKey, int maxConcurrency) {
+        super(String.format("Concurrency limit exceeded: %s (max %d)", methodKey, maxConcurrency));
+    }
+}
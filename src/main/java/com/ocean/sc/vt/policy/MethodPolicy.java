@@ -0,0 +1,20 @@
+package com.ocean.sc.vt.policy;
+
+/**
+ * 메서드별 오프로딩 정책 오버라이드 (null 항목은 기본값 사용)
+ *
+ * @param timeoutMs 타임아웃 (밀리초) - null이면 @VirtualThread(timeout) / Callable 기본 타임아웃
+ * @param maxConcurrency 동시 실행 제한 (벌크헤드) - null 또는 0 이하이면 무제한
+ */
+public record MethodPolicy(Long timeoutMs, Integer maxConcurrency) {
+
+    public MethodPolicy {
+        if (timeoutMs != null && timeoutMs <= 0) {
+            throw new IllegalArgumentException("timeoutMs must be positive: " + timeoutMs);
+        }
+    }
+
+    boolean limitsConcurrency() {
+        return maxConcurrency != null && maxConcurrency > 0;
+    }
+}
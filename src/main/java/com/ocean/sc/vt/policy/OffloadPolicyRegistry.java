@@ -0,0 +1,151 @@
+package com.ocean.sc.vt.policy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * 런타임 변경 가능한 오프로딩 정책 (재시작 없이 타임아웃 / 동시 실행 제한 조정)
+ * - 초기값: vt.policy.callable-timeout-ms, vt.policy.methods.[정규 클래스명.메서드명].timeout-ms / max-concurrency
+ * - 관리 API로 변경 → 새 {@link PolicySnapshot}을 volatile 참조 하나로 발행 (쓰기만 직렬화)
+ * - 호출 경로는 {@link #current()}로 스냅샷을 한 번 읽어 사용 → 잠금 없음
+ * - 메서드별 동시 실행 수는 정책과 별도로 유지 (제한을 바꿔도 실행 중인 작업 수는 그대로)
+ */
+@Component
+public class OffloadPolicyRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(OffloadPolicyRegistry.class);
+
+    private final ConcurrentHashMap<String, AtomicInteger> running = new ConcurrentHashMap<>();
+
+    private volatile PolicySnapshot current;
+
+    public OffloadPolicyRegistry(@Value("${vt.policy.callable-timeout-ms:30000}") long callableTimeoutMs,
+                                 Environment environment) {
+        Map<String, MethodPolicy> methods = Binder.get(environment)
+                .bind("vt.policy.methods", Bindable.mapOf(String.class, MethodPolicy.class))
+                .orElse(Map.of());
+        this.current = new PolicySnapshot(1, callableTimeoutMs, methods);
+    }
+
+    /**
+     * 현재 정책 스냅샷 (호출당 한 번 읽어서 사용)
+     */
+    public PolicySnapshot current() {
+        return current;
+    }
+
+    /**
+     * 메서드 정책 설정 (기존 값 대체)
+     */
+    public PolicySnapshot putMethod(String methodKey, MethodPolicy policy) {
+        return publish(snapshot -> {
+            Map<String, MethodPolicy> methods = new HashMap<>(snapshot.methods());
+            methods.put(methodKey, policy);
+            return new PolicySnapshot(snapshot.version() + 1, snapshot.callableTimeoutMs(), methods);
+        });
+    }
+
+    /**
+     * 메서드 정책 제거 (기본값으로 복귀)
+     */
+    public PolicySnapshot removeMethod(String methodKey) {
+        return publish(snapshot -> {
+            Map<String, MethodPolicy> methods = new HashMap<>(snapshot.methods());
+            methods.remove(methodKey);
+            return new PolicySnapshot(snapshot.version() + 1, snapshot.callableTimeoutMs(), methods);
+        });
+    }
+
+    /**
+     * Callable / WebAsyncTask 기본 타임아웃 변경
+     */
+    public PolicySnapshot setCallableTimeout(long timeoutMs) {
+        if (timeoutMs <= 0) {
+            throw new IllegalArgumentException("timeoutMs must be positive: " + timeoutMs);
+        }
+        return publish(snapshot -> new PolicySnapshot(snapshot.version() + 1, timeoutMs, snapshot.methods()));
+    }
+
+    /**
+     * 동시 실행 제한 확인 후 실행 수 증가
+     * - 제한이 없으면 카운트하지 않는 {@link Permit#UNLIMITED} (실행 중 제한이 생겨도 그 전 호출은 세지 않음)
+     *
+     * @return 제한 초과면 null (실행 수 변경 없음)
+     */
+    public Permit tryAcquire(PolicySnapshot snapshot, String methodKey) {
+        int limit = snapshot.maxConcurrency(methodKey);
+        if (limit <= 0) {
+            return Permit.UNLIMITED;
+        }
+        AtomicInteger count = running.computeIfAbsent(methodKey, key -> new AtomicInteger());
+        while (true) {
+            int value = count.get();
+            if (value >= limit) {
+                return null;
+            }
+            if (count.compareAndSet(value, value + 1)) {
+                return new Permit(count);
+            }
+        }
+    }
+
+    /**
+     * 동시 실행 제한이 걸린 메서드의 현재 실행 수
+     */
+    public Map<String, Integer> runningCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        running.forEach((key, count) -> counts.put(key, count.get()));
+        return counts;
+    }
+
+    /**
+     * 조인 포인트 / 핸들러 메서드 공통 정책 키 (정규 클래스명.메서드명)
+     * - 단순 클래스명은 패키지가 다른 같은 이름 클래스끼리 정책 / 동시 실행 수를 공유하므로 사용하지 않음
+     * - 오버로드된 메서드는 같은 키를 공유
+     */
+    public static String methodKey(Class<?> type, String methodName) {
+        return type.getName() + "." + methodName;
+    }
+
+    /**
+     * 동시 실행 허가 - 실행 종료 / 취소 등 여러 경로에서 반환해도 한 번만 감소
+     */
+    public static final class Permit {
+
+        static final Permit UNLIMITED = new Permit(null);
+
+        private final AtomicInteger count;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(AtomicInteger count) {
+            this.count = count;
+        }
+
+        public void release() {
+            if (count != null && released.compareAndSet(false, true)) {
+                count.decrementAndGet();
+            }
+        }
+    }
+
+    private synchronized PolicySnapshot publish(UnaryOperator<PolicySnapshot> change) {
+        PolicySnapshot next = change.apply(current);
+        current = next;
+        log.info("[Offload Policy] 🔧 정책 변경 v{} - callableTimeoutMs: {}, methods: {}",
+                next.version(), next.callableTimeoutMs(), next.methods());
+        return next;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ocean.sc.vt.policy;
+
+import java.util.Map;
+
+/**
+ * 특정 시점의 오프로딩 정책 전체 (불변)
+ * - 변경 시 새 스냅샷을 만들어 한 번에 교체하므로 읽는 쪽은 잠금 없이 일관된 값을 봄
+ *
+ * @param version 변경될 때마다 1씩 증가
+ * @param callableTimeoutMs Callable / WebAsyncTask 반환 방식 기본 타임아웃
+ * @param methods 메서드 키("클래스명.메서드명")별 오버라이드
+ */
+public record PolicySnapshot(long version, long callableTimeoutMs, Map<String, MethodPolicy> methods) {
+
+    public PolicySnapshot {
+        methods = Map.copyOf(methods);
+    }
+
+    /**
+     * @return 오버라이드가 있으면 그 값, 없으면 defaultTimeoutMs
+     */
+    public long timeoutMs(String methodKey, long defaultTimeoutMs) {
+        MethodPolicy policy = policyOf(methodKey);
+        return policy != null && policy.timeoutMs() != null ? policy.timeoutMs() : defaultTimeoutMs;
+    }
+
+    /**
+     * @return 동시 실행 제한, 없으면 0 (무제한)
+     */
+    public int maxConcurrency(String methodKey) {
+        MethodPolicy policy = policyOf(methodKey);
+        return policy != null && policy.limitsConcurrency() ? policy.maxConcurrency() : 0;
+    }
+
+    private MethodPolicy policyOf(String methodKey) {
+        return methodKey == null ? null : methods.get(methodKey);
+    }
+}
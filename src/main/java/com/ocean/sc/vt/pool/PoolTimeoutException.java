@@ -0,0 +1,15 @@
+package com.ocean.sc.vt.pool;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 기한 안에 풀 자원을 얻지 못함 (다운스트림 포화) - 503
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PoolTimeoutException extends RuntimeException {
+
+    public PoolTimeoutException(String pool, long waitedMs) {
+        super(String.format("Resource pool exhausted: %s (waited %dms)", pool, waitedMs));
+    }
+}
@@ -0,0 +1,294 @@
+package com.ocean.sc.vt.pool;
+
+import com.ocean.sc.vt.metrics.LogHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.Cleaner;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Virtual Thread용 유한 자원 풀 (다운스트림 DB / HTTP 연결 등)
+ * - 공정(fair) Semaphore로 대기자 FIFO 보장, synchronized 미사용 (캐리어 스레드 pinning 없음)
+ * - 대기는 기한(deadline) 기준: 남은 시간이 없으면 대기 없이 실패 ({@link PoolTimeoutException})
+ * - 유휴 자원은 LIFO로 재사용 (최근 사용한 연결 우선), 필요할 때 생성
+ * - 누수 탐지
+ *   - 반납하지 않고 GC된 Lease: 경고 로그 후 자원 폐기 + 허가 회수 (풀 고갈 방지)
+ *   - 오래 점유 중인 Lease: {@link #heldLongerThan}으로 점유 스레드 / 획득 위치 조회
+ * - 메트릭: 대기 시간 / 점유 시간 히스토그램, 사용률, 대기자 수, 타임아웃 / 누수 건수
+ *
+ * <p>수천 개의 Virtual Thread가 동시에 호출하면 이 풀이 실제 동시성 상한이 됩니다.</p>
+ */
+public class ResourcePool<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ResourcePool.class);
+
+    private static final Cleaner CLEANER = Cleaner.create(Thread.ofPlatform().daemon().name("vt-pool-cleaner").factory());
+    private static final int MAX_STACK_DEPTH = 32;
+
+    private final String name;
+    private final int maxSize;
+    private final Supplier<T> factory;
+    private final Consumer<T> destroyer;
+    private final boolean captureAcquireSite;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<T> idle = new ConcurrentLinkedDeque<>();
+    private final Set<Holding<T>> holdings = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+    private final LogHistogram waitNanos = new LogHistogram();
+    private final LogHistogram holdNanos = new LogHistogram();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder leaked = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * @param factory 자원 생성 (허가를 얻은 스레드에서 호출)
+     * @param destroyer 자원 폐기 (누수 회수 / 풀 종료 시)
+     * @param captureAcquireSite 획득 위치 스택 기록 여부 (누수 추적용, 획득마다 스택 캡처 비용)
+     */
+    public ResourcePool(String name, int maxSize, Supplier<T> factory, Consumer<T> destroyer,
+                        boolean captureAcquireSite) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.factory = factory;
+        this.destroyer = destroyer;
+        this.captureAcquireSite = captureAcquireSite;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * 자원 획득 (최대 timeout 대기)
+     */
+    public Lease<T> acquire(Duration timeout) throws InterruptedException {
+        return acquireBefore(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * 자원 획득 (System.nanoTime() 기준 기한까지 대기, FIFO 순서)
+     * - 기한이 이미 지났으면 대기 없이 즉시 시도
+     * - 대기 중 인터럽트(작업 취소)되면 InterruptedException
+     *
+     * @throws PoolTimeoutException 기한 안에 자원을 얻지 못함
+     */
+    public Lease<T> acquireBefore(long deadlineNanos) throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("Resource pool closed: " + name);
+        }
+        long start = System.nanoTime();
+        // 대기 시간 0이어도 tryAcquire(timeout)은 공정성을 지킴 (tryAcquire()는 새치기)
+        boolean granted = permits.tryAcquire(Math.max(0, deadlineNanos - start), TimeUnit.NANOSECONDS);
+        long waited = System.nanoTime() - start;
+        waitNanos.record(waited);
+        if (!granted) {
+            timeouts.increment();
+            throw new PoolTimeoutException(name, TimeUnit.NANOSECONDS.toMillis(waited));
+        }
+        T resource = idle.pollFirst();
+        if (resource == null) {
+            try {
+                resource = factory.get();
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            created.increment();
+        }
+        acquired.increment();
+        peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+
+        Holding<T> holding = new Holding<>(this, resource, Thread.currentThread(),
+                captureAcquireSite ? new Throwable("acquired here").getStackTrace() : null);
+        holdings.add(holding);
+        Lease<T> lease = new Lease<>(holding);
+        lease.cleanable = CLEANER.register(lease, holding::reclaimIfLeaked);
+        return lease;
+    }
+
+    /**
+     * threshold 이상 점유 중인 자원 (오래된 순)
+     */
+    public List<HeldResource> heldLongerThan(Duration threshold) {
+        long now = System.nanoTime();
+        long thresholdNanos = threshold.toNanos();
+        List<HeldResource> result = new ArrayList<>();
+        for (Holding<T> holding : holdings) {
+            long heldNanos = now - holding.acquiredNanos;
+            if (heldNanos >= thresholdNanos) {
+                result.add(new HeldResource(
+                        TimeUnit.NANOSECONDS.toMillis(heldNanos),
+                        holding.holder.toString(),
+                        holding.holder.isAlive(),
+                        holding.site == null ? List.of() : Arrays.stream(holding.site)
+                                .skip(1)
+                                .limit(MAX_STACK_DEPTH)
+                                .map(StackTraceElement::toString)
+                                .toList()));
+            }
+        }
+        result.sort(Comparator.comparingLong(HeldResource::heldMs).reversed());
+        return result;
+    }
+
+    public PoolStats stats() {
+        int using = inUse.get();
+        return new PoolStats(
+                name,
+                maxSize,
+                using,
+                idle.size(),
+                permits.getQueueLength(),
+                (double) using / maxSize,
+                peakInUse.get(),
+                acquired.sum(),
+                timeouts.sum(),
+                created.sum(),
+                leaked.sum(),
+                waitNanos.snapshot(),
+                holdNanos.snapshot());
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 풀 종료: 유휴 자원 폐기, 이후 획득 거부 (점유 중인 자원은 반납 시 폐기)
+     */
+    @Override
+    public void close() {
+        closed = true;
+        T resource;
+        while ((resource = idle.pollFirst()) != null) {
+            destroyQuietly(resource);
+        }
+    }
+
+    private void giveBack(Holding<T> holding, boolean reusable) {
+        holdings.remove(holding);
+        holdNanos.record(System.nanoTime() - holding.acquiredNanos);
+        inUse.decrementAndGet();
+        if (reusable && !closed) {
+            idle.offerFirst(holding.resource);
+        } else {
+            destroyQuietly(holding.resource);
+        }
+        permits.release();
+    }
+
+    private void destroyQuietly(T resource) {
+        try {
+            destroyer.accept(resource);
+        } catch (RuntimeException e) {
+            log.warn("[Resource Pool] 자원 폐기 실패 - pool: {}", name, e);
+        }
+    }
+
+    /**
+     * 자원 대여 (try-with-resources로 반납)
+     */
+    public static final class Lease<T> implements AutoCloseable {
+
+        private final Holding<T> holding;
+        private Cleaner.Cleanable cleanable;
+
+        private Lease(Holding<T> holding) {
+            this.holding = holding;
+        }
+
+        public T get() {
+            if (holding.returned.get()) {
+                throw new IllegalStateException("Lease already released: " + holding.pool.name);
+            }
+            return holding.resource;
+        }
+
+        /**
+         * 반납 (중복 호출 무시)
+         */
+        @Override
+        public void close() {
+            if (holding.returned.compareAndSet(false, true)) {
+                holding.pool.giveBack(holding, true);
+            }
+            cleanable.clean();
+        }
+    }
+
+    /**
+     * 대여 상태 (Cleaner 동작이 Lease를 참조하지 않도록 분리)
+     */
+    private static final class Holding<T> {
+
+        private final ResourcePool<T> pool;
+        private final T resource;
+        private final Thread holder;
+        private final StackTraceElement[] site;
+        private final long acquiredNanos = System.nanoTime();
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        private Holding(ResourcePool<T> pool, T resource, Thread holder, StackTraceElement[] site) {
+            this.pool = pool;
+            this.resource = resource;
+            this.holder = holder;
+            this.site = site;
+        }
+
+        /**
+         * Lease가 반납 없이 GC됨 → 자원 상태를 알 수 없으므로 폐기하고 허가만 회수
+         */
+        private void reclaimIfLeaked() {
+            if (!returned.compareAndSet(false, true)) {
+                return;
+            }
+            pool.leaked.increment();
+            log.warn("[Resource Pool] 🚰 반납되지 않은 자원 회수 - pool: {}, holder: {}, held: {}ms{}",
+                    pool.name, holder, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - acquiredNanos),
+                    site == null ? "" : "\n\tat " + String.join("\n\tat ",
+                            Arrays.stream(site).skip(1).limit(MAX_STACK_DEPTH).map(StackTraceElement::toString).toList()));
+            pool.giveBack(this, false);
+        }
+    }
+
+    /**
+     * 오래 점유 중인 자원
+     *
+     * @param holder 획득한 스레드
+     * @param holderAlive 점유 스레드 생존 여부 (false면 반납 없이 종료된 누수)
+     * @param acquireSite 획득 위치 (captureAcquireSite 활성화 시)
+     */
+    public record HeldResource(long heldMs, String holder, boolean holderAlive, List<String> acquireSite) {
+    }
+
+    /**
+     * 풀 상태
+     *
+     * @param utilisation 사용률 (inUse / maxSize)
+     * @param waiting 허가 대기 중인 스레드 수 (근사값)
+     * @param waitNanos 획득 대기 시간 히스토그램 (타임아웃 포함)
+     * @param holdNanos 점유 시간 히스토그램
+     */
+    public record PoolStats(String name, int maxSize, int inUse, int idle, int waiting, double utilisation,
+                            int peakInUse, long acquired, long timeouts, long created, long leaked,
+                            LogHistogram.Snapshot waitNanos, LogHistogram.Snapshot holdNanos) {
+    }
+}
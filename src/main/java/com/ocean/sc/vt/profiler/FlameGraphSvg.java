@@ -0,0 +1,112 @@
+package com.ocean.sc.vt.profiler;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * collapsed stack → SVG 플레임 그래프 렌더러 (외부 도구 없이 브라우저에서 열람)
+ * - 루트가 아래, 리프가 위
+ * - 프레임 너비 = 샘플 비율, 마우스 오버 시 샘플 수/비율 표시
+ */
+public final class FlameGraphSvg {
+
+    private static final int WIDTH = 1200;
+    private static final int FRAME_HEIGHT = 16;
+    private static final int PADDING = 10;
+    private static final int TITLE_HEIGHT = 30;
+    private static final double MIN_WIDTH = 0.1;
+    private static final double CHAR_WIDTH = 7.0;
+
+    private FlameGraphSvg() {
+    }
+
+    public static String render(Map<String, Long> collapsedStacks, String title) {
+        Node root = new Node("all");
+        for (Map.Entry<String, Long> entry : collapsedStacks.entrySet()) {
+            Node node = root;
+            node.samples += entry.getValue();
+            for (String frame : entry.getKey().split(";")) {
+                node = node.children.computeIfAbsent(frame, Node::new);
+                node.samples += entry.getValue();
+            }
+        }
+
+        int depth = root.depth();
+        int height = TITLE_HEIGHT + depth * FRAME_HEIGHT + PADDING * 2;
+        double scale = root.samples == 0 ? 0 : (WIDTH - PADDING * 2.0) / root.samples;
+
+        StringBuilder svg = new StringBuilder(4096);
+        svg.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append(String.format(Locale.ROOT,
+                        "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\" viewBox=\"0 0 %d %d\">%n",
+                        WIDTH, height, WIDTH, height))
+                .append("<style>text{font-family:monospace;font-size:12px;pointer-events:none}</style>\n")
+                .append(String.format(Locale.ROOT, "<rect width=\"%d\" height=\"%d\" fill=\"#fafafa\"/>%n", WIDTH, height))
+                .append(String.format(Locale.ROOT, "<text x=\"%d\" y=\"20\" font-size=\"16\">%s (%d samples)</text>%n",
+                        PADDING, escape(title), root.samples));
+
+        renderNode(svg, root, PADDING, height - PADDING - FRAME_HEIGHT, scale, root.samples);
+        svg.append("</svg>\n");
+        return svg.toString();
+    }
+
+    private static void renderNode(StringBuilder svg, Node node, double x, int y, double scale, long total) {
+        double width = node.samples * scale;
+        if (width < MIN_WIDTH) {
+            return;
+        }
+        double percent = total == 0 ? 0 : node.samples * 100.0 / total;
+        svg.append(String.format(Locale.ROOT,
+                "<g><title>%s (%d samples, %.2f%%)</title>"
+                        + "<rect x=\"%.2f\" y=\"%d\" width=\"%.2f\" height=\"%d\" fill=\"%s\" rx=\"2\"/>",
+                escape(node.name), node.samples, percent, x, y, width, FRAME_HEIGHT - 1, color(node.name)));
+        int maxChars = (int) ((width - 6) / CHAR_WIDTH);
+        if (maxChars >= 3) {
+            String label = node.name.length() <= maxChars ? node.name : node.name.substring(0, maxChars - 2) + "..";
+            svg.append(String.format(Locale.ROOT, "<text x=\"%.2f\" y=\"%d\">%s</text>",
+                    x + 3, y + FRAME_HEIGHT - 4, escape(label)));
+        }
+        svg.append("</g>\n");
+
+        double childX = x;
+        for (Node child : node.children.values()) {
+            renderNode(svg, child, childX, y - FRAME_HEIGHT, scale, total);
+            childX += child.samples * scale;
+        }
+    }
+
+    private static String color(String name) {
+        int hash = name.hashCode();
+        int red = 205 + Math.floorMod(hash, 50);
+        int green = 80 + Math.floorMod(hash >>> 8, 150);
+        int blue = Math.floorMod(hash >>> 16, 55);
+        return String.format(Locale.ROOT, "rgb(%d,%d,%d)", red, green, blue);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;");
+    }
+
+    private static final class Node {
+
+        private final String name;
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private long samples;
+
+        private Node(String name) {
+            this.name = name;
+        }
+
+        private int depth() {
+            int max = 0;
+            for (Node child : children.values()) {
+                max = Math.max(max, child.depth());
+            }
+            return max + 1;
+        }
+    }
+}
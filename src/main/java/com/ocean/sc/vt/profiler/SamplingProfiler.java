@@ -0,0 +1,250 @@
+package com.ocean.sc.vt.profiler;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JFR 이벤트 스트리밍 기반 내장 샘플링 프로파일러
+ * - jdk.ExecutionSample을 RecordingStream으로 소비 (Virtual Thread 샘플 포함)
+ * - 샘플마다 {@link WorkAttribution} 태그(@VirtualThread 메서드 / 엔드포인트)를 루트 프레임으로 붙여 collapsed stack 집계
+ *   → 캐리어 스레드가 아닌 작업 단위로 CPU 사용 구분
+ * - 태그는 전달 시점이 아닌 샘플 시각으로 결정: 같은 스트림의 {@link WorkTagEvent} 구간(스레드, 시작 ~ 종료)과 조인
+ *   (스트림은 약 1초 늦게 전달하므로 그 사이 끝난 짧은 호출도 자기 태그로 귀속)
+ * - 구간이 아직 끝나지 않은 샘플은 보류했다가 구간이 도착하면 귀속, {@code RESOLVE_GRACE}가 지나면 현재 태그로 귀속
+ * - 결과: collapsed stack 텍스트 (flamegraph.pl / speedscope 입력), SVG 플레임 그래프
+ */
+@Component
+public class SamplingProfiler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SamplingProfiler.class);
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    /** 태그 구간이 도착하기를 기다리는 최대 시간 (넘으면 실행 중인 긴 작업으로 보고 현재 태그로 귀속) */
+    private static final Duration RESOLVE_GRACE = Duration.ofSeconds(3);
+    /** 끝난 태그 구간 보관 시간 */
+    private static final Duration INTERVAL_RETENTION = Duration.ofSeconds(10);
+
+    private final Map<String, Long> stacks = new ConcurrentHashMap<>();
+    private final AtomicLong samples = new AtomicLong();
+    /** 스레드 ID → 끝난 태그 구간 (스트림 디스패치 스레드와 stop()이 joinLock으로 접근) */
+    private final Map<Long, List<TagInterval>> intervals = new HashMap<>();
+    private final List<PendingSample> pending = new ArrayList<>();
+    /** stop()은 this 잠금을 잡고 디스패치 완료를 기다리므로 조인 상태는 별도 잠금 사용 */
+    private final Object joinLock = new Object();
+
+    private RecordingStream stream;
+    private Instant startedAt;
+    private Duration period;
+
+    /**
+     * 프로파일링 시작 (이전 결과 초기화)
+     *
+     * @throws IllegalStateException 이미 실행 중인 경우
+     */
+    public synchronized Status start(Duration samplingPeriod) {
+        if (stream != null) {
+            throw new IllegalStateException("Profiler already running");
+        }
+        stacks.clear();
+        samples.set(0);
+        synchronized (joinLock) {
+            intervals.clear();
+            pending.clear();
+        }
+
+        RecordingStream newStream = new RecordingStream();
+        newStream.enable(EXECUTION_SAMPLE).withPeriod(samplingPeriod).withStackTrace();
+        newStream.enable(WorkTagEvent.class).withoutStackTrace().withoutThreshold();
+        newStream.onEvent(EXECUTION_SAMPLE, this::onSample);
+        newStream.onEvent(WorkTagEvent.NAME, this::onTagInterval);
+        newStream.onFlush(() -> resolvePending(false));
+        newStream.setReuse(true);
+        newStream.setOrdered(false);
+
+        WorkAttribution.activate();
+        newStream.startAsync();
+
+        stream = newStream;
+        startedAt = Instant.now();
+        period = samplingPeriod;
+        log.info("[Profiler] 🔥 샘플링 시작 - period: {}", samplingPeriod);
+        return status();
+    }
+
+    /**
+     * 프로파일링 종료 (집계 결과는 유지)
+     */
+    public synchronized Status stop() {
+        if (stream != null) {
+            // 기록된 이벤트를 모두 전달받은 뒤 종료 → 남은 보류 샘플 귀속
+            stream.stop();
+            stream.close();
+            stream = null;
+            resolvePending(true);
+            WorkAttribution.deactivate();
+            log.info("[Profiler] 🛑 샘플링 종료 - samples: {}, stacks: {}", samples.get(), stacks.size());
+        }
+        return status();
+    }
+
+    public synchronized Status status() {
+        return new Status(stream != null, startedAt, period, samples.get(), stacks.size());
+    }
+
+    /**
+     * collapsed stack ("태그;루트;...;리프 샘플수" 형식, 한 줄에 한 스택)
+     */
+    public String collapsed() {
+        StringBuilder builder = new StringBuilder();
+        new TreeMap<>(stacks).forEach((stack, count) -> builder.append(stack).append(' ').append(count).append('\n'));
+        return builder.toString();
+    }
+
+    /**
+     * SVG 플레임 그래프
+     */
+    public String flameGraph() {
+        return FlameGraphSvg.render(new TreeMap<>(stacks), "Virtual Thread CPU Profile");
+    }
+
+    void onSample(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        RecordedThread thread = event.getThread("sampledThread");
+
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder stack = new StringBuilder();
+        if (stackTrace.isTruncated()) {
+            stack.append(";[truncated]");
+        }
+        // JFR 프레임은 리프(0) → 루트 순서
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            RecordedFrame frame = frames.get(i);
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            stack.append(';')
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName());
+        }
+
+        synchronized (joinLock) {
+            pending.add(thread == null
+                    ? new PendingSample(-1, false, null, event.getStartTime(), stack.toString())
+                    : new PendingSample(thread.getJavaThreadId(), thread.isVirtual(), thread.getJavaName(),
+                            event.getStartTime(), stack.toString()));
+        }
+    }
+
+    void onTagInterval(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        if (thread == null) {
+            return;
+        }
+        TagInterval interval = new TagInterval(event.getStartTime(), event.getEndTime(), event.getString("tag"));
+        synchronized (joinLock) {
+            intervals.computeIfAbsent(thread.getJavaThreadId(), id -> new ArrayList<>()).add(interval);
+        }
+    }
+
+    /**
+     * 보류 샘플을 태그 구간과 조인하여 집계
+     *
+     * @param all true면 구간이 없어도 모두 귀속 (종료 시)
+     */
+    void resolvePending(boolean all) {
+        synchronized (joinLock) {
+            Instant graceLimit = Instant.now().minus(RESOLVE_GRACE);
+            Iterator<PendingSample> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                PendingSample sample = iterator.next();
+                String tag = intervalTagOf(sample);
+                if (tag == null) {
+                    if (!all && sample.time().isAfter(graceLimit)) {
+                        // 태그 구간이 아직 끝나지 않았거나 전달 전 - 다음 flush에 다시 시도
+                        continue;
+                    }
+                    tag = currentTagOf(sample);
+                }
+                stacks.merge(tag + sample.stack(), 1L, Long::sum);
+                samples.incrementAndGet();
+                iterator.remove();
+            }
+
+            Instant retentionLimit = Instant.now().minus(INTERVAL_RETENTION);
+            intervals.values().forEach(list -> list.removeIf(interval -> interval.end().isBefore(retentionLimit)));
+            intervals.values().removeIf(List::isEmpty);
+        }
+    }
+
+    /**
+     * 샘플 시각을 포함하는 가장 안쪽(가장 늦게 시작한) 태그 구간
+     */
+    private String intervalTagOf(PendingSample sample) {
+        List<TagInterval> threadIntervals = intervals.get(sample.threadId());
+        if (threadIntervals == null) {
+            return null;
+        }
+        TagInterval innermost = null;
+        for (TagInterval interval : threadIntervals) {
+            if (!sample.time().isBefore(interval.start()) && !sample.time().isAfter(interval.end())
+                    && (innermost == null || interval.start().isAfter(innermost.start()))) {
+                innermost = interval;
+            }
+        }
+        return innermost == null ? null : innermost.tag();
+    }
+
+    private static String currentTagOf(PendingSample sample) {
+        if (sample.threadId() < 0) {
+            return "[unknown]";
+        }
+        String tag = WorkAttribution.tagOf(sample.threadId());
+        if (tag != null) {
+            return tag;
+        }
+        return sample.virtual() ? "[untagged virtual]" : "[" + sample.threadName() + "]";
+    }
+
+    private record TagInterval(Instant start, Instant end, String tag) {
+    }
+
+    /**
+     * @param threadId 샘플된 스레드 ID (알 수 없으면 -1)
+     * @param stack ";루트;...;리프" (태그 뒤에 붙임)
+     */
+    private record PendingSample(long threadId, boolean virtual, String threadName, Instant time, String stack) {
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+
+    /**
+     * 프로파일러 상태
+     */
+    public record Status(boolean running, Instant startedAt, Duration period, long samples, int uniqueStacks) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.ocean.sc.vt.profiler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스레드 → 작업 태그(@VirtualThread 메서드 / 엔드포인트) 매핑
+ * - 프로파일러 샘플을 캐리어가 아닌 실제 작업 단위로 귀속시키기 위해 사용
+ * - 프로파일러가 꺼져 있으면 volatile 읽기 1회 외 비용 없음
+ * - 중첩 실행(엔드포인트 작업 안의 @VirtualThread 호출)은 "바깥 > 안쪽" 형태로 기록
+ * - 태그 구간마다 {@link WorkTagEvent}를 기록 → 샘플이 늦게 전달되어도 샘플 시각의 태그로 귀속
+ */
+public final class WorkAttribution {
+
+    private static final Map<Long, Frame> TAGS = new ConcurrentHashMap<>();
+
+    private static volatile boolean active;
+
+    private WorkAttribution() {
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * 현재 스레드에 태그 설정
+     *
+     * @return 이전 태그 ({@link #exit(String)}에 전달)
+     */
+    public static String enter(String tag) {
+        if (!active) {
+            return null;
+        }
+        long threadId = Thread.currentThread().threadId();
+        Frame parent = TAGS.get(threadId);
+        String previous = parent == null ? null : parent.tag;
+        WorkTagEvent event = new WorkTagEvent();
+        event.tag = previous == null ? tag : previous + " > " + tag;
+        event.begin();
+        TAGS.put(threadId, new Frame(event.tag, event, parent));
+        return previous;
+    }
+
+    /**
+     * 현재 스레드 태그를 이전 상태로 복원 (태그 구간 이벤트 기록)
+     */
+    public static void exit(String previous) {
+        if (!active) {
+            return;
+        }
+        long threadId = Thread.currentThread().threadId();
+        Frame current = TAGS.get(threadId);
+        if (current != null) {
+            current.event.commit();
+        }
+        Frame parent = current == null ? null : current.parent;
+        if (previous == null || parent == null) {
+            TAGS.remove(threadId);
+        } else {
+            TAGS.put(threadId, parent);
+        }
+    }
+
+    static String tagOf(long threadId) {
+        Frame frame = TAGS.get(threadId);
+        return frame == null ? null : frame.tag;
+    }
+
+    static void activate() {
+        active = true;
+    }
+
+    static void deactivate() {
+        active = false;
+        TAGS.clear();
+    }
+
+    private record Frame(String tag, WorkTagEvent event, Frame parent) {
+    }
+}
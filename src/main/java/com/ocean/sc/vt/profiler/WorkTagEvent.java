@@ -0,0 +1,25 @@
+package com.ocean.sc.vt.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: 작업 태그 구간 1건 (스레드, 태그, 시작 ~ 종료)
+ * - 프로파일러 실행 중에만 기록 ({@link WorkAttribution#enter(String)} ~ {@link WorkAttribution#exit(String)})
+ * - jdk.ExecutionSample과 같은 JFR 시계를 쓰므로 샘플 시각으로 구간을 찾아 태그를 귀속
+ */
+@Name("com.ocean.sc.vt.WorkTag")
+@Label("Work Tag")
+@Category({"Virtual Thread Demo", "Profiling"})
+@Description("프로파일러 샘플 귀속용 작업 태그 구간")
+@StackTrace(false)
+final class WorkTagEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.ocean.sc.vt.WorkTag";
+
+    @Label("Tag")
+    String tag;
+}
@@ -1,17 +1,44 @@
 package com.ocean.sc.vt.service;
 
+import com.ocean.sc.vt.pool.ResourcePool;
+import com.ocean.sc.vt.simulation.LatencySimulator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 /**
  * 데모 서비스 - 1초 대기 후 응답 처리
+ * - 대기(I/O)는 {@link SimulatedConnection}으로 수행 - 기본은 풀 없이 직접 호출 (동시 호출 상한 없음)
+ *   → /virtual-load vs /platform-load 비교가 풀 크기가 아닌 스레드 모델 차이를 보여주도록
+ * - vt.pool.demo.enabled=true면 연결 풀({@link ResourcePool})에서 빌려 수행
+ *   → 동시 요청이 풀 크기를 넘으면 FIFO로 대기, vt.pool.demo.acquire-timeout-ms 초과 시 503
+ * - 대기 시간 / 장애는 {@link LatencySimulator} 설정(vt.simulation.methods.{메서드명})을 따름 (미설정 시 1초 고정)
  */
 @Service
 public class DemoService {
 
     private static final Logger log = LoggerFactory.getLogger(DemoService.class);
 
+    private final ResourcePool<SimulatedConnection> connectionPool;
+    private final boolean pooled;
+    private final Duration acquireTimeout;
+    private final LatencySimulator simulator;
+    /** 풀 미사용 시 공유하는 연결 (상태 없음 → 동시 사용 가능) */
+    private final SimulatedConnection directConnection = new SimulatedConnection();
+
+    public DemoService(ResourcePool<SimulatedConnection> connectionPool,
+                       @Value("${vt.pool.demo.enabled:false}") boolean pooled,
+                       @Value("${vt.pool.demo.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+                       LatencySimulator simulator) {
+        this.connectionPool = connectionPool;
+        this.pooled = pooled;
+        this.acquireTimeout = Duration.ofMillis(acquireTimeoutMs);
+        this.simulator = simulator;
+    }
+
     /**
      * 1초 대기 후 응답 반환
      * @param message 메시지
@@ -23,7 +50,7 @@ public class DemoService {
 
         try {
             // 1초 대기 (I/O 작업 시뮬레이션)
-            Thread.sleep(1000);
+            simulate("processWithDelay");
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("Thread interrupted", e);
@@ -47,7 +74,7 @@ public class DemoService {
 
         try {
             // 무거운 작업 시뮬레이션 (1초)
-            Thread.sleep(1000);
+            simulate("processComplexLogic");
 
             // 추가 처리 로직 (예: DB 조회, 외부 API 호출 등)
             String processedData = data.toUpperCase();
@@ -62,4 +89,14 @@ public class DemoService {
             throw new RuntimeException("Complex processing interrupted", e);
         }
     }
+
+    private void simulate(String method) throws InterruptedException {
+        if (!pooled) {
+            simulator.simulate(method, directConnection, 1000);
+            return;
+        }
+        try (ResourcePool.Lease<SimulatedConnection> connection = connectionPool.acquire(acquireTimeout)) {
+            simulator.simulate(method, connection.get(), 1000);
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.ocean.sc.vt.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다운스트림 연결(DB / 외부 API) 시뮬레이션 - {@link DemoService}가 풀에서 빌려 사용
+ */
+public class SimulatedConnection {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final int id = SEQUENCE.incrementAndGet();
+
+    /**
+     * 원격 호출 시뮬레이션 (I/O 대기)
+     */
+    public void execute(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    public int id() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedConnection#" + id;
+    }
+}
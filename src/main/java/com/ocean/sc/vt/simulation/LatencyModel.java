@@ -0,0 +1,49 @@
+package com.ocean.sc.vt.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 지연 시간 분포 (밀리초)
+ * - 난수 생성기를 받아 표본 하나를 뽑음 → 같은 시드면 같은 표본 (재현 가능)
+ */
+@FunctionalInterface
+public interface LatencyModel {
+
+    double sampleMillis(RandomGenerator random);
+
+    /**
+     * 고정 지연 (기존 동작: 1000ms)
+     */
+    static LatencyModel fixed(double millis) {
+        return random -> millis;
+    }
+
+    /**
+     * 로그 정규 분포 - 대부분의 원격 호출 지연 형태 (오른쪽 꼬리)
+     *
+     * @param medianMs 중앙값
+     * @param sigma 로그 표준편차 (0.5면 p99 ≈ 중앙값 × 3.2)
+     */
+    static LatencyModel logNormal(double medianMs, double sigma) {
+        return random -> medianMs * Math.exp(sigma * random.nextGaussian());
+    }
+
+    /**
+     * 이봉 분포 - 캐시 히트 / 미스처럼 빠른 경로와 느린 경로가 섞인 경우
+     *
+     * @param slowRate 느린 경로 비율 (0~1)
+     */
+    static LatencyModel bimodal(LatencyModel fast, LatencyModel slow, double slowRate) {
+        return random -> random.nextDouble() < slowRate ? slow.sampleMillis(random) : fast.sampleMillis(random);
+    }
+
+    /**
+     * 파레토 분포 - 두꺼운 꼬리 (GC, 재시도, 락 경합 등으로 드물게 매우 느림)
+     *
+     * @param minMs 최소값 (척도)
+     * @param shape 형상 (작을수록 꼬리가 두꺼움, 1~3 권장)
+     */
+    static LatencyModel pareto(double minMs, double shape) {
+        return random -> minMs / Math.pow(1.0 - random.nextDouble(), 1.0 / shape);
+    }
+}
@@ -0,0 +1,198 @@
+package com.ocean.sc.vt.simulation;
+
+import com.ocean.sc.vt.service.SimulatedConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+
+/**
+ * DemoService 지연 / 장애 시뮬레이터
+ * - 메서드별 분포(vt.simulation.methods.{메서드명}): 고정, 로그 정규, 이봉, 파레토
+ * - 동시 실행 수에 비례한 지연 증가 (다운스트림 포화), 오류 / 응답 없음 / CPU 버스트 주입
+ * - 재현 가능: n번째 호출의 난수(기본 지연 표본, 장애, CPU 버스트)는 (시드, 메서드, n)으로만 결정
+ *   → 스레드 실행 순서와 무관하게 같은 표본
+ * - 단, concurrency-slope > 0이면 지연 증가분은 시드 표본 밖에서 호출 시점의 실제 동시 실행 수로 계산되므로
+ *   최종 지연은 실행 순서(인터리빙)에 따라 달라짐 - 재현 대상 아님 ({@link #plan}에 동시 실행 수를 직접 주면 결정적)
+ * - 설정이 없는 메서드는 호출부 기본 지연(1000ms) 그대로 사용 (기존 동작 유지)
+ *
+ * <pre>
+ * vt.simulation.seed: 42
+ * vt.simulation.methods.processWithDelay:
+ *   model: log-normal
+ *   latency-ms: 200
+ *   sigma: 0.6
+ *   concurrency-slope: 0.005
+ *   error-rate: 0.01
+ * </pre>
+ */
+@Component
+public class LatencySimulator {
+
+    private final long seed;
+    private final Map<String, SimulationProfile> profiles;
+    private final Map<String, MethodState> states = new ConcurrentHashMap<>();
+
+    public LatencySimulator(@Value("${vt.simulation.seed:42}") long seed, Environment environment) {
+        this.seed = seed;
+        this.profiles = Map.copyOf(Binder.get(environment)
+                .bind("vt.simulation.methods", Bindable.mapOf(String.class, SimulationProfile.class))
+                .orElse(Map.of()));
+    }
+
+    /**
+     * 시뮬레이션 실행: 연결을 통해 지연 대기, 필요 시 CPU 버스트 / 오류 / 응답 없음
+     *
+     * @param defaultLatencyMs 설정이 없을 때 지연
+     * @return 실제 적용한 지연 (밀리초)
+     * @throws SimulatedFaultException 오류 주입
+     */
+    public long simulate(String method, SimulatedConnection connection, long defaultLatencyMs)
+            throws InterruptedException {
+        SimulationProfile profile = profiles.get(method);
+        if (profile == null) {
+            connection.execute(defaultLatencyMs);
+            return defaultLatencyMs;
+        }
+        MethodState state = state(method, profile, defaultLatencyMs);
+        int concurrency = state.inFlight.incrementAndGet();
+        try {
+            SimulatedCall call = state.plan(concurrency);
+            if (call.cpuBurstMs() > 0) {
+                state.cpuBursts.increment();
+                burnCpu(call.cpuBurstMs());
+            }
+            switch (call.fault()) {
+                case ERROR -> {
+                    state.errors.increment();
+                    connection.execute(call.latencyMs());
+                    throw new SimulatedFaultException(method, call.latencyMs());
+                }
+                case TIMEOUT -> {
+                    state.timeouts.increment();
+                    connection.execute(call.latencyMs());
+                }
+                default -> connection.execute(call.latencyMs());
+            }
+            return call.latencyMs();
+        } finally {
+            state.inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * 다음 호출 계획 (대기 없이 표본만 추출, 호출 순번 1 증가)
+     *
+     * @param concurrency 동시 실행 수 (지연 증가 계산)
+     * @return 설정이 없으면 기본 지연 고정 계획
+     */
+    public SimulatedCall plan(String method, long defaultLatencyMs, int concurrency) {
+        SimulationProfile profile = profiles.get(method);
+        if (profile == null) {
+            return new SimulatedCall(defaultLatencyMs, Fault.NONE, 0);
+        }
+        return state(method, profile, defaultLatencyMs).plan(concurrency);
+    }
+
+    /**
+     * 메서드별 설정과 누적 주입 횟수
+     */
+    public Map<String, MethodStats> stats() {
+        Map<String, MethodStats> stats = new TreeMap<>();
+        states.forEach((method, state) -> stats.put(method, new MethodStats(
+                state.profile, state.sequence.get(), state.inFlight.get(),
+                state.errors.sum(), state.timeouts.sum(), state.cpuBursts.sum())));
+        return stats;
+    }
+
+    private MethodState state(String method, SimulationProfile profile, long defaultLatencyMs) {
+        return states.computeIfAbsent(method, key -> new MethodState(key, profile, defaultLatencyMs, seed));
+    }
+
+    private static void burnCpu(long millis) {
+        long end = System.nanoTime() + millis * 1_000_000;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 주입할 장애 유형
+     */
+    public enum Fault {
+        NONE,
+        /** 지연 후 오류 (502) */
+        ERROR,
+        /** hangMs 동안 응답 없음 (호출부 타임아웃 유도) */
+        TIMEOUT
+    }
+
+    /**
+     * 호출 1건의 계획
+     */
+    public record SimulatedCall(long latencyMs, Fault fault, long cpuBurstMs) {
+    }
+
+    public record MethodStats(SimulationProfile profile, long calls, int inFlight,
+                              long errors, long timeouts, long cpuBursts) {
+    }
+
+    private static final class MethodState {
+
+        private final SimulationProfile profile;
+        private final LatencyModel model;
+        private final long methodSeed;
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder cpuBursts = new LongAdder();
+
+        private MethodState(String method, SimulationProfile profile, long defaultLatencyMs, long seed) {
+            this.profile = profile;
+            this.model = profile.toModel(defaultLatencyMs);
+            this.methodSeed = seed * 31 + method.hashCode();
+        }
+
+        /**
+         * 난수 사용 순서 고정: 지연 표본 → 장애 → CPU 버스트
+         * - 동시 실행 수에 따른 지연 증가는 시드 표본을 모두 뽑은 뒤 적용 (동시 실행 수는 난수열에 영향 없음)
+         */
+        private SimulatedCall plan(int concurrency) {
+            // 호출 순번마다 독립된 난수열 (인접한 시드의 난수열이 겹치지 않도록 순번을 섞어서 시드로 사용)
+            RandomGenerator random = new SplittableRandom(mix64(methodSeed + mix64(sequence.incrementAndGet())));
+            double sampledMs = model.sampleMillis(random);
+            double faultRoll = random.nextDouble();
+            boolean cpuBurst = random.nextDouble() < profile.cpuBursts();
+
+            // 시드 표본 밖: 호출 시점 동시 실행 수에 의존 (비결정적)
+            double latency = sampledMs * (1.0 + profile.slope() * Math.max(0, concurrency - 1));
+            long latencyMs = Math.round(Math.min(profile.maxLatency(), Math.max(0.0, latency)));
+
+            Fault fault = Fault.NONE;
+            if (faultRoll < profile.errors()) {
+                fault = Fault.ERROR;
+            } else if (faultRoll < profile.errors() + profile.timeouts()) {
+                fault = Fault.TIMEOUT;
+                latencyMs = profile.hang();
+            }
+            return new SimulatedCall(latencyMs, fault, cpuBurst ? profile.cpuBurst() : 0);
+        }
+
+        private static long mix64(long z) {
+            z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+            z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            return z ^ (z >>> 33);
+        }
+    }
+}
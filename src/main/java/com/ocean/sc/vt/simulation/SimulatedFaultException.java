@@ -0,0 +1,15 @@
+package com.ocean.sc.vt.simulation;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 시뮬레이션으로 주입된 다운스트림 오류 - 502
+ */
+@ResponseStatus(HttpStatus.BAD_GATEWAY)
+public class SimulatedFaultException extends RuntimeException {
+
+    public SimulatedFaultException(String method, long latencyMs) {
+        super(String.format("Simulated downstream failure: %s (after %dms)", method, latencyMs));
+    }
+}
@@ -0,0 +1,89 @@
+package com.ocean.sc.vt.simulation;
+
+/**
+ * 메서드별 지연 / 장애 시뮬레이션 설정 (vt.simulation.methods.{메서드명}, null 항목은 기본값 사용)
+ *
+ * @param model 분포: fixed(기본) / log-normal / bimodal / pareto
+ * @param latencyMs fixed 지연, log-normal / bimodal 빠른 경로 중앙값, pareto 최소값 - null이면 호출부 기본값
+ * @param sigma log-normal / bimodal 로그 표준편차 (기본 0.5)
+ * @param slowLatencyMs bimodal 느린 경로 중앙값 (기본 latencyMs × 10)
+ * @param slowRate bimodal 느린 경로 비율 (기본 0.05)
+ * @param shape pareto 형상 (기본 1.5)
+ * @param maxLatencyMs 표본 상한 (기본 60000)
+ * @param concurrencySlope 동시 실행 1건당 지연 증가율 (0.01이면 동시 100건에서 약 2배, 기본 0)
+ * @param errorRate 지연 후 오류(502) 비율
+ * @param timeoutRate 응답 없음(hangMs 동안 대기) 비율
+ * @param hangMs 응답 없음 지속 시간 (기본 120000 - 호출부 타임아웃보다 길게)
+ * @param cpuBurstRate CPU 버스트(캐리어 스레드 점유) 비율
+ * @param cpuBurstMs CPU 버스트 지속 시간 (기본 50)
+ */
+public record SimulationProfile(String model, Long latencyMs, Double sigma, Long slowLatencyMs, Double slowRate,
+                                Double shape, Long maxLatencyMs, Double concurrencySlope,
+                                Double errorRate, Double timeoutRate, Long hangMs,
+                                Double cpuBurstRate, Long cpuBurstMs) {
+
+    public SimulationProfile {
+        requireRate("slowRate", slowRate);
+        requireRate("errorRate", errorRate);
+        requireRate("timeoutRate", timeoutRate);
+        requireRate("cpuBurstRate", cpuBurstRate);
+        if (errorRate != null && timeoutRate != null && errorRate + timeoutRate > 1.0) {
+            throw new IllegalArgumentException("errorRate + timeoutRate must not exceed 1: " + (errorRate + timeoutRate));
+        }
+    }
+
+    /**
+     * 분포 생성
+     *
+     * @param defaultLatencyMs latencyMs 미지정 시 사용할 호출부 기본 지연
+     */
+    LatencyModel toModel(long defaultLatencyMs) {
+        double latency = latencyMs != null ? latencyMs : defaultLatencyMs;
+        double sigmaValue = sigma != null ? sigma : 0.5;
+        String type = model == null ? "fixed" : model;
+        return switch (type) {
+            case "fixed" -> LatencyModel.fixed(latency);
+            case "log-normal" -> LatencyModel.logNormal(latency, sigmaValue);
+            case "bimodal" -> LatencyModel.bimodal(
+                    LatencyModel.logNormal(latency, sigmaValue),
+                    LatencyModel.logNormal(slowLatencyMs != null ? slowLatencyMs : latency * 10, sigmaValue),
+                    slowRate != null ? slowRate : 0.05);
+            case "pareto" -> LatencyModel.pareto(latency, shape != null ? shape : 1.5);
+            default -> throw new IllegalArgumentException("Unknown latency model: " + model);
+        };
+    }
+
+    long maxLatency() {
+        return maxLatencyMs != null ? maxLatencyMs : 60_000;
+    }
+
+    double slope() {
+        return concurrencySlope != null ? concurrencySlope : 0.0;
+    }
+
+    double errors() {
+        return errorRate != null ? errorRate : 0.0;
+    }
+
+    double timeouts() {
+        return timeoutRate != null ? timeoutRate : 0.0;
+    }
+
+    long hang() {
+        return hangMs != null ? hangMs : 120_000;
+    }
+
+    double cpuBursts() {
+        return cpuBurstRate != null ? cpuBurstRate : 0.0;
+    }
+
+    long cpuBurst() {
+        return cpuBurstMs != null ? cpuBurstMs : 50;
+    }
+
+    private static void requireRate(String name, Double rate) {
+        if (rate != null && (rate < 0.0 || rate > 1.0)) {
+            throw new IllegalArgumentException(name + " must be between 0 and 1: " + rate);
+        }
+    }
+}
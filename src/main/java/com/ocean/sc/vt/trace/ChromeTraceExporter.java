@@ -0,0 +1,96 @@
+package com.ocean.sc.vt.trace;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 추적 이벤트 → Chrome trace-event JSON 변환 (chrome://tracing, Perfetto에서 열람)
+ * - 각 지점은 instant 이벤트("i"), 구간은 complete 이벤트("X")로 출력
+ * - 스레드(tid)별로 Tomcat Thread / Virtual Thread 타임라인 구분
+ */
+public final class ChromeTraceExporter {
+
+    private static final int PID = 1;
+
+    /**
+     * 구간 정의: 시작 지점 → 종료 지점 (종료 지점을 기록한 스레드에 표시)
+     */
+    private static final List<Span> SPANS = List.of(
+            new Span("tomcat thread", TracePhase.REQUEST_ENTRY, TracePhase.REQUEST_EXIT),
+            new Span("executor queue", TracePhase.SUBMITTED, TracePhase.WORKER_START),
+            new Span("proceed", TracePhase.PROCEED_START, TracePhase.PROCEED_END),
+            new Span("result → dispatch", TracePhase.RESULT_SET, TracePhase.ASYNC_DISPATCH_START),
+            new Span("async dispatch", TracePhase.ASYNC_DISPATCH_START, TracePhase.ASYNC_DISPATCH_END),
+            new Span("request total", TracePhase.REQUEST_ENTRY, TracePhase.ASYNC_COMPLETE)
+    );
+
+    private ChromeTraceExporter() {
+    }
+
+    public static Map<String, Object> export(List<TraceEvent> events) {
+        List<Map<String, Object>> traceEvents = new ArrayList<>();
+        Map<Long, Boolean> threads = new TreeMap<>();
+        Map<Long, Map<TracePhase, TraceEvent>> byTrace = new LinkedHashMap<>();
+
+        for (TraceEvent event : events) {
+            threads.putIfAbsent(event.threadId(), event.virtual());
+            byTrace.computeIfAbsent(event.traceId(), id -> new EnumMap<>(TracePhase.class))
+                    .putIfAbsent(event.phase(), event);
+
+            Map<String, Object> instant = baseEvent(event.phase().name(), "i", event.timestampNanos(), event.threadId());
+            instant.put("s", "t");
+            instant.put("args", Map.of("traceId", event.traceId()));
+            traceEvents.add(instant);
+        }
+
+        byTrace.forEach((traceId, phases) -> {
+            for (Span span : SPANS) {
+                TraceEvent start = phases.get(span.start());
+                TraceEvent end = phases.get(span.end());
+                if (start == null || end == null || end.timestampNanos() < start.timestampNanos()) {
+                    continue;
+                }
+                Map<String, Object> complete = baseEvent(span.name(), "X", start.timestampNanos(), end.threadId());
+                complete.put("dur", micros(end.timestampNanos() - start.timestampNanos()));
+                complete.put("args", Map.of("traceId", traceId));
+                traceEvents.add(complete);
+            }
+        });
+
+        threads.forEach((threadId, virtual) -> {
+            Map<String, Object> metadata = new LinkedHashMap<>();
+            metadata.put("name", "thread_name");
+            metadata.put("ph", "M");
+            metadata.put("pid", PID);
+            metadata.put("tid", threadId);
+            metadata.put("args", Map.of("name", (virtual ? "VirtualThread #" : "Thread #") + threadId));
+            traceEvents.add(metadata);
+        });
+
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("traceEvents", traceEvents);
+        trace.put("displayTimeUnit", "ns");
+        return trace;
+    }
+
+    private static Map<String, Object> baseEvent(String name, String phase, long timestampNanos, long threadId) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("name", name);
+        event.put("ph", phase);
+        event.put("ts", micros(timestampNanos));
+        event.put("pid", PID);
+        event.put("tid", threadId);
+        return event;
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+
+    private record Span(String name, TracePhase start, TracePhase end) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.ocean.sc.vt.trace;
+
+import com.ocean.sc.vt.warmup.WarmupTraffic;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 진입/반환, 비동기 디스패치, 비동기 완료 시점 기록
+ * - 최초 디스패치에서 샘플링 결정 후 traceId를 요청 속성과 Tomcat Thread에 바인딩
+ * - 비동기 디스패치에서는 요청 속성의 traceId 사용
+ * - 워밍업 요청(X-Warmup)은 추적하지 않음
+ */
+@Component
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    static final String TRACE_ID_ATTRIBUTE = RequestTraceFilter.class.getName() + ".traceId";
+
+    private final RequestTraceRecorder recorder;
+
+    public RequestTraceFilter(RequestTraceRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            long traceId = request.getAttribute(TRACE_ID_ATTRIBUTE) instanceof Long id
+                    ? id : RequestTraceRecorder.NOT_SAMPLED;
+            recorder.record(traceId, TracePhase.ASYNC_DISPATCH_START);
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                recorder.record(traceId, TracePhase.ASYNC_DISPATCH_END);
+            }
+            return;
+        }
+
+        // 워밍업 요청은 샘플링하지 않음 (비동기 디스패치도 traceId 속성이 없으므로 제외됨)
+        long traceId = WarmupTraffic.isWarmup(request) ? RequestTraceRecorder.NOT_SAMPLED : recorder.begin();
+        if (traceId == RequestTraceRecorder.NOT_SAMPLED) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        request.setAttribute(TRACE_ID_ATTRIBUTE, traceId);
+        recorder.record(traceId, TracePhase.REQUEST_ENTRY);
+        recorder.bind(traceId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            recorder.unbind();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(recorder, traceId));
+            }
+            recorder.record(traceId, TracePhase.REQUEST_EXIT);
+        }
+    }
+
+    private record CompletionListener(RequestTraceRecorder recorder, long traceId) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            recorder.record(traceId, TracePhase.ASYNC_COMPLETE);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
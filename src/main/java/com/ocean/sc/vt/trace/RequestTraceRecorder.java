@@ -0,0 +1,153 @@
+package com.ocean.sc.vt.trace;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 요청 생명주기 추적 기록기
+ * - 미리 할당한 고정 크기 기본형 배열 링 버퍼 (기록 시 객체 할당 없음, 오래된 이벤트부터 덮어씀)
+ * - 요청 단위 샘플링: 샘플링되지 않은 요청은 traceId 0 → 기록 생략
+ * - 슬롯별 시퀀스로 덮어쓰기 중인 슬롯은 덤프에서 제외 (seqlock)
+ *
+ * <p>현재 요청의 traceId는 {@link RequestTraceFilter}가 Tomcat Thread에 바인딩하고,
+ * Virtual Thread로는 호출자가 값으로 전달</p>
+ */
+@Component
+public class RequestTraceRecorder {
+
+    /** 샘플링되지 않은 요청 */
+    public static final long NOT_SAMPLED = 0L;
+
+    private static final ThreadLocal<Long> CURRENT_TRACE = new ThreadLocal<>();
+
+    private final double sampleRate;
+    private final int mask;
+    private final long originNanos = System.nanoTime();
+
+    private final long[] traceIds;
+    private final long[] timestamps;
+    private final long[] threadIds;
+    private final byte[] phases;
+    private final boolean[] virtualFlags;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong cursor = new AtomicLong();
+    private final AtomicLong traceIdGenerator = new AtomicLong();
+
+    public RequestTraceRecorder(@Value("${vt.trace.capacity:65536}") int capacity,
+                                @Value("${vt.trace.sample-rate:0.1}") double sampleRate) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("vt.trace.capacity must be at least 2: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.sampleRate = sampleRate;
+        this.mask = size - 1;
+        this.traceIds = new long[size];
+        this.timestamps = new long[size];
+        this.threadIds = new long[size];
+        this.phases = new byte[size];
+        this.virtualFlags = new boolean[size];
+        this.sequences = new AtomicLongArray(size);
+    }
+
+    /**
+     * 새 요청의 샘플링 여부 결정
+     *
+     * @return 샘플링되면 새 traceId, 아니면 {@link #NOT_SAMPLED}
+     */
+    public long begin() {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return NOT_SAMPLED;
+        }
+        return traceIdGenerator.incrementAndGet();
+    }
+
+    /**
+     * 현재 스레드에 traceId 바인딩 (Tomcat Thread)
+     */
+    void bind(long traceId) {
+        CURRENT_TRACE.set(traceId);
+    }
+
+    void unbind() {
+        CURRENT_TRACE.remove();
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 traceId (없으면 {@link #NOT_SAMPLED})
+     */
+    public long currentTraceId() {
+        Long traceId = CURRENT_TRACE.get();
+        return traceId == null ? NOT_SAMPLED : traceId;
+    }
+
+    /**
+     * 추적 이벤트 기록 (샘플링되지 않은 요청은 무시)
+     */
+    public void record(long traceId, TracePhase phase) {
+        if (traceId == NOT_SAMPLED) {
+            return;
+        }
+        long timestamp = System.nanoTime() - originNanos;
+        Thread thread = Thread.currentThread();
+
+        long slot = cursor.getAndIncrement();
+        int index = (int) (slot & mask);
+
+        // 기록 중 표시 → 덤프 시 건너뜀
+        sequences.set(index, -1);
+        VarHandle.storeStoreFence();
+
+        traceIds[index] = traceId;
+        timestamps[index] = timestamp;
+        threadIds[index] = thread.threadId();
+        phases[index] = (byte) phase.ordinal();
+        virtualFlags[index] = thread.isVirtual();
+
+        // 기록 완료 공개
+        sequences.set(index, slot + 1);
+    }
+
+    /**
+     * 링 버퍼에 남아 있는 이벤트 (시간순)
+     */
+    public List<TraceEvent> snapshot() {
+        long end = cursor.get();
+        long start = Math.max(0, end - traceIds.length);
+        List<TraceEvent> events = new ArrayList<>((int) (end - start));
+
+        for (long slot = start; slot < end; slot++) {
+            int index = (int) (slot & mask);
+            long sequence = sequences.get(index);
+            if (sequence != slot + 1) {
+                // 아직 기록 중이거나 이미 덮어쓰여진 슬롯
+                continue;
+            }
+            TraceEvent event = new TraceEvent(traceIds[index], TracePhase.of(phases[index]),
+                    timestamps[index], threadIds[index], virtualFlags[index]);
+            VarHandle.loadLoadFence();
+            if (sequences.get(index) == sequence) {
+                events.add(event);
+            }
+        }
+
+        events.sort(Comparator.comparingLong(TraceEvent::timestampNanos));
+        return events;
+    }
+
+    public int capacity() {
+        return traceIds.length;
+    }
+
+    public double sampleRate() {
+        return sampleRate;
+    }
+}
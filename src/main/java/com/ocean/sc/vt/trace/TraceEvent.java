@@ -0,0 +1,13 @@
+package com.ocean.sc.vt.trace;
+
+/**
+ * 추적 이벤트 1건
+ *
+ * @param traceId 요청 추적 ID
+ * @param phase 추적 지점
+ * @param timestampNanos 기록기 시작 기준 경과 시간 (ns)
+ * @param threadId 기록한 스레드 ID
+ * @param virtual Virtual Thread 여부
+ */
+public record TraceEvent(long traceId, TracePhase phase, long timestampNanos, long threadId, boolean virtual) {
+}
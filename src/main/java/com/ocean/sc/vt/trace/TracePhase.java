@@ -0,0 +1,35 @@
+package com.ocean.sc.vt.trace;
+
+/**
+ * 요청 생명주기 추적 지점
+ */
+public enum TracePhase {
+    /** Tomcat Thread 진입 (필터) */
+    REQUEST_ENTRY,
+    /** DeferredResult 생성 */
+    DEFERRED_CREATED,
+    /** Virtual Thread Executor에 제출 */
+    SUBMITTED,
+    /** Virtual Thread에서 작업 시작 */
+    WORKER_START,
+    /** joinPoint.proceed() 시작 */
+    PROCEED_START,
+    /** joinPoint.proceed() 종료 */
+    PROCEED_END,
+    /** 결과 설정 (DeferredResult / CompletableFuture) */
+    RESULT_SET,
+    /** Tomcat Thread 반환 (필터 종료) */
+    REQUEST_EXIT,
+    /** 비동기 디스패치 시작 (결과 응답 처리) */
+    ASYNC_DISPATCH_START,
+    /** 비동기 디스패치 종료 */
+    ASYNC_DISPATCH_END,
+    /** 비동기 요청 완료 (AsyncListener.onComplete) */
+    ASYNC_COMPLETE;
+
+    private static final TracePhase[] VALUES = values();
+
+    static TracePhase of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
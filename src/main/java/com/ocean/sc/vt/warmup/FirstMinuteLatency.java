@@ -0,0 +1,107 @@
+package com.ocean.sc.vt.warmup;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 준비 상태 진입 후 첫 구간(vt.warmup.report-window, 기본 1분)의 실제 요청 지연 시간
+ * - 워밍업이 끝나고 준비 상태가 되면 워밍업 대상 경로로 구간을 엶 ({@link WarmupRunner})
+ * - 구간 안에 도착한 워밍업 대상 경로의 실제 요청만 (워밍업 요청 제외), 2xx 응답만 지연 표본 / 그 외는 실패
+ * - 워밍업 첫 반복(콜드) 지연과 비교 → 워밍업이 없었다면 첫 요청들이 겪었을 지연 대비 개선율
+ * - 표본은 최대 {@link #MAX_SAMPLES}개 (넘는 요청은 건수에서 제외)
+ */
+@Component
+public class FirstMinuteLatency {
+
+    static final int MAX_SAMPLES = 100_000;
+
+    private final Duration window;
+    private final AtomicLongArray samples = new AtomicLongArray(MAX_SAMPLES);
+    private final AtomicInteger sampleCount = new AtomicInteger();
+    private final LongAdder failures = new LongAdder();
+
+    private volatile Set<String> paths = Set.of();
+    private volatile boolean opened;
+    private volatile long openedNanos;
+
+    public FirstMinuteLatency(@Value("${vt.warmup.report-window:60s}") Duration window) {
+        this.window = window;
+    }
+
+    /**
+     * 측정 구간 시작 (준비 상태 진입 시 1회)
+     */
+    void open(Collection<String> targetPaths) {
+        paths = Set.copyOf(targetPaths);
+        openedNanos = System.nanoTime();
+        opened = true;
+    }
+
+    /**
+     * 요청 도착 시 측정 대상인지 (구간 안 + 워밍업 대상 경로)
+     */
+    boolean accepts(String path) {
+        return opened && System.nanoTime() - openedNanos < window.toNanos() && paths.contains(path);
+    }
+
+    /**
+     * 응답 완료 시 기록 - accepts()가 true였던 요청만
+     */
+    void record(int status, long latencyNanos) {
+        if (status / 100 != 2) {
+            failures.increment();
+            return;
+        }
+        int index = sampleCount.getAndIncrement();
+        if (index < MAX_SAMPLES) {
+            samples.set(index, latencyNanos);
+        }
+    }
+
+    void failed() {
+        failures.increment();
+    }
+
+    /**
+     * 첫 구간 보고
+     *
+     * @param cold 워밍업 첫 반복 지연 (비교 기준)
+     * @return 구간이 열리지 않았으면 null
+     */
+    FirstMinuteReport report(LatencySummary cold) {
+        if (!opened) {
+            return null;
+        }
+        long[] values = new long[Math.min(sampleCount.get(), MAX_SAMPLES)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = samples.get(i);
+        }
+        Arrays.sort(values);
+        LatencySummary latency = LatencySummary.of(values, failures.intValue());
+        boolean complete = System.nanoTime() - openedNanos >= window.toNanos();
+        // 비교할 표본이 없으면 개선율 0
+        boolean comparable = cold != null && cold.requests() > 0 && latency.requests() > 0;
+        return new FirstMinuteReport(window.toMillis(), complete, latency,
+                comparable ? WarmupReport.improvement(cold.meanMs(), latency.meanMs()) : 0,
+                comparable ? WarmupReport.improvement(cold.p99Ms(), latency.p99Ms()) : 0);
+    }
+
+    /**
+     * @param windowMs 측정 구간 길이
+     * @param complete 구간이 끝났는지 (false: 진행 중 - 값이 계속 바뀜)
+     * @param latency 구간 안 실제 요청 지연 시간
+     * @param meanImprovementPercent 워밍업 첫 반복(콜드) 대비 평균 지연 개선율
+     * @param p99ImprovementPercent 워밍업 첫 반복(콜드) 대비 p99 지연 개선율
+     */
+    public record FirstMinuteReport(long windowMs, boolean complete, LatencySummary latency,
+                                    double meanImprovementPercent, double p99ImprovementPercent) {
+    }
+}
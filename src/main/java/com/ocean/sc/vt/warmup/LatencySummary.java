@@ -0,0 +1,37 @@
+package com.ocean.sc.vt.warmup;
+
+import java.util.Arrays;
+
+/**
+ * 워밍업 1회 반복의 지연 시간 요약 (밀리초)
+ *
+ * @param requests 성공 요청 수
+ * @param failures 실패 요청 수
+ * @param meanMs 평균
+ * @param p99Ms 99 백분위
+ * @param maxMs 최대
+ */
+public record LatencySummary(int requests, int failures, double meanMs, double p99Ms, double maxMs) {
+
+    /**
+     * @param sortedNanos 오름차순 정렬된 지연 시간 (나노초)
+     * @param failures 실패 요청 수
+     */
+    public static LatencySummary of(long[] sortedNanos, int failures) {
+        if (sortedNanos.length == 0) {
+            return new LatencySummary(0, failures, 0, 0, 0);
+        }
+        double mean = Arrays.stream(sortedNanos).average().orElse(0);
+        long p99 = sortedNanos[Math.min(sortedNanos.length - 1, (int) Math.ceil(sortedNanos.length * 0.99) - 1)];
+        return new LatencySummary(
+                sortedNanos.length,
+                failures,
+                toMillis(mean),
+                toMillis(p99),
+                toMillis(sortedNanos[sortedNanos.length - 1]));
+    }
+
+    private static double toMillis(double nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
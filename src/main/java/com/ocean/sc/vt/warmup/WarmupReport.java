@@ -0,0 +1,71 @@
+package com.ocean.sc.vt.warmup;
+
+import java.util.List;
+
+/**
+ * 워밍업 결과
+ *
+ * @param state 진행 상태
+ * @param paths 워밍업 대상 경로
+ * @param iterations 실행한 반복 수
+ * @param durationMs 워밍업 소요 시간
+ * @param compilationMs 워밍업 중 JIT 컴파일 시간 (측정 불가 시 -1)
+ * @param stabilized 컴파일 안정화로 종료했는지 (false: 예산 소진)
+ * @param first 첫 반복(콜드) 지연 시간
+ * @param last 마지막 반복(워밍업 후) 지연 시간
+ * @param meanImprovementPercent 평균 지연 개선율
+ * @param p99ImprovementPercent p99 지연 개선율
+ * @param firstMinute 준비 상태 진입 후 첫 구간 실제 요청 지연 (콜드 대비 개선율, 구간 시작 전 null)
+ */
+public record WarmupReport(
+        State state,
+        List<String> paths,
+        int iterations,
+        long durationMs,
+        long compilationMs,
+        boolean stabilized,
+        LatencySummary first,
+        LatencySummary last,
+        double meanImprovementPercent,
+        double p99ImprovementPercent,
+        FirstMinuteLatency.FirstMinuteReport firstMinute) {
+
+    public enum State {
+        NOT_STARTED, RUNNING, COMPLETED, SKIPPED
+    }
+
+    public static WarmupReport notStarted() {
+        return new WarmupReport(State.NOT_STARTED, List.of(), 0, 0, -1, false, null, null, 0, 0, null);
+    }
+
+    public static WarmupReport skipped() {
+        return new WarmupReport(State.SKIPPED, List.of(), 0, 0, -1, false, null, null, 0, 0, null);
+    }
+
+    public static WarmupReport running(List<String> paths) {
+        return new WarmupReport(State.RUNNING, List.copyOf(paths), 0, 0, -1, false, null, null, 0, 0, null);
+    }
+
+    public static WarmupReport completed(List<String> paths, int iterations, long durationMs, long compilationMs,
+                                         boolean stabilized, LatencySummary first, LatencySummary last) {
+        return new WarmupReport(State.COMPLETED, List.copyOf(paths), iterations, durationMs, compilationMs, stabilized,
+                first, last, improvement(first.meanMs(), last.meanMs()), improvement(first.p99Ms(), last.p99Ms()),
+                null);
+    }
+
+    public WarmupReport withFirstMinute(FirstMinuteLatency.FirstMinuteReport firstMinute) {
+        return new WarmupReport(state, paths, iterations, durationMs, compilationMs, stabilized, first, last,
+                meanImprovementPercent, p99ImprovementPercent, firstMinute);
+    }
+
+    /**
+     * 준비 상태 진입 가능 여부 (완료 또는 건너뜀)
+     */
+    public boolean finished() {
+        return state == State.COMPLETED || state == State.SKIPPED;
+    }
+
+    static double improvement(double before, double after) {
+        return before <= 0 ? 0 : Math.round((1.0 - after / before) * 10_000) / 100.0;
+    }
+}
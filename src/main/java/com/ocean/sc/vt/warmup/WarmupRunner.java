@@ -0,0 +1,230 @@
+package com.ocean.sc.vt.warmup;
+
+import com.ocean.sc.vt.annotation.VirtualThread;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * JIT 워밍업 - 준비(Readiness) 상태 진입 전 실행
+ * - 기동 직후 요청은 Aspect, DeferredResult, MVC 비동기 경로가 인터프리터/C1로 실행되어 지연 급증
+ * - 웹 서버 기동 후 @VirtualThread 메서드와 Callable 엔드포인트를 루프백 요청으로 반복 호출
+ * - JIT 컴파일 시간 증가량이 안정되거나 반복 예산을 소진하면 종료
+ *
+ * <p>ApplicationRunner는 ApplicationReadyEvent(ReadinessState.ACCEPTING_TRAFFIC) 이전에 실행되므로
+ * 워밍업이 끝나야 애플리케이션이 준비 상태가 됩니다.</p>
+ *
+ * <p>워밍업 요청은 X-Warmup 헤더로 표시되어 메트릭 / 호출 비용 / 트레이스 / 캡처에서 제외됩니다
+ * ({@link WarmupTraffic}). 준비 상태 진입 후 첫 구간(기본 1분)의 실제 요청 지연은 {@link FirstMinuteLatency}가
+ * 수집해 콜드 지연 대비 개선율로 보고합니다. (vt.warmup.enabled=false로 끔)</p>
+ */
+@Component
+@ConditionalOnProperty(name = "vt.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final Environment environment;
+    private final FirstMinuteLatency firstMinute;
+    private final int concurrency;
+    private final int maxIterations;
+    private final Duration maxDuration;
+    private final long stableCompilationMs;
+    private final int stableIterations;
+
+    private volatile WarmupReport report = WarmupReport.notStarted();
+
+    public WarmupRunner(
+            @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+            Environment environment,
+            FirstMinuteLatency firstMinute,
+            @Value("${vt.warmup.concurrency:50}") int concurrency,
+            @Value("${vt.warmup.max-iterations:30}") int maxIterations,
+            @Value("${vt.warmup.max-duration:60s}") Duration maxDuration,
+            @Value("${vt.warmup.stable-compilation-ms:20}") long stableCompilationMs,
+            @Value("${vt.warmup.stable-iterations:3}") int stableIterations) {
+        this.handlerMapping = handlerMapping;
+        this.environment = environment;
+        this.firstMinute = firstMinute;
+        this.concurrency = concurrency;
+        this.maxIterations = maxIterations;
+        this.maxDuration = maxDuration;
+        this.stableCompilationMs = stableCompilationMs;
+        this.stableIterations = stableIterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        List<String> paths = warmupPaths();
+        if (port == null || paths.isEmpty()) {
+            log.info("[Warmup] 웹 서버 또는 대상 엔드포인트가 없어 워밍업을 건너뜁니다");
+            report = WarmupReport.skipped();
+            return;
+        }
+
+        log.info("[Warmup] 🔥 워밍업 시작 - 대상: {}, 동시 요청: {}, 최대 반복: {}", paths, concurrency, maxIterations);
+        report = WarmupReport.running(paths);
+        report = warmup(port, paths);
+        log.info("[Warmup] ✅ 워밍업 완료 - {}", report);
+    }
+
+    /**
+     * 준비 상태 진입 시 첫 구간 실제 요청 지연 측정 시작 (워밍업을 완료한 경우만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        WarmupReport completed = report;
+        if (completed.state() == WarmupReport.State.COMPLETED) {
+            firstMinute.open(completed.paths());
+        }
+    }
+
+    public WarmupReport report() {
+        WarmupReport current = report;
+        return current.state() == WarmupReport.State.COMPLETED
+                ? current.withFirstMinute(firstMinute.report(current.first()))
+                : current;
+    }
+
+    /**
+     * 워밍업 대상 경로
+     * - @VirtualThread 또는 Callable 반환 GET 엔드포인트
+     * - 필수 파라미터가 없는(기본값으로 호출 가능한) 엔드포인트만
+     * - serializeBy 엔드포인트 제외 (같은 키 요청이 한 줄로 실행되어 동시 요청이 워밍업이 아닌 대기열이 됨)
+     */
+    List<String> warmupPaths() {
+        List<String> paths = new ArrayList<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMapping.getHandlerMethods().entrySet()) {
+            RequestMappingInfo info = entry.getKey();
+            HandlerMethod handlerMethod = entry.getValue();
+
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            VirtualThread virtualThread = handlerMethod.getMethodAnnotation(VirtualThread.class);
+            boolean offloaded = virtualThread != null
+                    || Callable.class.isAssignableFrom(handlerMethod.getReturnType().getParameterType());
+            boolean serialized = virtualThread != null && !virtualThread.serializeBy().isEmpty();
+            if (!offloaded || serialized || !(methods.isEmpty() || methods.contains(RequestMethod.GET))
+                    || !Arrays.stream(handlerMethod.getMethodParameters()).allMatch(WarmupRunner::optionalParameter)) {
+                continue;
+            }
+
+            info.getPatternValues().stream()
+                    .filter(pattern -> !pattern.contains("{") && !pattern.contains("*"))
+                    .forEach(paths::add);
+        }
+        paths.sort(null);
+        return paths;
+    }
+
+    private static boolean optionalParameter(MethodParameter parameter) {
+        RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+        return requestParam != null
+                && (!requestParam.required() || !ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue()));
+    }
+
+    private WarmupReport warmup(int port, List<String> paths) {
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        boolean compilationMonitored = compilation != null && compilation.isCompilationTimeMonitoringSupported();
+        long compilationStart = compilationMonitored ? compilation.getTotalCompilationTime() : 0;
+        long startTime = System.nanoTime();
+
+        List<LatencySummary> iterations = new ArrayList<>();
+        int stableCount = 0;
+        boolean stabilized = false;
+
+        // HttpClient를 먼저 닫은 뒤 실행기 종료 (선언 역순)
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .executor(executor)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+
+            long previousCompilation = compilationStart;
+            // 예산과 무관하게 최소 1회는 실행 (콜드 지연 시간 측정)
+            while (iterations.isEmpty()
+                    || (iterations.size() < maxIterations && System.nanoTime() - startTime < maxDuration.toNanos())) {
+
+                iterations.add(runIteration(client, port, paths));
+
+                if (compilationMonitored) {
+                    long totalCompilation = compilation.getTotalCompilationTime();
+                    stableCount = totalCompilation - previousCompilation <= stableCompilationMs ? stableCount + 1 : 0;
+                    previousCompilation = totalCompilation;
+                    if (stableCount >= stableIterations) {
+                        stabilized = true;
+                        break;
+                    }
+                }
+            }
+        }
+
+        long compilationMs = compilationMonitored ? compilation.getTotalCompilationTime() - compilationStart : -1;
+        return WarmupReport.completed(
+                paths,
+                iterations.size(),
+                Duration.ofNanos(System.nanoTime() - startTime).toMillis(),
+                compilationMs,
+                stabilized,
+                iterations.getFirst(),
+                iterations.getLast());
+    }
+
+    private LatencySummary runIteration(HttpClient client, int port, List<String> paths) {
+        List<CompletableFuture<Long>> latencies = new ArrayList<>();
+        for (String path : paths) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header(WarmupTraffic.HEADER, "true")
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+            for (int i = 0; i < concurrency; i++) {
+                long requestStart = System.nanoTime();
+                latencies.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        // 2xx만 지연 표본 (오류 응답은 빨리 끝나 지연을 낮게 왜곡하므로 실패로 집계)
+                        .thenApply(response -> response.statusCode() / 100 == 2
+                                ? System.nanoTime() - requestStart : -1L)
+                        .exceptionally(e -> -1L));
+            }
+        }
+
+        long[] values = latencies.stream()
+                .mapToLong(CompletableFuture::join)
+                .filter(latency -> latency >= 0)
+                .sorted()
+                .toArray();
+        return LatencySummary.of(values, latencies.size() - values.length);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ocean.sc.vt.warmup;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Set;
+
+/**
+ * 워밍업 요청 식별
+ * - WarmupRunner의 루프백 요청은 X-Warmup: true 헤더를 붙임
+ * - {@link WarmupTrafficFilter}가 루프백 주소에서 온 경우에만 요청 속성으로 표시 (외부 요청이 헤더로 계측을 우회하지 못함)
+ * - 표시된 요청은 오프로딩 메트릭 / 호출 비용 / 요청 트레이스 / 트래픽 캡처에서 제외
+ */
+public final class WarmupTraffic {
+
+    public static final String HEADER = "X-Warmup";
+
+    static final String ATTRIBUTE = WarmupTraffic.class.getName() + ".warmup";
+
+    private static final Set<String> LOOPBACK_ADDRESSES = Set.of("127.0.0.1", "0:0:0:0:0:0:0:1", "::1");
+
+    private WarmupTraffic() {
+    }
+
+    /**
+     * 필터 단계 - 워밍업 요청이면 요청 속성에 표시
+     *
+     * @return 워밍업 요청이면 true
+     */
+    static boolean mark(HttpServletRequest request) {
+        boolean warmup = "true".equalsIgnoreCase(request.getHeader(HEADER))
+                && LOOPBACK_ADDRESSES.contains(request.getRemoteAddr());
+        if (warmup) {
+            request.setAttribute(ATTRIBUTE, Boolean.TRUE);
+        }
+        return warmup;
+    }
+
+    public static boolean isWarmup(HttpServletRequest request) {
+        return Boolean.TRUE.equals(request.getAttribute(ATTRIBUTE));
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 요청(RequestContextHolder)이 워밍업 요청인지
+     * - Virtual Thread 안의 중첩 호출도 요청 속성이 전파되므로 같은 결과
+     */
+    public static boolean isCurrentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && Boolean.TRUE.equals(attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -0,0 +1,75 @@
+package com.ocean.sc.vt.warmup;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 워밍업 요청 표시 + 첫 구간 실제 요청 지연 기록
+ * - 가장 먼저 실행 → 뒤의 트레이스 / 캡처 필터와 Aspect가 요청 속성으로 워밍업 요청을 구분
+ * - 실제 요청은 {@link FirstMinuteLatency} 측정 구간이면 지연 기록 (비동기 요청은 AsyncContext 완료 시)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WarmupTrafficFilter extends OncePerRequestFilter {
+
+    private final FirstMinuteLatency firstMinute;
+
+    public WarmupTrafficFilter(FirstMinuteLatency firstMinute) {
+        this.firstMinute = firstMinute;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (WarmupTraffic.mark(request) || !firstMinute.accepts(request.getRequestURI())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long arrivalNanos = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (!completed) {
+                firstMinute.failed();
+            } else if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnAsyncEnd(firstMinute, arrivalNanos), request, response);
+            } else {
+                firstMinute.record(response.getStatus(), System.nanoTime() - arrivalNanos);
+            }
+        }
+    }
+
+    private record RecordOnAsyncEnd(FirstMinuteLatency firstMinute, long arrivalNanos) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            HttpServletResponse response = (HttpServletResponse) event.getSuppliedResponse();
+            firstMinute.record(response.getStatus(), System.nanoTime() - arrivalNanos);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.ocean.sc.vt.benchmark;
+
+import org.openjdk.jmh.util.ListStatistics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 성능 기준선 (perf/baseline.json)
+ * - 지표마다 회차별 표본을 그대로 보관 → 평균뿐 아니라 분산까지 비교 (t-검정)
+ * - tolerance: 통계적으로 유의하더라도 이 비율 이내의 변화는 회귀로 보지 않음 (리뷰로 조정)
+ * - environment: 측정 환경 (다른 환경의 기준선과 비교하면 경고)
+ *
+ * 의존성 없이 읽고 쓰기 위해 이 파일 형식에 필요한 만큼만 JSON을 처리
+ */
+final class PerfBaseline {
+
+    private final Map<String, String> environment;
+    private final Map<String, Metric> metrics;
+
+    PerfBaseline(Map<String, String> environment, Map<String, Metric> metrics) {
+        this.environment = environment;
+        this.metrics = new TreeMap<>(metrics);
+    }
+
+    /**
+     * @param higherIsBetter 처리량처럼 클수록 좋은 지표면 true, 지연처럼 작을수록 좋으면 false
+     * @param tolerance 회귀로 판정하기 전 허용하는 변화 비율 (0.1 = 10%)
+     */
+    record Metric(String name, String unit, boolean higherIsBetter, double tolerance, double[] samples) {
+
+        double mean() {
+            return statistics().getMean();
+        }
+
+        ListStatistics statistics() {
+            ListStatistics statistics = new ListStatistics();
+            for (double sample : samples) {
+                statistics.addValue(sample);
+            }
+            return statistics;
+        }
+
+        Metric withTolerance(double tolerance) {
+            return new Metric(name, unit, higherIsBetter, tolerance, samples);
+        }
+    }
+
+    static Map<String, String> currentEnvironment() {
+        Map<String, String> environment = new LinkedHashMap<>();
+        environment.put("java", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        environment.put("cpus", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        return environment;
+    }
+
+    Map<String, String> environment() {
+        return environment;
+    }
+
+    Map<String, Metric> metrics() {
+        return metrics;
+    }
+
+    /**
+     * 기준선 갱신: 이번에 측정한 지표만 교체 (다른 AOP 모드의 지표 유지), 리뷰로 조정한 tolerance는 보존
+     */
+    PerfBaseline merge(List<Metric> measured) {
+        Map<String, Metric> merged = new TreeMap<>(metrics);
+        for (Metric metric : measured) {
+            Metric previous = metrics.get(metric.name());
+            merged.put(metric.name(), previous == null ? metric : metric.withTolerance(previous.tolerance()));
+        }
+        return new PerfBaseline(currentEnvironment(), merged);
+    }
+
+    static PerfBaseline empty() {
+        return new PerfBaseline(Map.of(), Map.of());
+    }
+
+    static PerfBaseline read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return empty();
+        }
+        Map<?, ?> root = (Map<?, ?>) new JsonParser(Files.readString(file)).parse();
+        Map<String, String> environment = new LinkedHashMap<>();
+        if (root.get("environment") instanceof Map<?, ?> values) {
+            values.forEach((key, value) -> environment.put(key.toString(), String.valueOf(value)));
+        }
+        Map<String, Metric> metrics = new TreeMap<>();
+        if (root.get("metrics") instanceof Map<?, ?> values) {
+            values.forEach((key, value) -> {
+                Map<?, ?> metric = (Map<?, ?>) value;
+                List<?> samples = (List<?>) metric.get("samples");
+                double[] parsed = new double[samples.size()];
+                for (int i = 0; i < parsed.length; i++) {
+                    parsed[i] = ((Number) samples.get(i)).doubleValue();
+                }
+                metrics.put(key.toString(), new Metric(key.toString(), (String) metric.get("unit"),
+                        (Boolean) metric.get("higherIsBetter"), ((Number) metric.get("tolerance")).doubleValue(), parsed));
+            });
+        }
+        return new PerfBaseline(environment, metrics);
+    }
+
+    void write(Path file) throws IOException {
+        StringBuilder json = new StringBuilder("{\n  \"environment\": {");
+        String separator = "\n";
+        for (Map.Entry<String, String> entry : environment.entrySet()) {
+            json.append(separator).append("    ").append(quote(entry.getKey())).append(": ").append(quote(entry.getValue()));
+            separator = ",\n";
+        }
+        json.append(environment.isEmpty() ? "},\n" : "\n  },\n").append("  \"metrics\": {");
+        separator = "\n";
+        for (Metric metric : metrics.values()) {
+            json.append(separator).append("    ").append(quote(metric.name())).append(": {")
+                    .append("\"unit\": ").append(quote(metric.unit()))
+                    .append(", \"higherIsBetter\": ").append(metric.higherIsBetter())
+                    .append(", \"tolerance\": ").append(format(metric.tolerance()))
+                    .append(", \"samples\": [");
+            for (int i = 0; i < metric.samples().length; i++) {
+                json.append(i == 0 ? "" : ", ").append(format(metric.samples()[i]));
+            }
+            json.append("]}");
+            separator = ",\n";
+        }
+        json.append(metrics.isEmpty() ? "}\n}\n" : "\n  }\n}\n");
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, json);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * 최소 JSON 파서 (객체 / 배열 / 문자열 / 숫자 / true / false / null)
+     */
+    private static final class JsonParser {
+
+        private final String text;
+        private int position;
+
+        JsonParser(String text) {
+            this.text = text;
+        }
+
+        Object parse() {
+            Object value = value();
+            skipWhitespace();
+            if (position != text.length()) {
+                throw error("trailing content");
+            }
+            return value;
+        }
+
+        private Object value() {
+            skipWhitespace();
+            if (position >= text.length()) {
+                throw error("unexpected end");
+            }
+            char c = text.charAt(position);
+            if (c == '{') {
+                return object();
+            }
+            if (c == '[') {
+                return array();
+            }
+            if (c == '"') {
+                return string();
+            }
+            if (text.startsWith("true", position)) {
+                position += 4;
+                return Boolean.TRUE;
+            }
+            if (text.startsWith("false", position)) {
+                position += 5;
+                return Boolean.FALSE;
+            }
+            if (text.startsWith("null", position)) {
+                position += 4;
+                return null;
+            }
+            return number();
+        }
+
+        private Map<String, Object> object() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            position++;
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+                return object;
+            }
+            while (true) {
+                skipWhitespace();
+                String key = string();
+                skipWhitespace();
+                expect(':');
+                object.put(key, value());
+                skipWhitespace();
+                if (peek() == ',') {
+                    position++;
+                    continue;
+                }
+                expect('}');
+                return object;
+            }
+        }
+
+        private List<Object> array() {
+            List<Object> array = new ArrayList<>();
+            position++;
+            skipWhitespace();
+            if (peek() == ']') {
+                position++;
+                return array;
+            }
+            while (true) {
+                array.add(value());
+                skipWhitespace();
+                if (peek() == ',') {
+                    position++;
+                    continue;
+                }
+                expect(']');
+                return array;
+            }
+        }
+
+        private String string() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < text.length()) {
+                char c = text.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c == '\\' && position < text.length()) {
+                    char escaped = text.charAt(position++);
+                    if (escaped == 'u' && position + 4 <= text.length()) {
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        position += 4;
+                    } else {
+                        value.append(switch (escaped) {
+                            case 'n' -> '\n';
+                            case 't' -> '\t';
+                            case 'r' -> '\r';
+                            case 'b' -> '\b';
+                            case 'f' -> '\f';
+                            default -> escaped;
+                        });
+                    }
+                } else {
+                    value.append(c);
+                }
+            }
+            throw error("unterminated string");
+        }
+
+        private Double number() {
+            int start = position;
+            while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+                position++;
+            }
+            if (start == position) {
+                throw error("unexpected character '" + text.charAt(position) + "'");
+            }
+            return Double.parseDouble(text.substring(start, position));
+        }
+
+        private char peek() {
+            return position < text.length() ? text.charAt(position) : '\0';
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw error("expected '" + c + "'");
+            }
+            position++;
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Invalid baseline JSON at " + position + ": " + message);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ocean.sc.vt.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기준선 대비 회귀 판정 (PerformanceGate가 사용)
+ * - 허용 비율(tolerance)을 넘게 나빠졌고 t-검정(99%)으로도 유의하면 REGRESSION
+ * - 기준선에 없는 지표는 NEW (비교 불가)
+ *
+ * JMH 벤치마크 소스 세트와 분리 → 단위 테스트가 src/jmh 에 의존하지 않음
+ */
+final class PerfComparison {
+
+    private static final double CONFIDENCE = 0.99;
+
+    enum Verdict { OK, IMPROVED, REGRESSION, NEW }
+
+    /**
+     * @param change 평균 변화 비율 (current / baseline - 1)
+     * @param significant 두 표본 집합의 평균 차이가 신뢰 수준에서 유의한지
+     */
+    record Comparison(PerfBaseline.Metric current, PerfBaseline.Metric baseline, double change,
+                      boolean significant, Verdict verdict) {
+    }
+
+    private PerfComparison() {
+    }
+
+    static List<Comparison> compare(PerfBaseline baseline, List<PerfBaseline.Metric> measured) {
+        List<Comparison> comparisons = new ArrayList<>();
+        for (PerfBaseline.Metric current : measured) {
+            PerfBaseline.Metric base = baseline.metrics().get(current.name());
+            if (base == null || base.samples().length == 0) {
+                comparisons.add(new Comparison(current, null, 0, false, Verdict.NEW));
+                continue;
+            }
+            double change = current.mean() / base.mean() - 1;
+            // 표본이 2개 미만이면 t-검정을 할 수 없으므로 허용 비율만으로 판정
+            boolean significant = base.samples().length < 2 || current.samples().length < 2
+                    || base.statistics().isDifferent(current.statistics(), CONFIDENCE);
+            double worse = current.higherIsBetter() ? -change : change;
+            Verdict verdict = !significant ? Verdict.OK
+                    : worse > base.tolerance() ? Verdict.REGRESSION
+                    : worse < -base.tolerance() ? Verdict.IMPROVED
+                    : Verdict.OK;
+            comparisons.add(new Comparison(current, base, change, significant, verdict));
+        }
+        return comparisons;
+    }
+
+    static long count(List<Comparison> comparisons, Verdict verdict) {
+        return comparisons.stream().filter(c -> c.verdict() == verdict).count();
+    }
+}
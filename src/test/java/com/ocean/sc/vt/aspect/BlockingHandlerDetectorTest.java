@@ -0,0 +1,67 @@
+package com.ocean.sc.vt.aspect;
+
+import com.ocean.sc.vt.annotation.VirtualThread;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BlockingHandlerDetector 테스트 - BLOCKING 모드로 실행될 @VirtualThread 핸들러 판별
+ */
+class BlockingHandlerDetectorTest {
+
+    @Test
+    @DisplayName("구체 타입을 반환하는 @VirtualThread 핸들러만 BLOCKING으로 보고")
+    void reportsOnlyBlockingVirtualThreadHandlers() {
+        // given
+        SampleController controller = new SampleController();
+        List<HandlerMethod> handlerMethods = Arrays.stream(SampleController.class.getDeclaredMethods())
+                .map(method -> new HandlerMethod(controller, method))
+                .toList();
+
+        // when
+        List<String> handlers = BlockingHandlerDetector.blockingHandlers(handlerMethods);
+
+        // then
+        assertThat(handlers).hasSize(1);
+        assertThat(handlers.getFirst()).contains("blockingString");
+    }
+
+    static class SampleController {
+
+        @VirtualThread
+        public String blockingString() {
+            return "blocking";
+        }
+
+        @VirtualThread
+        public Object deferred() {
+            return "deferred";
+        }
+
+        @VirtualThread
+        public DeferredResult<String> explicitDeferred() {
+            return new DeferredResult<>();
+        }
+
+        @VirtualThread
+        public CompletableFuture<String> future() {
+            return CompletableFuture.completedFuture("future");
+        }
+
+        @VirtualThread
+        public void detached() {
+        }
+
+        public String notOffloaded() {
+            return "plain";
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.ocean.sc.vt.aspect;
 
 import com.ocean.sc.vt.annotation.VirtualThread;
+import com.ocean.sc.vt.context.ContextPropagator;
+import com.ocean.sc.vt.inflight.OffloadTaskRegistry;
+import com.ocean.sc.vt.inflight.TaskCancelledException;
+import com.ocean.sc.vt.policy.MethodPolicy;
+import com.ocean.sc.vt.policy.OffloadPolicyRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,8 +17,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -27,6 +36,12 @@ class VirtualThreadAspectTest {
     @Autowired
     private TestService testService;
 
+    @Autowired
+    private OffloadTaskRegistry taskRegistry;
+
+    @Autowired
+    private OffloadPolicyRegistry policyRegistry;
+
     @BeforeEach
     void setUp() {
         MDC.clear();
@@ -162,6 +177,147 @@ class VirtualThreadAspectTest {
                 .hasMessageContaining("500ms");
     }
 
+    @Test
+    @DisplayName("CompletableFuture 반환 메서드는 DeferredResult 없이 CompletableFuture로 반환되어야 함")
+    void shouldReturnCompletableFuture() throws Exception {
+        // when
+        CompletableFuture<String> future = testService.futureMethod("future");
+
+        // then
+        assertThat(future.get(5, TimeUnit.SECONDS))
+                .contains("VirtualThread-")
+                .contains("isVirtual=true")
+                .contains("input=future");
+    }
+
+    @Test
+    @DisplayName("CompletionStage를 반환하는 비동기 메서드는 내부 완료 시점에 결과가 전달되어야 함")
+    void shouldFlattenCompletionStage() throws Exception {
+        // when
+        CompletionStage<String> stage = testService.nativeAsyncMethod();
+
+        // then
+        assertThat(stage.toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("async-done");
+    }
+
+    @Test
+    @DisplayName("CompletableFuture 반환 메서드가 타임아웃을 초과하면 TimeoutException으로 완료되어야 함")
+    void shouldTimeoutCompletableFuture() {
+        // when
+        CompletableFuture<String> future = testService.slowFutureMethod();
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("void 메서드는 즉시 반환되고 Virtual Thread에서 실행되어야 함")
+    void shouldExecuteVoidMethodDetached() throws Exception {
+        // given
+        CountDownLatch executed = new CountDownLatch(1);
+        AtomicReference<Thread> workerThread = new AtomicReference<>();
+
+        // when
+        testService.voidMethod(executed, workerThread);
+
+        // then
+        assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(workerThread.get().isVirtual()).isTrue();
+        assertThat(workerThread.get().getName()).contains("VirtualThread-");
+    }
+
+    @Test
+    @DisplayName("serializeBy 대기 중 타임아웃된 작업은 실행되지 않고 작업 등록도 해제되어야 함")
+    void shouldReleaseSerializedTaskTimedOutInQueue() throws Exception {
+        // given - 같은 키의 앞선 호출이 키를 점유
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(() -> {
+            try {
+                return testService.serialHoldMethod("serial-key", holding, release);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - 대기열에서 타임아웃 (실행 시작 전)
+        AtomicReference<Boolean> queuedRan = new AtomicReference<>(false);
+        assertThatThrownBy(() -> testService.serialQueuedMethod("serial-key", queuedRan))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("timed out");
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("held");
+
+        // then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (taskRegistry.activeCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(taskRegistry.activeCount()).isZero();
+        assertThat(queuedRan.get()).isFalse();
+    }
+
+    @Test
+    @DisplayName("결과를 기다리던 호출 스레드가 인터럽트되면 작업을 취소하고 인터럽트 상태를 유지해야 함")
+    void shouldCancelBlockingTaskWhenCallerInterrupted() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<Boolean> workerInterrupted = new AtomicReference<>(false);
+        AtomicReference<Throwable> callerError = new AtomicReference<>();
+        AtomicReference<Boolean> callerInterrupted = new AtomicReference<>(false);
+        Thread caller = Thread.ofPlatform().start(() -> {
+            try {
+                testService.interruptibleBlockingMethod(started, workerInterrupted);
+            } catch (Throwable e) {
+                callerError.set(e);
+            }
+            callerInterrupted.set(Thread.currentThread().isInterrupted());
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        caller.interrupt();
+        caller.join(5000);
+
+        // then
+        assertThat(callerError.get()).isInstanceOf(TaskCancelledException.class);
+        assertThat(callerInterrupted.get()).isTrue();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (taskRegistry.activeCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(taskRegistry.activeCount()).isZero();
+        assertThat(workerInterrupted.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실행 정보 생성 중 예외가 나면 동시 실행 허가를 반환해야 함")
+    void shouldReleasePermitWhenInvocationSetupFails() throws Exception {
+        // given - 동시 실행 1개 제한
+        String key = OffloadPolicyRegistry.methodKey(TestService.class, "fastMethod");
+        policyRegistry.putMethod(key, new MethodPolicy(null, 1));
+        try {
+            // when - 호출 스레드의 컨텍스트 캡처 실패 (허가 획득 이후)
+            FailingCapturePropagator.FAIL.set(true);
+            try {
+                assertThatThrownBy(() -> testService.fastMethod())
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("capture failed");
+            } finally {
+                FailingCapturePropagator.FAIL.remove();
+            }
+
+            // then - 허가가 반환되어 다음 호출이 제한에 걸리지 않음
+            assertThat(policyRegistry.runningCounts()).containsEntry(key, 0);
+            assertThat(testService.fastMethod()).isEqualTo("fast");
+        } finally {
+            policyRegistry.removeMethod(key);
+        }
+    }
+
     /**
      * 테스트용 서비스 클래스
      * - AOP 프록시가 적용될 수 있도록 public 클래스로 정의
@@ -218,6 +374,61 @@ class VirtualThreadAspectTest {
             Thread.sleep(1000); // 1초 대기 (타임아웃 500ms)
             return "timeout";
         }
+
+        @VirtualThread
+        public CompletableFuture<String> futureMethod(String input) {
+            Thread currentThread = Thread.currentThread();
+            return CompletableFuture.completedFuture(String.format("Thread: %s, isVirtual=%s, input=%s",
+                    currentThread.getName(), currentThread.isVirtual(), input));
+        }
+
+        @VirtualThread
+        public CompletionStage<String> nativeAsyncMethod() {
+            // 이미 비동기인 메서드 - 별도 스레드에서 나중에 완료
+            return CompletableFuture.supplyAsync(() -> "async-done",
+                    CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+        }
+
+        @VirtualThread(timeout = 200)
+        public CompletableFuture<String> slowFutureMethod() {
+            try {
+                Thread.sleep(1000); // 1초 대기 (타임아웃 200ms)
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return CompletableFuture.completedFuture("slow");
+        }
+
+        @VirtualThread(timeout = 5000, serializeBy = "#p0")
+        public String serialHoldMethod(String key, CountDownLatch holding, CountDownLatch release)
+                throws InterruptedException {
+            holding.countDown();
+            release.await();
+            return "held";
+        }
+
+        @VirtualThread(timeout = 200, serializeBy = "#p0")
+        public String serialQueuedMethod(String key, AtomicReference<Boolean> ran) {
+            ran.set(true);
+            return "queued";
+        }
+
+        @VirtualThread(timeout = 10000)
+        public String interruptibleBlockingMethod(CountDownLatch started, AtomicReference<Boolean> interrupted) {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return "interruptible";
+        }
+
+        @VirtualThread
+        public void voidMethod(CountDownLatch executed, AtomicReference<Thread> workerThread) {
+            workerThread.set(Thread.currentThread());
+            executed.countDown();
+        }
     }
 
     /**
@@ -231,5 +442,39 @@ class VirtualThreadAspectTest {
         public TestService testService() {
             return new TestService();
         }
+
+        @Bean
+        public FailingCapturePropagator failingCapturePropagator() {
+            return new FailingCapturePropagator();
+        }
+    }
+
+    /**
+     * 호출 스레드에 표시가 있을 때만 캡처에 실패하는 전파 대상 (실행 정보 생성 실패 재현용)
+     */
+    static class FailingCapturePropagator implements ContextPropagator<Object> {
+
+        static final ThreadLocal<Boolean> FAIL = new ThreadLocal<>();
+
+        @Override
+        public String name() {
+            return "failing-capture";
+        }
+
+        @Override
+        public Object capture() {
+            if (Boolean.TRUE.equals(FAIL.get())) {
+                throw new IllegalStateException("capture failed");
+            }
+            return null;
+        }
+
+        @Override
+        public void restore(Object captured) {
+        }
+
+        @Override
+        public void clear() {
+        }
     }
 }
@@ -0,0 +1,110 @@
+package com.ocean.sc.vt.aspect;
+
+import com.ocean.sc.vt.annotation.VirtualThread;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AOP 위빙 모드 테스트
+ * - proxy 모드: self-invocation은 Aspect가 적용되지 않음 (Spring 프록시 한계)
+ * - ctw 모드(./gradlew test -PaopMode=ctw): self-invocation도 Virtual Thread로 오프로딩
+ */
+@SpringBootTest
+class VirtualThreadWeavingTest {
+
+    @Autowired
+    private SelfInvokingService selfInvokingService;
+
+    @Autowired
+    private VirtualThreadAspect virtualThreadAspect;
+
+    static boolean compileTimeWoven() {
+        return VirtualThreadAspect.isCompileTimeWoven();
+    }
+
+    @Test
+    @EnabledIf("compileTimeWoven")
+    @DisplayName("[ctw] self-invocation된 @VirtualThread 메서드도 Virtual Thread에서 실행")
+    void selfInvocation_OffloadedWithCompileTimeWeaving() throws Exception {
+        // when
+        Object result = selfInvokingService.outer();
+
+        // then
+        assertThat(result).isInstanceOf(DeferredResult.class);
+        assertThat(await(result)).asString()
+                .contains("isVirtual=true")
+                .contains("VirtualThread-");
+    }
+
+    @Test
+    @EnabledIf("compileTimeWoven")
+    @DisplayName("[ctw] AspectJ 싱글톤 Aspect가 Spring Bean으로 연결됨")
+    void aspectBean_IsAspectJSingleton() {
+        assertThat(virtualThreadAspect).isSameAs(org.aspectj.lang.Aspects.aspectOf(VirtualThreadAspect.class));
+    }
+
+    @Test
+    @DisabledIf("compileTimeWoven")
+    @DisplayName("[proxy] self-invocation된 @VirtualThread 메서드는 호출 스레드에서 실행")
+    void selfInvocation_NotOffloadedWithProxy() {
+        // when
+        Object result = selfInvokingService.outer();
+
+        // then
+        assertThat(result).asString().contains("isVirtual=false");
+    }
+
+    @Test
+    @DisabledIf("compileTimeWoven")
+    @DisplayName("[proxy] 외부 호출은 프록시를 통해 Virtual Thread에서 실행")
+    void externalCall_OffloadedWithProxy() throws Exception {
+        // when
+        Object result = selfInvokingService.offloaded();
+
+        // then
+        assertThat(result).isInstanceOf(DeferredResult.class);
+        assertThat(await(result)).asString().contains("isVirtual=true");
+    }
+
+    private static Object await(Object result) throws Exception {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        ((DeferredResult<?>) result).setResultHandler(future::complete);
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * self-invocation 테스트용 서비스
+     */
+    public static class SelfInvokingService {
+
+        public Object outer() {
+            return offloaded();
+        }
+
+        @VirtualThread
+        public Object offloaded() {
+            Thread currentThread = Thread.currentThread();
+            return String.format("Thread: %s, isVirtual=%s", currentThread.getName(), currentThread.isVirtual());
+        }
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public SelfInvokingService selfInvokingService() {
+            return new SelfInvokingService();
+        }
+    }
+}
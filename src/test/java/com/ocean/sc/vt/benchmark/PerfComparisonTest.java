@@ -0,0 +1,126 @@
+package com.ocean.sc.vt.benchmark;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * 성능 게이트 판정 로직 검증 테스트 (허용 비율 + t-검정)
+ */
+class PerfComparisonTest {
+
+    private static final double TOLERANCE = 0.10;
+
+    @Test
+    @DisplayName("허용 비율을 넘고 유의한 처리량 감소는 회귀")
+    void throughputDropBeyondToleranceIsRegression() {
+        // given
+        PerfBaseline baseline = baselineOf(throughput(1000, 1002, 998, 1001, 999));
+
+        // when
+        PerfComparison.Comparison comparison = compareOne(baseline, throughput(800, 802, 798, 801, 799));
+
+        // then
+        assertThat(comparison.significant()).isTrue();
+        assertThat(comparison.change()).isCloseTo(-0.2, offset(0.001));
+        assertThat(comparison.verdict()).isEqualTo(PerfComparison.Verdict.REGRESSION);
+    }
+
+    @Test
+    @DisplayName("작을수록 좋은 지표(p99)는 증가가 회귀, 감소가 개선")
+    void latencyDirectionIsInverted() {
+        // given
+        PerfBaseline baseline = baselineOf(latency(10.0, 10.1, 9.9, 10.0, 10.05));
+
+        // when
+        PerfComparison.Comparison slower = compareOne(baseline, latency(13.0, 13.1, 12.9, 13.0, 13.05));
+        PerfComparison.Comparison faster = compareOne(baseline, latency(7.0, 7.1, 6.9, 7.0, 7.05));
+
+        // then
+        assertThat(slower.verdict()).isEqualTo(PerfComparison.Verdict.REGRESSION);
+        assertThat(faster.verdict()).isEqualTo(PerfComparison.Verdict.IMPROVED);
+    }
+
+    @Test
+    @DisplayName("유의하더라도 허용 비율 안의 변화는 통과")
+    void significantChangeWithinToleranceIsOk() {
+        // given - 분산이 거의 없어 5% 감소도 유의하지만 허용 비율(10%) 안
+        PerfBaseline baseline = baselineOf(throughput(1000, 1001, 999, 1000, 1000));
+
+        // when
+        PerfComparison.Comparison comparison = compareOne(baseline, throughput(950, 951, 949, 950, 950));
+
+        // then
+        assertThat(comparison.significant()).isTrue();
+        assertThat(comparison.verdict()).isEqualTo(PerfComparison.Verdict.OK);
+    }
+
+    @Test
+    @DisplayName("허용 비율을 넘어도 잡음 속 변화(t-검정 비유의)는 통과")
+    void noisyChangeIsNotRegression() {
+        // given - 평균은 20% 낮지만 표본 분산이 커서 99% 신뢰수준에서 구분되지 않음
+        PerfBaseline baseline = baselineOf(throughput(1000, 400, 1600, 700, 1300));
+
+        // when
+        PerfComparison.Comparison comparison = compareOne(baseline, throughput(800, 300, 1400, 500, 1000));
+
+        // then
+        assertThat(comparison.change()).isLessThan(-TOLERANCE);
+        assertThat(comparison.significant()).isFalse();
+        assertThat(comparison.verdict()).isEqualTo(PerfComparison.Verdict.OK);
+    }
+
+    @Test
+    @DisplayName("표본이 1개면 t-검정 없이 허용 비율만으로 판정")
+    void singleSampleUsesToleranceOnly() {
+        // given
+        PerfBaseline baseline = baselineOf(throughput(1000));
+
+        // when
+        PerfComparison.Comparison comparison = compareOne(baseline, throughput(850));
+
+        // then
+        assertThat(comparison.significant()).isTrue();
+        assertThat(comparison.verdict()).isEqualTo(PerfComparison.Verdict.REGRESSION);
+    }
+
+    @Test
+    @DisplayName("기준선에 없는 지표는 NEW로 집계 (check 모드 실패 대상)")
+    void missingBaselineIsNew() {
+        // given
+        PerfBaseline baseline = PerfBaseline.empty();
+
+        // when
+        List<PerfComparison.Comparison> comparisons = PerfComparison.compare(baseline,
+                List.of(throughput(1000, 1001), latency(10.0, 10.1)));
+
+        // then
+        assertThat(comparisons).extracting(PerfComparison.Comparison::verdict)
+                .containsOnly(PerfComparison.Verdict.NEW);
+        assertThat(PerfComparison.count(comparisons, PerfComparison.Verdict.NEW)).isEqualTo(2);
+        assertThat(PerfComparison.count(comparisons, PerfComparison.Verdict.REGRESSION)).isZero();
+    }
+
+    private static PerfComparison.Comparison compareOne(PerfBaseline baseline, PerfBaseline.Metric current) {
+        List<PerfComparison.Comparison> comparisons = PerfComparison.compare(baseline, List.of(current));
+        assertThat(comparisons).hasSize(1);
+        return comparisons.get(0);
+    }
+
+    private static PerfBaseline baselineOf(PerfBaseline.Metric metric) {
+        return new PerfBaseline(Map.of(), Map.of(metric.name(), metric));
+    }
+
+    private static PerfBaseline.Metric throughput(double... samples) {
+        return new PerfBaseline.Metric("load.throughput", "req/s", true, TOLERANCE, samples);
+    }
+
+    private static PerfBaseline.Metric latency(double... samples) {
+        return new PerfBaseline.Metric("load.p99", "ms", false, TOLERANCE, samples);
+    }
+}
@@ -0,0 +1,210 @@
+package com.ocean.sc.vt.body;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RequestBodyStream 검증 테스트 (논블로킹 수신 / 역압 / 중단 / 블로킹 전환)
+ */
+class RequestBodyStreamTest {
+
+    private static final int CHUNK = 1024;
+
+    private final DirectBufferPool pool = new DirectBufferPool(CHUNK, 64);
+
+    @Test
+    @DisplayName("나눠서 도착한 본문을 순서대로 모두 수신, 버퍼는 window 수준만 할당")
+    void receivesBodyInOrder() throws Exception {
+        // given
+        byte[] body = bytes(10 * CHUNK + 17);
+        ScriptedInputStream source = new ScriptedInputStream();
+        RequestBodyStream stream = RequestBodyStream.nonBlocking(pool, 2, body.length);
+        CompletableFuture<byte[]> consumed = CompletableFuture.supplyAsync(() -> readAll(stream),
+                command -> Thread.ofVirtual().start(command));
+
+        // when
+        stream.startNonBlocking(source);
+        for (int offset = 0; offset < body.length; offset += 3000) {
+            source.arrive(Arrays.copyOfRange(body, offset, Math.min(body.length, offset + 3000)));
+        }
+        source.finish();
+
+        // then
+        assertThat(consumed.get(5, TimeUnit.SECONDS)).isEqualTo(body);
+        assertThat(stream.bytesReceived()).isEqualTo(body.length);
+        assertThat(pool.allocatedCount()).isLessThanOrEqualTo(4); // window 2 + 소비 중 1 + 채우는 중 1
+    }
+
+    @Test
+    @DisplayName("소비가 없으면 window만큼만 읽고 나머지는 소켓에 남김 (역압)")
+    void stopsReadingWhenWindowIsFull() {
+        // given
+        ScriptedInputStream source = new ScriptedInputStream();
+        RequestBodyStream stream = RequestBodyStream.nonBlocking(pool, 2, -1);
+        stream.startNonBlocking(source);
+
+        // when
+        source.arrive(bytes(10 * CHUNK));
+
+        // then
+        assertThat(source.remaining()).isEqualTo(8 * CHUNK);
+        assertThat(pool.allocatedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 종료(abort) 시 대기 중인 소비자는 IOException, 미소비 청크는 풀로 반납")
+    void abortWakesConsumerAndReleasesChunks() throws Exception {
+        // given
+        ScriptedInputStream source = new ScriptedInputStream();
+        RequestBodyStream stream = RequestBodyStream.nonBlocking(pool, 4, -1);
+        stream.startNonBlocking(source);
+        source.arrive(bytes(2 * CHUNK));
+        assertThat(stream.nextChunk()).isNotNull();
+        assertThat(stream.nextChunk()).isNotNull();
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> readAll(stream),
+                command -> Thread.ofVirtual().start(command));
+
+        // when
+        source.arrive(bytes(CHUNK));
+        stream.abort();
+
+        // then
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IOException.class);
+        stream.close();
+        assertThat(pool.pooledCount()).isEqualTo((int) pool.allocatedCount());
+    }
+
+    @Test
+    @DisplayName("수신 오류(onError)는 소비자에게 IOException으로 전달")
+    void propagatesReadError() {
+        // given
+        ScriptedInputStream source = new ScriptedInputStream();
+        RequestBodyStream stream = RequestBodyStream.nonBlocking(pool, 2, -1);
+        stream.startNonBlocking(source);
+
+        // when
+        source.fail(new IOException("connection reset"));
+
+        // then
+        assertThatThrownBy(stream::nextChunk).isInstanceOf(IOException.class).hasMessage("connection reset");
+    }
+
+    @Test
+    @DisplayName("논블로킹 I/O를 지원하지 않는 스트림이면 블로킹 읽기로 전환")
+    void fallsBackToBlockingRead() throws Exception {
+        // given
+        byte[] body = bytes(3 * CHUNK + 5);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(body);
+        RequestBodyStream stream = RequestBodyStream.nonBlocking(pool, 2, body.length);
+
+        // when
+        stream.startNonBlocking(request.getInputStream());
+
+        // then
+        assertThat(stream.readAllBytes()).isEqualTo(body);
+        assertThat(stream.nextChunk()).isNull();
+    }
+
+    private static byte[] readAll(RequestBodyStream stream) {
+        try (stream) {
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 7 + 3);
+        }
+        return bytes;
+    }
+
+    /**
+     * 테스트가 도착 시점을 제어하는 논블로킹 입력 스트림 (컨테이너 역할)
+     */
+    private static final class ScriptedInputStream extends ServletInputStream {
+
+        private byte[] buffer = new byte[0];
+        private int position;
+        private boolean finished;
+        private volatile ReadListener listener;
+
+        void arrive(byte[] data) {
+            synchronized (this) {
+                byte[] merged = Arrays.copyOf(Arrays.copyOfRange(buffer, position, buffer.length),
+                        buffer.length - position + data.length);
+                System.arraycopy(data, 0, merged, buffer.length - position, data.length);
+                buffer = merged;
+                position = 0;
+            }
+            listener.onDataAvailable();
+        }
+
+        void finish() {
+            synchronized (this) {
+                finished = true;
+                if (position < buffer.length) {
+                    return; // 남은 데이터를 모두 읽은 뒤 알림 (read 참고)
+                }
+            }
+            listener.onAllDataRead();
+        }
+
+        void fail(Throwable error) {
+            listener.onError(error);
+        }
+
+        synchronized int remaining() {
+            return buffer.length - position;
+        }
+
+        @Override
+        public synchronized boolean isFinished() {
+            return finished && position == buffer.length;
+        }
+
+        @Override
+        public synchronized boolean isReady() {
+            return position < buffer.length || finished;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            this.listener = readListener;
+        }
+
+        @Override
+        public synchronized int read() {
+            return position < buffer.length ? buffer[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            if (position == buffer.length) {
+                return finished ? -1 : 0;
+            }
+            int n = Math.min(len, buffer.length - position);
+            System.arraycopy(buffer, position, b, off, n);
+            position += n;
+            if (finished && position == buffer.length) {
+                // 컨테이너처럼 별도 스레드에서 onAllDataRead 호출
+                Thread.ofVirtual().start(listener::onAllDataRead);
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.ocean.sc.vt.capture;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 트래픽 캡처 로그 기록 / 읽기 / 배속 재생 검증 테스트
+ */
+class TrafficCaptureTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("기록한 요청을 도착 순으로 복원 (엔드포인트 / 쿼리 / 상태 / 지연)")
+    void roundTrip() throws Exception {
+        // given
+        Path file = tempDir.resolve("capture.bin");
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, 1 << 16)) {
+            long base = System.nanoTime();
+            // 완료 순서로 기록 (두 번째 요청이 먼저 완료)
+            writer.append("GET /api/demo/virtual", "message=B", 200, base + 2_000_000, 5_000_000);
+            writer.append("GET /api/demo/virtual", "message=A", 200, base + 1_000_000, 9_000_000);
+            writer.append("POST /api/demo/virtual-upload", null, 503, base + 3_000_000, 1_000);
+        }
+
+        // when
+        CaptureLogReader.CaptureLog log = CaptureLogReader.read(file);
+
+        // then
+        assertThat(log.dropped()).isZero();
+        assertThat(log.requests()).extracting(CaptureLogReader.CapturedRequest::uri)
+                .containsExactly("/api/demo/virtual?message=A", "/api/demo/virtual?message=B", "/api/demo/virtual-upload");
+        CaptureLogReader.CapturedRequest first = log.requests().get(0);
+        assertThat(first.method()).isEqualTo("GET");
+        assertThat(first.status()).isEqualTo(200);
+        assertThat(first.latencyMicros()).isEqualTo(9_000);
+        assertThat(log.requests().get(2).method()).isEqualTo("POST");
+        assertThat(log.requests().get(2).status()).isEqualTo(503);
+        assertThat(log.requests().get(1).arrivalNanos() - first.arrivalNanos()).isEqualTo(1_000_000);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 누락 없음, 엔드포인트는 사전으로 한 번만 기록")
+    void concurrentAppends() throws Exception {
+        // given
+        Path file = tempDir.resolve("concurrent.bin");
+        int threads = 16;
+        int perThread = 1_000;
+
+        // when
+        long bytesUsed;
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, 4 << 20);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        writer.append("GET /api/demo/endpoint-" + (i % 4), "id=" + thread + "-" + i, 200,
+                                System.nanoTime(), 1_000);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            bytesUsed = writer.bytesUsed();
+        }
+
+        // then
+        CaptureLogReader.CaptureLog log = CaptureLogReader.read(file);
+        assertThat(log.requests()).hasSize(threads * perThread);
+        assertThat(log.requests()).extracting(CaptureLogReader.CapturedRequest::path).containsOnly(
+                "/api/demo/endpoint-0", "/api/demo/endpoint-1", "/api/demo/endpoint-2", "/api/demo/endpoint-3");
+        assertThat(bytesUsed).isLessThan(threads * perThread * 40L); // 요청당 약 32바이트 (경로 미포함)
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 기록은 버리고 건수를 헤더에 남김")
+    void dropsWhenFull() throws Exception {
+        // given
+        Path file = tempDir.resolve("full.bin");
+        int appended = 0;
+
+        // when
+        try (CaptureLogWriter writer = new CaptureLogWriter(file, 1024)) {
+            for (int i = 0; i < 100; i++) {
+                if (writer.append("GET /api/demo/virtual", "i=" + i, 200, System.nanoTime(), 1_000)) {
+                    appended++;
+                }
+            }
+        }
+
+        // then
+        CaptureLogReader.CaptureLog log = CaptureLogReader.read(file);
+        assertThat(appended).isPositive().isLessThan(100);
+        assertThat(log.requests()).hasSize(appended);
+        assertThat(log.dropped()).isEqualTo(100 - appended);
+    }
+
+    @Test
+    @DisplayName("배속 재생 - 도착 간격을 speed 배로 압축하여 같은 순서로 발사")
+    void replaysAtSpeed() throws Exception {
+        // given
+        List<String> received = new CopyOnWriteArrayList<>();
+        List<Long> receivedAt = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            receivedAt.add(System.nanoTime());
+            received.add(exchange.getRequestURI().toString());
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        List<CaptureLogReader.CapturedRequest> requests = List.of(
+                new CaptureLogReader.CapturedRequest(0, "GET", "/a", "n=1", 200, 1_000),
+                new CaptureLogReader.CapturedRequest(1_000_000_000L, "GET", "/b", null, 200, 1_000),
+                new CaptureLogReader.CapturedRequest(2_000_000_000L, "GET", "/c", "n=3", 200, 1_000));
+
+        // when
+        TrafficReplayer.ReplayReport report;
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            report = new TrafficReplayer(client, URI.create("http://localhost:" + server.getAddress().getPort()),
+                    10, Duration.ofSeconds(5)).replay(requests);
+        } finally {
+            server.stop(0);
+        }
+
+        // then
+        assertThat(received).containsExactly("/a?n=1", "/b", "/c?n=3");
+        assertThat(report.statuses()).containsEntry(200, 3L);
+        assertThat(report.failures()).isZero();
+        long spreadMs = TimeUnit.NANOSECONDS.toMillis(receivedAt.get(2) - receivedAt.get(0));
+        assertThat(spreadMs).isBetween(150L, 1_000L); // 2초 간격 → 10배속 약 200ms
+    }
+
+    @Test
+    @DisplayName("기존 파일은 지우거나 덮어쓰지 않음")
+    void refusesToOverwriteExistingFile() throws Exception {
+        // given
+        Path file = tempDir.resolve("existing.conf");
+        Files.writeString(file, "keep");
+
+        // when & then
+        assertThatThrownBy(() -> new CaptureLogWriter(file, 1 << 16)).isInstanceOf(FileAlreadyExistsException.class);
+        assertThat(Files.readString(file)).isEqualTo("keep");
+    }
+
+    @Test
+    @DisplayName("캡처 파일은 설정 디렉터리 안에 새 이름으로 생성 (시작할 때마다 다른 파일)")
+    void recorderCreatesFilesInsideCaptureDirectory() throws Exception {
+        // given
+        Path directory = tempDir.resolve("captures");
+        TrafficRecorder recorder = new TrafficRecorder(false, directory.toString(), 1 << 16, "/api/demo/**");
+
+        // when
+        Path first = Path.of(recorder.start(1 << 16).file());
+        Path second = Path.of(recorder.start(1 << 16).file());
+        recorder.stop();
+
+        // then
+        assertThat(first.getParent()).isEqualTo(directory);
+        assertThat(second.getParent()).isEqualTo(directory);
+        assertThat(first).isNotEqualTo(second);
+        assertThat(first).exists();
+    }
+}
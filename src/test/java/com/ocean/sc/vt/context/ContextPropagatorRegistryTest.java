@@ -0,0 +1,166 @@
+package com.ocean.sc.vt.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ContextPropagatorRegistry 검증 테스트
+ */
+class ContextPropagatorRegistryTest {
+
+    private final ContextPropagatorRegistry registry = new ContextPropagatorRegistry(
+            List.of(new MdcContextPropagator(), new RequestAttributesPropagator(), new LocaleContextPropagator()), 1.0);
+
+    @AfterEach
+    void cleanup() {
+        MDC.clear();
+        RequestContextHolder.resetRequestAttributes();
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    @DisplayName("MDC / 요청 속성 / Locale을 실행 스레드에 복원하고 종료 후 정리")
+    void restoresAllContextsOnWorker() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/demo");
+        request.setAttribute("user", "alice");
+        ServletRequestAttributes original = new ServletRequestAttributes(request);
+        RequestContextHolder.setRequestAttributes(original);
+        MDC.put("traceId", "trace-1");
+        LocaleContextHolder.setLocale(Locale.KOREA);
+
+        ContextSnapshot snapshot = registry.capture();
+
+        // 최초 디스패치 종료 → 원본 요청 속성은 비활성화
+        original.requestCompleted();
+
+        AtomicReference<String> traceId = new AtomicReference<>();
+        AtomicReference<Object> user = new AtomicReference<>();
+        AtomicReference<Locale> locale = new AtomicReference<>();
+        AtomicReference<Boolean> clearedAfter = new AtomicReference<>();
+
+        // when
+        Thread worker = Thread.ofVirtual().start(() -> {
+            snapshot.restore();
+            try {
+                traceId.set(MDC.get("traceId"));
+                user.set(RequestContextHolder.currentRequestAttributes()
+                        .getAttribute("user", RequestAttributes.SCOPE_REQUEST));
+                locale.set(LocaleContextHolder.getLocale());
+            } finally {
+                snapshot.clear();
+            }
+            clearedAfter.set(MDC.get("traceId") == null
+                    && RequestContextHolder.getRequestAttributes() == null
+                    && LocaleContextHolder.getLocaleContext() == null);
+        });
+        worker.join();
+
+        // then
+        assertThat(traceId.get()).isEqualTo("trace-1");
+        assertThat(user.get()).isEqualTo("alice");
+        assertThat(locale.get()).isEqualTo(Locale.KOREA);
+        assertThat(clearedAfter.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("요청 속성은 값 복사본으로 전파 - 원본 요청과 분리되고 작업 종료 시 비활성화")
+    void requestAttributesAreDetachedFromLiveRequest() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/demo");
+        request.setAttribute("user", "alice");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        ContextSnapshot snapshot = registry.capture();
+
+        // 요청 종료 후 컨테이너가 요청 객체를 다른 요청에 재사용
+        request.setAttribute("user", "bob");
+
+        AtomicReference<Object> user = new AtomicReference<>();
+        AtomicReference<RequestAttributes> workerAttributes = new AtomicReference<>();
+        AtomicReference<Boolean> destroyed = new AtomicReference<>(false);
+
+        // when
+        Thread worker = Thread.ofVirtual().start(() -> {
+            snapshot.restore();
+            try {
+                RequestAttributes attributes = RequestContextHolder.currentRequestAttributes();
+                workerAttributes.set(attributes);
+                user.set(attributes.getAttribute("user", RequestAttributes.SCOPE_REQUEST));
+                attributes.setAttribute("scopedBean", "bean", RequestAttributes.SCOPE_REQUEST);
+                attributes.registerDestructionCallback("scopedBean", () -> destroyed.set(true),
+                        RequestAttributes.SCOPE_REQUEST);
+            } finally {
+                snapshot.clear();
+            }
+        });
+        worker.join();
+
+        // then
+        assertThat(user.get()).isEqualTo("alice");
+        assertThat(request.getAttribute("scopedBean")).isNull();
+        assertThat(destroyed.get()).isTrue();
+        assertThatThrownBy(() -> workerAttributes.get().getAttribute("user", RequestAttributes.SCOPE_REQUEST))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("같은 요청에서는 첫 스냅샷을 재사용, 요청 밖에서는 매번 캡처")
+    void reusesSnapshotPerRequest() {
+        // given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        MDC.put("traceId", "first");
+
+        // when
+        ContextSnapshot first = registry.capture();
+        MDC.put("traceId", "second");
+        ContextSnapshot second = registry.capture();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(mdcOf(second)).containsEntry("traceId", "first");
+
+        // when - 요청 밖
+        RequestContextHolder.resetRequestAttributes();
+        ContextSnapshot outside1 = registry.capture();
+        ContextSnapshot outside2 = registry.capture();
+
+        // then
+        assertThat(outside1).isNotSameAs(outside2);
+        assertThat(mdcOf(outside1)).containsEntry("traceId", "second");
+    }
+
+    @Test
+    @DisplayName("전파 대상별 캡처 비용 집계")
+    void recordsCaptureCostPerPropagator() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            registry.capture();
+        }
+
+        // then
+        List<ContextPropagatorRegistry.CaptureCost> costs = registry.captureCosts();
+        assertThat(costs).extracting(ContextPropagatorRegistry.CaptureCost::propagator)
+                .containsExactly("mdc", "request-attributes", "locale");
+        assertThat(costs).allSatisfy(cost -> assertThat(cost.captureNanos().count()).isEqualTo(10));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> mdcOf(ContextSnapshot snapshot) {
+        return (Map<String, String>) snapshot.get("mdc");
+    }
+}
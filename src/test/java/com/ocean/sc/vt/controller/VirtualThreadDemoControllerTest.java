@@ -1,21 +1,26 @@
 package com.ocean.sc.vt.controller;
 
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.util.concurrent.Phaser;
+import java.util.zip.CRC32C;
 import java.util.concurrent.atomic.AtomicLongArray;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -125,6 +130,125 @@ class VirtualThreadDemoControllerTest {
                 .andExpect(content().string(org.hamcrest.Matchers.containsString("VIRTUALAOP")));
     }
 
+    @Test
+    @DisplayName("Virtual Thread 파이프라인 API - parse → enrich → aggregate 단계 통과")
+    void virtualThreadPipelineApi_RunsStages() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/demo/virtual-pipeline")
+                        .param("message", "  HelloPipeline  "))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then - parse 단계에서 공백 제거, enrich 단계에서 DemoService 처리, aggregate 단계에서 길이 추가
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("HelloPipeline")))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("(length=")));
+    }
+
+    @Test
+    @DisplayName("Virtual Thread 키별 순차 실행 API - 같은 사용자 요청은 순번이 유실되지 않음")
+    void virtualThreadSerialApi_OrdersPerUser() throws Exception {
+        // when - 같은 사용자 요청 2건을 연달아 제출 (두 번째는 첫 번째가 끝난 뒤 실행)
+        MvcResult first = mockMvc.perform(get("/api/demo/virtual-serial")
+                        .param("userId", "serial-user").param("message", "first"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult second = mockMvc.perform(get("/api/demo/virtual-serial")
+                        .param("userId", "serial-user").param("message", "second"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("sequence=1")));
+        mockMvc.perform(asyncDispatch(second))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("sequence=2")));
+    }
+
+    @Test
+    @DisplayName("Virtual Thread 키별 순차 실행 API - 대기 중 타임아웃된 요청은 나중에도 실행되지 않음")
+    void virtualThreadSerialApi_SkipsRequestTimedOutInQueue() throws Exception {
+        // given - 첫 요청이 키를 점유 (처리 1초), 두 번째 요청은 메일박스에서 대기
+        MvcResult first = mockMvc.perform(get("/api/demo/virtual-serial")
+                        .param("userId", "timeout-user").param("message", "first"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult queued = mockMvc.perform(get("/api/demo/virtual-serial")
+                        .param("userId", "timeout-user").param("message", "queued"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when - 대기 중인 요청의 비동기 타임아웃 (서블릿 컨테이너가 하는 것처럼 리스너 호출)
+        MockAsyncContext queuedContext = (MockAsyncContext) queued.getRequest().getAsyncContext();
+        for (AsyncListener listener : queuedContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(queuedContext));
+        }
+
+        // then - 앞선 요청이 끝난 뒤에도 타임아웃된 요청은 실행되지 않으므로 다음 요청의 순번은 2
+        mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("sequence=1")));
+        MvcResult next = mockMvc.perform(get("/api/demo/virtual-serial")
+                        .param("userId", "timeout-user").param("message", "next"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(next))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("sequence=2")));
+    }
+
+    @Test
+    @DisplayName("Virtual Thread 직접 응답 API - 재디스패치 없이 Virtual Thread가 응답 작성")
+    void virtualThreadDirectApi_WritesWithoutDispatch() throws Exception {
+        // when
+        MvcResult mvcResult = mockMvc.perform(get("/api/demo/virtual-direct")
+                        .param("message", "HelloDirect"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Virtual Thread가 AsyncContext를 완료할 때까지 대기
+        long deadline = System.currentTimeMillis() + 5000;
+        while (mvcResult.getRequest().isAsyncStarted() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // then
+        MockAsyncContext asyncContext = (MockAsyncContext) mvcResult.getRequest().getAsyncContext();
+        assertThat(mvcResult.getRequest().isAsyncStarted()).isFalse();
+        assertThat(asyncContext.getDispatchedPath()).isNull(); // 재디스패치 없음
+        assertThat(mvcResult.getResponse().getContentType()).startsWith("text/plain");
+        assertThat(mvcResult.getResponse().getContentAsString())
+                .contains("Virtual Thread (Direct) Result")
+                .contains("HELLODIRECT");
+    }
+
+    @Test
+    @DisplayName("업로드 API - RequestBodyStream으로 본문 전체를 청크 단위 수신")
+    void virtualThreadUploadApi_StreamsBody() throws Exception {
+        // given - 청크 크기(64KB)의 배수가 아닌 본문
+        byte[] body = new byte[3 * 65536 + 123];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) (i * 31);
+        }
+        CRC32C expected = new CRC32C();
+        expected.update(body);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/demo/virtual-upload").content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString(body.length + " bytes")))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString(
+                        String.format("crc32c=%08x", expected.getValue()))));
+    }
+
     @Test
     @DisplayName("AOP 방식 vs Callable 방식 - 응답 시간 비교 (둘 다 비동기)")
     void compareAopVsCallable() throws Exception {
@@ -0,0 +1,129 @@
+package com.ocean.sc.vt.inflight;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OffloadDrainer 검증 테스트
+ */
+class OffloadDrainerTest {
+
+    private final OffloadTaskRegistry registry = new OffloadTaskRegistry(16, "X-Request-Id", "X-Tenant-Id");
+
+    @Test
+    @DisplayName("드레인 시작 후 새 작업은 503 예외로 거부")
+    void rejectsNewWorkWhileDraining() {
+        // given
+        OffloadDrainer drainer = new OffloadDrainer(registry, 100);
+        drainer.start();
+        drainer.rejectIfDraining();
+
+        // when
+        drainer.stop();
+
+        // then
+        assertThat(drainer.isDraining()).isTrue();
+        assertThat(drainer.isRunning()).isFalse();
+        assertThatThrownBy(drainer::rejectIfDraining).isInstanceOf(ServiceDrainingException.class);
+        assertThat(drainer.lastReport().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나는 작업은 중단하지 않고 완료 대기")
+    void waitsForInFlightTasks() throws Exception {
+        // given
+        OffloadDrainer drainer = new OffloadDrainer(registry, 5_000);
+        TrackedTask task = registry.register("GET /api/demo", TrackedTask.Kind.ASPECT);
+        Thread worker = Thread.ofVirtual().start(() -> {
+            task.started();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                registry.remove(task);
+            }
+        });
+
+        // when
+        OffloadDrainer.DrainReport report = drainer.drain();
+        worker.join();
+
+        // then
+        assertThat(report.inFlight()).isEqualTo(1);
+        assertThat(report.cutOff()).isZero();
+        assertThat(report.remaining()).isZero();
+        assertThat(report.drainMs()).isBetween(100L, 5_000L);
+        assertThat(task.isCancelled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("레지스트리 상한을 넘어 추적하지 못한 작업도 완료를 기다리고 보고서에 집계")
+    void waitsForUntrackedTasks() throws Exception {
+        // given - 슬롯 1개 레지스트리에서 두 번째 작업은 추적하지 못함
+        OffloadTaskRegistry small = new OffloadTaskRegistry(1, "X-Request-Id", "X-Tenant-Id");
+        OffloadDrainer drainer = new OffloadDrainer(small, 5_000);
+        TrackedTask tracked = small.register("GET /api/tracked", TrackedTask.Kind.ASPECT);
+        assertThat(small.register("GET /api/untracked", TrackedTask.Kind.ASPECT)).isNull();
+        small.remove(tracked);
+        Thread worker = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                small.untrackedFinished();
+            }
+        });
+
+        // when
+        OffloadDrainer.DrainReport report = drainer.drain();
+        worker.join();
+
+        // then
+        assertThat(report.inFlight()).isEqualTo(1);
+        assertThat(report.untracked()).isEqualTo(1);
+        assertThat(report.remaining()).isZero();
+        assertThat(report.drainMs()).isBetween(100L, 5_000L);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 작업은 오류 결과로 확정 후 인터럽트")
+    void cutsOffTasksAfterDeadline() throws Exception {
+        // given
+        OffloadDrainer drainer = new OffloadDrainer(registry, 100);
+        TrackedTask task = registry.register("GET /api/slow", TrackedTask.Kind.ASPECT);
+        AtomicBoolean errorResult = new AtomicBoolean();
+        task.onCancel(() -> errorResult.set(true));
+        CountDownLatch running = new CountDownLatch(1);
+        Thread worker = Thread.ofVirtual().start(() -> {
+            task.started();
+            running.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                registry.remove(task);
+            }
+        });
+        running.await();
+
+        // when
+        OffloadDrainer.DrainReport report = drainer.drain();
+        worker.join(5_000);
+
+        // then
+        assertThat(report.inFlight()).isEqualTo(1);
+        assertThat(report.cutOff()).isEqualTo(1);
+        assertThat(report.remaining()).isZero();
+        assertThat(errorResult).isTrue();
+        assertThat(worker.isAlive()).isFalse();
+    }
+}
@@ -0,0 +1,281 @@
+package com.ocean.sc.vt.inflight;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OffloadTaskRegistry / OrphanTaskDetector 검증 테스트
+ */
+class OffloadTaskRegistryTest {
+
+    @Test
+    @DisplayName("슬롯이 모두 사용 중이면 추적하지 않고, 제거된 슬롯은 재사용")
+    void registerAndReuseSlots() {
+        // given
+        OffloadTaskRegistry registry = new OffloadTaskRegistry(2, "X-Request-Id", "X-Tenant-Id");
+
+        // when
+        TrackedTask first = registry.register("a", TrackedTask.Kind.ASPECT);
+        TrackedTask second = registry.register("b", TrackedTask.Kind.ASPECT);
+        TrackedTask overflow = registry.register("c", TrackedTask.Kind.ASPECT);
+
+        // then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(overflow).isNull();
+        assertThat(registry.activeCount()).isEqualTo(2);
+        assertThat(registry.untrackedCount()).isEqualTo(1);
+
+        // when - 제거 후 재등록 (중복 제거는 무시)
+        registry.remove(first);
+        registry.remove(first);
+        TrackedTask reused = registry.register("d", TrackedTask.Kind.CALLABLE);
+
+        // then
+        assertThat(reused).isNotNull();
+        assertThat(reused.id()).isNotEqualTo(first.id());
+        assertThat(registry.activeCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 등록/제거 후 모든 슬롯이 반환됨")
+    void concurrentRegisterAndRemove() throws Exception {
+        // given
+        int capacity = 64;
+        int threads = 16;
+        int iterations = 10_000;
+        OffloadTaskRegistry registry = new OffloadTaskRegistry(capacity, "X-Request-Id", "X-Tenant-Id");
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger registered = new AtomicInteger();
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        TrackedTask task = registry.register("task", TrackedTask.Kind.ASPECT);
+                        if (task != null) {
+                            registered.incrementAndGet();
+                            registry.remove(task);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // then
+        assertThat(registry.activeCount()).isZero();
+        assertThat(registered.get() + registry.untrackedCount()).isEqualTo((long) threads * iterations);
+
+        List<TrackedTask> all = new ArrayList<>();
+        for (int i = 0; i < capacity; i++) {
+            all.add(registry.register("refill", TrackedTask.Kind.ASPECT));
+        }
+        assertThat(all).doesNotContainNull();
+        assertThat(all).extracting(TrackedTask::slot).doesNotHaveDuplicates();
+        assertThat(registry.register("overflow", TrackedTask.Kind.ASPECT)).isNull();
+    }
+
+    @Test
+    @DisplayName("슬롯은 세그먼트 단위로 필요할 때 늘어나며 세그먼트 경계를 넘어도 조회 / 순회 가능")
+    void growsAcrossSegments() {
+        // given - 세그먼트(65536) 2개 이상이 필요한 동시 등록
+        int capacity = 200_000;
+        int count = 150_000;
+        OffloadTaskRegistry registry = new OffloadTaskRegistry(capacity, "X-Request-Id", "X-Tenant-Id");
+
+        // when
+        List<TrackedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(registry.register("task-" + i, TrackedTask.Kind.ASPECT));
+        }
+
+        // then
+        assertThat(tasks).doesNotContainNull();
+        assertThat(registry.activeCount()).isEqualTo(count);
+        assertThat(registry.untrackedCount()).isZero();
+        assertThat(registry.allocatedSlots()).isEqualTo(count);
+        TrackedTask last = tasks.getLast();
+        assertThat(registry.find(last.id())).isSameAs(last);
+        AtomicInteger visited = new AtomicInteger();
+        registry.forEach(task -> visited.incrementAndGet());
+        assertThat(visited.get()).isEqualTo(count);
+
+        // when - 모두 제거 후 재등록은 새 슬롯을 할당하지 않고 반환된 슬롯 재사용
+        tasks.forEach(registry::remove);
+        for (int i = 0; i < count; i++) {
+            assertThat(registry.register("again", TrackedTask.Kind.ASPECT)).isNotNull();
+        }
+
+        // then
+        assertThat(registry.allocatedSlots()).isEqualTo(count);
+        assertThat(registry.activeCount()).isEqualTo(count);
+    }
+
+    @Test
+    @DisplayName("결과 확정 후 임계 시간이 지나도 실행 중이면 고아 작업으로 탐지")
+    void detectsOrphanAfterSettled() throws Exception {
+        // given
+        OffloadTaskRegistry registry = new OffloadTaskRegistry(8, "X-Request-Id", "X-Tenant-Id");
+        OrphanTaskDetector detector = new OrphanTaskDetector(registry, 50, 0);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        TrackedTask task = registry.register("GET /api/slow", TrackedTask.Kind.CALLABLE);
+        TrackedTask notSettled = registry.register("GET /api/fine", TrackedTask.Kind.ASPECT);
+        Thread worker = Thread.ofVirtual().start(() -> {
+            task.started();
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                registry.remove(task);
+            }
+        });
+        running.await();
+
+        // when
+        task.settled();
+        assertThat(detector.orphans()).isEmpty();
+        Thread.sleep(100);
+        List<OrphanTaskDetector.OrphanTask> orphans = detector.orphans();
+
+        // then
+        assertThat(orphans).hasSize(1);
+        OrphanTaskDetector.OrphanTask orphan = orphans.getFirst();
+        assertThat(orphan.name()).isEqualTo("GET /api/slow");
+        assertThat(orphan.kind()).isEqualTo(TrackedTask.Kind.CALLABLE);
+        assertThat(orphan.sinceSettledMs()).isGreaterThanOrEqualTo(50);
+        assertThat(orphan.thread()).isNotNull();
+        assertThat(orphan.stackTrace()).isNotEmpty();
+
+        // 스캔 로그는 최초 1회만
+        detector.scan();
+        assertThat(task.markReported()).isFalse();
+
+        // cleanup
+        release.countDown();
+        worker.join();
+        registry.remove(notSettled);
+        assertThat(detector.orphans()).isEmpty();
+        assertThat(registry.activeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("ID로 조회 - 슬롯이 재사용되면 이전 ID는 조회되지 않음")
+    void findById() {
+        // given
+        OffloadTaskRegistry registry = new OffloadTaskRegistry(1, "X-Request-Id", "X-Tenant-Id");
+        TrackedTask first = registry.register("a", TrackedTask.Kind.ASPECT);
+
+        // when
+        registry.remove(first);
+        TrackedTask second = registry.register("b", TrackedTask.Kind.ASPECT);
+
+        // then
+        assertThat(registry.find(first.id())).isNull();
+        assertThat(registry.find(second.id())).isSameAs(second);
+        assertThat(registry.find(0)).isNull();
+    }
+
+    @Test
+    @DisplayName("등록 시 MDC의 요청 ID / 테넌트 / 키 기록")
+    void capturesMdcContext() {
+        // given
+        OffloadTaskRegistry registry = new OffloadTaskRegistry(4, "X-Request-Id", "X-Tenant-Id");
+        MDC.put("requestId", "req-1");
+        MDC.put("tenantId", "tenant-a");
+        MDC.put("userId", "user-7");
+
+        // when
+        TrackedTask task;
+        try {
+            task = registry.register("GET /api/demo", TrackedTask.Kind.ASPECT);
+        } finally {
+            MDC.clear();
+        }
+
+        // then
+        assertThat(task.requestId()).isEqualTo("req-1");
+        assertThat(task.tenant()).isEqualTo("tenant-a");
+        assertThat(task.mdcKeys()).containsExactlyInAnyOrder("requestId", "tenantId", "userId");
+    }
+
+    @Test
+    @DisplayName("취소 - 결과 확정 동작 실행 후 실행 스레드 인터럽트, 중복 취소는 무시")
+    void cancelInterruptsWorker() throws Exception {
+        // given
+        OffloadTaskRegistry registry = new OffloadTaskRegistry(4, "X-Request-Id", "X-Tenant-Id");
+        TrackedTask task = registry.register("GET /api/slow", TrackedTask.Kind.ASPECT);
+        AtomicBoolean resultCompleted = new AtomicBoolean();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch running = new CountDownLatch(1);
+        task.onCancel(() -> resultCompleted.set(true));
+
+        Thread worker = Thread.ofVirtual().start(() -> {
+            task.started();
+            running.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            } finally {
+                registry.remove(task);
+            }
+        });
+        running.await();
+
+        // when
+        boolean cancelled = registry.cancel(task.id());
+        worker.join(5_000);
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(resultCompleted).isTrue();
+        assertThat(interrupted).isTrue();
+        assertThat(task.isCancelled()).isTrue();
+        assertThat(task.settledNanos()).isNotZero();
+        assertThat(registry.cancel(task.id())).isFalse();
+        assertThat(registry.activeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("오래된 순으로 최대 limit개 조회")
+    void oldestTasks() throws Exception {
+        // given
+        OffloadTaskRegistry registry = new OffloadTaskRegistry(16, "X-Request-Id", "X-Tenant-Id");
+        List<TrackedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(registry.register("task-" + i, TrackedTask.Kind.ASPECT));
+            Thread.sleep(1);
+        }
+
+        // when
+        List<TrackedTask> oldest = registry.oldest(3);
+
+        // then
+        assertThat(oldest).containsExactly(tasks.get(0), tasks.get(1), tasks.get(2));
+        assertThat(registry.oldest(0)).isEmpty();
+    }
+}
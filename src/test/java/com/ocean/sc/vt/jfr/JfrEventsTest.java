@@ -0,0 +1,126 @@
+package com.ocean.sc.vt.jfr;
+
+import com.ocean.sc.vt.config.VirtualThreadConfig;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 오프로딩 JFR 이벤트 / JfrRecordingService 테스트
+ */
+class JfrEventsTest {
+
+    @Test
+    @DisplayName("JFR 비활성화 - 이벤트 객체를 만들지 않음")
+    void beginIfEnabled_ReturnsNullWhenDisabled() {
+        assertThat(VirtualThreadInvocationEvent.beginIfEnabled("method", "BLOCKING")).isNull();
+        assertThat(OffloadedTaskEvent.enabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("호출 이벤트 - 메서드, 결과, 대기/실행 시간, 스레드 이동 기록")
+    void invocationEvent_RecordsThreadHop() throws Exception {
+        // given
+        Path file = Files.createTempFile("invocation-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(VirtualThreadInvocationEvent.class);
+            recording.start();
+
+            // when
+            VirtualThreadInvocationEvent event = VirtualThreadInvocationEvent.beginIfEnabled("Demo.work()", "BLOCKING");
+            Thread worker = Thread.ofVirtual().start(() -> {
+                event.workerStarted();
+                event.workerFinished();
+            });
+            worker.join();
+            event.complete(Outcome.OK);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).hasSize(1);
+        RecordedEvent recorded = events.getFirst();
+        assertThat(recorded.getString("method")).isEqualTo("Demo.work()");
+        assertThat(recorded.getString("outcome")).isEqualTo("ok");
+        assertThat(recorded.getThread("callerThread").isVirtual()).isFalse();
+        assertThat(recorded.getThread("workerThread").isVirtual()).isTrue();
+        assertThat(recorded.getDuration("queueTime")).isNotNegative();
+        assertThat(recorded.getFields()).noneMatch(field -> field.getName().endsWith("Nanos"));
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("MdcTaskDecorator - Executor 작업 실패를 error로 기록")
+    void offloadedTaskEvent_RecordsFailedSubmit() throws Exception {
+        // given
+        Path file = Files.createTempFile("offloaded-", ".jfr");
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new VirtualThreadConfig.MdcTaskDecorator());
+
+        try (Recording recording = new Recording()) {
+            recording.enable(OffloadedTaskEvent.class);
+            recording.start();
+
+            // when
+            executor.submit(() -> "ok").get();
+            try {
+                executor.submit(() -> {
+                    throw new IllegalStateException("boom");
+                }).get();
+            } catch (Exception ignored) {
+                // 실패 작업
+            }
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).extracting(event -> event.getString("outcome"))
+                .containsExactlyInAnyOrder("ok", "error");
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    @DisplayName("기록 관리 - 시작/덤프/종료 및 중복 시작 거부")
+    void recordingService_StartDumpStop() throws Exception {
+        // given
+        JfrRecordingService service = new JfrRecordingService();
+
+        try {
+            // when
+            JfrRecordingService.RecordingStatus started = service.start(Duration.ofMinutes(1), 16 * 1024 * 1024);
+            Path snapshot = service.dump();
+            Path stopped = service.stop();
+
+            // then
+            assertThat(started.state()).isEqualTo("RUNNING");
+            assertThat(snapshot).exists();
+            assertThat(stopped).exists();
+            assertThat(service.status().state()).isEqualTo("NONE");
+        } finally {
+            service.destroy();
+        }
+
+        service.start(Duration.ofMinutes(1), 16 * 1024 * 1024);
+        assertThatThrownBy(() -> service.start(Duration.ofMinutes(1), 16 * 1024 * 1024))
+                .isInstanceOf(IllegalStateException.class);
+        service.destroy();
+    }
+}
@@ -0,0 +1,227 @@
+package com.ocean.sc.vt.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RingBufferAsyncAppender / MpscRingBuffer 단위 테스트
+ */
+class RingBufferAsyncAppenderTest {
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        logger = loggerContext.getLogger(RingBufferAsyncAppenderTest.class.getName() + ".sink");
+        logger.setAdditive(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAndStopAllAppenders();
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("링 버퍼 - 가득 차면 offer 실패, 비우면 다시 추가 가능")
+    void ringBuffer_RejectsWhenFull() {
+        // given
+        MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(4);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThat(ringBuffer.offer(i)).isTrue();
+        }
+
+        // then
+        assertThat(ringBuffer.offer(99)).isFalse();
+        assertThat(ringBuffer.poll()).isEqualTo(0);
+        assertThat(ringBuffer.offer(4)).isTrue();
+        assertThat(List.of(ringBuffer.poll(), ringBuffer.poll(), ringBuffer.poll(), ringBuffer.poll()))
+                .containsExactly(1, 2, 3, 4);
+        assertThat(ringBuffer.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("링 버퍼 - 다중 생산자 동시 추가 시 유실/중복 없음")
+    void ringBuffer_ConcurrentProducers() throws Exception {
+        // given
+        MpscRingBuffer<Integer> ringBuffer = new MpscRingBuffer<>(1 << 16);
+        int producers = 8;
+        int perProducer = 5_000;
+        List<Thread> threads = new ArrayList<>();
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    ringBuffer.offer(base + i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        boolean[] seen = new boolean[producers * perProducer];
+        int count = 0;
+        for (Integer value = ringBuffer.poll(); value != null; value = ringBuffer.poll()) {
+            assertThat(seen[value]).isFalse();
+            seen[value] = true;
+            count++;
+        }
+        assertThat(count).isEqualTo(producers * perProducer);
+    }
+
+    @Test
+    @DisplayName("Appender - 생산자 스레드 이름과 MDC를 보존하여 소비자 스레드에서 출력")
+    void appender_PreservesProducerContext() throws Exception {
+        // given
+        ListAppender<ILoggingEvent> target = new ListAppender<>();
+        RingBufferAsyncAppender appender = start(target, 64);
+
+        // when
+        Thread producer = Thread.ofVirtual().name("producer-vt").start(() -> {
+            MDC.put("traceId", "trace-123");
+            logger.info("hello {}", "ring");
+            MDC.clear();
+        });
+        producer.join();
+
+        // then
+        waitUntil(() -> target.list.size() == 1);
+        ILoggingEvent event = target.list.getFirst();
+        assertThat(event.getThreadName()).isEqualTo("producer-vt");
+        assertThat(event.getMDCPropertyMap()).containsEntry("traceId", "trace-123");
+        assertThat(event.getFormattedMessage()).isEqualTo("hello ring");
+        assertThat(appender.getEnqueuedCount()).isEqualTo(1);
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Appender - 메시지는 로깅 시점의 인자 값으로 포맷 (반환 후 인자가 바뀌어도 유지)")
+    void appender_FormatsMessageOnProducer() throws Exception {
+        // given - 소비자가 첫 이벤트에서 멈추도록 설정 (두 번째 이벤트는 버퍼에 대기)
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingAppender target = new BlockingAppender(release);
+        start(target, 64);
+        logger.info("first");
+        waitUntil(() -> target.received > 0);
+
+        // when - 버퍼에 있는 동안 가변 인자 변경
+        StringBuilder argument = new StringBuilder("before");
+        logger.info("value {}", argument);
+        argument.setLength(0);
+        argument.append("after");
+        release.countDown();
+
+        // then
+        waitUntil(() -> target.received == 2);
+        assertThat(target.last.getFormattedMessage()).isEqualTo("value before");
+    }
+
+    @Test
+    @DisplayName("Appender - 유휴 상태로 park된 소비자를 생산자가 깨움")
+    void appender_WakesParkedConsumer() throws Exception {
+        // given - 소비자가 스핀 / yield를 지나 park 상태가 될 만큼 유휴
+        ListAppender<ILoggingEvent> target = new ListAppender<>();
+        start(target, 64);
+        Thread.sleep(200);
+
+        // when
+        long start = System.nanoTime();
+        logger.info("wake up");
+
+        // then - park 상한(드롭 보고 주기 10초)보다 훨씬 빨리 전달
+        waitUntil(() -> target.list.size() == 1);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("Appender - 버퍼가 가득 차면 블로킹 없이 드롭하고 카운트")
+    void appender_DropsWhenFull() throws Exception {
+        // given - 소비자가 첫 이벤트에서 멈추도록 설정
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingAppender target = new BlockingAppender(release);
+        RingBufferAsyncAppender appender = start(target, 4);
+
+        // when
+        logger.info("first");
+        waitUntil(() -> target.received > 0);
+        for (int i = 0; i < 10; i++) {
+            logger.info("event {}", i);
+        }
+
+        // then
+        assertThat(appender.getEnqueuedCount()).isEqualTo(5);
+        assertThat(appender.getDroppedCount()).isEqualTo(6);
+
+        release.countDown();
+        waitUntil(() -> target.received == 5);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private RingBufferAsyncAppender start(AppenderBase<ILoggingEvent> target, int capacity) {
+        target.setContext(loggerContext);
+        target.start();
+
+        RingBufferAsyncAppender appender = new RingBufferAsyncAppender();
+        appender.setContext(loggerContext);
+        appender.setName("RING");
+        appender.setCapacity(capacity);
+        appender.addAppender(target);
+        appender.start();
+        logger.addAppender(appender);
+        return appender;
+    }
+
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch release;
+        private volatile int received;
+        private volatile ILoggingEvent last;
+
+        BlockingAppender(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            last = event;
+            received++;
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.ocean.sc.vt.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InvocationCostRecorder / LogHistogram 단위 테스트
+ */
+class InvocationCostRecorderTest {
+
+    @Test
+    @DisplayName("샘플링 비율 0 - 측정하지 않음")
+    void start_NotSampledWhenRateIsZero() {
+        // given
+        InvocationCostRecorder recorder = new InvocationCostRecorder(0.0, 10);
+
+        // when
+        InvocationCostRecorder.Start start = recorder.start();
+        recorder.finish("method", start);
+
+        // then
+        assertThat(start).isNull();
+        assertThat(recorder.report().methods()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("할당 바이트 측정 - 1MB 배열 할당이 집계됨")
+    void finish_RecordsAllocatedBytes() {
+        // given
+        InvocationCostRecorder recorder = new InvocationCostRecorder(1.0, 0);
+
+        // when
+        InvocationCostRecorder.Start start = recorder.start();
+        byte[] allocated = new byte[1 << 20];
+        recorder.finish("Demo.allocate()", start);
+
+        // then
+        InvocationCostRecorder.MethodReport report = recorder.report().methods().getFirst();
+        assertThat(allocated).hasSize(1 << 20);
+        assertThat(report.method()).isEqualTo("Demo.allocate()");
+        assertThat(report.samples()).isEqualTo(1);
+        if (recorder.report().allocationEnabled()) {
+            assertThat(report.allocatedBytes().max()).isGreaterThanOrEqualTo(1 << 20);
+        }
+    }
+
+    @Test
+    @DisplayName("Virtual Thread CPU 시간 - JFR 실행 샘플로 0보다 큰 값 추정")
+    void finish_EstimatesVirtualThreadCpuTime() throws Exception {
+        // given
+        InvocationCostRecorder recorder = new InvocationCostRecorder(1.0, 10);
+        AtomicReference<Long> sink = new AtomicReference<>(0L);
+
+        // when - 약 300ms CPU 사용 (샘플 주기 10ms → 수십 개 샘플)
+        try {
+            Thread worker = Thread.ofVirtual().start(() -> {
+                InvocationCostRecorder.Start start = recorder.start();
+                long value = 0;
+                long end = System.nanoTime() + Duration.ofMillis(300).toNanos();
+                while (System.nanoTime() < end) {
+                    value += value >>> 3 ^ System.nanoTime();
+                }
+                sink.set(value);
+                recorder.finish("Demo.compute()", start);
+            });
+            worker.join();
+        } finally {
+            // 남은 샘플을 모두 전달받은 뒤 추정 반영
+            recorder.destroy();
+        }
+
+        // then
+        InvocationCostRecorder.MethodReport report = recorder.report().methods().getFirst();
+        assertThat(recorder.report().virtualCpuEstimation()).isTrue();
+        assertThat(report.samples()).isEqualTo(1);
+        assertThat(report.cpuUnsupported()).isZero();
+        assertThat(report.cpuEstimated()).isEqualTo(1);
+        assertThat(report.cpuTimeNanos().count()).isEqualTo(1);
+        assertThat(report.cpuTimeNanos().max()).isPositive();
+        assertThat(report.allocatedBytes().count() + report.allocationUnsupported()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("플랫폼 스레드 CPU 시간 - ThreadMXBean으로 0보다 큰 값 측정")
+    void finish_MeasuresPlatformThreadCpuTime() {
+        // given
+        InvocationCostRecorder recorder = new InvocationCostRecorder(1.0, 0);
+        long value = 0;
+
+        // when
+        InvocationCostRecorder.Start start = recorder.start();
+        long end = System.nanoTime() + Duration.ofMillis(50).toNanos();
+        while (System.nanoTime() < end) {
+            value += value >>> 3 ^ System.nanoTime();
+        }
+        recorder.finish("Demo.compute()", start);
+
+        // then
+        InvocationCostRecorder.MethodReport report = recorder.report().methods().getFirst();
+        assertThat(value).isNotZero();
+        if (recorder.report().cpuTimeEnabled()) {
+            assertThat(report.cpuTimeNanos().count()).isEqualTo(1);
+            assertThat(report.cpuTimeNanos().max()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("히스토그램 - 평균/최대는 정확, 백분위는 버킷 상한")
+    void histogram_Snapshot() {
+        // given
+        LogHistogram histogram = new LogHistogram();
+
+        // when
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        // then
+        LogHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count()).isEqualTo(100);
+        assertThat(snapshot.mean()).isEqualTo(50.5);
+        assertThat(snapshot.max()).isEqualTo(100);
+        assertThat(snapshot.p50()).isEqualTo(63);   // 50 ∈ [32, 64)
+        assertThat(snapshot.p99()).isEqualTo(127);  // 99 ∈ [64, 128)
+    }
+}
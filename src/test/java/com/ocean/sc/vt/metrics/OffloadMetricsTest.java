@@ -0,0 +1,101 @@
+package com.ocean.sc.vt.metrics;
+
+import com.ocean.sc.vt.jfr.Outcome;
+import com.ocean.sc.vt.metrics.MappedMetricsLayout.Counter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OffloadMetrics / MappedMetricsReader 테스트
+ */
+class OffloadMetricsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("메모리 매핑 파일 - 별도 리더로 메서드별 카운터와 지연 시간 버킷 확인")
+    void reader_SeesLiveCounters() throws Exception {
+        // given
+        Path file = tempDir.resolve("metrics.mmap");
+        OffloadMetrics metrics = new OffloadMetrics(true, file.toString(), 8);
+        int slot = metrics.slot("DemoService.work()");
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            metrics.submitted(slot);
+        }
+        metrics.finished(slot, Outcome.OK, 3_000_000);
+        metrics.finished(slot, Outcome.OK, 3_000_000);
+        metrics.finished(slot, Outcome.ERROR, 15_000_000);
+        metrics.finished(slot, Outcome.TIMEOUT, 40_000_000_000L);
+
+        // then
+        MappedMetricsReader reader = new MappedMetricsReader(file);
+        MappedMetricsReader.MethodMetrics method = reader.read().stream()
+                .filter(m -> m.name().equals("DemoService.work()"))
+                .findFirst().orElseThrow();
+        assertThat(method.counter(Counter.SUBMITTED)).isEqualTo(5);
+        assertThat(method.counter(Counter.IN_FLIGHT)).isEqualTo(1);
+        assertThat(method.counter(Counter.COMPLETED)).isEqualTo(2);
+        assertThat(method.counter(Counter.FAILED)).isEqualTo(1);
+        assertThat(method.counter(Counter.TIMED_OUT)).isEqualTo(1);
+        assertThat(method.percentileBoundMillis(0.5)).isEqualTo(5);
+        assertThat(method.percentileBoundMillis(0.99)).isEqualTo(60_000);
+        assertThat(reader.pid()).isEqualTo(ProcessHandle.current().pid());
+
+        metrics.destroy();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("동시 갱신 - 유실 없이 원자적으로 누적")
+    void counters_AreAtomicUnderContention() throws Exception {
+        // given
+        OffloadMetrics metrics = new OffloadMetrics(false, "", 8);
+        int slot = metrics.slot("concurrent");
+        List<Thread> threads = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < 16; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    metrics.submitted(slot);
+                    metrics.finished(slot, Outcome.OK, 1_000);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(metrics.file()).isNull();
+        assertThat(metrics.get("concurrent", Counter.SUBMITTED)).isEqualTo(160_000);
+        assertThat(metrics.get("concurrent", Counter.COMPLETED)).isEqualTo(160_000);
+        assertThat(metrics.get("concurrent", Counter.IN_FLIGHT)).isZero();
+    }
+
+    @Test
+    @DisplayName("슬롯 초과 - 최대 메서드 수를 넘으면 (other) 슬롯으로 집계")
+    void slot_OverflowsToOther() throws Exception {
+        // given
+        OffloadMetrics metrics = new OffloadMetrics(false, "", 1);
+
+        // when
+        int first = metrics.slot("first");
+        int second = metrics.slot("second");
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(MappedMetricsLayout.OTHER_SLOT);
+        assertThat(metrics.slot("first")).isEqualTo(first);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ocean.sc.vt.monitor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VirtualThreadSchedulerMonitor 단위 테스트
+ */
+class VirtualThreadSchedulerMonitorTest {
+
+    @Test
+    @DisplayName("스케줄러 상태 조회 - parallelism과 풀 크기 제공")
+    void current_ReportsSchedulerState() {
+        // given
+        VirtualThreadSchedulerMonitor monitor = new VirtualThreadSchedulerMonitor(new SimpleAsyncTaskExecutor(), 0);
+
+        // when
+        VirtualThreadSchedulerMonitor.SchedulerState state = monitor.current();
+
+        // then
+        assertThat(state.parallelism()).isPositive();
+        assertThat(state.poolSize()).isGreaterThanOrEqualTo(0);
+        assertThat(state.carrierUtilization()).isBetween(0.0, 1.0);
+    }
+
+    @Test
+    @DisplayName("샘플링 - Virtual Thread 실행 중 통계 누적")
+    void sample_AccumulatesStatistics() throws Exception {
+        // given
+        VirtualThreadSchedulerMonitor monitor = new VirtualThreadSchedulerMonitor(new SimpleAsyncTaskExecutor(), 0);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        // when
+        monitor.sample();
+        monitor.sample();
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        VirtualThreadSchedulerMonitor.SchedulerStatistics statistics = monitor.statistics();
+        assertThat(statistics.samples()).isEqualTo(2);
+        assertThat(statistics.averageUtilization()).isBetween(0.0, 1.0);
+    }
+
+    @Test
+    @DisplayName("시작 구성 - CPU 수와 Executor 구성 포함")
+    void startupConfiguration_ContainsExecutorSettings() {
+        // given
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+        executor.setConcurrencyLimit(64);
+        VirtualThreadSchedulerMonitor monitor = new VirtualThreadSchedulerMonitor(executor, 0);
+
+        // when
+        VirtualThreadSchedulerMonitor.StartupConfiguration startup = monitor.startupConfiguration();
+
+        // then
+        assertThat(startup.availableProcessors()).isEqualTo(Runtime.getRuntime().availableProcessors());
+        assertThat(startup.executorType()).isEqualTo("SimpleAsyncTaskExecutor");
+        assertThat(startup.executorConcurrencyLimit()).isEqualTo(64);
+    }
+}
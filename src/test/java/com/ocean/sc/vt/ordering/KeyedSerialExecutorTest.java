@@ -0,0 +1,151 @@
+package com.ocean.sc.vt.ordering;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키별 순차 실행기 검증 테스트
+ */
+class KeyedSerialExecutorTest {
+
+    private final KeyedSerialExecutor executor = new KeyedSerialExecutor();
+
+    @Test
+    @DisplayName("같은 키 작업은 제출 순서대로 하나씩 실행")
+    void runsSameKeyInOrder() throws Exception {
+        // given
+        List<Integer> order = new ArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(50);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            int value = i;
+            executor.execute("user-1", () -> {
+                if (running.incrementAndGet() > 1) {
+                    overlapped.set(true);
+                }
+                order.add(value);
+                Thread.yield();
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(overlapped).isFalse();
+        assertThat(order).hasSize(50).isSorted();
+    }
+
+    @Test
+    @DisplayName("다른 키 작업은 서로 기다리지 않고 병렬 실행")
+    void runsDifferentKeysInParallel() throws Exception {
+        // given - 두 키의 작업이 동시에 실행 중이어야만 장벽 통과
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        CountDownLatch passed = new CountDownLatch(2);
+
+        // when
+        for (String key : List.of("user-a", "user-b")) {
+            executor.execute(key, () -> {
+                try {
+                    barrier.await(5, TimeUnit.SECONDS);
+                    passed.countDown();
+                } catch (Exception e) {
+                    // 통과하지 못하면 passed가 줄지 않아 실패
+                }
+            });
+        }
+
+        // then
+        assertThat(passed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업이 끝난 키의 메일박스는 회수")
+    void reclaimsIdleMailboxes() throws Exception {
+        // given
+        CountDownLatch done = new CountDownLatch(100);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            executor.execute("key-" + i, done::countDown);
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.stats().activeKeys() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        KeyedSerialExecutor.SerialStats stats = executor.stats();
+        assertThat(stats.activeKeys()).isZero();
+        assertThat(stats.mailboxesCreated()).isEqualTo(stats.mailboxesReclaimed());
+        assertThat(stats.executed()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("작업 예외가 나도 같은 키의 다음 작업은 실행")
+    void continuesAfterFailure() throws Exception {
+        // given
+        CountDownLatch next = new CountDownLatch(1);
+
+        // when
+        executor.execute("user-1", () -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.execute("user-1", next::countDown);
+
+        // then
+        assertThat(next.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 제출자가 회수와 경쟁해도 키별 작업이 유실되거나 겹치지 않음")
+    void concurrentProducersAcrossReclaim() throws Exception {
+        // given - 원자적이지 않은 카운터: 같은 키 작업이 겹치면 증가분이 유실됨
+        int keys = 16;
+        int producers = 8;
+        int perProducer = 2000;
+        int[] counters = new int[keys];
+        CountDownLatch done = new CountDownLatch(producers * perProducer);
+
+        // when
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int seed = p;
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    int key = (seed + i) % keys;
+                    executor.execute(key, () -> {
+                        counters[key] = counters[key] + 1;
+                        done.countDown();
+                    });
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        int total = 0;
+        for (int counter : counters) {
+            total += counter;
+        }
+        assertThat(total).isEqualTo(producers * perProducer);
+        assertThat(counters).containsOnly(producers * perProducer / keys);
+    }
+}
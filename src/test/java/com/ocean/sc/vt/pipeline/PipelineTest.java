@@ -0,0 +1,219 @@
+package com.ocean.sc.vt.pipeline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 단계별 파이프라인 검증 테스트
+ */
+class PipelineTest {
+
+    @Test
+    @DisplayName("입력이 단계를 순서대로 통과하고 단계별 처리 수 집계")
+    void runsStagesInOrder() throws Exception {
+        // given
+        try (Pipeline<String, Integer> pipeline = Pipeline.builder("order", String.class)
+                .stage("parse", 2, 8, String::strip)
+                .stage("length", 2, 8, String::length)
+                .stage("double", 2, 8, length -> length * 2)
+                .build()) {
+
+            // when
+            Integer result = pipeline.submit("  hello ").get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(result).isEqualTo(10);
+            Pipeline.PipelineStats stats = pipeline.stats();
+            assertThat(stats.completed()).isEqualTo(1);
+            assertThat(stats.stages()).extracting(Pipeline.StageStats::name).containsExactly("parse", "length", "double");
+            assertThat(stats.stages()).extracting(Pipeline.StageStats::processed).containsOnly(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("단계 동시 실행 수는 워커 수를 넘지 않음")
+    void limitsStageConcurrency() throws Exception {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        try (Pipeline<Integer, Integer> pipeline = Pipeline.builder("limited", Integer.class)
+                .stage("slow", 3, 64, value -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    running.decrementAndGet();
+                    return value;
+                })
+                .build()) {
+
+            // when
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                results.add(pipeline.submit(i));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(peak.get()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("하류 단계가 멈추면 큐가 차고 입구에서 거부 (역압), 해제 후 수락분은 모두 완료")
+    void backpressureReachesEntry() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        try (Pipeline<Integer, Integer> pipeline = Pipeline.builder("backpressure", Integer.class)
+                .entryTimeout(Duration.ofMillis(50))
+                .stage("fast", 1, 2, value -> value)
+                .stage("stuck", 1, 2, value -> {
+                    release.await();
+                    return value;
+                })
+                .build()) {
+
+            // when - 정체 구간 용량: 큐 2 + 2, 워커 2 (stuck 처리 중 1, fast가 하류 대기 중 1)
+            List<CompletableFuture<Integer>> accepted = new ArrayList<>();
+            PipelineRejectedException rejected = null;
+            for (int i = 0; i < 20 && rejected == null; i++) {
+                try {
+                    accepted.add(pipeline.submit(i));
+                } catch (PipelineRejectedException e) {
+                    rejected = e;
+                }
+            }
+
+            // then
+            assertThat(rejected).isNotNull();
+            assertThat(accepted).hasSizeLessThanOrEqualTo(6);
+            Pipeline.PipelineStats stats = pipeline.stats();
+            assertThat(stats.rejected()).isEqualTo(1);
+            assertThat(stats.bottleneck()).isEqualTo("stuck");
+            assertThat(stats.stages().get(0).blocked()).isEqualTo(1);
+
+            release.countDown();
+            CompletableFuture.allOf(accepted.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+            assertThat(pipeline.stats().completed()).isEqualTo(accepted.size());
+        }
+    }
+
+    @Test
+    @DisplayName("단계 예외는 결과로 전달되고 이후 단계는 실행하지 않음")
+    void stageFailureCompletesExceptionally() throws Exception {
+        // given
+        AtomicInteger laterStageCalls = new AtomicInteger();
+        try (Pipeline<String, String> pipeline = Pipeline.builder("failing", String.class)
+                .stage("validate", 1, 4, value -> {
+                    if (value.isBlank()) {
+                        throw new IllegalArgumentException("blank");
+                    }
+                    return value;
+                })
+                .stage("later", 1, 4, value -> {
+                    laterStageCalls.incrementAndGet();
+                    return value;
+                })
+                .build()) {
+
+            // when
+            CompletableFuture<String> result = pipeline.submit(" ");
+
+            // then
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(laterStageCalls.get()).isZero();
+            assertThat(pipeline.stats().stages().get(0).failed()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("결과가 먼저 확정된(타임아웃) 항목은 이후 단계에서 건너뜀")
+    void skipsSettledItems() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger laterStageCalls = new AtomicInteger();
+        try (Pipeline<String, String> pipeline = Pipeline.builder("skipping", String.class)
+                .stage("gate", 1, 4, value -> {
+                    release.await();
+                    return value;
+                })
+                .stage("later", 1, 4, value -> {
+                    laterStageCalls.incrementAndGet();
+                    return value;
+                })
+                .build()) {
+
+            // when
+            CompletableFuture<String> result = pipeline.submit("slow").orTimeout(20, TimeUnit.MILLISECONDS);
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(TimeoutException.class);
+            release.countDown();
+
+            // then
+            long deadline = System.currentTimeMillis() + 5000;
+            while (pipeline.stats().stages().get(1).skipped() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(pipeline.stats().stages().get(1).skipped()).isEqualTo(1);
+            assertThat(laterStageCalls.get()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("종료 후 제출은 거부")
+    void rejectsAfterClose() {
+        // given
+        Pipeline<String, String> pipeline = Pipeline.builder("closing", String.class)
+                .stage("echo", 1, 1, value -> value)
+                .build();
+
+        // when
+        pipeline.close();
+
+        // then
+        assertThatThrownBy(() -> pipeline.submit("late")).isInstanceOf(PipelineRejectedException.class);
+    }
+
+    @Test
+    @DisplayName("종료 시 인터럽트를 무시한 워커가 다음 단계로 넘긴 항목도 거부로 확정")
+    void closeSettlesItemsHandedOffAfterInterrupt() throws Exception {
+        // given - 첫 단계가 인터럽트를 삼키고 처리를 마친 뒤 다음 단계 큐에 넣음
+        CountDownLatch processing = new CountDownLatch(1);
+        Pipeline<String, String> pipeline = Pipeline.builder("stubborn", String.class)
+                .stage("ignore-interrupt", 1, 4, value -> {
+                    processing.countDown();
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            Thread.sleep(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())));
+                        } catch (InterruptedException e) {
+                            // 인터럽트 무시 (플래그도 지워짐)
+                        }
+                    }
+                    return value;
+                })
+                .stage("next", 1, 4, value -> value)
+                .build();
+        CompletableFuture<String> result = pipeline.submit("value");
+        assertThat(processing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        pipeline.close();
+
+        // then - close 반환 시점에 결과가 확정되어 있어야 함
+        assertThat(result).isDone();
+        assertThatThrownBy(result::get).hasCauseInstanceOf(PipelineRejectedException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ocean.sc.vt.policy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OffloadPolicyRegistry 검증 테스트
+ */
+class OffloadPolicyRegistryTest {
+
+    private static final String KEY = "DemoController.slow";
+
+    @Test
+    @DisplayName("프로퍼티의 메서드별 오버라이드로 초기 스냅샷 생성")
+    void bindsMethodPoliciesFromProperties() {
+        // given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("vt.policy.methods.[DemoController.slow].timeout-ms", "1500")
+                .withProperty("vt.policy.methods.[DemoController.slow].max-concurrency", "8");
+
+        // when
+        OffloadPolicyRegistry registry = new OffloadPolicyRegistry(30000, environment);
+        PolicySnapshot snapshot = registry.current();
+
+        // then
+        assertThat(snapshot.version()).isEqualTo(1);
+        assertThat(snapshot.callableTimeoutMs()).isEqualTo(30000);
+        assertThat(snapshot.timeoutMs(KEY, 30000)).isEqualTo(1500);
+        assertThat(snapshot.maxConcurrency(KEY)).isEqualTo(8);
+        assertThat(snapshot.timeoutMs("DemoController.other", 30000)).isEqualTo(30000);
+        assertThat(snapshot.timeoutMs(null, 30000)).isEqualTo(30000);
+    }
+
+    @Test
+    @DisplayName("변경 시 새 스냅샷 발행 - 이미 읽은 스냅샷은 그대로 유지")
+    void publishesNewSnapshot() {
+        // given
+        OffloadPolicyRegistry registry = new OffloadPolicyRegistry(30000, new MockEnvironment());
+        PolicySnapshot before = registry.current();
+
+        // when
+        registry.putMethod(KEY, new MethodPolicy(500L, null));
+        registry.setCallableTimeout(10000);
+        PolicySnapshot after = registry.current();
+
+        // then
+        assertThat(before.timeoutMs(KEY, 30000)).isEqualTo(30000);
+        assertThat(after.timeoutMs(KEY, 30000)).isEqualTo(500);
+        assertThat(after.callableTimeoutMs()).isEqualTo(10000);
+        assertThat(after.version()).isEqualTo(before.version() + 2);
+
+        // when - 제거하면 기본값으로 복귀
+        registry.removeMethod(KEY);
+
+        // then
+        assertThat(registry.current().timeoutMs(KEY, 30000)).isEqualTo(30000);
+        assertThatThrownBy(() -> registry.setCallableTimeout(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한 - 초과 시 거부, 허가 반환은 한 번만 반영")
+    void limitsConcurrency() {
+        // given
+        OffloadPolicyRegistry registry = new OffloadPolicyRegistry(30000, new MockEnvironment());
+        registry.putMethod(KEY, new MethodPolicy(null, 2));
+        PolicySnapshot snapshot = registry.current();
+
+        // when
+        OffloadPolicyRegistry.Permit first = registry.tryAcquire(snapshot, KEY);
+        OffloadPolicyRegistry.Permit second = registry.tryAcquire(snapshot, KEY);
+        OffloadPolicyRegistry.Permit rejected = registry.tryAcquire(snapshot, KEY);
+
+        // then
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(rejected).isNull();
+        assertThat(registry.runningCounts()).containsEntry(KEY, 2);
+
+        // when - 같은 허가를 여러 번 반환
+        first.release();
+        first.release();
+
+        // then
+        assertThat(registry.runningCounts()).containsEntry(KEY, 1);
+        assertThat(registry.tryAcquire(snapshot, KEY)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("제한이 없으면 카운트하지 않음 - 이후 제한이 생겨도 실행 수가 음수가 되지 않음")
+    void unlimitedPermitIsNotCounted() {
+        // given
+        OffloadPolicyRegistry registry = new OffloadPolicyRegistry(30000, new MockEnvironment());
+        OffloadPolicyRegistry.Permit unlimited = registry.tryAcquire(registry.current(), KEY);
+
+        // when
+        registry.putMethod(KEY, new MethodPolicy(null, 1));
+        OffloadPolicyRegistry.Permit limited = registry.tryAcquire(registry.current(), KEY);
+        unlimited.release();
+
+        // then
+        assertThat(limited).isNotNull();
+        assertThat(registry.runningCounts()).containsEntry(KEY, 1);
+        assertThat(registry.tryAcquire(registry.current(), KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("정책 키는 정규 클래스명 기준 - 단순 이름이 같은 클래스끼리 충돌하지 않음")
+    void methodKeyUsesQualifiedClassName() {
+        // when
+        String utilKey = OffloadPolicyRegistry.methodKey(java.util.Date.class, "getTime");
+        String sqlKey = OffloadPolicyRegistry.methodKey(java.sql.Date.class, "getTime");
+
+        // then
+        assertThat(utilKey).isEqualTo("java.util.Date.getTime");
+        assertThat(sqlKey).isNotEqualTo(utilKey);
+    }
+}
@@ -0,0 +1,166 @@
+package com.ocean.sc.vt.pool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ResourcePool 검증 테스트 (재사용 / FIFO / 기한 / 누수 / 메트릭)
+ */
+class ResourcePoolTest {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final List<Integer> destroyed = new CopyOnWriteArrayList<>();
+
+    private ResourcePool<Integer> pool(int maxSize, boolean captureAcquireSite) {
+        return new ResourcePool<>("test", maxSize, sequence::incrementAndGet, destroyed::add, captureAcquireSite);
+    }
+
+    @Test
+    @DisplayName("반납한 자원은 새로 만들지 않고 재사용")
+    void reusesReleasedResource() throws Exception {
+        // given
+        ResourcePool<Integer> pool = pool(2, false);
+        Integer first;
+        try (ResourcePool.Lease<Integer> lease = pool.acquire(Duration.ofSeconds(1))) {
+            first = lease.get();
+        }
+
+        // when
+        try (ResourcePool.Lease<Integer> lease = pool.acquire(Duration.ofSeconds(1))) {
+            // then
+            assertThat(lease.get()).isEqualTo(first);
+        }
+        assertThat(pool.stats().created()).isEqualTo(1);
+        assertThat(pool.stats().acquired()).isEqualTo(2);
+        assertThat(pool.stats().inUse()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기자는 도착 순서(FIFO)대로 자원 획득")
+    void grantsWaitersInArrivalOrder() throws Exception {
+        // given
+        ResourcePool<Integer> pool = pool(1, false);
+        ResourcePool.Lease<Integer> holder = pool.acquire(Duration.ofSeconds(1));
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        Thread[] waiters = new Thread[5];
+        for (int i = 0; i < waiters.length; i++) {
+            int index = i;
+            waiters[i] = Thread.ofVirtual().start(() -> {
+                try (ResourcePool.Lease<Integer> lease = pool.acquire(Duration.ofSeconds(5))) {
+                    order.add(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            awaitWaiting(pool, i + 1);
+        }
+
+        // when
+        holder.close();
+        for (Thread waiter : waiters) {
+            waiter.join();
+        }
+
+        // then
+        assertThat(order).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("기한 안에 자원을 얻지 못하면 PoolTimeoutException")
+    void failsWhenDeadlinePasses() throws Exception {
+        // given
+        ResourcePool<Integer> pool = pool(1, false);
+        ResourcePool.Lease<Integer> holder = pool.acquire(Duration.ofSeconds(1));
+
+        // when & then
+        assertThatThrownBy(() -> pool.acquire(Duration.ofMillis(50)))
+                .isInstanceOf(PoolTimeoutException.class);
+        assertThatThrownBy(() -> pool.acquireBefore(System.nanoTime() - 1))
+                .isInstanceOf(PoolTimeoutException.class);
+        assertThat(pool.stats().timeouts()).isEqualTo(2);
+        assertThat(pool.stats().waitNanos().max()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        holder.close();
+    }
+
+    @Test
+    @DisplayName("반납 없이 GC된 Lease는 자원 폐기 후 허가 회수")
+    void reclaimsLeakedLease() throws Exception {
+        // given
+        ResourcePool<Integer> pool = pool(1, false);
+        Integer leakedResource = leak(pool);
+
+        // when
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (pool.stats().leaked() == 0 && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        // then
+        assertThat(pool.stats().leaked()).isEqualTo(1);
+        assertThat(destroyed).containsExactly(leakedResource);
+        try (ResourcePool.Lease<Integer> lease = pool.acquire(Duration.ofMillis(100))) {
+            assertThat(lease.get()).isNotEqualTo(leakedResource);
+        }
+    }
+
+    @Test
+    @DisplayName("오래 점유 중인 자원은 점유 스레드와 획득 위치로 조회")
+    void reportsLongHeldResources() throws Exception {
+        // given
+        ResourcePool<Integer> pool = pool(2, true);
+
+        // when
+        try (ResourcePool.Lease<Integer> lease = pool.acquire(Duration.ofSeconds(1))) {
+            Thread.sleep(30);
+
+            // then
+            List<ResourcePool.HeldResource> held = pool.heldLongerThan(Duration.ofMillis(20));
+            assertThat(held).hasSize(1);
+            assertThat(held.get(0).heldMs()).isGreaterThanOrEqualTo(20);
+            assertThat(held.get(0).holderAlive()).isTrue();
+            assertThat(held.get(0).acquireSite()).anyMatch(frame -> frame.contains("reportsLongHeldResources"));
+            assertThat(pool.heldLongerThan(Duration.ofSeconds(10))).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("사용률 / 최대 사용량 메트릭")
+    void reportsUtilisation() throws Exception {
+        // given
+        ResourcePool<Integer> pool = pool(4, false);
+
+        // when
+        try (ResourcePool.Lease<Integer> first = pool.acquire(Duration.ofSeconds(1));
+             ResourcePool.Lease<Integer> second = pool.acquire(Duration.ofSeconds(1))) {
+
+            // then
+            assertThat(pool.stats().inUse()).isEqualTo(2);
+            assertThat(pool.stats().utilisation()).isEqualTo(0.5);
+        }
+        assertThat(pool.stats().inUse()).isZero();
+        assertThat(pool.stats().idle()).isEqualTo(2);
+        assertThat(pool.stats().peakInUse()).isEqualTo(2);
+        assertThat(pool.stats().holdNanos().count()).isEqualTo(2);
+    }
+
+    private static Integer leak(ResourcePool<Integer> pool) throws InterruptedException {
+        return pool.acquire(Duration.ofSeconds(1)).get();
+    }
+
+    private static void awaitWaiting(ResourcePool<Integer> pool, int waiting) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (pool.stats().waiting() < waiting && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.ocean.sc.vt.profiler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SamplingProfiler / FlameGraphSvg 테스트
+ */
+class SamplingProfilerTest {
+
+    @Test
+    @DisplayName("Virtual Thread CPU 샘플을 작업 태그로 귀속")
+    void profiler_AttributesVirtualThreadSamplesToTag() throws Exception {
+        // given
+        SamplingProfiler profiler = new SamplingProfiler();
+        AtomicBoolean running = new AtomicBoolean(true);
+        profiler.start(Duration.ofMillis(10));
+
+        // when - 태그가 설정된 Virtual Thread에서 CPU 사용
+        Thread worker = Thread.ofVirtual().start(() -> {
+            String previous = WorkAttribution.enter("GET /busy");
+            try {
+                long value = 0;
+                while (running.get()) {
+                    value += Long.numberOfTrailingZeros(System.nanoTime());
+                }
+                assertThat(value).isNotNegative();
+            } finally {
+                WorkAttribution.exit(previous);
+            }
+        });
+
+        try {
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!profiler.collapsed().contains("GET /busy;") && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+        } finally {
+            running.set(false);
+            worker.join();
+            profiler.stop();
+        }
+
+        // then
+        assertThat(profiler.status().running()).isFalse();
+        assertThat(profiler.status().samples()).isPositive();
+        assertThat(profiler.collapsed()).contains("GET /busy;");
+        assertThat(WorkAttribution.isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("스트림 전달 전에 끝난 짧은 작업도 샘플 시각의 태그로 귀속")
+    void profiler_AttributesSamplesOfWorkEndedBeforeFlush() throws Exception {
+        // given
+        SamplingProfiler profiler = new SamplingProfiler();
+        profiler.start(Duration.ofMillis(10));
+
+        // when - 태그 구간은 스트림 flush(약 1초)보다 먼저 끝남
+        try {
+            Thread worker = Thread.ofVirtual().start(() -> {
+                String previous = WorkAttribution.enter("GET /short");
+                try {
+                    long value = 0;
+                    long end = System.nanoTime() + Duration.ofMillis(300).toNanos();
+                    while (System.nanoTime() < end) {
+                        value += Long.numberOfTrailingZeros(System.nanoTime());
+                    }
+                    assertThat(value).isNotNegative();
+                } finally {
+                    WorkAttribution.exit(previous);
+                }
+            });
+            worker.join();
+            assertThat(WorkAttribution.tagOf(worker.threadId())).isNull();
+        } finally {
+            profiler.stop();
+        }
+
+        // then
+        assertThat(profiler.collapsed()).contains("GET /short;");
+        assertThat(profiler.collapsed().lines()
+                .filter(stack -> stack.contains("lambda$profiler_AttributesSamplesOfWorkEndedBeforeFlush")))
+                .isNotEmpty()
+                .allMatch(stack -> stack.startsWith("GET /short;"));
+    }
+
+    @Test
+    @DisplayName("프로파일러 비활성화 - 태그 설정 무시")
+    void workAttribution_IgnoredWhenInactive() {
+        // when
+        String previous = WorkAttribution.enter("ignored");
+
+        // then
+        assertThat(previous).isNull();
+        assertThat(WorkAttribution.tagOf(Thread.currentThread().threadId())).isNull();
+    }
+
+    @Test
+    @DisplayName("플레임 그래프 - 프레임별 사각형과 이스케이프된 이름 출력")
+    void flameGraph_RendersFrames() {
+        // given
+        Map<String, Long> stacks = Map.of(
+                "GET /a;Service.<init>;Repo.find", 3L,
+                "GET /a;Service.<init>", 1L,
+                "GET /b;Other.run", 4L);
+
+        // when
+        String svg = FlameGraphSvg.render(stacks, "test");
+
+        // then
+        assertThat(svg).startsWith("<?xml").contains("<svg").endsWith("</svg>\n");
+        assertThat(svg).contains("Service.&lt;init&gt;").doesNotContain("Service.<init>");
+        assertThat(svg).contains("test (8 samples)");
+        assertThat(svg.split("<rect ").length - 2).isEqualTo(6); // 배경 제외, all + 5 프레임
+    }
+}
@@ -0,0 +1,206 @@
+package com.ocean.sc.vt.simulation;
+
+import com.ocean.sc.vt.service.SimulatedConnection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * LatencySimulator 검증 테스트 (분포 / 재현성 / 동시성 지연 / 장애 주입)
+ */
+class LatencySimulatorTest {
+
+    private static final String METHOD = "processWithDelay";
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    @DisplayName("설정이 없는 메서드는 기본 지연 고정 (기존 동작)")
+    void usesDefaultLatencyWithoutProfile() {
+        // given
+        LatencySimulator simulator = new LatencySimulator(42, new MockEnvironment());
+
+        // when
+        LatencySimulator.SimulatedCall call = simulator.plan(METHOD, 1000, 1);
+
+        // then
+        assertThat(call.latencyMs()).isEqualTo(1000);
+        assertThat(call.fault()).isEqualTo(LatencySimulator.Fault.NONE);
+        assertThat(call.cpuBurstMs()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 시드면 같은 지연 순서, 다른 시드면 다른 순서")
+    void reproducibleFromSeed() {
+        // given
+        MockEnvironment environment = profile("log-normal", "200");
+
+        // when
+        long[] first = latencies(new LatencySimulator(7, environment), 100);
+        long[] second = latencies(new LatencySimulator(7, environment), 100);
+        long[] other = latencies(new LatencySimulator(8, environment), 100);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first).isNotEqualTo(other);
+    }
+
+    @Test
+    @DisplayName("로그 정규 분포 - 중앙값은 latency-ms, 꼬리는 오른쪽으로 김")
+    void logNormalDistribution() {
+        // given
+        LatencySimulator simulator = new LatencySimulator(42, profile("log-normal", "200"));
+
+        // when
+        long[] sorted = sorted(latencies(simulator, SAMPLES));
+
+        // then
+        assertThat((double) percentile(sorted, 0.5)).isCloseTo(200, within(10.0));
+        assertThat(percentile(sorted, 0.99)).isGreaterThan(500); // 200 × e^(0.5 × 2.33) ≈ 640
+    }
+
+    @Test
+    @DisplayName("이봉 분포 - 느린 경로 비율만큼 slow-latency-ms 근처 표본")
+    void bimodalDistribution() {
+        // given
+        MockEnvironment environment = profile("bimodal", "50")
+                .withProperty("vt.simulation.methods.processWithDelay.slow-latency-ms", "2000")
+                .withProperty("vt.simulation.methods.processWithDelay.slow-rate", "0.2")
+                .withProperty("vt.simulation.methods.processWithDelay.sigma", "0.1");
+        LatencySimulator simulator = new LatencySimulator(42, environment);
+
+        // when
+        long slow = Arrays.stream(latencies(simulator, SAMPLES)).filter(latency -> latency > 1000).count();
+
+        // then
+        assertThat((double) slow / SAMPLES).isCloseTo(0.2, within(0.02));
+    }
+
+    @Test
+    @DisplayName("파레토 분포 - 최소값 이상, p99.9가 중앙값의 수십 배 (두꺼운 꼬리)")
+    void paretoDistribution() {
+        // given
+        LatencySimulator simulator = new LatencySimulator(42, profile("pareto", "20"));
+
+        // when
+        long[] sorted = sorted(latencies(simulator, SAMPLES));
+
+        // then
+        assertThat(sorted[0]).isGreaterThanOrEqualTo(20);
+        assertThat(percentile(sorted, 0.999)).isGreaterThan(20 * percentile(sorted, 0.5));
+    }
+
+    @Test
+    @DisplayName("동시 실행 수가 늘면 지연 증가 (concurrency-slope)")
+    void latencyGrowsWithConcurrency() {
+        // given
+        MockEnvironment environment = profile("fixed", "100")
+                .withProperty("vt.simulation.methods.processWithDelay.concurrency-slope", "0.01");
+        LatencySimulator simulator = new LatencySimulator(42, environment);
+
+        // when & then
+        assertThat(simulator.plan(METHOD, 1000, 1).latencyMs()).isEqualTo(100);
+        assertThat(simulator.plan(METHOD, 1000, 101).latencyMs()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("동시 실행 수는 시드 표본 밖에서 적용 - 같은 시드면 동시 실행 수와 무관하게 같은 기본 표본 / 장애")
+    void concurrencySlopeAppliedOutsideSeededSample() {
+        // given
+        MockEnvironment environment = profile("log-normal", "200")
+                .withProperty("vt.simulation.methods.processWithDelay.concurrency-slope", "0.01")
+                .withProperty("vt.simulation.methods.processWithDelay.error-rate", "0.2");
+        LatencySimulator idle = new LatencySimulator(7, environment);
+        LatencySimulator busy = new LatencySimulator(7, environment);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            LatencySimulator.SimulatedCall single = idle.plan(METHOD, 1000, 1);
+            LatencySimulator.SimulatedCall contended = busy.plan(METHOD, 1000, 101);
+
+            // then - 동시 101이면 기본 표본의 2배 (반올림 오차 1ms), 장애 / CPU 버스트는 같음
+            assertThat(contended.fault()).isEqualTo(single.fault());
+            assertThat(contended.cpuBurstMs()).isEqualTo(single.cpuBurstMs());
+            assertThat((double) contended.latencyMs()).isCloseTo(2.0 * single.latencyMs(), within(1.0));
+        }
+    }
+
+    @Test
+    @DisplayName("오류 / 응답 없음 / CPU 버스트 주입 비율")
+    void injectsFaults() {
+        // given
+        MockEnvironment environment = profile("fixed", "10")
+                .withProperty("vt.simulation.methods.processWithDelay.error-rate", "0.1")
+                .withProperty("vt.simulation.methods.processWithDelay.timeout-rate", "0.05")
+                .withProperty("vt.simulation.methods.processWithDelay.hang-ms", "30000")
+                .withProperty("vt.simulation.methods.processWithDelay.cpu-burst-rate", "0.02");
+        LatencySimulator simulator = new LatencySimulator(42, environment);
+
+        // when
+        LatencySimulator.SimulatedCall[] calls = IntStream.range(0, SAMPLES)
+                .mapToObj(i -> simulator.plan(METHOD, 1000, 1))
+                .toArray(LatencySimulator.SimulatedCall[]::new);
+
+        // then
+        assertThat(rate(calls, call -> call.fault() == LatencySimulator.Fault.ERROR)).isCloseTo(0.1, within(0.01));
+        assertThat(rate(calls, call -> call.fault() == LatencySimulator.Fault.TIMEOUT)).isCloseTo(0.05, within(0.01));
+        assertThat(rate(calls, call -> call.cpuBurstMs() > 0)).isCloseTo(0.02, within(0.005));
+        assertThat(Arrays.stream(calls).filter(call -> call.fault() == LatencySimulator.Fault.TIMEOUT))
+                .allMatch(call -> call.latencyMs() == 30000);
+    }
+
+    @Test
+    @DisplayName("오류 주입 시 지연 후 SimulatedFaultException")
+    void throwsInjectedError() {
+        // given
+        MockEnvironment environment = profile("fixed", "5")
+                .withProperty("vt.simulation.methods.processWithDelay.error-rate", "1.0");
+        LatencySimulator simulator = new LatencySimulator(42, environment);
+
+        // when & then
+        assertThatThrownBy(() -> simulator.simulate(METHOD, new SimulatedConnection(), 1000))
+                .isInstanceOf(SimulatedFaultException.class);
+        assertThat(simulator.stats().get(METHOD).errors()).isEqualTo(1);
+        assertThat(simulator.stats().get(METHOD).inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("잘못된 비율 설정은 기동 시 거부")
+    void rejectsInvalidRate() {
+        assertThatThrownBy(() -> new SimulationProfile(null, null, null, null, null, null, null, null,
+                0.8, 0.5, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockEnvironment profile(String model, String latencyMs) {
+        return new MockEnvironment()
+                .withProperty("vt.simulation.methods.processWithDelay.model", model)
+                .withProperty("vt.simulation.methods.processWithDelay.latency-ms", latencyMs);
+    }
+
+    private static long[] latencies(LatencySimulator simulator, int count) {
+        return IntStream.range(0, count).mapToLong(i -> simulator.plan(METHOD, 1000, 1).latencyMs()).toArray();
+    }
+
+    private static long[] sorted(long[] values) {
+        long[] copy = values.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(quantile * sorted.length))];
+    }
+
+    private static double rate(LatencySimulator.SimulatedCall[] calls,
+                               Predicate<LatencySimulator.SimulatedCall> predicate) {
+        return (double) Arrays.stream(calls).filter(predicate).count() / calls.length;
+    }
+}
@@ -0,0 +1,265 @@
+package com.ocean.sc.vt.soak;
+
+import com.ocean.sc.vt.annotation.VirtualThread;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import javax.management.MBeanServer;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.abort;
+
+/**
+ * 대규모 동시 오프로딩 소크 테스트 (VirtualThreadAspect + DeferredResult)
+ * - 동시 실행 중 요청을 10k → 100k → 1M으로 늘리며 단계별 측정 후 SLO 검증
+ * - 단계마다: 전부 제출 → 모든 Virtual Thread가 다운스트림 대기(게이트)에 들어간 정점에서 메모리 측정 → 일괄 해제
+ * - 측정: 요청당 힙, 요청당 Virtual Thread 스택(StackChunk), GC 일시 정지, 시작 지연 / 해제 후 완료 지연 백분위
+ * - HTTP 연결 수 한계를 피하려고 요청은 프로세스 내에서 프록시를 직접 호출 (Tomcat 스레드 역할 = 테스트 스레드)
+ *
+ * 기본 테스트에서 제외 (@Tag("soak")), 실행: ./gradlew soakTest [-PsoakHeap=16g] [-PsoakSteps=10000,100000]
+ */
+@Tag("soak")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "logging.level.com.ocean.sc.vt=WARN",
+        "vt.scheduler.sample-interval-ms=0",
+        "vt.trace.sample-rate=0",
+        "vt.cost.sample-rate=0"
+})
+class OffloadSoakTest {
+
+    /**
+     * 요청당 힙 / 스택 예산 - 동시 실행 수와 무관하게 일정해야 함 (커지면 요청마다 무언가 누적되는 것)
+     */
+    private static final long MAX_HEAP_PER_REQUEST = 16 * 1024;
+    private static final long MAX_STACK_PER_REQUEST = 8 * 1024;
+    private static final long MAX_GC_PAUSE_MS = 500;
+
+    private static final List<String> EXPLICIT_GC_CAUSES = List.of("System.gc()", "Heap Inspection Initiated GC");
+
+    private static final ConcurrentLinkedQueue<Long> gcPauses = new ConcurrentLinkedQueue<>();
+    private static final List<Runnable> gcListenerRemovals = new ArrayList<>();
+    private static long lastHeapPerRequest;
+
+    @Autowired
+    private SoakTarget target;
+
+    static IntStream steps() {
+        return Arrays.stream(System.getProperty("vt.soak.steps", "10000,100000,1000000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt);
+    }
+
+    /**
+     * 할당으로 유발된 GC 일시 정지만 수집 (측정용 System.gc / 힙 히스토그램 GC 제외)
+     */
+    @BeforeAll
+    static void listenGcPauses() throws Exception {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // ZGC 등의 "Cycles" 빈은 동시 수행 주기 길이라 일시 정지가 아님
+            if (gc.getName().endsWith("Cycles") || !(gc instanceof NotificationEmitter emitter)) {
+                continue;
+            }
+            NotificationListener listener = (Notification notification, Object handback) -> {
+                if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                    return;
+                }
+                GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                if (!EXPLICIT_GC_CAUSES.contains(info.getGcCause())) {
+                    gcPauses.add(info.getGcInfo().getDuration());
+                }
+            };
+            emitter.addNotificationListener(listener, null, null);
+            gcListenerRemovals.add(() -> {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (Exception e) {
+                    // 이미 제거됨
+                }
+            });
+        }
+    }
+
+    @AfterAll
+    static void removeGcListeners() {
+        gcListenerRemovals.forEach(Runnable::run);
+    }
+
+    @ParameterizedTest(name = "동시 {0}건")
+    @MethodSource("steps")
+    @DisplayName("동시 오프로딩 요청 단계별 힙 / 스택 / GC / 지연 SLO")
+    void soak(int concurrency) throws Exception {
+        // given - 이전 단계의 요청당 힙으로 이번 단계가 힙에 들어가는지 확인 (OOM 대신 건너뜀)
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        if (lastHeapPerRequest > 0 && lastHeapPerRequest * concurrency * 3 / 2 > maxHeap) {
+            abort(String.format("동시 %,d건에 힙 약 %,dMB 필요 (최대 %,dMB) - -PsoakHeap으로 늘려서 실행",
+                    concurrency, lastHeapPerRequest * concurrency / 1024 / 1024, maxHeap / 1024 / 1024));
+        }
+        InFlight inFlight = new InFlight(concurrency);
+        long baselineHeap = usedHeapAfterGc();
+        long baselineStack = stackChunkBytes();
+        gcPauses.clear();
+
+        // when - 램프업: 전부 제출 후 모든 작업이 게이트에서 대기할 때까지
+        long rampStart = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            int index = i;
+            inFlight.submitNanos[i] = System.nanoTime();
+            DeferredResult<?> result = (DeferredResult<?>) target.hold(inFlight, index);
+            result.setResultHandler(value -> {
+                inFlight.doneNanos[index] = System.nanoTime();
+                if (!Integer.valueOf(index).equals(value)) {
+                    inFlight.failures.increment();
+                }
+                inFlight.done.countDown();
+            });
+        }
+        long rampNanos = System.nanoTime() - rampStart;
+        long startDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60 + concurrency / 10_000);
+        while (inFlight.started.sum() < concurrency && System.nanoTime() < startDeadline) {
+            Thread.sleep(10);
+        }
+        assertThat(inFlight.started.sum()).as("게이트에 도달한 작업 수").isEqualTo(concurrency);
+
+        // 정점: 모든 요청이 실행 중 (Virtual Thread는 park, 스택은 힙의 StackChunk로 이동)
+        long heapPerRequest = (usedHeapAfterGc() - baselineHeap) / concurrency;
+        long stackPerRequest = (stackChunkBytes() - baselineStack) / concurrency;
+        lastHeapPerRequest = heapPerRequest;
+
+        // 일괄 해제 → 결과 전달까지
+        inFlight.releaseNanos = System.nanoTime();
+        inFlight.gate.countDown();
+        assertThat(inFlight.done.await(60 + concurrency / 10_000, TimeUnit.SECONDS)).as("모든 결과 전달").isTrue();
+
+        long[] startLatency = new long[concurrency];
+        long[] completionLatency = new long[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            startLatency[i] = inFlight.startNanos[i] - inFlight.submitNanos[i];
+            completionLatency[i] = inFlight.doneNanos[i] - inFlight.releaseNanos;
+        }
+        Arrays.sort(startLatency);
+        Arrays.sort(completionLatency);
+        long maxGcPause = gcPauses.stream().mapToLong(Long::longValue).max().orElse(0);
+
+        System.out.printf("%n===== 소크 테스트: 동시 %,d건 =====%n", concurrency);
+        System.out.printf("램프업: %,dms (%,.0f req/s)%n", TimeUnit.NANOSECONDS.toMillis(rampNanos),
+                concurrency / (rampNanos / 1e9));
+        System.out.printf("요청당 힙: %,d bytes, 요청당 Virtual Thread 스택: %,d bytes%n", heapPerRequest, stackPerRequest);
+        System.out.printf("GC 일시 정지: %d회, 최대 %dms, 합계 %dms%n", gcPauses.size(), maxGcPause,
+                gcPauses.stream().mapToLong(Long::longValue).sum());
+        System.out.printf("시작 지연 (ms): p50=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                millis(startLatency, 0.50), millis(startLatency, 0.99), millis(startLatency, 0.999),
+                millis(startLatency, 1.0));
+        System.out.printf("해제 후 완료 지연 (ms): p50=%.1f p99=%.1f p99.9=%.1f max=%.1f%n",
+                millis(completionLatency, 0.50), millis(completionLatency, 0.99), millis(completionLatency, 0.999),
+                millis(completionLatency, 1.0));
+
+        // then - SLO
+        assertThat(inFlight.failures.sum()).as("잘못된 결과").isZero();
+        assertThat(heapPerRequest).as("요청당 힙 (bytes)").isLessThanOrEqualTo(MAX_HEAP_PER_REQUEST);
+        assertThat(stackPerRequest).as("요청당 Virtual Thread 스택 (bytes)").isLessThanOrEqualTo(MAX_STACK_PER_REQUEST);
+        assertThat(maxGcPause).as("최대 GC 일시 정지 (ms)").isLessThanOrEqualTo(MAX_GC_PAUSE_MS);
+        assertThat(millis(startLatency, 0.99)).as("시작 지연 p99 (ms)").isLessThanOrEqualTo(500 + concurrency / 200.0);
+        assertThat(millis(completionLatency, 0.99)).as("해제 후 완료 지연 p99 (ms)")
+                .isLessThanOrEqualTo(1000 + concurrency / 100.0);
+    }
+
+    private static double millis(long[] sortedNanos, double quantile) {
+        int index = Math.min(sortedNanos.length - 1, (int) Math.ceil(quantile * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 힙 히스토그램의 jdk.internal.vm.StackChunk 합계 (park된 Virtual Thread의 스택 프레임 저장소)
+     */
+    private static long stackChunkBytes() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        String histogram = (String) server.invoke(new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                "gcClassHistogram", new Object[]{new String[0]}, new String[]{String[].class.getName()});
+        for (String line : histogram.split("\n")) {
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length >= 4 && columns[3].equals("jdk.internal.vm.StackChunk")) {
+                return Long.parseLong(columns[2]);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 단계별 측정 상태 (측정 전에 배열을 할당하여 기준 힙에 포함)
+     */
+    static class InFlight {
+
+        final long[] submitNanos;
+        final long[] startNanos;
+        final long[] doneNanos;
+        final CountDownLatch gate = new CountDownLatch(1);
+        final CountDownLatch done;
+        final LongAdder started = new LongAdder();
+        final LongAdder failures = new LongAdder();
+        volatile long releaseNanos;
+
+        InFlight(int concurrency) {
+            submitNanos = new long[concurrency];
+            startNanos = new long[concurrency];
+            doneNanos = new long[concurrency];
+            done = new CountDownLatch(concurrency);
+        }
+    }
+
+    @TestConfiguration
+    static class SoakConfiguration {
+
+        @Bean
+        SoakTarget soakTarget() {
+            return new SoakTarget();
+        }
+    }
+
+    /**
+     * 다운스트림 호출처럼 게이트가 열릴 때까지 대기하는 오프로딩 대상
+     */
+    static class SoakTarget {
+
+        @VirtualThread(timeout = 600_000, description = "소크 테스트")
+        public Object hold(InFlight inFlight, int index) throws InterruptedException {
+            inFlight.startNanos[index] = System.nanoTime();
+            inFlight.started.increment();
+            inFlight.gate.await();
+            return index;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.ocean.sc.vt.trace;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RequestTraceRecorder / ChromeTraceExporter 단위 테스트
+ */
+class RequestTraceRecorderTest {
+
+    @Test
+    @DisplayName("샘플링 비율 0 - 추적 ID 미발급, 기록 생략")
+    void begin_NotSampledWhenRateIsZero() {
+        // given
+        RequestTraceRecorder recorder = new RequestTraceRecorder(16, 0.0);
+
+        // when
+        long traceId = recorder.begin();
+        recorder.record(traceId, TracePhase.REQUEST_ENTRY);
+
+        // then
+        assertThat(traceId).isEqualTo(RequestTraceRecorder.NOT_SAMPLED);
+        assertThat(recorder.snapshot()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기록 - 시간순 스냅샷과 스레드 정보 제공")
+    void record_SnapshotInOrder() throws Exception {
+        // given
+        RequestTraceRecorder recorder = new RequestTraceRecorder(16, 1.0);
+        long traceId = recorder.begin();
+
+        // when
+        recorder.record(traceId, TracePhase.REQUEST_ENTRY);
+        Thread worker = Thread.ofVirtual().start(() -> {
+            recorder.record(traceId, TracePhase.PROCEED_START);
+            recorder.record(traceId, TracePhase.PROCEED_END);
+        });
+        worker.join();
+        recorder.record(traceId, TracePhase.REQUEST_EXIT);
+
+        // then
+        List<TraceEvent> events = recorder.snapshot();
+        assertThat(events).extracting(TraceEvent::phase).containsExactly(
+                TracePhase.REQUEST_ENTRY, TracePhase.PROCEED_START, TracePhase.PROCEED_END, TracePhase.REQUEST_EXIT);
+        assertThat(events.get(0).virtual()).isFalse();
+        assertThat(events.get(1).virtual()).isTrue();
+        assertThat(events).allMatch(event -> event.traceId() == traceId);
+    }
+
+    @Test
+    @DisplayName("링 버퍼 - 용량 초과 시 가장 오래된 이벤트부터 덮어씀")
+    void record_OverwritesOldestEvents() {
+        // given
+        RequestTraceRecorder recorder = new RequestTraceRecorder(4, 1.0);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            recorder.record(recorder.begin(), TracePhase.REQUEST_ENTRY);
+        }
+
+        // then
+        assertThat(recorder.snapshot()).extracting(TraceEvent::traceId).containsExactly(7L, 8L, 9L, 10L);
+    }
+
+    @Test
+    @DisplayName("Chrome trace 변환 - 지점(instant)과 구간(complete) 이벤트 생성")
+    @SuppressWarnings("unchecked")
+    void export_ProducesChromeTraceEvents() {
+        // given
+        RequestTraceRecorder recorder = new RequestTraceRecorder(16, 1.0);
+        long traceId = recorder.begin();
+        recorder.record(traceId, TracePhase.SUBMITTED);
+        recorder.record(traceId, TracePhase.WORKER_START);
+        recorder.record(traceId, TracePhase.PROCEED_START);
+        recorder.record(traceId, TracePhase.PROCEED_END);
+
+        // when
+        Map<String, Object> trace = ChromeTraceExporter.export(recorder.snapshot());
+
+        // then
+        List<Map<String, Object>> traceEvents = (List<Map<String, Object>>) trace.get("traceEvents");
+        assertThat(traceEvents).filteredOn(event -> "i".equals(event.get("ph"))).hasSize(4);
+        assertThat(traceEvents).filteredOn(event -> "X".equals(event.get("ph")))
+                .extracting(event -> event.get("name"))
+                .containsExactlyInAnyOrder("executor queue", "proceed");
+        assertThat(traceEvents).filteredOn(event -> "M".equals(event.get("ph"))).hasSize(1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.ocean.sc.vt.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WarmupRunner 테스트
+ */
+@SpringBootTest(properties = "vt.warmup.enabled=true")
+class WarmupRunnerTest {
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Test
+    @DisplayName("워밍업 대상 - @VirtualThread 및 Callable 엔드포인트만 포함 (serializeBy 제외)")
+    void warmupPaths_OnlyOffloadedEndpoints() {
+        // when
+        List<String> paths = warmupRunner.warmupPaths();
+
+        // then
+        assertThat(paths).contains("/api/demo/virtual", "/api/demo/virtual-aop", "/api/demo/virtual-load");
+        assertThat(paths).doesNotContain("/api/demo/platform", "/api/demo/thread-info", "/api/demo/virtual-serial");
+    }
+
+    @Test
+    @DisplayName("웹 서버가 없는 환경(MOCK)에서는 워밍업을 건너뜀")
+    void report_SkippedWithoutWebServer() {
+        // when
+        WarmupReport report = warmupRunner.report();
+
+        // then
+        assertThat(report.state()).isEqualTo(WarmupReport.State.SKIPPED);
+        assertThat(report.finished()).isTrue();
+    }
+
+    @Test
+    @DisplayName("지연 시간 요약 및 개선율 계산")
+    void latencySummary_Improvement() {
+        // given
+        LatencySummary cold = LatencySummary.of(new long[]{2_000_000_000L, 2_000_000_000L}, 0);
+        LatencySummary warm = LatencySummary.of(new long[]{1_000_000_000L, 1_000_000_000L}, 0);
+
+        // when
+        WarmupReport report = WarmupReport.completed(List.of("/api/demo/virtual"), 2, 3000, 100, true, cold, warm);
+
+        // then
+        assertThat(cold.meanMs()).isEqualTo(2000.0);
+        assertThat(warm.p99Ms()).isEqualTo(1000.0);
+        assertThat(report.meanImprovementPercent()).isEqualTo(50.0);
+        assertThat(report.p99ImprovementPercent()).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("첫 1분 지연 - 구간 안의 대상 경로만, 2xx만 표본으로 콜드 대비 개선율 계산")
+    void firstMinute_ComparesWithCold() {
+        // given
+        FirstMinuteLatency firstMinute = new FirstMinuteLatency(Duration.ofSeconds(60));
+        LatencySummary cold = LatencySummary.of(new long[]{2_000_000_000L, 2_000_000_000L}, 0);
+        assertThat(firstMinute.accepts("/api/demo/virtual")).isFalse();
+        assertThat(firstMinute.report(cold)).isNull();
+
+        // when
+        firstMinute.open(List.of("/api/demo/virtual"));
+        firstMinute.record(200, 500_000_000L);
+        firstMinute.record(200, 500_000_000L);
+        firstMinute.record(503, 1_000_000L);
+        FirstMinuteLatency.FirstMinuteReport report = firstMinute.report(cold);
+
+        // then
+        assertThat(firstMinute.accepts("/api/demo/virtual")).isTrue();
+        assertThat(firstMinute.accepts("/api/demo/platform")).isFalse();
+        assertThat(report.complete()).isFalse();
+        assertThat(report.latency().requests()).isEqualTo(2);
+        assertThat(report.latency().failures()).isEqualTo(1);
+        assertThat(report.meanImprovementPercent()).isEqualTo(75.0);
+        assertThat(report.p99ImprovementPercent()).isEqualTo(75.0);
+    }
+
+    @Test
+    @DisplayName("워밍업 요청 표시 - 루프백 주소에서 온 X-Warmup 요청만")
+    void warmupTraffic_OnlyLoopback() {
+        // given
+        MockHttpServletRequest loopback = new MockHttpServletRequest("GET", "/api/demo/virtual");
+        loopback.addHeader(WarmupTraffic.HEADER, "true");
+        MockHttpServletRequest external = new MockHttpServletRequest("GET", "/api/demo/virtual");
+        external.addHeader(WarmupTraffic.HEADER, "true");
+        external.setRemoteAddr("203.0.113.10");
+
+        // when
+        boolean loopbackMarked = WarmupTraffic.mark(loopback);
+        boolean externalMarked = WarmupTraffic.mark(external);
+
+        // then
+        assertThat(loopbackMarked).isTrue();
+        assertThat(WarmupTraffic.isWarmup(loopback)).isTrue();
+        assertThat(externalMarked).isFalse();
+        assertThat(WarmupTraffic.isWarmup(external)).isFalse();
+    }
+}